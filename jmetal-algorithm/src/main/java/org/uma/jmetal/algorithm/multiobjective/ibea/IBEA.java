@@ -6,8 +6,8 @@ import org.uma.jmetal.operator.MutationOperator;
 import org.uma.jmetal.operator.SelectionOperator;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.DominanceDistanceMatrix;
 import org.uma.jmetal.util.SolutionListUtils;
-import org.uma.jmetal.util.comparator.DominanceComparator;
 import org.uma.jmetal.util.solutionattribute.impl.Fitness;
 
 import java.util.ArrayList;
@@ -22,7 +22,8 @@ public class IBEA<S extends Solution<?>> implements Algorithm<List<S>> {
 
   public static final int TOURNAMENTS_ROUNDS = 1;
 
-  protected List<List<Double>> indicatorValues;
+  // only the first solutionSet.size() rows and columns are used, see removeWorst()
+  protected double[][] indicatorValues;
   protected double maxIndicatorValue;
 
   protected int populationSize;
@@ -121,9 +122,10 @@ public class IBEA<S extends Solution<?>> implements Algorithm<List<S>> {
 
   /**
    * Calculates the hypervolume of that portion of the objective space that
-   * is dominated by individual a but not by individual b
+   * is dominated by the objective vector a but not by the objective vector b
+   * (the maximum values are used if b is null)
    */
-  double calculateHypervolumeIndicator(Solution<?> solutionA, Solution<?> solutionB, int d,
+  double calculateHypervolumeIndicator(double[] objectivesA, double[] objectivesB, int d,
       double maximumValues[], double minimumValues[]) {
     double a, b, r, max;
     double volume ;
@@ -132,11 +134,11 @@ public class IBEA<S extends Solution<?>> implements Algorithm<List<S>> {
     r = rho * (maximumValues[d - 1] - minimumValues[d - 1]);
     max = minimumValues[d - 1] + r;
 
-    a = solutionA.getObjective(d - 1);
-    if (solutionB == null) {
+    a = objectivesA[d - 1];
+    if (objectivesB == null) {
       b = max;
     } else {
-      b = solutionB.getObjective(d - 1);
+      b = objectivesB[d - 1];
     }
 
     if (d == 1) {
@@ -148,14 +150,14 @@ public class IBEA<S extends Solution<?>> implements Algorithm<List<S>> {
     } else {
       if (a < b) {
         volume =
-            calculateHypervolumeIndicator(solutionA, null, d - 1, maximumValues, minimumValues) * (b
+            calculateHypervolumeIndicator(objectivesA, null, d - 1, maximumValues, minimumValues) * (b
                 - a) / r;
         volume +=
-            calculateHypervolumeIndicator(solutionA, solutionB, d - 1, maximumValues, minimumValues)
+            calculateHypervolumeIndicator(objectivesA, objectivesB, d - 1, maximumValues, minimumValues)
                 * (max - b) / r;
       } else {
         volume =
-            calculateHypervolumeIndicator(solutionA, solutionB, d - 1, maximumValues, minimumValues)
+            calculateHypervolumeIndicator(objectivesA, objectivesB, d - 1, maximumValues, minimumValues)
                 * (max - a) / r;
       }
     }
@@ -164,33 +166,30 @@ public class IBEA<S extends Solution<?>> implements Algorithm<List<S>> {
   }
 
   /**
-   * This structure stores the indicator values of each pair of elements
+   * This structure stores the indicator values of each pair of elements. The dominance relation
+   * of every pair is computed only once with a {@link DominanceDistanceMatrix}
    */
   public void computeIndicatorValuesHD(List<S> solutionSet, double[] maximumValues,
       double[] minimumValues) {
-    List<S> A, B;
+    DominanceDistanceMatrix matrix = new DominanceDistanceMatrix(solutionSet) ;
+    int numberOfObjectives = problem.getNumberOfObjectives() ;
+    double[][] objectives = new double[solutionSet.size()][] ;
+    for (int i = 0; i < solutionSet.size(); i++) {
+      objectives[i] = matrix.getObjectives(i) ;
+    }
+
     // Initialize the structures
-    indicatorValues = new ArrayList<List<Double>>();
+    indicatorValues = new double[solutionSet.size()][solutionSet.size()];
     maxIndicatorValue = -Double.MAX_VALUE;
 
     for (int j = 0; j < solutionSet.size(); j++) {
-      A = new ArrayList<>(1);
-      A.add(solutionSet.get(j));
-
-      List<Double> aux = new ArrayList<Double>();
-      for (S solution : solutionSet) {
-        B = new ArrayList<>(1);
-        B.add(solution);
-
-        int flag = (new DominanceComparator<S>()).compare(A.get(0), B.get(0));
-
+      for (int i = 0; i < solutionSet.size(); i++) {
         double value;
-        if (flag == -1) {
-          value =
-              -calculateHypervolumeIndicator(A.get(0), B.get(0), problem.getNumberOfObjectives(),
-                  maximumValues, minimumValues);
+        if (matrix.compare(j, i) == -1) {
+          value = -calculateHypervolumeIndicator(objectives[j], objectives[i], numberOfObjectives,
+              maximumValues, minimumValues);
         } else {
-          value = calculateHypervolumeIndicator(B.get(0), A.get(0), problem.getNumberOfObjectives(),
+          value = calculateHypervolumeIndicator(objectives[i], objectives[j], numberOfObjectives,
               maximumValues, minimumValues);
         }
 
@@ -198,9 +197,8 @@ public class IBEA<S extends Solution<?>> implements Algorithm<List<S>> {
         if (Math.abs(value) > maxIndicatorValue) {
           maxIndicatorValue = Math.abs(value);
         }
-        aux.add(value);
+        indicatorValues[j][i] = value;
       }
-      indicatorValues.add(aux);
     }
   }
 
@@ -213,7 +211,7 @@ public class IBEA<S extends Solution<?>> implements Algorithm<List<S>> {
 
     for (int i = 0; i < solutionSet.size(); i++) {
       if (i != pos) {
-        fitness += Math.exp((-1 * indicatorValues.get(i).get(pos) / maxIndicatorValue) / kappa);
+        fitness += Math.exp((-1 * indicatorValues[i][pos] / maxIndicatorValue) / kappa);
       }
     }
     solutionFitness.setAttribute(solutionSet.get(pos), fitness);
@@ -271,15 +269,18 @@ public class IBEA<S extends Solution<?>> implements Algorithm<List<S>> {
     for (int i = 0; i < solutionSet.size(); i++) {
       if (i != worstIndex) {
         double fitness = (double) solutionFitness.getAttribute(solutionSet.get(i));
-        fitness -= Math.exp((-indicatorValues.get(worstIndex).get(i) / maxIndicatorValue) / kappa);
+        fitness -= Math.exp((-indicatorValues[worstIndex][i] / maxIndicatorValue) / kappa);
         solutionFitness.setAttribute(solutionSet.get(i), fitness);
       }
     }
 
-    // remove worst from the indicatorValues list
-    indicatorValues.remove(worstIndex);
-    for (List<Double> anIndicatorValues_ : indicatorValues) {
-      anIndicatorValues_.remove(worstIndex);
+    // remove worst from the indicatorValues matrix, shifting the next rows and columns
+    int size = solutionSet.size();
+    double[] removedRow = indicatorValues[worstIndex];
+    System.arraycopy(indicatorValues, worstIndex + 1, indicatorValues, worstIndex, size - worstIndex - 1);
+    indicatorValues[size - 1] = removedRow;
+    for (int i = 0; i < size - 1; i++) {
+      System.arraycopy(indicatorValues[i], worstIndex + 1, indicatorValues[i], worstIndex, size - worstIndex - 1);
     }
 
     solutionSet.remove(worstIndex);
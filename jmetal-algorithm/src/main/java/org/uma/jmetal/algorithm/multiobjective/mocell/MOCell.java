@@ -13,7 +13,7 @@ import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
 import org.uma.jmetal.util.neighborhood.Neighborhood;
 import org.uma.jmetal.util.solutionattribute.Ranking;
 import org.uma.jmetal.util.solutionattribute.impl.CrowdingDistance;
-import org.uma.jmetal.util.solutionattribute.impl.DominanceRanking;
+import org.uma.jmetal.util.solutionattribute.impl.EfficientNonDominatedSortRanking;
 import org.uma.jmetal.util.solutionattribute.impl.LocationAttribute;
 
 import java.util.ArrayList;
@@ -163,7 +163,7 @@ public class MOCell<S extends Solution<?>> extends AbstractGeneticAlgorithm<S, L
     currentNeighbors.add(offspringPopulation.get(0));
     location.setAttribute(offspringPopulation.get(0), -1);
     List<S> result = new ArrayList<>(population);
-    Ranking<S> rank = new DominanceRanking<S>();
+    Ranking<S> rank = new EfficientNonDominatedSortRanking<S>();
     rank.computeRanking(currentNeighbors);
 
     CrowdingDistance<S> crowdingDistance = new CrowdingDistance<S>();
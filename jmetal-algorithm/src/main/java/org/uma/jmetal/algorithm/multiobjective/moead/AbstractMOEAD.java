@@ -2,6 +2,7 @@ package org.uma.jmetal.algorithm.multiobjective.moead;
 
 import org.uma.jmetal.algorithm.Algorithm;
 import org.uma.jmetal.algorithm.multiobjective.moead.util.MOEADUtils;
+import org.uma.jmetal.algorithm.multiobjective.moead.util.MOEADWeightVectors;
 import org.uma.jmetal.operator.CrossoverOperator;
 import org.uma.jmetal.operator.MutationOperator;
 import org.uma.jmetal.problem.Problem;
@@ -11,12 +12,8 @@ import org.uma.jmetal.util.point.impl.IdealPoint;
 import org.uma.jmetal.util.point.impl.NadirPoint;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 
-import java.io.BufferedReader;
-import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.StringTokenizer;
 
 /**
  * Abstract class for implementing versions of the MOEA/D algorithm.
@@ -37,6 +34,8 @@ public abstract class AbstractMOEAD<S extends Solution<?>> implements Algorithm<
   protected NadirPoint nadirPoint;
   /** Lambda vectors */
   protected double[][] lambda;
+  /** Shared weight vectors and neighborhoods from which lambda and neighborhood are copied */
+  protected transient MOEADWeightVectors weightVectors;
   /** T in Zhang & Li paper */
   protected int neighborSize;
   protected int[][] neighborhood;
@@ -92,58 +91,24 @@ public abstract class AbstractMOEAD<S extends Solution<?>> implements Algorithm<
   }
 
   /**
-   * Initialize weight vectors
+   * Initialize weight vectors. They are shared by all the instances with the same number of
+   * objectives, population size and neighborhood size (see {@link MOEADWeightVectors})
    */
   protected void initializeUniformWeight() {
-    if ((problem.getNumberOfObjectives() == 2) && (populationSize <= 300)) {
-      for (int n = 0; n < populationSize; n++) {
-        double a = 1.0 * n / (populationSize - 1);
-        lambda[n][0] = a;
-        lambda[n][1] = 1 - a;
-      }
-    } else {
-      String dataFileName;
-      dataFileName = "W" + problem.getNumberOfObjectives() + "D_" +
-          populationSize + ".dat";
-
-      try {
-
-        //       String path =
-        // Paths.get(VectorFileUtils.class.getClassLoader().getResource(filePath).toURI()).toString
-        // ();
-        InputStream in =
-            getClass()
-                .getClassLoader()
-                .getResourceAsStream(dataDirectory + "/" + dataFileName);
-        InputStreamReader isr = new InputStreamReader(in);
-        BufferedReader br = new BufferedReader(isr);
-
-        int i = 0;
-        int j = 0;
-        String aux = br.readLine();
-        while (aux != null) {
-          StringTokenizer st = new StringTokenizer(aux);
-          j = 0;
-          while (st.hasMoreTokens()) {
-            double value = new Double(st.nextToken());
-            lambda[i][j] = value;
-            j++;
-          }
-          aux = br.readLine();
-          i++;
-        }
-        br.close();
-      } catch (Exception e) {
-        throw new JMetalException("initializeUniformWeight: failed when reading for file: "
-            + dataDirectory + "/" + dataFileName, e) ;
-      }
-    }
+    weightVectors = MOEADWeightVectors.get(dataDirectory, problem.getNumberOfObjectives(),
+        populationSize, neighborSize) ;
+    weightVectors.copyWeightVectorsTo(lambda);
   }
 
   /**
    * Initialize neighborhoods
    */
   protected void initializeNeighborhood() {
+    if ((weightVectors != null) && weightVectors.hasWeightVectors(lambda)) {
+      weightVectors.copyNeighborhoodTo(neighborhood);
+      return ;
+    }
+
     double[] x = new double[populationSize];
     int[] idx = new int[populationSize];
 
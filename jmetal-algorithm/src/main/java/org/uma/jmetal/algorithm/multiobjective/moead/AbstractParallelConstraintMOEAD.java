@@ -0,0 +1,277 @@
+package org.uma.jmetal.algorithm.multiobjective.moead;
+
+import org.uma.jmetal.algorithm.multiobjective.moead.util.MOEADUtils;
+import org.uma.jmetal.operator.CrossoverOperator;
+import org.uma.jmetal.operator.MutationOperator;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.comparator.impl.ViolationThresholdComparator;
+import org.uma.jmetal.util.evaluator.AsynchronousSolutionListEvaluator;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.fileoutput.ConstraintListOutput;
+import org.uma.jmetal.util.fileoutput.SolutionListOutput;
+import org.uma.jmetal.util.fileoutput.impl.DefaultFileOutputContext;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Common part of the parallel versions of MOEA/D with constraints support, which differ in the
+ * way the child of a subproblem is created (see {@link #createChild(int, NeighborType)}).
+ *
+ * The algorithm runs in one of two modes, depending on the evaluator:
+ * - Generational: the children of all the subproblems are created, they are evaluated together
+ * by the evaluator, and then they update their neighborhoods.
+ * - Pipelined, if the evaluator is an {@link AsynchronousSolutionListEvaluator}: there are always
+ * as many children being evaluated as threads has the evaluator. Each child updates its
+ * neighborhood as soon as its evaluation finishes, and the next child is created from the updated
+ * population, so a slow evaluation does not keep the rest of the threads idle. The subproblems
+ * are still visited in random permutations, and every populationSize evaluations play the role of
+ * a generation (the violation threshold is updated and the population is dumped).
+ *
+ * In both modes the number of evaluations is rounded up to a whole number of generations.
+ *
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+@SuppressWarnings("serial")
+public abstract class AbstractParallelConstraintMOEAD extends AbstractMOEAD<DoubleSolution> {
+  protected ViolationThresholdComparator<DoubleSolution> violationThresholdComparator ;
+  protected SolutionListEvaluator<DoubleSolution> evaluator;
+  protected List<DoubleSolution> initialPopulation;
+
+  public AbstractParallelConstraintMOEAD(Problem<DoubleSolution> problem,
+                                         int populationSize,
+                                         int resultPopulationSize,
+                                         int maxEvaluations,
+                                         MutationOperator<DoubleSolution> mutation,
+                                         CrossoverOperator<DoubleSolution> crossover,
+                                         FunctionType functionType,
+                                         String dataDirectory,
+                                         double neighborhoodSelectionProbability,
+                                         int maximumNumberOfReplacedSolutions,
+                                         int neighborSize,
+                                         SolutionListEvaluator<DoubleSolution> evaluator) {
+    super(problem, populationSize, resultPopulationSize, maxEvaluations, crossover, mutation, functionType,
+        dataDirectory, neighborhoodSelectionProbability, maximumNumberOfReplacedSolutions,
+        neighborSize);
+
+    violationThresholdComparator = new ViolationThresholdComparator<DoubleSolution>() ;
+    this.evaluator = evaluator;
+    this.initialPopulation = null;
+  }
+
+  /**
+   * Creates the (not evaluated) child of a subproblem
+   */
+  protected abstract DoubleSolution createChild(int subProblemId, NeighborType neighborType) ;
+
+  @Override public void run() {
+    initializeUniformWeight();
+    initializeNeighborhood();
+    initializePopulation();
+    idealPoint.update(population);
+
+    evaluations = populationSize ;
+    initProgress();
+
+    if (evaluator instanceof AsynchronousSolutionListEvaluator) {
+      runPipelined((AsynchronousSolutionListEvaluator<DoubleSolution>) evaluator);
+    } else {
+      runGenerational();
+    }
+  }
+
+  protected void runGenerational() {
+    do {
+      int[] permutation = new int[populationSize];
+      MOEADUtils.randomPermutation(permutation, populationSize);
+
+      List<DoubleSolution> childrenPool = new ArrayList<DoubleSolution>();  // 生成した子の格納場所を確保
+      List<Integer> subProblemIds = new ArrayList<Integer>();
+      List<NeighborType> neighborTypes = new ArrayList<NeighborType>();
+
+      for (int i = 0; i < populationSize; i++) {
+        int subProblemId = permutation[i];
+        subProblemIds.add(subProblemId);
+
+        NeighborType neighborType = chooseNeighborType();
+        neighborTypes.add(neighborType);
+        // 子を格納
+        childrenPool.add(createChild(subProblemId, neighborType));
+      }
+
+      childrenPool = evaluate(childrenPool);
+      evaluations+=childrenPool.size();
+
+      for(int i=0; i< childrenPool.size(); i++){
+        DoubleSolution child = childrenPool.get(i);
+        idealPoint.update(child.getObjectives());
+        updateNeighborhood(child, subProblemIds.get(i), neighborTypes.get(i));
+      }
+
+      updateProgress(childrenPool);
+    } while (evaluations < maxEvaluations);
+  }
+
+  protected void runPipelined(AsynchronousSolutionListEvaluator<DoubleSolution> asynchronousEvaluator) {
+    // same number of evaluations as the generational mode
+    int numberOfGenerations = Math.max(1, (maxEvaluations - evaluations + populationSize - 1) / populationSize) ;
+    int totalEvaluations = evaluations + numberOfGenerations * populationSize ;
+    int submittedEvaluations = evaluations ;
+
+    int[] permutation = new int[populationSize];
+    int nextSubProblem = populationSize ;
+    Map<DoubleSolution, PendingChild> pendingChildren = new IdentityHashMap<>() ;
+    List<DoubleSolution> generationChildren = new ArrayList<>(populationSize) ;
+
+    while (evaluations < totalEvaluations) {
+      while ((asynchronousEvaluator.getNumberOfPendingSolutions() < asynchronousEvaluator.getNumberOfThreads())
+          && (submittedEvaluations < totalEvaluations)) {
+        if (nextSubProblem == populationSize) {
+          MOEADUtils.randomPermutation(permutation, populationSize);
+          nextSubProblem = 0 ;
+        }
+        int subProblemId = permutation[nextSubProblem++];
+        NeighborType neighborType = chooseNeighborType();
+        DoubleSolution child = createChild(subProblemId, neighborType) ;
+
+        pendingChildren.put(child, new PendingChild(subProblemId, neighborType)) ;
+        asynchronousEvaluator.submit(child, problem);
+        submittedEvaluations++ ;
+      }
+
+      for (DoubleSolution child : asynchronousEvaluator.pollCompleted(Long.MAX_VALUE, TimeUnit.MILLISECONDS)) {
+        PendingChild pendingChild = pendingChildren.remove(child) ;
+        evaluations++ ;
+        idealPoint.update(child.getObjectives());
+        updateNeighborhood(child, pendingChild.subProblemId, pendingChild.neighborType);
+
+        generationChildren.add(child) ;
+        if (generationChildren.size() == populationSize) {
+          updateProgress(generationChildren);
+          generationChildren = new ArrayList<>(populationSize) ;
+        }
+      }
+    }
+  }
+
+  /**
+   * Called once the initial population has been evaluated
+   */
+  protected void initProgress() {
+    violationThresholdComparator.updateThreshold(population);
+    dump(getResult());
+  }
+
+  /**
+   * Called after each generation (populationSize evaluations)
+   * @param children Children evaluated in the generation
+   */
+  protected void updateProgress(List<DoubleSolution> children) {
+    violationThresholdComparator.updateThreshold(population);
+    dump(getResult());
+  }
+
+  // 並列評価
+  protected List<DoubleSolution> evaluate(List<DoubleSolution> children) {
+    children = evaluator.evaluate(children, problem);
+
+    return children;
+  }
+
+  protected void dump(List<DoubleSolution> solutionList, String prefix){
+    // dump solution list in the searching
+    new SolutionListOutput(solutionList)
+        .setVarFileOutputContext(new DefaultFileOutputContext("./result/"+prefix+"variable" + Integer.valueOf(evaluations/populationSize)  + ".csv"))
+        .setFunFileOutputContext(new DefaultFileOutputContext("./result/"+prefix+"fitness" + Integer.valueOf(evaluations/populationSize)  + ".csv"))
+        .setSeparator(",")
+        .print();
+    new ConstraintListOutput<DoubleSolution>(solutionList)
+        .setConFileOutputContext(new DefaultFileOutputContext("./result/"+prefix+"constraint" + Integer.valueOf(evaluations/populationSize)  + ".csv"))
+        .setSeparator(",")
+        .print();
+  }
+  protected void dump(List<DoubleSolution> solutionList){
+    dump(solutionList,"");
+  }
+
+  public void setInitialPopulation(List<DoubleSolution> initialPopulation) {
+    this.initialPopulation = initialPopulation;
+  }
+  public void initializePopulation() {
+    if(this.initialPopulation==null) {
+      for (int i = 0; i < populationSize; i++) {
+        DoubleSolution newSolution = problem.createSolution();
+        population.add(newSolution);
+      }
+    }else{
+      population = this.initialPopulation;
+    }
+    population = evaluate(population);
+  }
+
+  @Override
+  protected void updateNeighborhood(DoubleSolution individual, int subproblemId, NeighborType neighborType) {
+    int size;
+    int time;
+
+    time = 0;
+
+    if (neighborType == NeighborType.NEIGHBOR) {
+      size = neighborhood[subproblemId].length;
+    } else {
+      size = population.size();
+    }
+    int[] perm = new int[size];
+
+    MOEADUtils.randomPermutation(perm, size);
+
+    for (int i = 0; i < size; i++) {
+      int k;
+      if (neighborType == NeighborType.NEIGHBOR) {
+        k = neighborhood[subproblemId][perm[i]];
+      } else {
+        k = perm[i];
+      }
+      double f1, f2;
+
+      f1 = fitnessFunction(population.get(k), lambda[k]);
+      f2 = fitnessFunction(individual, lambda[k]);
+
+      if (violationThresholdComparator.needToCompare(population.get(k), individual)) {
+        int flag = violationThresholdComparator.compare(population.get(k), individual);
+        if (flag == 1) {
+          population.set(k, (DoubleSolution) individual.copy());
+        } else if (flag == 0) {
+          if (f2 < f1) {
+            population.set(k, (DoubleSolution) individual.copy());
+            time++;
+          }
+        }
+      } else {
+        if (f2 < f1) {
+          population.set(k, (DoubleSolution) individual.copy());
+          time++;
+        }
+      }
+
+      if (time >= maximumNumberOfReplacedSolutions) {
+        return;
+      }
+    }
+  }
+
+  /** Subproblem and neighbor type of a child being evaluated in the pipelined mode */
+  private static class PendingChild {
+    private final int subProblemId ;
+    private final NeighborType neighborType ;
+
+    PendingChild(int subProblemId, NeighborType neighborType) {
+      this.subProblemId = subProblemId ;
+      this.neighborType = neighborType ;
+    }
+  }
+}
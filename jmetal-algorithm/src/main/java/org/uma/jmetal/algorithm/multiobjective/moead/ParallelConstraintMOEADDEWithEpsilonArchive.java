@@ -1,6 +1,5 @@
 package org.uma.jmetal.algorithm.multiobjective.moead;
 
-import org.uma.jmetal.algorithm.multiobjective.moead.util.MOEADUtils;
 import org.uma.jmetal.algorithm.multiobjective.spea2.util.EnvironmentalSelection;
 import org.uma.jmetal.operator.CrossoverOperator;
 import org.uma.jmetal.operator.MutationOperator;
@@ -74,61 +73,20 @@ public class ParallelConstraintMOEADDEWithEpsilonArchive extends ParallelConstra
     truncatedArchive = environmentalSelection.execute(union);
   }
 
-  @Override public void run() {
-    initializeUniformWeight();
-    initializeNeighborhood();
-    initializePopulation();
-    idealPoint.update(population);
+  @Override
+  protected void initProgress() {
     updateArchive(population);
-
-    violationThresholdComparator.updateThreshold(population);
-
-    evaluations = populationSize ;
-    dump(getResult());
+    super.initProgress();
     dump(epsilonArchive.getSolutionList(), "epsilon");
     dump(truncatedArchive, "truncated");
+  }
 
-    do {
-      int[] permutation = new int[populationSize];
-      MOEADUtils.randomPermutation(permutation, populationSize);
-
-      List<DoubleSolution> childrenPool = new ArrayList<DoubleSolution>();  // 生成した子の格納場所を確保
-      List<Integer> subProblemIds = new ArrayList<Integer>();
-      List<NeighborType> neighborTypes = new ArrayList<NeighborType>();
-
-      for (int i = 0; i < populationSize; i++) {
-        int subProblemId = permutation[i];
-        subProblemIds.add(subProblemId);
-
-        NeighborType neighborType = chooseNeighborType();
-        neighborTypes.add(neighborType);
-        List<DoubleSolution> parents = parentSelection(subProblemId, neighborType);
-
-        differentialEvolutionCrossover.setCurrentSolution(population.get(subProblemId));
-        List<DoubleSolution> children = differentialEvolutionCrossover.execute(parents);
-
-        DoubleSolution child = children.get(0);
-        mutationOperator.execute(child);
-        // 子を格納
-        childrenPool.add(child);
-      }
-
-      childrenPool = evaluate(childrenPool);
-      evaluations+=childrenPool.size();
-
-      for(int i=0; i< childrenPool.size(); i++){
-        DoubleSolution child = childrenPool.get(i);
-        idealPoint.update(child.getObjectives());
-        updateNeighborhood(child, subProblemIds.get(i), neighborTypes.get(i));
-      }
-
-      violationThresholdComparator.updateThreshold(population);
-      updateArchive(childrenPool);
-      dump(getResult());
-      dump(epsilonArchive.getSolutionList(), "epsilon");
-      dump(truncatedArchive, "truncated");
-
-    } while (evaluations < maxEvaluations);
+  @Override
+  protected void updateProgress(List<DoubleSolution> children) {
+    super.updateProgress(children);
+    updateArchive(children);
+    dump(epsilonArchive.getSolutionList(), "epsilon");
+    dump(truncatedArchive, "truncated");
   }
 
   @Override public String getName() {
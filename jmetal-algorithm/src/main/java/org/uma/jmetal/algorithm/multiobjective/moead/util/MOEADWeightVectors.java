@@ -0,0 +1,375 @@
+package org.uma.jmetal.algorithm.multiobjective.moead.util;
+
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.JMetalLogger;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+/**
+ * Weight vectors and neighborhoods of the subproblems of MOEA/D, which are computed once per JVM
+ * for each number of objectives (M), population size (N) and neighborhood size (T), and shared by
+ * all the instances of the algorithms. The weight vectors are:
+ * - Uniformly distributed in the two-objective case with N <= 300.
+ * - Read from the file dataDirectory/W[M]D_[N].dat of the classpath, if it exists.
+ * - Otherwise, generated with the simplex-lattice design of Das and Dennis, if N is the number of
+ * vectors of a lattice with M objectives (N = C(H + M - 1, M - 1) for some number of divisions H).
+ *
+ * The neighborhood of each subproblem contains the T subproblems with the closest weight vectors,
+ * in the same order as computed by {@link MOEADUtils#minFastSort}, so the results of the algorithms
+ * do not change.
+ *
+ * Both are also saved in a binary file W[M]D_[N]_T[T]_[CRC].bin of the directory given by the
+ * system property {@value #CACHE_DIRECTORY_PROPERTY} (by default, jmetal-moead-[user] in the
+ * temporary directory), from where they are read by the next JVMs. [CRC] is the checksum of the
+ * file of weight vectors, so runs reading different files do not overwrite each other's cache; it
+ * is omitted when the weight vectors are generated. The checksum is also stored in the file, so it
+ * is ignored if it does not match.
+ *
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+public class MOEADWeightVectors {
+  public static final String CACHE_DIRECTORY_PROPERTY = "jmetal.moead.cacheDirectory" ;
+
+  private static final int CACHE_FILE_VERSION = 1 ;
+  private static final long GENERATED_WEIGHT_VECTORS = -1 ;
+  private static final Map<String, MOEADWeightVectors> cache = new ConcurrentHashMap<>() ;
+
+  private final double[][] weightVectors ;
+  private final int[][] neighborhood ;
+
+  private MOEADWeightVectors(double[][] weightVectors, int[][] neighborhood) {
+    this.weightVectors = weightVectors ;
+    this.neighborhood = neighborhood ;
+  }
+
+  /**
+   * Returns the weight vectors and neighborhoods for the given number of objectives, population
+   * size and neighborhood size. They are computed (or read from the cache file) the first time
+   * this method is called with each combination of parameters
+   *
+   * @param dataDirectory Directory of the classpath with the files of weight vectors
+   */
+  public static MOEADWeightVectors get(String dataDirectory, int numberOfObjectives,
+      int populationSize, int neighborSize) {
+    String key = dataDirectory + "/W" + numberOfObjectives + "D_" + populationSize + "_T" + neighborSize ;
+
+    return cache.computeIfAbsent(key,
+        k -> load(dataDirectory, numberOfObjectives, populationSize, neighborSize)) ;
+  }
+
+  public int getNumberOfObjectives() {
+    return weightVectors[0].length ;
+  }
+
+  public int getPopulationSize() {
+    return weightVectors.length ;
+  }
+
+  public int getNeighborSize() {
+    return neighborhood[0].length ;
+  }
+
+  /**
+   * Copies the weight vectors into a matrix of populationSize x numberOfObjectives
+   */
+  public void copyWeightVectorsTo(double[][] lambda) {
+    for (int i = 0; i < weightVectors.length; i++) {
+      System.arraycopy(weightVectors[i], 0, lambda[i], 0, weightVectors[i].length);
+    }
+  }
+
+  /**
+   * Copies the neighborhoods into a matrix of populationSize x neighborSize
+   */
+  public void copyNeighborhoodTo(int[][] neighborhood) {
+    for (int i = 0; i < this.neighborhood.length; i++) {
+      System.arraycopy(this.neighborhood[i], 0, neighborhood[i], 0, this.neighborhood[i].length);
+    }
+  }
+
+  /**
+   * @return True if the given weight vectors are the same as these ones, so the neighborhoods can
+   * be used with them
+   */
+  public boolean hasWeightVectors(double[][] lambda) {
+    return Arrays.deepEquals(weightVectors, lambda) ;
+  }
+
+  private static MOEADWeightVectors load(String dataDirectory, int numberOfObjectives,
+      int populationSize, int neighborSize) {
+    double[][] weightVectors ;
+    long checksum ;
+    if ((numberOfObjectives == 2) && (populationSize <= 300)) {
+      weightVectors = createUniformWeightVectors(populationSize) ;
+      checksum = GENERATED_WEIGHT_VECTORS ;
+    } else {
+      String fileName = dataDirectory + "/W" + numberOfObjectives + "D_" + populationSize + ".dat" ;
+      byte[] content = readResource(fileName) ;
+      if (content != null) {
+        CRC32 crc = new CRC32() ;
+        crc.update(content);
+        checksum = crc.getValue() ;
+        weightVectors = null ;
+      } else {
+        weightVectors = createDasDennisWeightVectors(numberOfObjectives, populationSize) ;
+        if (weightVectors == null) {
+          throw new JMetalException("initializeUniformWeight: failed when reading for file: "
+              + fileName + ". The file does not exist and " + populationSize
+              + " is not the number of vectors of a simplex-lattice design with "
+              + numberOfObjectives + " objectives") ;
+        }
+        checksum = GENERATED_WEIGHT_VECTORS ;
+      }
+
+      File cacheFile = getCacheFile(numberOfObjectives, populationSize, neighborSize, checksum) ;
+      if (cacheFile != null && cacheFile.isFile()) {
+        try {
+          MOEADWeightVectors cached = read(cacheFile, checksum, numberOfObjectives, populationSize, neighborSize) ;
+          if (cached != null && (weightVectors == null || cached.hasWeightVectors(weightVectors))) {
+            return cached ;
+          }
+        } catch (IOException e) {
+          JMetalLogger.logger.warning("Ignoring the invalid cache file " + cacheFile + ": " + e);
+        }
+      }
+
+      if (weightVectors == null) {
+        weightVectors = parseWeightVectors(content, fileName, numberOfObjectives, populationSize) ;
+      }
+      MOEADWeightVectors result = new MOEADWeightVectors(weightVectors,
+          computeNeighborhood(weightVectors, neighborSize)) ;
+      if (cacheFile != null) {
+        try {
+          result.write(cacheFile, checksum);
+        } catch (IOException e) {
+          JMetalLogger.logger.warning("Unable to write the cache file " + cacheFile + ": " + e);
+        }
+      }
+
+      return result ;
+    }
+
+    return new MOEADWeightVectors(weightVectors, computeNeighborhood(weightVectors, neighborSize)) ;
+  }
+
+  private static double[][] createUniformWeightVectors(int populationSize) {
+    double[][] weightVectors = new double[populationSize][2] ;
+    for (int n = 0; n < populationSize; n++) {
+      double a = 1.0 * n / (populationSize - 1);
+      weightVectors[n][0] = a;
+      weightVectors[n][1] = 1 - a;
+    }
+
+    return weightVectors ;
+  }
+
+  /**
+   * Creates the weight vectors of the simplex-lattice design of Das and Dennis: all the vectors
+   * whose components are in {0, 1/H, ..., H/H} and sum 1
+   * @return The weight vectors, or null if there is no number of divisions H giving populationSize
+   * vectors
+   */
+  static double[][] createDasDennisWeightVectors(int numberOfObjectives, int populationSize) {
+    int divisions = 0 ;
+    long numberOfVectors = 1 ;
+    while (numberOfVectors < populationSize) {
+      divisions++ ;
+      numberOfVectors = numberOfVectors * (divisions + numberOfObjectives - 1) / divisions ;
+    }
+    if (numberOfVectors != populationSize) {
+      return null ;
+    }
+
+    List<double[]> weightVectors = new ArrayList<>(populationSize) ;
+    addDasDennisWeightVectors(weightVectors, new int[numberOfObjectives], 0, divisions, divisions);
+
+    return weightVectors.toArray(new double[populationSize][]) ;
+  }
+
+  private static void addDasDennisWeightVectors(List<double[]> weightVectors, int[] point,
+      int objective, int remaining, int divisions) {
+    if (objective == point.length - 1) {
+      point[objective] = remaining ;
+      double[] vector = new double[point.length] ;
+      for (int i = 0; i < point.length; i++) {
+        vector[i] = 1.0 * point[i] / divisions ;
+      }
+      weightVectors.add(vector) ;
+    } else {
+      for (int value = 0; value <= remaining; value++) {
+        point[objective] = value ;
+        addDasDennisWeightVectors(weightVectors, point, objective + 1, remaining - value, divisions);
+      }
+    }
+  }
+
+  private static int[][] computeNeighborhood(double[][] weightVectors, int neighborSize) {
+    int populationSize = weightVectors.length ;
+    int[][] neighborhood = new int[populationSize][neighborSize] ;
+    double[] x = new double[populationSize];
+    int[] idx = new int[populationSize];
+
+    for (int i = 0; i < populationSize; i++) {
+      // calculate the distances based on weight vectors
+      for (int j = 0; j < populationSize; j++) {
+        x[j] = MOEADUtils.distVector(weightVectors[i], weightVectors[j]);
+        idx[j] = j;
+      }
+
+      // find 'niche' nearest neighboring subproblems
+      MOEADUtils.minFastSort(x, idx, populationSize, neighborSize);
+
+      System.arraycopy(idx, 0, neighborhood[i], 0, neighborSize);
+    }
+
+    return neighborhood ;
+  }
+
+  private static byte[] readResource(String fileName) {
+    InputStream in = MOEADWeightVectors.class.getClassLoader().getResourceAsStream(fileName) ;
+    if (in == null) {
+      return null ;
+    }
+
+    try (InputStream input = in) {
+      ByteArrayOutputStream content = new ByteArrayOutputStream() ;
+      byte[] buffer = new byte[8192] ;
+      int length ;
+      while ((length = input.read(buffer)) != -1) {
+        content.write(buffer, 0, length);
+      }
+
+      return content.toByteArray() ;
+    } catch (IOException e) {
+      throw new JMetalException("initializeUniformWeight: failed when reading for file: " + fileName, e) ;
+    }
+  }
+
+  private static double[][] parseWeightVectors(byte[] content, String fileName,
+      int numberOfObjectives, int populationSize) {
+    double[][] weightVectors = new double[populationSize][numberOfObjectives] ;
+    try (BufferedReader br = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(content)))) {
+      int i = 0;
+      String aux = br.readLine();
+      while (aux != null) {
+        StringTokenizer st = new StringTokenizer(aux);
+        int j = 0;
+        while (st.hasMoreTokens()) {
+          weightVectors[i][j] = Double.parseDouble(st.nextToken());
+          j++;
+        }
+        aux = br.readLine();
+        i++;
+      }
+    } catch (Exception e) {
+      throw new JMetalException("initializeUniformWeight: failed when reading for file: " + fileName, e) ;
+    }
+
+    return weightVectors ;
+  }
+
+  static File getCacheFile(int numberOfObjectives, int populationSize, int neighborSize, long checksum) {
+    String directoryName = System.getProperty(CACHE_DIRECTORY_PROPERTY,
+        new File(System.getProperty("java.io.tmpdir"), "jmetal-moead-" + System.getProperty("user.name")).getPath()) ;
+    File directory = new File(directoryName) ;
+    if (!directory.isDirectory() && !directory.mkdirs()) {
+      JMetalLogger.logger.warning("Unable to create the cache directory " + directory);
+      return null ;
+    }
+
+    String fileName = "W" + numberOfObjectives + "D_" + populationSize + "_T" + neighborSize ;
+    if (checksum != GENERATED_WEIGHT_VECTORS) {
+      fileName += "_" + Long.toHexString(checksum) ;
+    }
+
+    return new File(directory, fileName + ".bin") ;
+  }
+
+  /**
+   * Writes the cache to a temporary file which is then renamed, so an interrupted write does not
+   * leave a truncated cache
+   */
+  private void write(File file, long checksum) throws IOException {
+    File temporaryFile = File.createTempFile(file.getName(), ".tmp", file.getParentFile()) ;
+    try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporaryFile)))) {
+      out.writeInt(CACHE_FILE_VERSION);
+      out.writeLong(checksum);
+      out.writeInt(getNumberOfObjectives());
+      out.writeInt(getPopulationSize());
+      out.writeInt(getNeighborSize());
+      for (double[] vector : weightVectors) {
+        for (double value : vector) {
+          out.writeDouble(value);
+        }
+      }
+      for (int[] neighbors : neighborhood) {
+        for (int neighbor : neighbors) {
+          out.writeInt(neighbor);
+        }
+      }
+    }
+    if (file.exists() && !file.delete()) {
+      temporaryFile.delete() ;
+      throw new IOException("Unable to replace " + file) ;
+    }
+    if (!temporaryFile.renameTo(file)) {
+      temporaryFile.delete() ;
+      throw new IOException("Unable to rename " + temporaryFile + " to " + file) ;
+    }
+  }
+
+  /**
+   * @return The cached weight vectors and neighborhoods, or null if the cache was computed from
+   * a different file of weight vectors
+   */
+  private static MOEADWeightVectors read(File file, long checksum, int numberOfObjectives,
+      int populationSize, int neighborSize) throws IOException {
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+      int version = in.readInt() ;
+      if (version != CACHE_FILE_VERSION) {
+        throw new IOException("Unknown version of " + file + ": " + version) ;
+      }
+      if ((in.readLong() != checksum) || (in.readInt() != numberOfObjectives)
+          || (in.readInt() != populationSize) || (in.readInt() != neighborSize)) {
+        return null ;
+      }
+
+      double[][] weightVectors = new double[populationSize][numberOfObjectives] ;
+      for (double[] vector : weightVectors) {
+        for (int j = 0; j < numberOfObjectives; j++) {
+          vector[j] = in.readDouble() ;
+        }
+      }
+      int[][] neighborhood = new int[populationSize][neighborSize] ;
+      for (int[] neighbors : neighborhood) {
+        for (int j = 0; j < neighborSize; j++) {
+          neighbors[j] = in.readInt() ;
+          if ((neighbors[j] < 0) || (neighbors[j] >= populationSize)) {
+            throw new IOException("Invalid neighbor in " + file + ": " + neighbors[j]) ;
+          }
+        }
+      }
+
+      return new MOEADWeightVectors(weightVectors, neighborhood) ;
+    }
+  }
+}
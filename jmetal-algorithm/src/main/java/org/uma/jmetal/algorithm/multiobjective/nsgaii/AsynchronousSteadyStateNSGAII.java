@@ -0,0 +1,134 @@
+package org.uma.jmetal.algorithm.multiobjective.nsgaii;
+
+import org.uma.jmetal.operator.CrossoverOperator;
+import org.uma.jmetal.operator.MutationOperator;
+import org.uma.jmetal.operator.SelectionOperator;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.evaluator.AsynchronousSolutionListEvaluator;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Steady-state NSGA-II driven by an {@link AsynchronousSolutionListEvaluator}. There are always as
+ * many offspring being evaluated as threads has the evaluator, and each offspring is inserted in
+ * the population (by ranking and crowding) as soon as its evaluation finishes, so a slow
+ * evaluation does not keep the rest of the threads idle. The population is dumped every
+ * populationSize evaluations, which plays the role of a generation. If a checkpointer is set, the
+ * offspring being evaluated are waited for before saving a checkpoint, so that a snapshot never
+ * contains an offspring being evaluated.
+ *
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+@SuppressWarnings("serial")
+public class AsynchronousSteadyStateNSGAII<S extends Solution<?>> extends NSGAII<S> {
+  protected final AsynchronousSolutionListEvaluator<S> asynchronousEvaluator;
+
+  private int submittedEvaluations ;
+
+  /**
+   * Constructor
+   */
+  public AsynchronousSteadyStateNSGAII(Problem<S> problem, int maxEvaluations, int populationSize,
+      CrossoverOperator<S> crossoverOperator, MutationOperator<S> mutationOperator,
+      SelectionOperator<List<S>, S> selectionOperator, Comparator<S> dominanceComparator,
+      AsynchronousSolutionListEvaluator<S> evaluator) {
+    super(problem, maxEvaluations, populationSize, crossoverOperator.getNumberOfRequiredParents(), 1,
+        crossoverOperator, mutationOperator, selectionOperator, dominanceComparator, evaluator);
+    this.asynchronousEvaluator = evaluator ;
+  }
+
+  @Override public void run() {
+    try {
+      if ((checkpointer == null) || !checkpointer.restore(this)) {
+        population = createInitialPopulation();
+        population = evaluatePopulation(population);
+        initProgress();
+        submittedEvaluations = evaluations ;
+        checkpoint();
+      }
+
+      runAsynchronously();
+      if (checkpointer != null) {
+        checkpointer.delete();
+      }
+    } finally {
+      if (checkpointer != null) {
+        checkpointer.close();
+      }
+    }
+  }
+
+  /**
+   * Generates and evaluates offspring until the stopping condition is reached. No offspring is
+   * being evaluated when it starts, which is also the case when the run is resumed from a
+   * checkpoint
+   */
+  private void runAsynchronously() {
+    while (!isStoppingConditionReached()) {
+      while ((asynchronousEvaluator.getNumberOfPendingSolutions() < asynchronousEvaluator.getNumberOfThreads())
+          && (submittedEvaluations < maxEvaluations)) {
+        for (S offspring : reproduction(selection(population))) {
+          if (submittedEvaluations < maxEvaluations) {
+            asynchronousEvaluator.submit(offspring, getProblem());
+            submittedEvaluations++ ;
+          }
+        }
+      }
+
+      Deque<S> completedOffspring =
+          new ArrayDeque<>(asynchronousEvaluator.pollCompleted(Long.MAX_VALUE, TimeUnit.MILLISECONDS)) ;
+      int deferredCheckpoints = 0 ;
+      while (!completedOffspring.isEmpty()) {
+        List<S> offspringPopulation = new ArrayList<>(1) ;
+        offspringPopulation.add(completedOffspring.poll()) ;
+        population = replacement(population, offspringPopulation);
+        updateProgress();
+
+        if (evaluations % getMaxPopulationSize() == 0) {
+          if (deferredCheckpoints > 0) {
+            deferredCheckpoints++ ;
+          } else if ((checkpointer != null) && checkpointer.isCheckpointIteration()) {
+            completedOffspring.addAll(asynchronousEvaluator.drain()) ;
+            deferredCheckpoints++ ;
+          } else {
+            checkpoint();
+          }
+        }
+      }
+      for (int i = 0; i < deferredCheckpoints; i++) {
+        checkpoint();
+      }
+    }
+  }
+
+  @Override protected void updateProgress() {
+    evaluations ++ ;
+    if (evaluations % getMaxPopulationSize() == 0) {
+      currentGeneration += 1 ;
+      dump(getResult());
+    }
+  }
+
+  @Override protected List<S> reproduction(List<S> matingPool) {
+    List<S> offspring = crossoverOperator.execute(matingPool);
+    for (S s : offspring) {
+      mutationOperator.execute(s);
+    }
+
+    return offspring;
+  }
+
+  @Override public String getName() {
+    return "asyncNSGAII" ;
+  }
+
+  @Override public String getDescription() {
+    return "Nondominated Sorting Genetic Algorithm version II. Asynchronous steady-state version" ;
+  }
+}
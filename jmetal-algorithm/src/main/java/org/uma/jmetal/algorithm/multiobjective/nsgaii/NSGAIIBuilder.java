@@ -10,6 +10,7 @@ import org.uma.jmetal.util.AlgorithmBuilder;
 import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.comparator.DominanceComparator;
 import org.uma.jmetal.util.comparator.RankingAndCrowdingDistanceComparator;
+import org.uma.jmetal.util.evaluator.AsynchronousSolutionListEvaluator;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
 import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
 
@@ -20,7 +21,7 @@ import java.util.List;
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 public class NSGAIIBuilder<S extends Solution<?>> implements AlgorithmBuilder<NSGAII<S>> {
-  public enum NSGAIIVariant {NSGAII, SteadyStateNSGAII, Measures, NSGAII45, DNSGAII, NSGAIIWithEpsilonArchive}
+  public enum NSGAIIVariant {NSGAII, SteadyStateNSGAII, Measures, NSGAII45, DNSGAII, NSGAIIWithEpsilonArchive, AsynchronousSteadyStateNSGAII}
 
   /**
    * NSGAIIBuilder class
@@ -148,6 +149,12 @@ public class NSGAIIBuilder<S extends Solution<?>> implements AlgorithmBuilder<NS
     }else if(variant.equals(NSGAIIVariant.NSGAIIWithEpsilonArchive)){
       algorithm = new NSGAIIWithEpsilonArchive<S>(problem, maxEvaluations, populationSize, matingPoolSize, offspringPopulationSize, archiveSize,
               crossoverOperator, mutationOperator, selectionOperator, dominanceComparator, evaluator) ;
+    }else if(variant.equals(NSGAIIVariant.AsynchronousSteadyStateNSGAII)){
+      if (!(evaluator instanceof AsynchronousSolutionListEvaluator)) {
+        throw new JMetalException("AsynchronousSteadyStateNSGAII requires an AsynchronousSolutionListEvaluator") ;
+      }
+      algorithm = new AsynchronousSteadyStateNSGAII<S>(problem, maxEvaluations, populationSize, crossoverOperator,
+          mutationOperator, selectionOperator, dominanceComparator, (AsynchronousSolutionListEvaluator<S>) evaluator) ;
     }
 
     return algorithm ;
@@ -11,7 +11,7 @@ import org.uma.jmetal.util.fileoutput.ConstraintListOutput;
 import org.uma.jmetal.util.fileoutput.SolutionListOutput;
 import org.uma.jmetal.util.fileoutput.impl.DefaultFileOutputContext;
 import org.uma.jmetal.util.solutionattribute.Ranking;
-import org.uma.jmetal.util.solutionattribute.impl.DominanceRanking;
+import org.uma.jmetal.util.solutionattribute.impl.EfficientNonDominatedSortRanking;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -203,7 +203,7 @@ public class NSGAIII<S extends Solution<?>> extends AbstractGeneticAlgorithm<S,
   }
 
   protected Ranking<S> computeRanking(List<S> solutionList) {
-    Ranking<S> ranking = new DominanceRanking<>() ;
+    Ranking<S> ranking = new EfficientNonDominatedSortRanking<>() ;
     ranking.computeRanking(solutionList) ;
 
     return ranking ;
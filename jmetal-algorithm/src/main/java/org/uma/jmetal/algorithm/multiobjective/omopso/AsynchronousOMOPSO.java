@@ -0,0 +1,137 @@
+package org.uma.jmetal.algorithm.multiobjective.omopso;
+
+import org.uma.jmetal.operator.impl.mutation.NonUniformMutation;
+import org.uma.jmetal.operator.impl.mutation.UniformMutation;
+import org.uma.jmetal.problem.DoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.evaluator.AsynchronousSolutionListEvaluator;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Asynchronous version of OMOPSO. Each particle is moved and submitted to an
+ * {@link AsynchronousSolutionListEvaluator} on its own; when its evaluation finishes, it updates
+ * the leader and epsilon archives and its local best, and it is moved again using the leaders
+ * available at that moment. There is no barrier between iterations, so all the threads of the
+ * evaluator are kept busy. An iteration is considered completed every swarmSize evaluations.
+ * If a checkpointer is set, the particles being evaluated are waited for before saving a
+ * checkpoint, so that a snapshot never contains a particle being evaluated.
+ *
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+@SuppressWarnings("serial")
+public class AsynchronousOMOPSO extends OMOPSO {
+  protected AsynchronousSolutionListEvaluator<DoubleSolution> asynchronousEvaluator;
+
+  private int evaluations ;
+  private int submittedEvaluations ;
+
+  /** Constructor */
+  public AsynchronousOMOPSO(DoubleProblem problem, AsynchronousSolutionListEvaluator<DoubleSolution> evaluator,
+      int swarmSize, int maxIterations, int archiveSize, UniformMutation uniformMutation,
+      NonUniformMutation nonUniformMutation, double eta) {
+    super(problem, evaluator, swarmSize, maxIterations, archiveSize, uniformMutation, nonUniformMutation, eta);
+    this.asynchronousEvaluator = evaluator ;
+  }
+
+  @Override
+  public void run() {
+    try {
+      if ((checkpointer == null) || !checkpointer.restore(this)) {
+        List<DoubleSolution> swarm = createInitialSwarm() ;
+        swarm = evaluateSwarm(swarm);
+        setSwarm(swarm);
+        initializeVelocity(swarm);
+        initializeParticlesMemory(swarm) ;
+        initializeLeader(swarm) ;
+        evaluations = swarmSize ;
+        submittedEvaluations = swarmSize ;
+        initProgress();
+        checkpoint();
+      } else {
+        resumeProgress();
+      }
+
+      runAsynchronously();
+      if (checkpointer != null) {
+        checkpointer.delete();
+      }
+    } finally {
+      if (checkpointer != null) {
+        checkpointer.close();
+      }
+      closeDumpWriter();
+    }
+  }
+
+  /**
+   * Moves and evaluates the particles until the stopping condition is reached. All the particles
+   * are idle when it starts, which is also the case when the run is resumed from a checkpoint
+   */
+  private void runAsynchronously() {
+    List<DoubleSolution> swarm = getSwarm() ;
+    int maxEvaluations = maxIterations * swarmSize ;
+
+    Map<DoubleSolution, Integer> particleIndex = new IdentityHashMap<>() ;
+    Deque<Integer> idleParticles = new ArrayDeque<>() ;
+    for (int i = 0; i < swarm.size(); i++) {
+      particleIndex.put(swarm.get(i), i) ;
+      idleParticles.add(i) ;
+    }
+
+    while (!isStoppingConditionReached()) {
+      while ((asynchronousEvaluator.getNumberOfPendingSolutions() < asynchronousEvaluator.getNumberOfThreads())
+          && (submittedEvaluations < maxEvaluations) && !idleParticles.isEmpty()) {
+        int i = idleParticles.poll() ;
+        DoubleSolution particle = swarm.get(i) ;
+        updateVelocity(i, particle);
+        updatePosition(i, particle);
+        perturbation(i, particle);
+        asynchronousEvaluator.submit(particle, problem);
+        submittedEvaluations++ ;
+      }
+
+      Deque<DoubleSolution> completedParticles =
+          new ArrayDeque<>(asynchronousEvaluator.pollCompleted(Long.MAX_VALUE, TimeUnit.MILLISECONDS)) ;
+      int deferredCheckpoints = 0 ;
+      while (!completedParticles.isEmpty()) {
+        DoubleSolution particle = completedParticles.poll() ;
+        int i = particleIndex.get(particle) ;
+        if (updateLeader(particle)) {
+          crowdingDistance.computeDensityEstimator(leaderArchive.getSolutionList());
+        }
+        updateParticleMemory(i, particle);
+        idleParticles.add(i) ;
+
+        evaluations++ ;
+        if (evaluations % swarmSize == 0) {
+          updateProgress();
+          if (deferredCheckpoints > 0) {
+            deferredCheckpoints++ ;
+          } else if ((checkpointer != null) && checkpointer.isCheckpointIteration()) {
+            completedParticles.addAll(asynchronousEvaluator.drain()) ;
+            deferredCheckpoints++ ;
+          } else {
+            checkpoint();
+          }
+        }
+      }
+      for (int i = 0; i < deferredCheckpoints; i++) {
+        checkpoint();
+      }
+    }
+  }
+
+  @Override public String getName() {
+    return "asyncOMOPSO" ;
+  }
+
+  @Override public String getDescription() {
+    return "Optimized MOPSO. Asynchronous version" ;
+  }
+}
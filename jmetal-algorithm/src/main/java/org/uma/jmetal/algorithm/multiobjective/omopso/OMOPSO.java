@@ -12,9 +12,7 @@ import org.uma.jmetal.util.archive.impl.NonDominatedSolutionListArchive;
 import org.uma.jmetal.util.comparator.CrowdingDistanceComparator;
 import org.uma.jmetal.util.comparator.DominanceComparator;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
-import org.uma.jmetal.util.fileoutput.ConstraintListOutput;
-import org.uma.jmetal.util.fileoutput.SolutionListOutput;
-import org.uma.jmetal.util.fileoutput.impl.DefaultFileOutputContext;
+import org.uma.jmetal.util.fileoutput.SolutionListDumpWriter;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 import org.uma.jmetal.util.solutionattribute.impl.CrowdingDistance;
 import org.uma.jmetal.util.solutionattribute.impl.OverallConstraintViolation;
@@ -41,6 +39,9 @@ public class OMOPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Li
   public NonDominatedSolutionListArchive<DoubleSolution> epsilonArchive;
 
   public double[][] speed;
+  private double[] position;
+  private double[] bestParticlePosition;
+  private double[] bestGlobalPosition;
 
   public Comparator<DoubleSolution> dominanceComparator;
   public Comparator<DoubleSolution> crowdingDistanceComparator;
@@ -53,6 +54,12 @@ public class OMOPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Li
 
   private List<DoubleSolution> initialSwarm;
 
+  public int dumpInterval;
+  public String dumpDirectory;
+  public SolutionListDumpWriter.Format dumpFormat;
+  private transient SolutionListDumpWriter dumpWriter;
+  private transient int resumedIteration;
+
   /** Constructor */
   public OMOPSO(DoubleProblem problem, SolutionListEvaluator<DoubleSolution> evaluator,
       int swarmSize, int maxIterations, int archiveSize, UniformMutation uniformMutation,
@@ -75,11 +82,26 @@ public class OMOPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Li
     crowdingDistanceComparator = new CrowdingDistanceComparator<DoubleSolution>();
 
     speed = new double[swarmSize][problem.getNumberOfVariables()];
+    position = new double[problem.getNumberOfVariables()];
+    bestParticlePosition = new double[problem.getNumberOfVariables()];
+    bestGlobalPosition = new double[problem.getNumberOfVariables()];
 
     randomGenerator = JMetalRandom.getInstance() ;
     crowdingDistance = new CrowdingDistance<DoubleSolution>();
 
     this.initialSwarm = null;
+
+    dumpInterval = 1;
+    dumpDirectory = "./result/";
+    dumpFormat = SolutionListDumpWriter.Format.CSV;
+  }
+
+  @Override public void run() {
+    try {
+      super.run();
+    } finally {
+      closeDumpWriter();
+    }
   }
 
 
@@ -125,18 +147,52 @@ public class OMOPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Li
     }
   }
 
+  /**
+   * Queues the solution list to be written by the dump writer, which appends it to the files of
+   * the prefix in the dump directory. Only the first and the last iterations and one out of
+   * dumpInterval iterations are written.
+   */
   protected void dump(List<? extends Solution<?>> solutionList, String prefix){
-    // dump solution list in the searching
-    new SolutionListOutput(solutionList)
-            .setVarFileOutputContext(new DefaultFileOutputContext("./result/"+prefix+"variable" + currentIteration + ".csv"))
-            .setFunFileOutputContext(new DefaultFileOutputContext("./result/"+prefix+"fitness" + currentIteration + ".csv"))
-            .setSeparator(",")
-            .print();
-    new ConstraintListOutput<>(solutionList)
-            .setConFileOutputContext(new DefaultFileOutputContext("./result/"+prefix+"constraint" + currentIteration + ".csv"))
-            .setSeparator(",")
-            .print();
+    if (!isDumpIteration()) {
+      return;
+    }
+    if (dumpWriter == null) {
+      dumpWriter = new SolutionListDumpWriter(dumpDirectory, dumpFormat,
+          SolutionListDumpWriter.DEFAULT_QUEUE_CAPACITY);
+      if (resumedIteration > 0) {
+        dumpWriter.setResumedIteration(resumedIteration);
+      }
+    }
+    dumpWriter.write(prefix, currentIteration, solutionList);
   }
+
+  protected boolean isDumpIteration() {
+    return SolutionListDumpWriter.isDumpIteration(currentIteration, maxIterations, dumpInterval);
+  }
+
+  /** The dump files of a resumed run are continued from the iteration of the checkpoint */
+  @Override protected void resumeProgress() {
+    resumedIteration = currentIteration;
+  }
+
+  /** The dumped solution lists are written before a checkpoint, as a resumed run appends to them */
+  @Override protected void checkpoint() {
+    if ((dumpWriter != null) && (checkpointer != null) && checkpointer.isCheckpointIteration()) {
+      dumpWriter.flush();
+    }
+    super.checkpoint();
+  }
+
+  /** Waits until the dumped solution lists are written and closes the files */
+  protected void closeDumpWriter() {
+    resumedIteration = 0;
+    if (dumpWriter != null) {
+      SolutionListDumpWriter writer = dumpWriter;
+      dumpWriter = null;
+      writer.close();
+    }
+  }
+
   protected void dump(List<DoubleSolution> solutionList){
     dump(solutionList,"");
   }
@@ -145,6 +201,22 @@ public class OMOPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Li
     return currentIteration >= maxIterations;
   }
 
+  /**
+   * @param dumpInterval Number of iterations between dumps of the archives and the swarm; 0 to
+   *                     disable the dumps
+   */
+  public void setDumpInterval(int dumpInterval) {
+    this.dumpInterval = dumpInterval;
+  }
+
+  public void setDumpDirectory(String dumpDirectory) {
+    this.dumpDirectory = dumpDirectory;
+  }
+
+  public void setDumpFormat(SolutionListDumpWriter.Format dumpFormat) {
+    this.dumpFormat = dumpFormat;
+  }
+
   public void setInitialSwarm(List<DoubleSolution> initialSwarm) {
     this.initialSwarm = initialSwarm;
   }
@@ -174,12 +246,7 @@ public class OMOPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Li
 
   @Override
   protected void initializeLeader(List<DoubleSolution> swarm) {
-    for (DoubleSolution solution : swarm) {
-      DoubleSolution particle = (DoubleSolution) solution.copy();
-      if (leaderArchive.add(particle)) {
-        epsilonArchive.add((DoubleSolution) particle.copy());
-      }
-    }
+    addLeaders(swarm);
   }
 
   @Override
@@ -192,41 +259,48 @@ public class OMOPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Li
 
   @Override
   protected void updateVelocity(List<DoubleSolution> swarm)  {
+    for (int i = 0; i < swarmSize; i++) {
+      updateVelocity(i, swarm.get(i));
+    }
+  }
+
+  /** Update the velocity of the i-th particle */
+  protected void updateVelocity(int i, DoubleSolution particle)  {
     double r1, r2, W, C1, C2;
     DoubleSolution bestGlobal;
 
-    for (int i = 0; i < swarmSize; i++) {
-      DoubleSolution particle = swarm.get(i);
-      DoubleSolution bestParticle = (DoubleSolution) localBest[i];
-
-      //Select a global localBest for calculate the speed of particle i, bestGlobal
-      DoubleSolution one ;
-      DoubleSolution two;
-      int pos1 = randomGenerator.nextInt(0, leaderArchive.getSolutionList().size() - 1);
-      int pos2 = randomGenerator.nextInt(0, leaderArchive.getSolutionList().size() - 1);
-      one = leaderArchive.getSolutionList().get(pos1);
-      two = leaderArchive.getSolutionList().get(pos2);
-
-      if (crowdingDistanceComparator.compare(one, two) < 1) {
-        bestGlobal = one ;
-      } else {
-        bestGlobal = two ;
-      }
+    DoubleSolution bestParticle = localBest[i];
 
-      //Parameters for velocity equation
-      r1 = randomGenerator.nextDouble();
-      r2 = randomGenerator.nextDouble();
-      C1 = randomGenerator.nextDouble(1.5, 2.0);
-      C2 = randomGenerator.nextDouble(1.5, 2.0);
-      W = randomGenerator.nextDouble(0.1, 0.5);
-      //
-
-      for (int var = 0; var < particle.getNumberOfVariables(); var++) {
-        //Computing the velocity of this particle
-        speed[i][var] = W * speed[i][var] + C1 * r1 * (bestParticle.getVariableValue(var) -
-            particle.getVariableValue(var)) +
-            C2 * r2 * (bestGlobal.getVariableValue(var) - particle.getVariableValue(var));
-      }
+    //Select a global localBest for calculate the speed of particle i, bestGlobal
+    DoubleSolution one ;
+    DoubleSolution two;
+    int pos1 = randomGenerator.nextInt(0, leaderArchive.getSolutionList().size() - 1);
+    int pos2 = randomGenerator.nextInt(0, leaderArchive.getSolutionList().size() - 1);
+    one = leaderArchive.getSolutionList().get(pos1);
+    two = leaderArchive.getSolutionList().get(pos2);
+
+    if (crowdingDistanceComparator.compare(one, two) < 1) {
+      bestGlobal = one ;
+    } else {
+      bestGlobal = two ;
+    }
+
+    //Parameters for velocity equation
+    r1 = randomGenerator.nextDouble();
+    r2 = randomGenerator.nextDouble();
+    C1 = randomGenerator.nextDouble(1.5, 2.0);
+    C2 = randomGenerator.nextDouble(1.5, 2.0);
+    W = randomGenerator.nextDouble(0.1, 0.5);
+    //
+
+    particle.getVariableValues(position) ;
+    bestParticle.getVariableValues(bestParticlePosition) ;
+    bestGlobal.getVariableValues(bestGlobalPosition) ;
+    for (int var = 0; var < particle.getNumberOfVariables(); var++) {
+      //Computing the velocity of this particle
+      speed[i][var] = W * speed[i][var] + C1 * r1 * (bestParticlePosition[var] -
+          position[var]) +
+          C2 * r2 * (bestGlobalPosition[var] - position[var]);
     }
   }
 
@@ -234,29 +308,40 @@ public class OMOPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Li
   @Override
   protected void updatePosition(List<DoubleSolution> swarm)  {
     for (int i = 0; i < swarmSize; i++) {
-      DoubleSolution particle = swarm.get(i);
-      for (int var = 0; var < particle.getNumberOfVariables(); var++) {
-        particle.setVariableValue(var, particle.getVariableValue(var) + speed[i][var]);
-        if (particle.getVariableValue(var) < problem.getLowerBound(var)) {
-          particle.setVariableValue(var, problem.getLowerBound(var));
-          speed[i][var] = speed[i][var] * -1.0;
-        }
-        if (particle.getVariableValue(var) > problem.getUpperBound(var)) {
-          particle.setVariableValue(var, problem.getUpperBound(var));
-          speed[i][var] = speed[i][var] * -1.0;
-        }
+      updatePosition(i, swarm.get(i));
+    }
+  }
+
+  /** Update the position of the i-th particle */
+  protected void updatePosition(int i, DoubleSolution particle)  {
+    particle.getVariableValues(position) ;
+    for (int var = 0; var < particle.getNumberOfVariables(); var++) {
+      position[var] += speed[i][var];
+      if (position[var] < problem.getLowerBound(var)) {
+        position[var] = problem.getLowerBound(var);
+        speed[i][var] = speed[i][var] * -1.0;
+      }
+      if (position[var] > problem.getUpperBound(var)) {
+        position[var] = problem.getUpperBound(var);
+        speed[i][var] = speed[i][var] * -1.0;
       }
     }
+    particle.setVariableValues(position);
   }
 
   @Override
   protected void updateParticlesMemory(List<DoubleSolution> swarm) {
     for (int i = 0; i < swarm.size(); i++) {
-      int flag = dominanceComparator.compare(swarm.get(i), localBest[i]);
-      if (flag != 1) {
-        DoubleSolution particle = (DoubleSolution) swarm.get(i).copy();
-        localBest[i] = particle;
-      }
+      updateParticleMemory(i, swarm.get(i));
+    }
+  }
+
+  /** Update the local best of the i-th particle */
+  protected void updateParticleMemory(int i, DoubleSolution solution) {
+    int flag = dominanceComparator.compare(solution, localBest[i]);
+    if (flag != 1) {
+      DoubleSolution particle = (DoubleSolution) solution.copy();
+      localBest[i] = particle;
     }
   }
 
@@ -271,14 +356,18 @@ public class OMOPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Li
   /**  Apply a mutation operator to all particles in the swarm (perturbation) */
   @Override
   protected void perturbation(List<DoubleSolution> swarm)  {
-    nonUniformMutation.setCurrentIteration(currentIteration);
-
     for (int i = 0; i < swarm.size(); i++) {
-      if (i % 3 == 0) {
-        nonUniformMutation.execute(swarm.get(i));
-      } else if (i % 3 == 1) {
-        uniformMutation.execute(swarm.get(i));
-      }
+      perturbation(i, swarm.get(i));
+    }
+  }
+
+  /** Apply the mutation operator corresponding to the i-th particle */
+  protected void perturbation(int i, DoubleSolution particle)  {
+    if (i % 3 == 0) {
+      nonUniformMutation.setCurrentIteration(currentIteration);
+      nonUniformMutation.execute(particle);
+    } else if (i % 3 == 1) {
+      uniformMutation.execute(particle);
     }
   }
 
@@ -287,12 +376,37 @@ public class OMOPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Li
    * @param swarm List of solutions (swarm)
    */
   @Override protected void updateLeaders(List<DoubleSolution> swarm) {
+    addLeaders(swarm);
+  }
+
+  /**
+   * Add copies of the particles to the leader archive, which is pruned once after all of them have
+   * been inserted, and the accepted ones to the epsilon archive
+   * @param swarm Particles
+   */
+  protected void addLeaders(List<DoubleSolution> swarm) {
+    List<DoubleSolution> particles = new ArrayList<>(swarm.size());
     for (DoubleSolution solution : swarm) {
-      DoubleSolution particle = (DoubleSolution) solution.copy();
-      if (leaderArchive.add(particle)) {
-        epsilonArchive.add((DoubleSolution) particle.copy());
-      }
+      particles.add((DoubleSolution) solution.copy());
+    }
+
+    for (DoubleSolution particle : leaderArchive.addAll(particles)) {
+      epsilonArchive.add((DoubleSolution) particle.copy());
+    }
+  }
+
+  /**
+   * Add a copy of a particle to the leader archive and, if accepted, to the epsilon archive
+   * @param solution Particle
+   * @return true if the particle has been added to the leader archive
+   */
+  protected boolean updateLeader(DoubleSolution solution) {
+    DoubleSolution particle = (DoubleSolution) solution.copy();
+    boolean added = leaderArchive.add(particle) ;
+    if (added) {
+      epsilonArchive.add((DoubleSolution) particle.copy());
     }
+    return added ;
   }
 
   protected void tearDown() {
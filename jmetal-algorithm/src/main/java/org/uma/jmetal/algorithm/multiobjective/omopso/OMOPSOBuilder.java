@@ -6,7 +6,10 @@ import org.uma.jmetal.operator.impl.mutation.UniformMutation;
 import org.uma.jmetal.problem.DoubleProblem;
 import org.uma.jmetal.solution.DoubleSolution;
 import org.uma.jmetal.util.AlgorithmBuilder;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.evaluator.AsynchronousSolutionListEvaluator;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.fileoutput.SolutionListDumpWriter;
 
 /** Class implementing the OMOPSO algorithm */
 public class OMOPSOBuilder implements AlgorithmBuilder<OMOPSO> {
@@ -40,6 +43,7 @@ public class OMOPSOBuilder implements AlgorithmBuilder<OMOPSO> {
     OMOPSODegradeMutation,
     OMOPSODegradeArchiveSize,
     OMOPSODegradeSelection,
+    AsynchronousOMOPSO,
   }
 
   protected DoubleProblem problem;
@@ -55,6 +59,10 @@ public class OMOPSOBuilder implements AlgorithmBuilder<OMOPSO> {
 
   private OMOPSOVariant variant;
 
+  private int dumpInterval = 1 ;
+  private String dumpDirectory = "./result/" ;
+  private SolutionListDumpWriter.Format dumpFormat = SolutionListDumpWriter.Format.CSV ;
+
   public OMOPSOBuilder(DoubleProblem problem, SolutionListEvaluator<DoubleSolution> evaluator) {
     this.evaluator = evaluator ;
     this.problem = problem ;
@@ -102,6 +110,27 @@ public class OMOPSOBuilder implements AlgorithmBuilder<OMOPSO> {
     return this;
   }
 
+  public OMOPSOBuilder setDumpInterval(int dumpInterval) {
+    if (dumpInterval < 0) {
+      throw new JMetalException("Dump interval is negative: " + dumpInterval);
+    }
+    this.dumpInterval = dumpInterval ;
+
+    return this ;
+  }
+
+  public OMOPSOBuilder setDumpDirectory(String dumpDirectory) {
+    this.dumpDirectory = dumpDirectory ;
+
+    return this ;
+  }
+
+  public OMOPSOBuilder setDumpFormat(SolutionListDumpWriter.Format dumpFormat) {
+    this.dumpFormat = dumpFormat ;
+
+    return this ;
+  }
+
   /* Getters */
   public int getArchiveSize() {
     return archiveSize;
@@ -129,6 +158,18 @@ public class OMOPSOBuilder implements AlgorithmBuilder<OMOPSO> {
 
   public SolutionListEvaluator<DoubleSolution> getSolutionListEvaluator() { return evaluator; }
 
+  public int getDumpInterval() {
+    return dumpInterval;
+  }
+
+  public String getDumpDirectory() {
+    return dumpDirectory;
+  }
+
+  public SolutionListDumpWriter.Format getDumpFormat() {
+    return dumpFormat;
+  }
+
   public OMOPSO build() {
     OMOPSO algorithm = null;
     if(this.variant == OMOPSOVariant.OMOPSO){
@@ -194,6 +235,20 @@ public class OMOPSOBuilder implements AlgorithmBuilder<OMOPSO> {
       algorithm = new OMOPSODegradeSelection(problem, evaluator, swarmSize, maxIterations, archiveSize, uniformMutation, nonUniformMutation, eta);
     }
 
+    else if(this.variant == OMOPSOVariant.AsynchronousOMOPSO){
+      if (!(evaluator instanceof AsynchronousSolutionListEvaluator)) {
+        throw new JMetalException("AsynchronousOMOPSO requires an AsynchronousSolutionListEvaluator") ;
+      }
+      algorithm = new AsynchronousOMOPSO(problem, (AsynchronousSolutionListEvaluator<DoubleSolution>) evaluator,
+          swarmSize, maxIterations, archiveSize, uniformMutation, nonUniformMutation, eta);
+    }
+
+    if (algorithm != null) {
+      algorithm.setDumpInterval(dumpInterval);
+      algorithm.setDumpDirectory(dumpDirectory);
+      algorithm.setDumpFormat(dumpFormat);
+    }
+
     return algorithm ;
   }
 }
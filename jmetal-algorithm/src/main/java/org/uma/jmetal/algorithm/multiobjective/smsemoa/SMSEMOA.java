@@ -7,8 +7,7 @@ import org.uma.jmetal.operator.SelectionOperator;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.qualityindicator.impl.Hypervolume;
 import org.uma.jmetal.solution.Solution;
-import org.uma.jmetal.util.solutionattribute.Ranking;
-import org.uma.jmetal.util.solutionattribute.impl.DominanceRanking;
+import org.uma.jmetal.util.solutionattribute.impl.IncrementalDominanceRanking;
 
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -27,6 +26,9 @@ public class SMSEMOA<S extends Solution<?>> extends AbstractGeneticAlgorithm<S,
   private Hypervolume<S> hypervolume;
   protected Comparator<S> dominanceComparator ;
 
+  private IncrementalDominanceRanking<S> ranking ;
+  private List<S> rankedPopulation ;
+
   /**
    * Constructor
    */
@@ -90,26 +92,32 @@ public class SMSEMOA<S extends Solution<?>> extends AbstractGeneticAlgorithm<S,
     return offspringPopulation;
   }
 
+  /**
+   * The ranking of the population is kept between calls, so only the offspring is inserted and
+   * the worst solution removed instead of ranking the joint population again
+   */
   @Override protected List<S> replacement(List<S> population, List<S> offspringPopulation) {
-    List<S> jointPopulation = new ArrayList<>();
+    if ((ranking == null) || (population != rankedPopulation)) {
+      ranking = computeRanking(population) ;
+    }
+
+    List<S> jointPopulation = new ArrayList<>(population.size() + offspringPopulation.size());
     jointPopulation.addAll(population);
     jointPopulation.addAll(offspringPopulation);
 
-    Ranking<S> ranking = computeRanking(jointPopulation);
-    List<S> lastSubfront = ranking.getSubfront(ranking.getNumberOfSubfronts()-1) ;
+    for (S solution : offspringPopulation) {
+      ranking.add(solution) ;
+    }
 
+    List<S> lastSubfront = new ArrayList<>(ranking.getSubfront(ranking.getNumberOfSubfronts()-1)) ;
     lastSubfront = hypervolume.computeHypervolumeContribution(lastSubfront, jointPopulation) ;
+    ranking.remove(lastSubfront.get(lastSubfront.size()-1));
 
-    List<S> resultPopulation = new ArrayList<>() ;
-    for (int i = 0; i < ranking.getNumberOfSubfronts()-1; i++) {
-      for (S solution : ranking.getSubfront(i)) {
-        resultPopulation.add(solution);
-      }
-    }
-
-    for (int i = 0; i < lastSubfront.size()-1; i++) {
-      resultPopulation.add(lastSubfront.get(i)) ;
+    List<S> resultPopulation = new ArrayList<>(ranking.size()) ;
+    for (int i = 0; i < ranking.getNumberOfSubfronts(); i++) {
+      resultPopulation.addAll(ranking.getSubfront(i)) ;
     }
+    rankedPopulation = resultPopulation ;
 
     return resultPopulation ;
   }
@@ -118,8 +126,8 @@ public class SMSEMOA<S extends Solution<?>> extends AbstractGeneticAlgorithm<S,
     return getPopulation();
   }
 
-  protected Ranking<S> computeRanking(List<S> solutionList) {
-    Ranking<S> ranking = new DominanceRanking<S>(dominanceComparator);
+  protected IncrementalDominanceRanking<S> computeRanking(List<S> solutionList) {
+    IncrementalDominanceRanking<S> ranking = new IncrementalDominanceRanking<S>(dominanceComparator);
     ranking.computeRanking(solutionList);
 
     return ranking;
@@ -9,9 +9,7 @@ import org.uma.jmetal.util.SolutionListUtils;
 import org.uma.jmetal.util.archive.impl.BoundedDominanceArchive;
 import org.uma.jmetal.util.comparator.DominanceComparator;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
-import org.uma.jmetal.util.fileoutput.ConstraintListOutput;
-import org.uma.jmetal.util.fileoutput.SolutionListOutput;
-import org.uma.jmetal.util.fileoutput.impl.DefaultFileOutputContext;
+import org.uma.jmetal.util.fileoutput.SolutionListDumpWriter;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 
 import java.util.ArrayList;
@@ -49,6 +47,12 @@ public class SingleOMOPSO extends AbstractParticleSwarmOptimization<DoubleSoluti
 
   private List<DoubleSolution> initialSwarm;
 
+  private int dumpInterval;
+  private String dumpDirectory;
+  private SolutionListDumpWriter.Format dumpFormat;
+  private transient SolutionListDumpWriter dumpWriter;
+  private transient int resumedIteration;
+
   /** Constructor */
   public SingleOMOPSO(DoubleProblem problem, SolutionListEvaluator<DoubleSolution> evaluator,
                       int swarmSize, int maxIterations, int archiveSize, UniformMutation uniformMutation,
@@ -74,6 +78,23 @@ public class SingleOMOPSO extends AbstractParticleSwarmOptimization<DoubleSoluti
     randomGenerator = JMetalRandom.getInstance() ;
 
     this.initialSwarm = null;
+
+    dumpInterval = 1;
+    dumpDirectory = "./result/";
+    dumpFormat = SolutionListDumpWriter.Format.CSV;
+  }
+
+  @Override public void run() {
+    try {
+      super.run();
+    } finally {
+      resumedIteration = 0;
+      if (dumpWriter != null) {
+        SolutionListDumpWriter writer = dumpWriter;
+        dumpWriter = null;
+        writer.close();
+      }
+    }
   }
 
 
@@ -87,28 +108,51 @@ public class SingleOMOPSO extends AbstractParticleSwarmOptimization<DoubleSoluti
     dump();
   }
 
+  /** The dump files of a resumed run are continued from the iteration of the checkpoint */
+  @Override protected void resumeProgress() {
+    resumedIteration = currentIteration;
+  }
+
+  /** The dumped archives are written before a checkpoint, as a resumed run appends to them */
+  @Override protected void checkpoint() {
+    if ((dumpWriter != null) && (checkpointer != null) && checkpointer.isCheckpointIteration()) {
+      dumpWriter.flush();
+    }
+    super.checkpoint();
+  }
+
+  /**
+   * Queues the epsilon and leader archives to be written by the dump writer. Only the first and
+   * the last iterations and one out of dumpInterval iterations are written.
+   */
   protected void dump(){
-      // dump solution list in the searching
-      List<DoubleSolution> epsilon = getResult();
-      new SolutionListOutput(epsilon)
-              .setVarFileOutputContext(new DefaultFileOutputContext("./result/epsilonPosition" + currentIteration + ".csv"))
-              .setFunFileOutputContext(new DefaultFileOutputContext("./result/epsilonFitness" + currentIteration + ".csv"))
-              .setSeparator(",")
-              .print();
-      new ConstraintListOutput<DoubleSolution>(epsilon)
-              .setConFileOutputContext(new DefaultFileOutputContext("./result/epsilonConstraint" + currentIteration + ".csv"))
-              .setSeparator(",")
-              .print();
-      List<DoubleSolution> leader = this.leaderArchive.getSolutionList();
-      new SolutionListOutput(leader)
-              .setVarFileOutputContext(new DefaultFileOutputContext("./result/leaderPosition" + currentIteration + ".csv"))
-              .setFunFileOutputContext(new DefaultFileOutputContext("./result/leaderFitness" + currentIteration + ".csv"))
-              .setSeparator(",")
-              .print();
-      new ConstraintListOutput<DoubleSolution>(leader)
-              .setConFileOutputContext(new DefaultFileOutputContext("./result/leaderConstraint" + currentIteration + ".csv"))
-              .setSeparator(",")
-              .print();
+    if (!SolutionListDumpWriter.isDumpIteration(currentIteration, maxIterations, dumpInterval)) {
+      return;
+    }
+    if (dumpWriter == null) {
+      dumpWriter = new SolutionListDumpWriter(dumpDirectory, dumpFormat,
+          SolutionListDumpWriter.DEFAULT_QUEUE_CAPACITY);
+      if (resumedIteration > 0) {
+        dumpWriter.setResumedIteration(resumedIteration);
+      }
+    }
+    dumpWriter.write("epsilon", currentIteration, getResult());
+    dumpWriter.write("leader", currentIteration, leaderArchive.getSolutionList());
+  }
+
+  /**
+   * @param dumpInterval Number of iterations between dumps of the archives; 0 to disable the dumps
+   */
+  public void setDumpInterval(int dumpInterval) {
+    this.dumpInterval = dumpInterval;
+  }
+
+  public void setDumpDirectory(String dumpDirectory) {
+    this.dumpDirectory = dumpDirectory;
+  }
+
+  public void setDumpFormat(SolutionListDumpWriter.Format dumpFormat) {
+    this.dumpFormat = dumpFormat;
   }
 
   @Override protected boolean isStoppingConditionReached() {
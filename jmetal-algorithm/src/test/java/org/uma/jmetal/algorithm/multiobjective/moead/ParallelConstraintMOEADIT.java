@@ -0,0 +1,192 @@
+package org.uma.jmetal.algorithm.multiobjective.moead;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.uma.jmetal.operator.MutationOperator;
+import org.uma.jmetal.operator.impl.crossover.DifferentialEvolutionCrossover;
+import org.uma.jmetal.operator.impl.crossover.SBXCrossover;
+import org.uma.jmetal.operator.impl.mutation.PolynomialMutation;
+import org.uma.jmetal.problem.multiobjective.Tanaka;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.evaluator.impl.AsynchronousThreadPoolSolutionListEvaluator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Runs the parallel constraint MOEA/D variants in the pipelined mode (with an
+ * {@link AsynchronousThreadPoolSolutionListEvaluator}). The solution lists are recorded instead of
+ * being dumped to the ./result/ folder.
+ *
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+public class ParallelConstraintMOEADIT {
+  private static final int POPULATION_SIZE = 20 ;
+  private static final int ARCHIVE_SIZE = 10 ;
+  private static final int MAX_EVALUATIONS = 250 ;
+  private static final int NUMBER_OF_THREADS = 4 ;
+
+  /** The initial population plus the generations needed to reach MAX_EVALUATIONS (rounded up) */
+  private static final int NUMBER_OF_GENERATIONS =
+      1 + (MAX_EVALUATIONS - POPULATION_SIZE + POPULATION_SIZE - 1) / POPULATION_SIZE ;
+
+  private CountingTanaka problem ;
+  private AsynchronousThreadPoolSolutionListEvaluator<DoubleSolution> evaluator ;
+  private MutationOperator<DoubleSolution> mutation ;
+  private List<Dump> dumps ;
+
+  @Before
+  public void setup() {
+    problem = new CountingTanaka() ;
+    evaluator = new AsynchronousThreadPoolSolutionListEvaluator<>(NUMBER_OF_THREADS, problem) ;
+    mutation = new PolynomialMutation(1.0 / problem.getNumberOfVariables(), 20.0) ;
+    dumps = new ArrayList<>() ;
+  }
+
+  @After
+  public void tearDown() {
+    evaluator.shutdown();
+  }
+
+  @Test
+  public void shouldParallelConstraintMOEADEvaluateWholeGenerations() {
+    AbstractParallelConstraintMOEAD algorithm = new ParallelConstraintMOEAD(problem, POPULATION_SIZE,
+        POPULATION_SIZE, MAX_EVALUATIONS, mutation, new SBXCrossover(0.9, 20.0),
+        AbstractMOEAD.FunctionType.TCHE, "MOEAD_Weights", 0.9, 2, 5, evaluator) {
+      @Override protected void dump(List<DoubleSolution> solutionList, String prefix) {
+        dumps.add(new Dump(prefix, evaluations / populationSize, solutionList.size())) ;
+      }
+    } ;
+
+    algorithm.run();
+
+    assertEvaluationsAndGenerations(algorithm) ;
+    assertEquals(NUMBER_OF_GENERATIONS, dumps.size()) ;
+  }
+
+  @Test
+  public void shouldParallelConstraintMOEADDEEvaluateWholeGenerations() {
+    AbstractParallelConstraintMOEAD algorithm = new ParallelConstraintMOEADDE(problem, POPULATION_SIZE,
+        POPULATION_SIZE, MAX_EVALUATIONS, mutation, new DifferentialEvolutionCrossover(1.0, 0.5, "rand/1/bin"),
+        AbstractMOEAD.FunctionType.TCHE, "MOEAD_Weights", 0.9, 2, 5, evaluator) {
+      @Override protected void dump(List<DoubleSolution> solutionList, String prefix) {
+        dumps.add(new Dump(prefix, evaluations / populationSize, solutionList.size())) ;
+      }
+    } ;
+
+    algorithm.run();
+
+    assertEvaluationsAndGenerations(algorithm) ;
+    assertEquals(NUMBER_OF_GENERATIONS, dumps.size()) ;
+  }
+
+  @Test
+  public void shouldParallelConstraintMOEADWithEpsilonArchiveUpdateTheArchivesEachGeneration() {
+    AbstractParallelConstraintMOEAD algorithm = new ParallelConstraintMOEADWithEpsilonArchive(problem,
+        POPULATION_SIZE, POPULATION_SIZE, ARCHIVE_SIZE, MAX_EVALUATIONS, mutation, new SBXCrossover(0.9, 20.0),
+        AbstractMOEAD.FunctionType.TCHE, "MOEAD_Weights", 0.9, 2, 5, evaluator) {
+      @Override protected void dump(List<DoubleSolution> solutionList, String prefix) {
+        dumps.add(new Dump(prefix, evaluations / populationSize, solutionList.size())) ;
+      }
+    } ;
+
+    algorithm.run();
+
+    assertEvaluationsAndGenerations(algorithm) ;
+    assertArchivesUpdatedEachGeneration() ;
+  }
+
+  @Test
+  public void shouldParallelConstraintMOEADDEWithEpsilonArchiveUpdateTheArchivesEachGeneration() {
+    AbstractParallelConstraintMOEAD algorithm = new ParallelConstraintMOEADDEWithEpsilonArchive(problem,
+        POPULATION_SIZE, POPULATION_SIZE, ARCHIVE_SIZE, MAX_EVALUATIONS, mutation,
+        new DifferentialEvolutionCrossover(1.0, 0.5, "rand/1/bin"),
+        AbstractMOEAD.FunctionType.TCHE, "MOEAD_Weights", 0.9, 2, 5, evaluator) {
+      @Override protected void dump(List<DoubleSolution> solutionList, String prefix) {
+        dumps.add(new Dump(prefix, evaluations / populationSize, solutionList.size())) ;
+      }
+    } ;
+
+    algorithm.run();
+
+    assertEvaluationsAndGenerations(algorithm) ;
+    assertArchivesUpdatedEachGeneration() ;
+  }
+
+  /**
+   * The evaluations are rounded up to whole generations, and the population is dumped once per
+   * generation (after the initial population and every POPULATION_SIZE completed evaluations)
+   */
+  private void assertEvaluationsAndGenerations(AbstractParallelConstraintMOEAD algorithm) {
+    assertEquals(NUMBER_OF_GENERATIONS * POPULATION_SIZE, problem.getNumberOfEvaluations()) ;
+    assertEquals(NUMBER_OF_GENERATIONS * POPULATION_SIZE, algorithm.evaluations) ;
+    assertEquals(0, evaluator.getNumberOfPendingSolutions()) ;
+    assertEquals(POPULATION_SIZE, algorithm.getResult().size()) ;
+
+    List<Integer> generations = new ArrayList<>() ;
+    for (Dump dump : dumps) {
+      if (dump.prefix.isEmpty()) {
+        assertEquals(POPULATION_SIZE, dump.size) ;
+        generations.add(dump.generation) ;
+      }
+    }
+    assertEquals(NUMBER_OF_GENERATIONS, generations.size()) ;
+    for (int i = 0; i < NUMBER_OF_GENERATIONS; i++) {
+      assertEquals(i + 1, (int) generations.get(i)) ;
+    }
+  }
+
+  /**
+   * Each generation dumps the population followed by the updated epsilon and truncated archives
+   */
+  private void assertArchivesUpdatedEachGeneration() {
+    assertEquals(3 * NUMBER_OF_GENERATIONS, dumps.size()) ;
+    for (int i = 0; i < NUMBER_OF_GENERATIONS; i++) {
+      Dump population = dumps.get(3 * i) ;
+      Dump epsilonArchive = dumps.get(3 * i + 1) ;
+      Dump truncatedArchive = dumps.get(3 * i + 2) ;
+
+      assertEquals("", population.prefix) ;
+      assertEquals("epsilon", epsilonArchive.prefix) ;
+      assertEquals("truncated", truncatedArchive.prefix) ;
+      assertEquals(population.generation, epsilonArchive.generation) ;
+      assertEquals(population.generation, truncatedArchive.generation) ;
+
+      assertTrue(epsilonArchive.size > 0) ;
+      assertTrue(truncatedArchive.size > 0) ;
+      assertTrue(truncatedArchive.size <= ARCHIVE_SIZE) ;
+    }
+  }
+
+  private static class Dump {
+    private final String prefix ;
+    private final int generation ;
+    private final int size ;
+
+    Dump(String prefix, int generation, int size) {
+      this.prefix = prefix ;
+      this.generation = generation ;
+      this.size = size ;
+    }
+  }
+
+  @SuppressWarnings("serial")
+  private static class CountingTanaka extends Tanaka {
+    private final AtomicInteger numberOfEvaluations = new AtomicInteger() ;
+
+    @Override
+    public void evaluate(DoubleSolution solution) {
+      numberOfEvaluations.incrementAndGet() ;
+      super.evaluate(solution);
+    }
+
+    public int getNumberOfEvaluations() {
+      return numberOfEvaluations.get() ;
+    }
+  }
+}
@@ -0,0 +1,104 @@
+package org.uma.jmetal.algorithm.multiobjective.moead.util;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+public class MOEADWeightVectorsTest {
+  private static final double EPSILON = 0.0000000001 ;
+
+  @Before
+  public void setup() throws IOException {
+    File directory = Files.createTempDirectory("moead").toFile() ;
+    directory.deleteOnExit();
+    System.setProperty(MOEADWeightVectors.CACHE_DIRECTORY_PROPERTY, directory.getPath()) ;
+  }
+
+  @Test
+  public void shouldCreateDasDennisWeightVectorsReturnTheVectorsOfTheSimplexLattice() {
+    double[][] weightVectors = MOEADWeightVectors.createDasDennisWeightVectors(3, 91) ;
+
+    assertEquals(91, weightVectors.length) ;
+    for (double[] vector : weightVectors) {
+      assertEquals(3, vector.length) ;
+      assertEquals(1.0, vector[0] + vector[1] + vector[2], EPSILON) ;
+      for (double value : vector) {
+        assertEquals(0.0, Math.abs(value * 12 - Math.round(value * 12)), EPSILON) ;
+      }
+    }
+  }
+
+  @Test
+  public void shouldCreateDasDennisWeightVectorsReturnNullIfThePopulationSizeIsNotALatticeSize() {
+    assertNull(MOEADWeightVectors.createDasDennisWeightVectors(3, 100)) ;
+  }
+
+  @Test
+  public void shouldGetReturnTheSameInstanceForTheSameParameters() {
+    MOEADWeightVectors weightVectors = MOEADWeightVectors.get("MOEAD_Weights", 3, 91, 10) ;
+
+    assertSame(weightVectors, MOEADWeightVectors.get("MOEAD_Weights", 3, 91, 10)) ;
+    assertEquals(3, weightVectors.getNumberOfObjectives()) ;
+    assertEquals(91, weightVectors.getPopulationSize()) ;
+    assertEquals(10, weightVectors.getNeighborSize()) ;
+  }
+
+  @Test
+  public void shouldTheNeighborhoodBeTheSameAsComputedWithMinFastSort() {
+    int populationSize = 66 ;
+    int neighborSize = 8 ;
+    MOEADWeightVectors weightVectors = MOEADWeightVectors.get("MOEAD_Weights", 3, populationSize, neighborSize) ;
+
+    double[][] lambda = new double[populationSize][3] ;
+    weightVectors.copyWeightVectorsTo(lambda);
+    assertTrue(weightVectors.hasWeightVectors(lambda)) ;
+    int[][] neighborhood = new int[populationSize][neighborSize] ;
+    weightVectors.copyNeighborhoodTo(neighborhood);
+
+    double[] x = new double[populationSize] ;
+    int[] idx = new int[populationSize] ;
+    for (int i = 0; i < populationSize; i++) {
+      for (int j = 0; j < populationSize; j++) {
+        x[j] = MOEADUtils.distVector(lambda[i], lambda[j]);
+        idx[j] = j;
+      }
+      MOEADUtils.minFastSort(x, idx, populationSize, neighborSize);
+
+      assertArrayEquals(Arrays.copyOf(idx, neighborSize), neighborhood[i]) ;
+    }
+  }
+
+  @Test
+  public void shouldGetUseUniformWeightVectorsInTheTwoObjectivesCase() {
+    MOEADWeightVectors weightVectors = MOEADWeightVectors.get("MOEAD_Weights", 2, 11, 3) ;
+
+    double[][] lambda = new double[11][2] ;
+    weightVectors.copyWeightVectorsTo(lambda);
+    for (int i = 0; i < 11; i++) {
+      assertEquals(i / 10.0, lambda[i][0], EPSILON) ;
+      assertEquals(1.0 - i / 10.0, lambda[i][1], EPSILON) ;
+    }
+  }
+
+  @Test
+  public void shouldTheCacheFileDependOnTheChecksumOfTheWeightVectorsFile() {
+    File cacheFile = MOEADWeightVectors.getCacheFile(3, 300, 20, 0x1234L) ;
+
+    assertEquals("W3D_300_T20_1234.bin", cacheFile.getName()) ;
+    assertNotEquals(cacheFile, MOEADWeightVectors.getCacheFile(3, 300, 20, 0x5678L)) ;
+  }
+}
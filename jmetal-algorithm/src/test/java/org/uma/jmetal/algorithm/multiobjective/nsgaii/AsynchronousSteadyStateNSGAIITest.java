@@ -0,0 +1,145 @@
+package org.uma.jmetal.algorithm.multiobjective.nsgaii;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.uma.jmetal.operator.impl.crossover.SBXCrossover;
+import org.uma.jmetal.operator.impl.mutation.PolynomialMutation;
+import org.uma.jmetal.operator.impl.selection.BinaryTournamentSelection;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.checkpoint.AlgorithmCheckpointer;
+import org.uma.jmetal.util.comparator.DominanceComparator;
+import org.uma.jmetal.util.comparator.RankingAndCrowdingDistanceComparator;
+import org.uma.jmetal.util.evaluator.AsynchronousSolutionListEvaluator;
+import org.uma.jmetal.util.evaluator.impl.AsynchronousThreadPoolSolutionListEvaluator;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.impl.JavaRandomGenerator;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+public class AsynchronousSteadyStateNSGAIITest {
+  private static final int POPULATION_SIZE = 10 ;
+  private static final int MAX_EVALUATIONS = 200 ;
+
+  private File directory ;
+  private File file ;
+
+  @Before
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("asynchronousSteadyStateNSGAIITest").toFile() ;
+    file = new File(directory, "checkpoint.bin") ;
+  }
+
+  @After
+  public void cleanup() {
+    file.delete() ;
+    directory.delete() ;
+  }
+
+  /**
+   * With a single thread the evaluations finish in the order in which they are submitted, so the
+   * runs are deterministic. The resumed run uses another seed, as the random generator is restored
+   * from the checkpoint
+   */
+  @Test
+  public void shouldAResumedRunGiveTheSameResultAsAnUninterruptedOne() {
+    List<List<Double>> expectedResult = run(new FailingZDT1(Integer.MAX_VALUE), null, 1L) ;
+
+    try {
+      run(new FailingZDT1(MAX_EVALUATIONS / 2 + 5), new AlgorithmCheckpointer(file, 3), 1L) ;
+      fail("The run should have been interrupted") ;
+    } catch (JMetalException e) {
+      // expected
+    }
+    assertTrue(file.isFile()) ;
+
+    FailingZDT1 problem = new FailingZDT1(Integer.MAX_VALUE) ;
+    List<List<Double>> result = run(problem, new AlgorithmCheckpointer(file, 3), 2L) ;
+
+    assertEquals(expectedResult, result) ;
+    assertTrue(problem.evaluations < MAX_EVALUATIONS / 2 + 4 * POPULATION_SIZE) ;
+    assertFalse(file.exists()) ;
+  }
+
+  private List<List<Double>> run(FailingZDT1 problem, AlgorithmCheckpointer checkpointer, long seed) {
+    AsynchronousThreadPoolSolutionListEvaluator<DoubleSolution> evaluator =
+        new AsynchronousThreadPoolSolutionListEvaluator<>(1, problem) ;
+    try {
+      MockedAsynchronousSteadyStateNSGAII algorithm = new MockedAsynchronousSteadyStateNSGAII(problem, evaluator) ;
+      algorithm.setCheckpointer(checkpointer);
+
+      return JMetalRandom.getInstance().callWithRandomGenerator(new JavaRandomGenerator(seed), () -> {
+        algorithm.run();
+        return getValues(algorithm.getPopulation()) ;
+      }) ;
+    } finally {
+      evaluator.shutdown();
+    }
+  }
+
+  private static List<List<Double>> getValues(List<DoubleSolution> solutionList) {
+    List<List<Double>> values = new ArrayList<>(solutionList.size()) ;
+    for (DoubleSolution solution : solutionList) {
+      List<Double> solutionValues = new ArrayList<>() ;
+      for (int i = 0; i < solution.getNumberOfVariables(); i++) {
+        solutionValues.add(solution.getVariableValue(i)) ;
+      }
+      for (int i = 0; i < solution.getNumberOfObjectives(); i++) {
+        solutionValues.add(solution.getObjective(i)) ;
+      }
+      values.add(solutionValues) ;
+    }
+
+    return values ;
+  }
+
+  /** The populations are not dumped to the ./result/ folder */
+  @SuppressWarnings("serial")
+  private static class MockedAsynchronousSteadyStateNSGAII extends AsynchronousSteadyStateNSGAII<DoubleSolution> {
+    MockedAsynchronousSteadyStateNSGAII(FailingZDT1 problem,
+        AsynchronousSolutionListEvaluator<DoubleSolution> evaluator) {
+      super(problem, MAX_EVALUATIONS, POPULATION_SIZE, new SBXCrossover(0.9, 20.0),
+          new PolynomialMutation(1.0 / problem.getNumberOfVariables(), 20.0),
+          new BinaryTournamentSelection<>(new RankingAndCrowdingDistanceComparator<>()),
+          new DominanceComparator<>(), evaluator) ;
+    }
+
+    @Override
+    protected void dump(List<DoubleSolution> solutionList, String prefix) {
+    }
+  }
+
+  /** ZDT1 failing after a number of evaluations */
+  @SuppressWarnings("serial")
+  private static class FailingZDT1 extends ZDT1 {
+    private final int maxEvaluations ;
+    private volatile int evaluations ;
+
+    FailingZDT1(int maxEvaluations) {
+      super(5) ;
+      this.maxEvaluations = maxEvaluations ;
+    }
+
+    @Override
+    public void evaluate(DoubleSolution solution) {
+      if (++evaluations > maxEvaluations) {
+        throw new JMetalException("Evaluation failed") ;
+      }
+      super.evaluate(solution);
+    }
+  }
+}
@@ -0,0 +1,129 @@
+package org.uma.jmetal.algorithm.multiobjective.omopso;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.uma.jmetal.operator.impl.mutation.NonUniformMutation;
+import org.uma.jmetal.operator.impl.mutation.UniformMutation;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.checkpoint.AlgorithmCheckpointer;
+import org.uma.jmetal.util.evaluator.impl.AsynchronousThreadPoolSolutionListEvaluator;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.impl.JavaRandomGenerator;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+public class AsynchronousOMOPSOTest {
+  private static final int SWARM_SIZE = 10 ;
+  private static final int MAX_ITERATIONS = 20 ;
+
+  private File directory ;
+  private File file ;
+
+  @Before
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("asynchronousOMOPSOTest").toFile() ;
+    file = new File(directory, "checkpoint.bin") ;
+  }
+
+  @After
+  public void cleanup() {
+    file.delete() ;
+    directory.delete() ;
+  }
+
+  /**
+   * With a single thread the evaluations finish in the order in which they are submitted, so the
+   * runs are deterministic. The resumed run uses another seed, as the random generator is restored
+   * from the checkpoint
+   */
+  @Test
+  public void shouldAResumedRunGiveTheSameResultAsAnUninterruptedOne() {
+    List<List<Double>> expectedResult = run(new FailingZDT1(Integer.MAX_VALUE), null, 1L) ;
+
+    try {
+      run(new FailingZDT1(SWARM_SIZE * MAX_ITERATIONS / 2), new AlgorithmCheckpointer(file, 3), 1L) ;
+      fail("The run should have been interrupted") ;
+    } catch (JMetalException e) {
+      // expected
+    }
+    assertTrue(file.isFile()) ;
+
+    FailingZDT1 problem = new FailingZDT1(Integer.MAX_VALUE) ;
+    List<List<Double>> result = run(problem, new AlgorithmCheckpointer(file, 3), 2L) ;
+
+    assertEquals(expectedResult, result) ;
+    assertTrue(problem.evaluations < SWARM_SIZE * MAX_ITERATIONS / 2 + 4 * SWARM_SIZE) ;
+    assertFalse(file.exists()) ;
+  }
+
+  private List<List<Double>> run(FailingZDT1 problem, AlgorithmCheckpointer checkpointer, long seed) {
+    AsynchronousThreadPoolSolutionListEvaluator<DoubleSolution> evaluator =
+        new AsynchronousThreadPoolSolutionListEvaluator<>(1, problem) ;
+    try {
+      double mutationProbability = 1.0 / problem.getNumberOfVariables() ;
+      AsynchronousOMOPSO algorithm = new AsynchronousOMOPSO(problem, evaluator, SWARM_SIZE,
+          MAX_ITERATIONS, SWARM_SIZE, new UniformMutation(mutationProbability, 0.5),
+          new NonUniformMutation(mutationProbability, 0.5, MAX_ITERATIONS), 0.0075) ;
+      algorithm.setDumpInterval(0);
+      algorithm.setCheckpointer(checkpointer);
+
+      return JMetalRandom.getInstance().callWithRandomGenerator(new JavaRandomGenerator(seed), () -> {
+        algorithm.run();
+        return getValues(algorithm.getResult()) ;
+      }) ;
+    } finally {
+      evaluator.shutdown();
+    }
+  }
+
+  private static List<List<Double>> getValues(List<DoubleSolution> solutionList) {
+    List<List<Double>> values = new ArrayList<>(solutionList.size()) ;
+    for (DoubleSolution solution : solutionList) {
+      List<Double> solutionValues = new ArrayList<>() ;
+      for (int i = 0; i < solution.getNumberOfVariables(); i++) {
+        solutionValues.add(solution.getVariableValue(i)) ;
+      }
+      for (int i = 0; i < solution.getNumberOfObjectives(); i++) {
+        solutionValues.add(solution.getObjective(i)) ;
+      }
+      values.add(solutionValues) ;
+    }
+
+    return values ;
+  }
+
+  /** ZDT1 failing after a number of evaluations */
+  @SuppressWarnings("serial")
+  private static class FailingZDT1 extends ZDT1 {
+    private final int maxEvaluations ;
+    private volatile int evaluations ;
+
+    FailingZDT1(int maxEvaluations) {
+      super(5) ;
+      this.maxEvaluations = maxEvaluations ;
+    }
+
+    @Override
+    public void evaluate(DoubleSolution solution) {
+      if (++evaluations > maxEvaluations) {
+        throw new JMetalException("Evaluation failed") ;
+      }
+      super.evaluate(solution);
+    }
+  }
+}
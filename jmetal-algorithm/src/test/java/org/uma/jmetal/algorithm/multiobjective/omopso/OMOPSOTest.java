@@ -0,0 +1,175 @@
+package org.uma.jmetal.algorithm.multiobjective.omopso;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.uma.jmetal.operator.impl.mutation.NonUniformMutation;
+import org.uma.jmetal.operator.impl.mutation.UniformMutation;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.checkpoint.AlgorithmCheckpointer;
+import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
+import org.uma.jmetal.util.fileoutput.SolutionListDumpWriter;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.impl.JavaRandomGenerator;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+public class OMOPSOTest {
+  private static final int SWARM_SIZE = 10 ;
+  private static final int MAX_ITERATIONS = 20 ;
+
+  private File directory ;
+  private File file ;
+
+  @Before
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("omopsoTest").toFile() ;
+    file = new File(directory, "checkpoint.bin") ;
+  }
+
+  @After
+  public void cleanup() {
+    delete(directory) ;
+  }
+
+  @Test
+  public void shouldRestoreTheSavedStateBitByBit() {
+    OMOPSO algorithm = createAlgorithm(new FailingZDT1(Integer.MAX_VALUE), null) ;
+    runWithSeed(algorithm, 1L) ;
+    AlgorithmCheckpointer checkpointer = new AlgorithmCheckpointer(file, 1) ;
+    checkpointer.save(algorithm);
+    checkpointer.close();
+
+    FailingZDT1 problem = new FailingZDT1(Integer.MAX_VALUE) ;
+    OMOPSO restoredAlgorithm = createAlgorithm(problem, null) ;
+    UniformMutation uniformMutation = restoredAlgorithm.uniformMutation ;
+    assertTrue(checkpointer.restore(restoredAlgorithm)) ;
+
+    assertEquals(algorithm.currentIteration, restoredAlgorithm.currentIteration) ;
+    assertEquals(algorithm.getSwarm(), restoredAlgorithm.getSwarm()) ;
+    assertArrayEquals(algorithm.localBest, restoredAlgorithm.localBest) ;
+    assertEquals(algorithm.leaderArchive.getSolutionList(), restoredAlgorithm.leaderArchive.getSolutionList()) ;
+    assertEquals(algorithm.epsilonArchive.getSolutionList(), restoredAlgorithm.epsilonArchive.getSolutionList()) ;
+    assertEquals(algorithm.speed.length, restoredAlgorithm.speed.length) ;
+    for (int i = 0; i < algorithm.speed.length; i++) {
+      assertTrue(Arrays.equals(algorithm.speed[i], restoredAlgorithm.speed[i])) ;
+    }
+
+    assertNotSame(algorithm.getSwarm().get(0), restoredAlgorithm.getSwarm().get(0)) ;
+    assertSame(problem, restoredAlgorithm.problem) ;
+    assertSame(uniformMutation, restoredAlgorithm.uniformMutation) ;
+  }
+
+  @Test
+  public void shouldAResumedRunGiveTheSameResultAndDumpsAsAnUninterruptedOne() throws IOException {
+    for (SolutionListDumpWriter.Format format : SolutionListDumpWriter.Format.values()) {
+      File expectedDumps = new File(directory, "expected" + format) ;
+      File dumps = new File(directory, "resumed" + format) ;
+
+      OMOPSO algorithm = createAlgorithm(new FailingZDT1(Integer.MAX_VALUE), null) ;
+      algorithm.setDumpDirectory(expectedDumps.getPath());
+      algorithm.setDumpFormat(format);
+      algorithm.setDumpInterval(1);
+      List<DoubleSolution> expectedResult = runWithSeed(algorithm, 1L) ;
+
+      OMOPSO interruptedAlgorithm = createAlgorithm(new FailingZDT1(SWARM_SIZE * MAX_ITERATIONS / 2),
+          new AlgorithmCheckpointer(file, 3)) ;
+      interruptedAlgorithm.setDumpDirectory(dumps.getPath());
+      interruptedAlgorithm.setDumpFormat(format);
+      interruptedAlgorithm.setDumpInterval(1);
+      try {
+        runWithSeed(interruptedAlgorithm, 1L) ;
+        fail("The run should have been interrupted") ;
+      } catch (JMetalException e) {
+        // expected
+      }
+      assertTrue(file.isFile()) ;
+
+      FailingZDT1 problem = new FailingZDT1(Integer.MAX_VALUE) ;
+      OMOPSO resumedAlgorithm = createAlgorithm(problem, new AlgorithmCheckpointer(file, 3)) ;
+      resumedAlgorithm.setDumpDirectory(dumps.getPath());
+      resumedAlgorithm.setDumpFormat(format);
+      resumedAlgorithm.setDumpInterval(1);
+      List<DoubleSolution> result = runWithSeed(resumedAlgorithm, 2L) ;
+
+      assertEquals(expectedResult, result) ;
+      assertTrue(problem.evaluations < SWARM_SIZE * MAX_ITERATIONS / 2 + 3 * SWARM_SIZE) ;
+      assertFalse(file.exists()) ;
+
+      String[] fileNames = expectedDumps.list() ;
+      Arrays.sort(fileNames);
+      String[] resumedFileNames = dumps.list() ;
+      Arrays.sort(resumedFileNames);
+      assertArrayEquals(fileNames, resumedFileNames) ;
+      for (String fileName : fileNames) {
+        assertArrayEquals(Files.readAllBytes(new File(expectedDumps, fileName).toPath()),
+            Files.readAllBytes(new File(dumps, fileName).toPath())) ;
+      }
+    }
+  }
+
+  private OMOPSO createAlgorithm(FailingZDT1 problem, AlgorithmCheckpointer checkpointer) {
+    double mutationProbability = 1.0 / problem.getNumberOfVariables() ;
+    OMOPSO algorithm = new OMOPSO(problem, new SequentialSolutionListEvaluator<DoubleSolution>(),
+        SWARM_SIZE, MAX_ITERATIONS, SWARM_SIZE, new UniformMutation(mutationProbability, 0.5),
+        new NonUniformMutation(mutationProbability, 0.5, MAX_ITERATIONS), 0.0075) ;
+    algorithm.setDumpInterval(0);
+    algorithm.setCheckpointer(checkpointer);
+
+    return algorithm ;
+  }
+
+  private List<DoubleSolution> runWithSeed(OMOPSO algorithm, long seed) {
+    return JMetalRandom.getInstance().callWithRandomGenerator(new JavaRandomGenerator(seed), () -> {
+      algorithm.run();
+      return algorithm.getResult() ;
+    }) ;
+  }
+
+  private static void delete(File file) {
+    File[] files = file.listFiles() ;
+    if (files != null) {
+      for (File child : files) {
+        delete(child) ;
+      }
+    }
+    file.delete() ;
+  }
+
+  /** ZDT1 failing after a number of evaluations */
+  @SuppressWarnings("serial")
+  private static class FailingZDT1 extends ZDT1 {
+    private final int maxEvaluations ;
+    private int evaluations ;
+
+    FailingZDT1(int maxEvaluations) {
+      super(5) ;
+      this.maxEvaluations = maxEvaluations ;
+    }
+
+    @Override
+    public void evaluate(DoubleSolution solution) {
+      if (++evaluations > maxEvaluations) {
+        throw new JMetalException("Evaluation failed") ;
+      }
+      super.evaluate(solution);
+    }
+  }
+}
@@ -2,6 +2,7 @@ package org.uma.jmetal.algorithm.impl;
 
 import org.uma.jmetal.algorithm.Algorithm;
 import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.util.checkpoint.AlgorithmCheckpointer;
 
 import java.util.List;
 
@@ -16,6 +17,7 @@ import java.util.List;
 public abstract class AbstractEvolutionaryAlgorithm<S, R>  implements Algorithm<R>{
   protected List<S> population;
   protected Problem<S> problem ;
+  protected transient AlgorithmCheckpointer checkpointer ;
 
   public List<S> getPopulation() {
     return population;
@@ -31,6 +33,18 @@ public abstract class AbstractEvolutionaryAlgorithm<S, R>  implements Algorithm<
     return problem ;
   }
 
+  /**
+   * Sets a checkpointer, which saves the state of the algorithm after the initialization and
+   * every interval iterations. If the checkpoint exists when the algorithm is run, the run
+   * continues from it
+   */
+  public void setCheckpointer(AlgorithmCheckpointer checkpointer) {
+    this.checkpointer = checkpointer ;
+  }
+  public AlgorithmCheckpointer getCheckpointer() {
+    return checkpointer ;
+  }
+
   protected abstract void initProgress();
 
   protected abstract void updateProgress();
@@ -53,15 +67,34 @@ public abstract class AbstractEvolutionaryAlgorithm<S, R>  implements Algorithm<
     List<S> offspringPopulation;
     List<S> matingPopulation;
 
-    population = createInitialPopulation();
-    population = evaluatePopulation(population);
-    initProgress();
-    while (!isStoppingConditionReached()) {
-      matingPopulation = selection(population);
-      offspringPopulation = reproduction(matingPopulation);
-      offspringPopulation = evaluatePopulation(offspringPopulation);
-      population = replacement(population, offspringPopulation);
-      updateProgress();
+    try {
+      if ((checkpointer == null) || !checkpointer.restore(this)) {
+        population = createInitialPopulation();
+        population = evaluatePopulation(population);
+        initProgress();
+        checkpoint();
+      }
+      while (!isStoppingConditionReached()) {
+        matingPopulation = selection(population);
+        offspringPopulation = reproduction(matingPopulation);
+        offspringPopulation = evaluatePopulation(offspringPopulation);
+        population = replacement(population, offspringPopulation);
+        updateProgress();
+        checkpoint();
+      }
+      if (checkpointer != null) {
+        checkpointer.delete();
+      }
+    } finally {
+      if (checkpointer != null) {
+        checkpointer.close();
+      }
+    }
+  }
+
+  protected void checkpoint() {
+    if (checkpointer != null) {
+      checkpointer.update(this);
     }
   }
 }
@@ -1,6 +1,7 @@
 package org.uma.jmetal.algorithm.impl;
 
 import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.util.checkpoint.AlgorithmCheckpointer;
 
 import java.util.List;
 
@@ -12,6 +13,8 @@ import java.util.List;
 @SuppressWarnings("serial")
 public abstract class AbstractParticleSwarmOptimization<S, Result> implements Algorithm <Result> {
   private List<S> swarm;
+  protected transient AlgorithmCheckpointer checkpointer ;
+
   public List<S> getSwarm() {
     return swarm;
   }
@@ -19,6 +22,18 @@ public abstract class AbstractParticleSwarmOptimization<S, Result> implements Al
     this.swarm = swarm;
   }
 
+  /**
+   * Sets a checkpointer, which saves the state of the algorithm after the initialization and
+   * every interval iterations. If the checkpoint exists when the algorithm is run, the run
+   * continues from it
+   */
+  public void setCheckpointer(AlgorithmCheckpointer checkpointer) {
+    this.checkpointer = checkpointer ;
+  }
+  public AlgorithmCheckpointer getCheckpointer() {
+    return checkpointer ;
+  }
+
   protected abstract void initProgress() ;
   protected abstract void updateProgress() ;
 
@@ -39,21 +54,48 @@ public abstract class AbstractParticleSwarmOptimization<S, Result> implements Al
 
   @Override
   public void run() {
-    swarm = createInitialSwarm() ;
-    swarm = evaluateSwarm(swarm);
-    initializeVelocity(swarm);
-    initializeParticlesMemory(swarm) ;
-    initializeLeader(swarm) ;
-    initProgress();
-
-    while (!isStoppingConditionReached()) {
-      updateVelocity(swarm);
-      updatePosition(swarm);
-      perturbation(swarm);
-      swarm = evaluateSwarm(swarm) ;
-      updateLeaders(swarm) ;
-      updateParticlesMemory(swarm) ;
-      updateProgress();
+    try {
+      if ((checkpointer == null) || !checkpointer.restore(this)) {
+        swarm = createInitialSwarm() ;
+        swarm = evaluateSwarm(swarm);
+        initializeVelocity(swarm);
+        initializeParticlesMemory(swarm) ;
+        initializeLeader(swarm) ;
+        initProgress();
+        checkpoint();
+      } else {
+        resumeProgress();
+      }
+
+      while (!isStoppingConditionReached()) {
+        updateVelocity(swarm);
+        updatePosition(swarm);
+        perturbation(swarm);
+        swarm = evaluateSwarm(swarm) ;
+        updateLeaders(swarm) ;
+        updateParticlesMemory(swarm) ;
+        updateProgress();
+        checkpoint();
+      }
+      if (checkpointer != null) {
+        checkpointer.delete();
+      }
+    } finally {
+      if (checkpointer != null) {
+        checkpointer.close();
+      }
+    }
+  }
+
+  /**
+   * Called instead of the initialization when the state has been restored from a checkpoint
+   */
+  protected void resumeProgress() {
+  }
+
+  protected void checkpoint() {
+    if (checkpointer != null) {
+      checkpointer.update(this);
     }
   }
 }
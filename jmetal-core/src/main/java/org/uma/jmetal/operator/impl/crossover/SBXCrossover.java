@@ -109,9 +109,12 @@ public class SBXCrossover implements CrossoverOperator<DoubleSolution> {
     double valueX1, valueX2;
 
     if (randomGenerator.getRandomValue() <= probability) {
-      for (i = 0; i < parent1.getNumberOfVariables(); i++) {
-        valueX1 = parent1.getVariableValue(i);
-        valueX2 = parent2.getVariableValue(i);
+      // The offspring values overwrite the copies of the parent values once they have been read
+      double[] x1 = parent1.getVariableValues() ;
+      double[] x2 = parent2.getVariableValues() ;
+      for (i = 0; i < x1.length; i++) {
+        valueX1 = x1[i];
+        valueX2 = x2[i];
         if (randomGenerator.getRandomValue() <= 0.5) {
           if (Math.abs(valueX1 - valueX2) > EPS) {
             if (valueX1 < valueX2) {
@@ -152,21 +155,23 @@ public class SBXCrossover implements CrossoverOperator<DoubleSolution> {
             c2 = solutionRepair.repairSolutionVariableValue(c2, lowerBound, upperBound) ;
 
             if (randomGenerator.getRandomValue() <= 0.5) {
-              offspring.get(0).setVariableValue(i, c2);
-              offspring.get(1).setVariableValue(i, c1);
+              x1[i] = c2;
+              x2[i] = c1;
             } else {
-              offspring.get(0).setVariableValue(i, c1);
-              offspring.get(1).setVariableValue(i, c2);
+              x1[i] = c1;
+              x2[i] = c2;
             }
           } else {
-            offspring.get(0).setVariableValue(i, valueX1);
-            offspring.get(1).setVariableValue(i, valueX2);
+            x1[i] = valueX1;
+            x2[i] = valueX2;
           }
         } else {
-          offspring.get(0).setVariableValue(i, valueX2);
-          offspring.get(1).setVariableValue(i, valueX1);
+          x1[i] = valueX2;
+          x2[i] = valueX1;
         }
       }
+      offspring.get(0).setVariableValues(x1);
+      offspring.get(1).setVariableValues(x2);
     }
 
     return offspring;
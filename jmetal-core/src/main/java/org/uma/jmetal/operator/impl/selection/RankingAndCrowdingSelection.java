@@ -7,7 +7,7 @@ import org.uma.jmetal.util.comparator.CrowdingDistanceComparator;
 import org.uma.jmetal.util.comparator.DominanceComparator;
 import org.uma.jmetal.util.solutionattribute.Ranking;
 import org.uma.jmetal.util.solutionattribute.impl.CrowdingDistance;
-import org.uma.jmetal.util.solutionattribute.impl.DominanceRanking;
+import org.uma.jmetal.util.solutionattribute.impl.EfficientNonDominatedSortRanking;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -55,7 +55,7 @@ public class RankingAndCrowdingSelection<S extends Solution<?>>
               "the solutions to selected ("+solutionsToSelect+")")  ;
     }
 
-    Ranking<S> ranking = new DominanceRanking<S>(dominanceComparator);
+    Ranking<S> ranking = new EfficientNonDominatedSortRanking<S>(dominanceComparator);
     ranking.computeRanking(solutionList) ;
 
     return crowdingDistanceSelection(ranking);
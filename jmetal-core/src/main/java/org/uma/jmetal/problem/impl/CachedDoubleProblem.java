@@ -0,0 +1,34 @@
+package org.uma.jmetal.problem.impl;
+
+import org.uma.jmetal.problem.DoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+
+/**
+ * {@link CachedProblem} of a {@link DoubleProblem}, which can be used wherever a
+ * {@link DoubleProblem} is expected (e.g. by the SBX crossover or the polynomial mutation)
+ *
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+@SuppressWarnings("serial")
+public class CachedDoubleProblem extends CachedProblem<DoubleSolution> implements DoubleProblem {
+  /**
+   * Constructor
+   * @param problem Problem to decorate
+   * @param quantum Variables are rounded to a multiple of this value to be compared (0 to compare
+   *                the exact values)
+   * @param maximumSize Maximum number of results kept in memory (0 for no limit)
+   */
+  public CachedDoubleProblem(DoubleProblem problem, double quantum, int maximumSize) {
+    super(problem, quantum, maximumSize) ;
+  }
+
+  @Override
+  public Double getLowerBound(int index) {
+    return ((DoubleProblem) problem).getLowerBound(index) ;
+  }
+
+  @Override
+  public Double getUpperBound(int index) {
+    return ((DoubleProblem) problem).getUpperBound(index) ;
+  }
+}
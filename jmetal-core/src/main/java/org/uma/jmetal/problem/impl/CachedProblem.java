@@ -0,0 +1,453 @@
+package org.uma.jmetal.problem.impl;
+
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.solutionattribute.impl.NumberOfViolatedConstraints;
+import org.uma.jmetal.util.solutionattribute.impl.OverallConstraintViolation;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.RandomAccessFile;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decorator of a {@link Problem} which stores the result of each evaluation, so that solutions
+ * with the same variables are not evaluated again. It is intended for expensive problems (e.g.
+ * simulations), where the same or nearly the same solutions are often evaluated several times.
+ *
+ * - The variables are compared after rounding them to a multiple of a quantum (a quantum of 0
+ * compares the exact values). The variables must be numbers.
+ * - The objectives and the {@link OverallConstraintViolation} and
+ * {@link NumberOfViolatedConstraints} attributes are stored; other attributes set by the problem
+ * are not.
+ * - The least recently used results are discarded when the cache exceeds its maximum size (0 for
+ * no limit). The evaluations in progress are never discarded, so the cache only exceeds its
+ * maximum size while there are more of them than the maximum size.
+ * - The evaluate() method can be called concurrently. If a solution is being evaluated by a thread,
+ * the rest of threads evaluating the same variables wait for its result instead of evaluating it
+ * again.
+ * - Optionally, the results are appended to a persistent file, from which they are loaded when the
+ * file is set, so they are kept between runs.
+ *
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+@SuppressWarnings("serial")
+public class CachedProblem<S extends Solution<?>> implements Problem<S> {
+  private static final int PERSISTENT_FILE_VERSION = 1 ;
+  private static final byte HAS_OVERALL_CONSTRAINT_VIOLATION = 1 ;
+  private static final byte HAS_NUMBER_OF_VIOLATED_CONSTRAINTS = 2 ;
+
+  protected final Problem<S> problem ;
+  private final double quantum ;
+  private final int maximumSize ;
+
+  private transient Map<Key, CompletableFuture<Evaluation>> cache ;
+  private transient AtomicLong hits ;
+  private transient AtomicLong misses ;
+  private transient AtomicLong evictions ;
+  private transient DataOutputStream persistentOutput ;
+  private File persistentFile ;
+
+  /**
+   * Constructor
+   * @param problem Problem to decorate
+   * @param quantum Variables are rounded to a multiple of this value to be compared (0 to compare
+   *                the exact values)
+   * @param maximumSize Maximum number of results kept in memory (0 for no limit)
+   */
+  public CachedProblem(Problem<S> problem, double quantum, int maximumSize) {
+    if (quantum < 0) {
+      throw new JMetalException("The quantum is negative: " + quantum) ;
+    } else if (maximumSize < 0) {
+      throw new JMetalException("The maximum size is negative: " + maximumSize) ;
+    }
+    this.problem = problem ;
+    this.quantum = quantum ;
+    this.maximumSize = maximumSize ;
+
+    initializeCache() ;
+  }
+
+  /**
+   * Loads the results stored in a file and appends the new ones to it. A truncated last record
+   * (e.g. if a previous run was killed while writing it) is discarded
+   */
+  public synchronized void setPersistentFile(File file) {
+    close() ;
+    try {
+      if (file.exists() && (file.length() > 0)) {
+        long validLength = readPersistentFile(file) ;
+        if (validLength < file.length()) {
+          JMetalLogger.logger.warning("Discarding a truncated record at the end of " + file);
+          try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+            randomAccessFile.setLength(validLength);
+          }
+        }
+        persistentOutput = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file, true))) ;
+      } else {
+        persistentOutput = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file))) ;
+        persistentOutput.writeInt(PERSISTENT_FILE_VERSION);
+        persistentOutput.writeInt(getNumberOfVariables());
+        persistentOutput.writeInt(getNumberOfObjectives());
+        persistentOutput.writeDouble(quantum);
+        persistentOutput.flush();
+      }
+    } catch (IOException e) {
+      throw new JMetalException("Error opening the persistent file " + file, e) ;
+    }
+    persistentFile = file ;
+  }
+
+  @Override
+  public void evaluate(S solution) {
+    Key key = createKey(solution) ;
+
+    CompletableFuture<Evaluation> future ;
+    boolean evaluate = false ;
+    synchronized (cache) {
+      future = cache.get(key) ;
+      if (future == null) {
+        future = new CompletableFuture<>() ;
+        cache.put(key, future) ;
+        evictLeastRecentlyUsedResults() ;
+        evaluate = true ;
+      }
+    }
+
+    if (evaluate) {
+      misses.incrementAndGet() ;
+      try {
+        problem.evaluate(solution);
+      } catch (RuntimeException | Error e) {
+        synchronized (cache) {
+          cache.remove(key, future) ;
+        }
+        future.completeExceptionally(e) ;
+        throw e ;
+      }
+      Evaluation evaluation = new Evaluation(solution) ;
+      future.complete(evaluation) ;
+      synchronized (cache) {
+        // the evaluations in progress may have kept the cache above its maximum size
+        evictLeastRecentlyUsedResults() ;
+      }
+      writeToPersistentFile(key, evaluation) ;
+    } else {
+      Evaluation evaluation ;
+      try {
+        evaluation = future.get() ;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new JMetalException("Interrupted while waiting for the evaluation of another thread", e) ;
+      } catch (ExecutionException e) {
+        // the evaluation failed in another thread, so it is tried again in this one
+        evaluate(solution);
+        return ;
+      }
+      hits.incrementAndGet() ;
+      evaluation.copyTo(solution) ;
+    }
+  }
+
+  @Override
+  public S createSolution() {
+    return problem.createSolution() ;
+  }
+
+  @Override
+  public int getNumberOfVariables() {
+    return problem.getNumberOfVariables() ;
+  }
+
+  @Override
+  public int getNumberOfObjectives() {
+    return problem.getNumberOfObjectives() ;
+  }
+
+  @Override
+  public int getNumberOfConstraints() {
+    return problem.getNumberOfConstraints() ;
+  }
+
+  @Override
+  public String getName() {
+    return problem.getName() ;
+  }
+
+  public Problem<S> getProblem() {
+    return problem ;
+  }
+
+  public double getQuantum() {
+    return quantum ;
+  }
+
+  public int getMaximumSize() {
+    return maximumSize ;
+  }
+
+  public File getPersistentFile() {
+    return persistentFile ;
+  }
+
+  /**
+   * @return The number of results in memory, including the evaluations in progress
+   */
+  public int size() {
+    synchronized (cache) {
+      return cache.size() ;
+    }
+  }
+
+  /** @return The number of evaluations whose result was taken from the cache */
+  public long getNumberOfHits() {
+    return hits.get() ;
+  }
+
+  /** @return The number of evaluations actually performed by the problem */
+  public long getNumberOfMisses() {
+    return misses.get() ;
+  }
+
+  /** @return The number of results discarded because of the maximum size */
+  public long getNumberOfEvictions() {
+    return evictions.get() ;
+  }
+
+  public double getHitRate() {
+    long total = getNumberOfHits() + getNumberOfMisses() ;
+
+    return total == 0 ? 0.0 : (double) getNumberOfHits() / total ;
+  }
+
+  /**
+   * Closes the persistent file, if any. The results already stored are kept in memory
+   */
+  public synchronized void close() {
+    if (persistentOutput != null) {
+      try {
+        persistentOutput.close();
+      } catch (IOException e) {
+        JMetalLogger.logger.warning("Unable to close the persistent file " + persistentFile + ": " + e);
+      }
+      persistentOutput = null ;
+      persistentFile = null ;
+    }
+  }
+
+  @Override
+  public String toString() {
+    return getName() + " cache: " + size() + " results, " + getNumberOfHits() + " hits, "
+        + getNumberOfMisses() + " misses, " + getNumberOfEvictions() + " evictions" ;
+  }
+
+  private void initializeCache() {
+    // access order, so the least recently used results are iterated first
+    cache = new LinkedHashMap<>(16, 0.75f, true) ;
+    hits = new AtomicLong() ;
+    misses = new AtomicLong() ;
+    evictions = new AtomicLong() ;
+  }
+
+  /**
+   * Discards the least recently used results until the size of the cache is not greater than the
+   * maximum size. The evaluations in progress are skipped, since other threads may be waiting for
+   * them. It must be called holding the lock of the cache
+   */
+  private void evictLeastRecentlyUsedResults() {
+    if ((maximumSize == 0) || (cache.size() <= maximumSize)) {
+      return ;
+    }
+
+    Iterator<CompletableFuture<Evaluation>> iterator = cache.values().iterator() ;
+    while ((cache.size() > maximumSize) && iterator.hasNext()) {
+      if (iterator.next().isDone()) {
+        iterator.remove();
+        evictions.incrementAndGet() ;
+      }
+    }
+  }
+
+  private Key createKey(S solution) {
+    long[] values = new long[solution.getNumberOfVariables()] ;
+    for (int i = 0; i < values.length; i++) {
+      Object value = solution.getVariableValue(i) ;
+      if (!(value instanceof Number)) {
+        throw new JMetalException("The variable " + i + " is not a number: " + value) ;
+      }
+      double number = ((Number) value).doubleValue() ;
+      values[i] = quantum == 0 ? Double.doubleToLongBits(number) : Math.round(number / quantum) ;
+    }
+
+    return new Key(values) ;
+  }
+
+  private synchronized void writeToPersistentFile(Key key, Evaluation evaluation) {
+    if (persistentOutput == null) {
+      return ;
+    }
+
+    try {
+      for (long value : key.values) {
+        persistentOutput.writeLong(value);
+      }
+      evaluation.write(persistentOutput);
+      persistentOutput.flush();
+    } catch (IOException e) {
+      JMetalLogger.logger.warning("Unable to write to the persistent file " + persistentFile
+          + ", which is closed: " + e);
+      close() ;
+    }
+  }
+
+  /**
+   * Reads the results of a persistent file into the cache
+   * @return The length of the valid part of the file
+   */
+  private long readPersistentFile(File file) throws IOException {
+    int numberOfVariables = getNumberOfVariables() ;
+    int numberOfObjectives = getNumberOfObjectives() ;
+    long headerLength = 4 + 4 + 4 + 8 ;
+    long recordLength = 8L * numberOfVariables + 8L * numberOfObjectives + 1 + 8 + 4 ;
+
+    long numberOfRecords = 0 ;
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+      int version = in.readInt() ;
+      if ((version != PERSISTENT_FILE_VERSION) || (in.readInt() != numberOfVariables)
+          || (in.readInt() != numberOfObjectives) || (in.readDouble() != quantum)) {
+        throw new JMetalException("The persistent file " + file + " was not created for this problem "
+            + "and quantum") ;
+      }
+
+      try {
+        while (true) {
+          long[] values = new long[numberOfVariables] ;
+          for (int i = 0; i < numberOfVariables; i++) {
+            values[i] = in.readLong() ;
+          }
+          Evaluation evaluation = Evaluation.read(in, numberOfObjectives) ;
+          synchronized (cache) {
+            cache.put(new Key(values), CompletableFuture.completedFuture(evaluation)) ;
+            evictLeastRecentlyUsedResults() ;
+          }
+          numberOfRecords++ ;
+        }
+      } catch (EOFException e) {
+        // end of the file, or truncated last record
+      }
+    } catch (EOFException e) {
+      throw new JMetalException("The persistent file " + file + " has no valid header") ;
+    }
+    JMetalLogger.logger.info(numberOfRecords + " results loaded from " + file);
+
+    return headerLength + numberOfRecords * recordLength ;
+  }
+
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    initializeCache();
+    File file = persistentFile ;
+    persistentFile = null ;
+    if (file != null) {
+      setPersistentFile(file) ;
+    }
+  }
+
+  /** Quantized variables of a solution */
+  private static class Key {
+    private final long[] values ;
+    private final int hashCode ;
+
+    Key(long[] values) {
+      this.values = values ;
+      this.hashCode = Arrays.hashCode(values) ;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return (o instanceof Key) && Arrays.equals(values, ((Key) o).values) ;
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode ;
+    }
+  }
+
+  /** Objectives and constraint attributes of an evaluated solution */
+  private static class Evaluation {
+    private final double[] objectives ;
+    private final Double overallConstraintViolation ;
+    private final Integer numberOfViolatedConstraints ;
+
+    Evaluation(double[] objectives, Double overallConstraintViolation, Integer numberOfViolatedConstraints) {
+      this.objectives = objectives ;
+      this.overallConstraintViolation = overallConstraintViolation ;
+      this.numberOfViolatedConstraints = numberOfViolatedConstraints ;
+    }
+
+    Evaluation(Solution<?> solution) {
+      this(solution.getObjectives().clone(),
+          (Double) solution.getAttribute(OverallConstraintViolation.class),
+          (Integer) solution.getAttribute(NumberOfViolatedConstraints.class)) ;
+    }
+
+    void copyTo(Solution<?> solution) {
+      for (int i = 0; i < objectives.length; i++) {
+        solution.setObjective(i, objectives[i]);
+      }
+      if (overallConstraintViolation != null) {
+        solution.setAttribute(OverallConstraintViolation.class, overallConstraintViolation);
+      }
+      if (numberOfViolatedConstraints != null) {
+        solution.setAttribute(NumberOfViolatedConstraints.class, numberOfViolatedConstraints);
+      }
+    }
+
+    void write(DataOutputStream out) throws IOException {
+      for (double objective : objectives) {
+        out.writeDouble(objective);
+      }
+      byte flags = 0 ;
+      if (overallConstraintViolation != null) {
+        flags |= HAS_OVERALL_CONSTRAINT_VIOLATION ;
+      }
+      if (numberOfViolatedConstraints != null) {
+        flags |= HAS_NUMBER_OF_VIOLATED_CONSTRAINTS ;
+      }
+      out.writeByte(flags);
+      out.writeDouble(overallConstraintViolation == null ? 0.0 : overallConstraintViolation);
+      out.writeInt(numberOfViolatedConstraints == null ? 0 : numberOfViolatedConstraints);
+    }
+
+    static Evaluation read(DataInputStream in, int numberOfObjectives) throws IOException {
+      double[] objectives = new double[numberOfObjectives] ;
+      for (int i = 0; i < numberOfObjectives; i++) {
+        objectives[i] = in.readDouble() ;
+      }
+      byte flags = in.readByte() ;
+      double overallConstraintViolation = in.readDouble() ;
+      int numberOfViolatedConstraints = in.readInt() ;
+
+      return new Evaluation(objectives,
+          (flags & HAS_OVERALL_CONSTRAINT_VIOLATION) != 0 ? overallConstraintViolation : null,
+          (flags & HAS_NUMBER_OF_VIOLATED_CONSTRAINTS) != 0 ? numberOfViolatedConstraints : null) ;
+    }
+  }
+}
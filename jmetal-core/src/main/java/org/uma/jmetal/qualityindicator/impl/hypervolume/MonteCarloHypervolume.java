@@ -0,0 +1,467 @@
+package org.uma.jmetal.qualityindicator.impl.hypervolume;
+
+import org.apache.commons.math3.distribution.NormalDistribution;
+import org.uma.jmetal.qualityindicator.impl.Hypervolume;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.comparator.HypervolumeContributionComparator;
+import org.uma.jmetal.util.front.Front;
+import org.uma.jmetal.util.front.imp.ArrayFront;
+import org.uma.jmetal.util.front.util.FrontNormalizer;
+import org.uma.jmetal.util.front.util.FrontUtils;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.solutionattribute.impl.HypervolumeContributionAttribute;
+
+import java.io.FileNotFoundException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * This class approximates the hypervolume indicator by Monte Carlo sampling, which is useful when
+ * the number of objectives makes the exact implementations ({@link PISAHypervolume},
+ * {@link WFGHypervolume}) too slow. The points are sampled uniformly in the box between the
+ * best values of the front and the reference point, and the hypervolume is estimated as the
+ * volume of the box times the fraction of points which are dominated by the front. The
+ * hypervolume contributions are estimated in the same way, sampling in the smallest box containing
+ * the region dominated only by each solution. Reference: J. Bader, E. Zitzler. "HypE: An Algorithm
+ * for Fast Hypervolume-Based Many-Objective Optimization". Evolutionary Computation 19(1), 2011.
+ *
+ * The number of samples can be fixed or, if a maximum error is given, samples are taken until
+ * the half width of the confidence interval of the estimate is below that error. The samples are
+ * split among a number of workers running in parallel, each one with its own
+ * {@link SplittableRandom} stream, so the result is reproducible for the same seed and number of
+ * workers. The estimate of the last evaluation, with its confidence interval, is returned by
+ * {@link #getLastEstimate()}.
+ *
+ * As in {@link PISAHypervolume}, {@link #evaluate(List)} assumes a normalized front and
+ * (1, ..., 1) as reference point, and the contributions are computed in the space normalized
+ * by the reference front list.
+ *
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+@SuppressWarnings("serial")
+public class MonteCarloHypervolume<S extends Solution<?>> extends Hypervolume<S> {
+  private static final double DEFAULT_OFFSET = 100.0 ;
+  private static final int DEFAULT_NUMBER_OF_SAMPLES = 1000000 ;
+  private static final double DEFAULT_CONFIDENCE_LEVEL = 0.95 ;
+  private static final int SAMPLES_PER_WORKER_AND_BATCH = 10000 ;
+  private static final int MINIMUM_NUMBER_OF_SAMPLES_PER_CONTRIBUTION = 1000 ;
+
+  private double offset = DEFAULT_OFFSET ;
+  private int numberOfSamples = DEFAULT_NUMBER_OF_SAMPLES ;
+  private double maximumError = 0.0 ;
+  private double confidenceLevel = DEFAULT_CONFIDENCE_LEVEL ;
+  private int numberOfWorkers = Runtime.getRuntime().availableProcessors() ;
+  private long seed = JMetalRandom.getInstance().getSeed() ;
+  private transient Estimate lastEstimate ;
+
+  /**
+   * Default constructor
+   */
+  public MonteCarloHypervolume() {
+  }
+
+  /**
+   * Constructor
+   *
+   * @param referenceParetoFrontFile
+   * @throws FileNotFoundException
+   */
+  public MonteCarloHypervolume(String referenceParetoFrontFile) throws FileNotFoundException {
+    super(referenceParetoFrontFile) ;
+  }
+
+  /**
+   * Constructor
+   *
+   * @param referenceParetoFront
+   */
+  public MonteCarloHypervolume(Front referenceParetoFront) {
+    super(referenceParetoFront) ;
+  }
+
+  /**
+   * Sets the number of samples of each evaluation (or the maximum number of them if a maximum
+   * error has been set)
+   */
+  public MonteCarloHypervolume<S> setNumberOfSamples(int numberOfSamples) {
+    if (numberOfSamples <= 0) {
+      throw new JMetalException("The number of samples must be positive: " + numberOfSamples) ;
+    }
+    this.numberOfSamples = numberOfSamples ;
+
+    return this ;
+  }
+
+  /**
+   * Sets the maximum half width of the confidence interval of the hypervolume; the sampling stops
+   * when it is reached or when the number of samples is reached. A value of 0 means that the
+   * number of samples is fixed
+   */
+  public MonteCarloHypervolume<S> setMaximumError(double maximumError) {
+    if (maximumError < 0.0) {
+      throw new JMetalException("The maximum error cannot be negative: " + maximumError) ;
+    }
+    this.maximumError = maximumError ;
+
+    return this ;
+  }
+
+  public MonteCarloHypervolume<S> setConfidenceLevel(double confidenceLevel) {
+    if ((confidenceLevel <= 0.0) || (confidenceLevel >= 1.0)) {
+      throw new JMetalException("The confidence level must be in (0, 1): " + confidenceLevel) ;
+    }
+    this.confidenceLevel = confidenceLevel ;
+
+    return this ;
+  }
+
+  public MonteCarloHypervolume<S> setNumberOfWorkers(int numberOfWorkers) {
+    if (numberOfWorkers <= 0) {
+      throw new JMetalException("The number of workers must be positive: " + numberOfWorkers) ;
+    }
+    this.numberOfWorkers = numberOfWorkers ;
+
+    return this ;
+  }
+
+  public MonteCarloHypervolume<S> setSeed(long seed) {
+    this.seed = seed ;
+
+    return this ;
+  }
+
+  /**
+   * @return The estimate of the last evaluation, or null if there has not been any
+   */
+  public Estimate getLastEstimate() {
+    return lastEstimate ;
+  }
+
+  /**
+   * Evaluate() method
+   * @param paretoFrontApproximation
+   * @return
+   */
+  @Override public Double evaluate(List<S> paretoFrontApproximation) {
+    if (paretoFrontApproximation == null) {
+      throw new JMetalException("The pareto front approximation is null") ;
+    }
+
+    double[][] points = new double[paretoFrontApproximation.size()][] ;
+    for (int i = 0; i < paretoFrontApproximation.size(); i++) {
+      S solution = paretoFrontApproximation.get(i) ;
+      points[i] = new double[solution.getNumberOfObjectives()] ;
+      for (int j = 0; j < solution.getNumberOfObjectives(); j++) {
+        points[i][j] = Math.min(Math.max(solution.getObjective(j), 0.0), 1.0) ;
+      }
+    }
+
+    int numberOfObjectives = (points.length > 0) ? points[0].length : 0 ;
+    double[] referencePoint = new double[numberOfObjectives] ;
+    Arrays.fill(referencePoint, 1.0);
+
+    return estimate(points, referencePoint).getValue() ;
+  }
+
+  /**
+   * Estimates the hypervolume of a set of points, assuming minimization
+   * @param points
+   * @param referencePoint
+   * @return The estimate, which is also returned by {@link #getLastEstimate()}
+   */
+  public Estimate estimate(double[][] points, double[] referencePoint) {
+    double[][] sortedPoints = getPointsInsideTheBox(points, referencePoint) ;
+    if (sortedPoints.length == 0) {
+      lastEstimate = new Estimate(0.0, 0.0, 0, confidenceLevel) ;
+      return lastEstimate ;
+    }
+
+    int numberOfObjectives = referencePoint.length ;
+    double[] lowerBound = new double[numberOfObjectives] ;
+    Arrays.fill(lowerBound, Double.POSITIVE_INFINITY);
+    for (double[] point : sortedPoints) {
+      for (int j = 0; j < numberOfObjectives; j++) {
+        lowerBound[j] = Math.min(lowerBound[j], point[j]) ;
+      }
+    }
+    double boxVolume = getVolume(lowerBound, referencePoint) ;
+
+    SplittableRandom[] randomStreams = createRandomStreams(numberOfWorkers) ;
+    double z = new NormalDistribution().inverseCumulativeProbability(0.5 + confidenceLevel / 2.0) ;
+    long samples = 0 ;
+    long hits = 0 ;
+    boolean finished = false ;
+    while (!finished) {
+      long batchSize = Math.min((long) SAMPLES_PER_WORKER_AND_BATCH * numberOfWorkers, numberOfSamples - samples) ;
+      long[] samplesPerWorker = divide(batchSize, numberOfWorkers) ;
+      hits += IntStream.range(0, numberOfWorkers).parallel()
+          .mapToLong(worker -> countDominatedSamples(randomStreams[worker], samplesPerWorker[worker],
+              sortedPoints, lowerBound, referencePoint))
+          .sum() ;
+      samples += batchSize ;
+
+      double halfWidth = z * getStandardError(boxVolume, hits, samples) ;
+      finished = (samples >= numberOfSamples) || ((maximumError > 0.0) && (halfWidth <= maximumError)) ;
+    }
+
+    lastEstimate = new Estimate(boxVolume * hits / samples, getStandardError(boxVolume, hits, samples),
+        samples, confidenceLevel) ;
+
+    return lastEstimate ;
+  }
+
+  /**
+   * Estimates the contribution of each point, assuming minimization. The contribution of a point
+   * which is weakly dominated by another one is zero; otherwise, the samples are taken in the box
+   * between the point and the nearest values of the points which are better in all the objectives
+   * but one
+   *
+   * @param points
+   * @param referencePoint
+   * @return The estimate of the contribution of each point
+   */
+  public double[] estimateContributions(double[][] points, double[] referencePoint) {
+    int samplesPerPoint = Math.max(MINIMUM_NUMBER_OF_SAMPLES_PER_CONTRIBUTION, numberOfSamples / Math.max(points.length, 1)) ;
+    SplittableRandom[] randomStreams = createRandomStreams(points.length) ;
+
+    return IntStream.range(0, points.length).parallel()
+        .mapToDouble(i -> estimateContribution(i, points, referencePoint, randomStreams[i], samplesPerPoint))
+        .toArray() ;
+  }
+
+  private double estimateContribution(int index, double[][] points, double[] referencePoint,
+      SplittableRandom random, int samples) {
+    double[] point = points[index] ;
+    int numberOfObjectives = referencePoint.length ;
+    double[] upperBound = Arrays.copyOf(referencePoint, numberOfObjectives) ;
+    for (int j = 0; j < numberOfObjectives; j++) {
+      if (point[j] >= referencePoint[j]) {
+        return 0.0 ;
+      }
+    }
+
+    for (int i = 0; i < points.length; i++) {
+      if (i != index) {
+        int worseObjective = -1 ;
+        int numberOfWorseObjectives = 0 ;
+        for (int j = 0; (j < numberOfObjectives) && (numberOfWorseObjectives < 2); j++) {
+          if (points[i][j] > point[j]) {
+            worseObjective = j ;
+            numberOfWorseObjectives++ ;
+          }
+        }
+
+        if (numberOfWorseObjectives == 0) {
+          return 0.0 ;
+        } else if (numberOfWorseObjectives == 1) {
+          upperBound[worseObjective] = Math.min(upperBound[worseObjective], points[i][worseObjective]) ;
+        }
+      }
+    }
+
+    double[] sample = new double[numberOfObjectives] ;
+    long exclusiveSamples = 0 ;
+    for (int s = 0; s < samples; s++) {
+      for (int j = 0; j < numberOfObjectives; j++) {
+        sample[j] = point[j] + random.nextDouble() * (upperBound[j] - point[j]) ;
+      }
+
+      boolean dominated = false ;
+      for (int i = 0; (i < points.length) && !dominated; i++) {
+        dominated = (i != index) && weaklyDominates(points[i], sample) ;
+      }
+      if (!dominated) {
+        exclusiveSamples++ ;
+      }
+    }
+
+    return getVolume(point, upperBound) * exclusiveSamples / samples ;
+  }
+
+  @Override
+  public List<S> computeHypervolumeContribution(List<S> solutionList, List<S> referenceFrontList) {
+    if (solutionList.size() > 1) {
+      Front front = new ArrayFront(solutionList) ;
+      Front referenceFront = new ArrayFront(referenceFrontList) ;
+
+      // The front is normalized as in PISAHypervolume, with the offset as distance to the reference point
+      double[] maximumValues = FrontUtils.getMaximumValues(referenceFront) ;
+      double[] minimumValues = FrontUtils.getMinimumValues(referenceFront) ;
+      Front normalizedFront = new FrontNormalizer(minimumValues, maximumValues).normalize(front) ;
+
+      double[] referencePoint = new double[maximumValues.length] ;
+      for (int j = 0; j < maximumValues.length; j++) {
+        referencePoint[j] = 1.0 + offset / (maximumValues[j] - minimumValues[j]) ;
+      }
+
+      double[][] points = FrontUtils.convertFrontToArray(normalizedFront) ;
+      for (double[] point : points) {
+        for (int j = 0; j < point.length; j++) {
+          point[j] = Math.min(Math.max(point[j], 0.0), 1.0) ;
+        }
+      }
+
+      double[] contributions = estimateContributions(points, referencePoint) ;
+      HypervolumeContributionAttribute<S> hvContribution = new HypervolumeContributionAttribute<>() ;
+      for (int i = 0; i < contributions.length; i++) {
+        hvContribution.setAttribute(solutionList.get(i), contributions[i]);
+      }
+
+      Collections.sort(solutionList, new HypervolumeContributionComparator<S>());
+    }
+
+    return solutionList ;
+  }
+
+  @Override
+  public double getOffset() {
+    return offset ;
+  }
+
+  @Override
+  public void setOffset(double offset) {
+    this.offset = offset ;
+  }
+
+  @Override public String getDescription() {
+    return "Monte Carlo approximation of the hypervolume quality indicator" ;
+  }
+
+  /**
+   * Returns the points better than the reference point in all the objectives, sorted by the first
+   * objective so that the dominance check of a sample can stop at the first point which is worse
+   */
+  private double[][] getPointsInsideTheBox(double[][] points, double[] referencePoint) {
+    return Arrays.stream(points)
+        .filter(point -> {
+          for (int j = 0; j < referencePoint.length; j++) {
+            if (point[j] >= referencePoint[j]) {
+              return false ;
+            }
+          }
+          return true ;
+        })
+        .sorted(Comparator.comparingDouble(point -> point[0]))
+        .toArray(double[][]::new) ;
+  }
+
+  private long countDominatedSamples(SplittableRandom random, long samples, double[][] sortedPoints,
+      double[] lowerBound, double[] upperBound) {
+    double[] sample = new double[lowerBound.length] ;
+    long hits = 0 ;
+    for (long s = 0; s < samples; s++) {
+      for (int j = 0; j < sample.length; j++) {
+        sample[j] = lowerBound[j] + random.nextDouble() * (upperBound[j] - lowerBound[j]) ;
+      }
+
+      boolean dominated = false ;
+      for (int i = 0; (i < sortedPoints.length) && (sortedPoints[i][0] <= sample[0]) && !dominated; i++) {
+        dominated = weaklyDominates(sortedPoints[i], sample) ;
+      }
+      if (dominated) {
+        hits++ ;
+      }
+    }
+
+    return hits ;
+  }
+
+  private SplittableRandom[] createRandomStreams(int numberOfStreams) {
+    SplittableRandom random = new SplittableRandom(seed) ;
+    SplittableRandom[] randomStreams = new SplittableRandom[numberOfStreams] ;
+    for (int i = 0; i < numberOfStreams; i++) {
+      randomStreams[i] = random.split() ;
+    }
+
+    return randomStreams ;
+  }
+
+  private static long[] divide(long total, int parts) {
+    long[] result = new long[parts] ;
+    for (int i = 0; i < parts; i++) {
+      result[i] = total / parts + ((i < total % parts) ? 1 : 0) ;
+    }
+
+    return result ;
+  }
+
+  private static double getStandardError(double boxVolume, long hits, long samples) {
+    double fraction = (double) hits / samples ;
+
+    return boxVolume * Math.sqrt(fraction * (1.0 - fraction) / samples) ;
+  }
+
+  private static double getVolume(double[] lowerBound, double[] upperBound) {
+    double volume = 1.0 ;
+    for (int j = 0; j < lowerBound.length; j++) {
+      volume *= upperBound[j] - lowerBound[j] ;
+    }
+
+    return volume ;
+  }
+
+  private static boolean weaklyDominates(double[] point1, double[] point2) {
+    for (int j = 0; j < point1.length; j++) {
+      if (point1[j] > point2[j]) {
+        return false ;
+      }
+    }
+
+    return true ;
+  }
+
+  /**
+   * Estimate of the hypervolume, with its standard error and confidence interval
+   */
+  public static class Estimate {
+    private final double value ;
+    private final double standardError ;
+    private final long numberOfSamples ;
+    private final double confidenceLevel ;
+    private final double halfWidth ;
+
+    public Estimate(double value, double standardError, long numberOfSamples, double confidenceLevel) {
+      this.value = value ;
+      this.standardError = standardError ;
+      this.numberOfSamples = numberOfSamples ;
+      this.confidenceLevel = confidenceLevel ;
+      halfWidth = (standardError == 0.0) ? 0.0 :
+          standardError * new NormalDistribution().inverseCumulativeProbability(0.5 + confidenceLevel / 2.0) ;
+    }
+
+    public double getValue() {
+      return value ;
+    }
+
+    public double getStandardError() {
+      return standardError ;
+    }
+
+    public long getNumberOfSamples() {
+      return numberOfSamples ;
+    }
+
+    public double getConfidenceLevel() {
+      return confidenceLevel ;
+    }
+
+    public double getLowerBound() {
+      return value - halfWidth ;
+    }
+
+    public double getUpperBound() {
+      return value + halfWidth ;
+    }
+
+    @Override
+    public String toString() {
+      return value + " [" + getLowerBound() + ", " + getUpperBound() + "] (" + confidenceLevel
+          + " confidence, " + numberOfSamples + " samples)" ;
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package org.uma.jmetal.qualityindicator.impl.hypervolume;
 
 import org.uma.jmetal.qualityindicator.impl.Hypervolume;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.util.HypervolumeContributionEngine;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.comparator.HypervolumeContributionComparator;
@@ -13,7 +14,6 @@ import org.uma.jmetal.util.solutionattribute.impl.HypervolumeContributionAttribu
 
 import java.io.FileNotFoundException;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 
 /**
@@ -32,6 +32,7 @@ public class PISAHypervolume<S extends Solution<?>> extends Hypervolume<S> {
 
   private static final double DEFAULT_OFFSET = 100.0 ;
   private double offset = DEFAULT_OFFSET ;
+  private transient HypervolumeContributionEngine contributionEngine ;
 
   /**
    * Default constructor
@@ -290,7 +291,7 @@ public class PISAHypervolume<S extends Solution<?>> extends Hypervolume<S> {
       HypervolumeContributionAttribute<S> hvContribution = new HypervolumeContributionAttribute<>() ;
 
       // calculate contributions and sort
-      double[] contributions = hvContributions(FrontUtils.convertFrontToArray(invertedFront));
+      double[] contributions = hvContributions(solutionList, FrontUtils.convertFrontToArray(invertedFront));
       for (int i = 0; i < contributions.length; i++) {
         hvContribution.setAttribute(solutionList.get(i), contributions[i]);
       }
@@ -310,32 +311,28 @@ public class PISAHypervolume<S extends Solution<?>> extends Hypervolume<S> {
   /**
    * Calculates how much hypervolume each point dominates exclusively. The points
    * have to be transformed beforehand, to accommodate the assumptions of Zitzler's
-   * hypervolume code.
+   * hypervolume code (maximization, with the origin as reference point). They are
+   * negated so that the contributions are computed as in a minimization problem;
+   * the points of the solutions kept since the previous call are not computed again.
    *
+   * @param solutionList solutions of the points, used to identify them between calls
    * @param front transformed objective values
    * @return HV contributions
    */
-  private double[] hvContributions(double[][] front) {
-
+  private double[] hvContributions(List<S> solutionList, double[][] front) {
     int numberOfObjectives = front[0].length ;
-    double[] contributions = new double[front.length];
-    double[][] frontSubset = new double[front.length - 1][front[0].length];
-    LinkedList<double[]> frontCopy = new LinkedList<double[]>();
-    Collections.addAll(frontCopy, front);
-    double[][] totalFront = frontCopy.toArray(frontSubset);
-    double totalVolume =
-        this.calculateHypervolume(totalFront, totalFront.length, numberOfObjectives);
+    if ((contributionEngine == null) || (contributionEngine.getNumberOfObjectives() != numberOfObjectives)) {
+      contributionEngine = new HypervolumeContributionEngine(numberOfObjectives) ;
+    }
+
+    double[][] negatedFront = new double[front.length][numberOfObjectives] ;
     for (int i = 0; i < front.length; i++) {
-      double[] evaluatedPoint = frontCopy.remove(i);
-      frontSubset = frontCopy.toArray(frontSubset);
-      // STEP4. The hypervolume (control is passed to java version of Zitzler code)
-      double hv = this.calculateHypervolume(frontSubset, frontSubset.length, numberOfObjectives);
-      double contribution = totalVolume - hv;
-      contributions[i] = contribution;
-      // put point back
-      frontCopy.add(i, evaluatedPoint);
+      for (int j = 0; j < numberOfObjectives; j++) {
+        negatedFront[i][j] = -front[i][j] ;
+      }
     }
-    return contributions;
+
+    return contributionEngine.update(solutionList, negatedFront, new double[numberOfObjectives]) ;
   }
 
 }
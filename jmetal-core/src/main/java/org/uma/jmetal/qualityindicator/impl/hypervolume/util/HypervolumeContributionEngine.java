@@ -0,0 +1,578 @@
+package org.uma.jmetal.qualityindicator.impl.hypervolume.util;
+
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.point.impl.ArrayPoint;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * This class computes the exact hypervolume contribution of every point of a set (the volume
+ * dominated only by that point), assuming minimization and a reference point which is worse than
+ * the points. Points which are not better than the reference point in all the objectives have a
+ * contribution of zero and do not affect the contributions of the other points.
+ *
+ * The contributions are computed as follows:
+ * - 2 objectives: the points are sorted once, and the contribution of each point of the staircase
+ *   is the rectangle defined by its two neighbours (O(n log n) for the whole set).
+ * - 3 objectives: the contribution of a point p is the volume of its box minus the hypervolume
+ *   of the set {max(p, q)}, which is computed with a sweep on the third objective keeping the
+ *   staircase of the first two ones (O(n log n) for each point).
+ * - More objectives: the exclusive hypervolume of WFG, reusing a {@link WfgHypervolumeVersion}
+ *   and its preallocated fronts between calls.
+ *
+ * The points are identified by a key (compared by identity, e.g. the solution they come from), and
+ * the set is kept between calls, so when a point is added or removed only the contributions of the
+ * points it affects are recomputed: the contribution of q changes only if the box of max(p, q) is
+ * not dominated by a third point.
+ *
+ * This class is not thread-safe.
+ *
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+public class HypervolumeContributionEngine {
+  /**
+   * When more than this fraction of the points change in {@link #update(List, double[][], double[])},
+   * all the contributions are computed again instead of updating them one by one
+   */
+  private static final double MAXIMUM_RATIO_OF_INCREMENTAL_CHANGES = 0.25 ;
+
+  private static final Comparator<double[]> THIRD_OBJECTIVE_COMPARATOR =
+      (point1, point2) -> Double.compare(point1[2], point2[2]) ;
+
+  private final int numberOfObjectives ;
+  private double[] referencePoint ;
+
+  private List<Object> keys ;
+  private List<double[]> points ;
+  private double[] contributions ;
+  private Map<Object, Integer> indexes ;
+  private boolean contributionsUpToDate ;
+
+  private double[][] limitedSet ;
+  private TreeMap<Double, Double> staircase ;
+  private WfgHypervolumeVersion wfgHypervolume ;
+  private WfgHypervolumeFront wfgFront ;
+  private int wfgCapacity ;
+
+  /**
+   * Constructor
+   * @param numberOfObjectives
+   */
+  public HypervolumeContributionEngine(int numberOfObjectives) {
+    if (numberOfObjectives < 1) {
+      throw new JMetalException("The number of objectives must be positive: " + numberOfObjectives) ;
+    }
+    this.numberOfObjectives = numberOfObjectives ;
+
+    keys = new ArrayList<>() ;
+    points = new ArrayList<>() ;
+    contributions = new double[16] ;
+    indexes = new IdentityHashMap<>() ;
+    contributionsUpToDate = false ;
+    limitedSet = new double[0][] ;
+    staircase = new TreeMap<>() ;
+  }
+
+  /**
+   * Computes the contributions of a set of points
+   * @param points
+   * @param referencePoint
+   * @return The contribution of each point, in the same order
+   */
+  public static double[] computeContributions(double[][] points, double[] referencePoint) {
+    List<Object> keys = new ArrayList<>(points.length) ;
+    for (int i = 0; i < points.length; i++) {
+      keys.add(new Object()) ;
+    }
+
+    return new HypervolumeContributionEngine(referencePoint.length).update(keys, points, referencePoint) ;
+  }
+
+  /**
+   * Replaces the points by the given ones and returns their contributions. The points whose key
+   * and values were already in the set keep their contributions and, when only a few points change
+   * (the usual case when this method is called at each step of a steady-state algorithm or by a
+   * bounded archive), the contributions of the others are updated incrementally.
+   *
+   * @param keyList Key of each point
+   * @param pointList Objective values of each point
+   * @param referencePoint
+   * @return The contribution of each point, in the same order
+   */
+  public double[] update(List<?> keyList, double[][] pointList, double[] referencePoint) {
+    if (keyList.size() != pointList.length) {
+      throw new JMetalException("The number of keys (" + keyList.size() + ") is different from the "
+          + "number of points (" + pointList.length + ")") ;
+    }
+    setReferencePoint(referencePoint);
+
+    Map<Object, Integer> newIndexes = new IdentityHashMap<>() ;
+    for (int i = 0; i < keyList.size(); i++) {
+      newIndexes.put(keyList.get(i), i) ;
+    }
+    if (newIndexes.size() != keyList.size()) {
+      // The same key appears more than once, so the points are identified by their position
+      clear() ;
+      return computeContributions(pointList, referencePoint) ;
+    }
+
+    List<Object> removedKeys = new ArrayList<>() ;
+    for (Object key : keys) {
+      Integer newIndex = newIndexes.get(key) ;
+      if ((newIndex == null) || !Arrays.equals(pointList[newIndex], points.get(indexes.get(key)))) {
+        removedKeys.add(key) ;
+      }
+    }
+    int numberOfAddedPoints = keyList.size() - (keys.size() - removedKeys.size()) ;
+
+    int numberOfChanges = removedKeys.size() + numberOfAddedPoints ;
+    if (numberOfChanges > MAXIMUM_RATIO_OF_INCREMENTAL_CHANGES * keyList.size()) {
+      clear() ;
+    } else {
+      for (Object key : removedKeys) {
+        remove(key) ;
+      }
+    }
+
+    for (int i = 0; i < keyList.size(); i++) {
+      if (!indexes.containsKey(keyList.get(i))) {
+        add(keyList.get(i), pointList[i]) ;
+      }
+    }
+
+    double[] result = new double[keyList.size()] ;
+    for (int i = 0; i < keyList.size(); i++) {
+      result[i] = getContribution(keyList.get(i)) ;
+    }
+
+    return result ;
+  }
+
+  /**
+   * Sets the reference point. If it is different from the current one, all the contributions are
+   * computed again the next time they are requested
+   * @param referencePoint
+   */
+  public void setReferencePoint(double[] referencePoint) {
+    if (referencePoint.length != numberOfObjectives) {
+      throw new JMetalException("The reference point has " + referencePoint.length + " objectives "
+          + "instead of " + numberOfObjectives) ;
+    }
+
+    if (!Arrays.equals(referencePoint, this.referencePoint)) {
+      this.referencePoint = Arrays.copyOf(referencePoint, referencePoint.length) ;
+      wfgHypervolume = null ;
+      contributionsUpToDate = false ;
+    }
+  }
+
+  /**
+   * Adds a point to the set, updating the contributions of the points it affects
+   * @param key
+   * @param point
+   */
+  public void add(Object key, double[] point) {
+    if (point.length != numberOfObjectives) {
+      throw new JMetalException("The point has " + point.length + " objectives instead of "
+          + numberOfObjectives) ;
+    } else if (indexes.containsKey(key)) {
+      throw new JMetalException("The key is already in the set: " + key) ;
+    }
+
+    int index = keys.size() ;
+    keys.add(key) ;
+    points.add(Arrays.copyOf(point, point.length)) ;
+    indexes.put(key, index) ;
+    if (contributions.length == index) {
+      contributions = Arrays.copyOf(contributions, 2 * index) ;
+    }
+    contributions[index] = 0.0 ;
+
+    if (contributionsUpToDate && (numberOfObjectives > 2)) {
+      List<Integer> affectedPoints = findAffectedPoints(index) ;
+      for (int affectedPoint : affectedPoints) {
+        contributions[affectedPoint] = computeContribution(affectedPoint) ;
+      }
+      contributions[index] = computeContribution(index) ;
+    } else {
+      // With one or two objectives, computing all the contributions is already O(n log n)
+      contributionsUpToDate = false ;
+    }
+  }
+
+  /**
+   * Removes a point from the set, updating the contributions of the points it affected
+   * @param key
+   */
+  public void remove(Object key) {
+    Integer index = indexes.remove(key) ;
+    if (index == null) {
+      throw new JMetalException("The key is not in the set: " + key) ;
+    }
+
+    List<Integer> affectedPoints = null ;
+    if (contributionsUpToDate && (numberOfObjectives > 2)) {
+      affectedPoints = findAffectedPoints(index) ;
+    } else {
+      contributionsUpToDate = false ;
+    }
+
+    int last = keys.size() - 1 ;
+    if (index != last) {
+      keys.set(index, keys.get(last)) ;
+      points.set(index, points.get(last)) ;
+      contributions[index] = contributions[last] ;
+      indexes.put(keys.get(index), index) ;
+    }
+    keys.remove(last) ;
+    points.remove(last) ;
+
+    if (affectedPoints != null) {
+      for (int affectedPoint : affectedPoints) {
+        if (affectedPoint == last) {
+          affectedPoint = index ;
+        }
+        contributions[affectedPoint] = computeContribution(affectedPoint) ;
+      }
+    }
+  }
+
+  /**
+   * @param key
+   * @return The contribution of the point with the given key
+   */
+  public double getContribution(Object key) {
+    Integer index = indexes.get(key) ;
+    if (index == null) {
+      throw new JMetalException("The key is not in the set: " + key) ;
+    } else if (referencePoint == null) {
+      throw new JMetalException("The reference point has not been set") ;
+    }
+
+    if (!contributionsUpToDate) {
+      computeAllContributions() ;
+    }
+
+    return contributions[index] ;
+  }
+
+  /**
+   * Removes all the points
+   */
+  public void clear() {
+    keys.clear();
+    points.clear();
+    indexes.clear();
+    contributionsUpToDate = false ;
+  }
+
+  public int size() {
+    return keys.size() ;
+  }
+
+  public int getNumberOfObjectives() {
+    return numberOfObjectives ;
+  }
+
+  private void computeAllContributions() {
+    if (numberOfObjectives == 1) {
+      computeOneObjectiveContributions() ;
+    } else if (numberOfObjectives == 2) {
+      computeTwoObjectivesContributions() ;
+    } else {
+      for (int i = 0; i < keys.size(); i++) {
+        contributions[i] = computeContribution(i) ;
+      }
+    }
+    contributionsUpToDate = true ;
+  }
+
+  /**
+   * Only the best point contributes, with the distance to the second best value (or to the
+   * reference point)
+   */
+  private void computeOneObjectiveContributions() {
+    int best = -1 ;
+    boolean repeated = false ;
+    double secondBestValue = referencePoint[0] ;
+    for (int i = 0; i < keys.size(); i++) {
+      contributions[i] = 0.0 ;
+      double value = points.get(i)[0] ;
+      if (value < referencePoint[0]) {
+        if ((best == -1) || (value < points.get(best)[0])) {
+          if (best != -1) {
+            secondBestValue = points.get(best)[0] ;
+          }
+          best = i ;
+          repeated = false ;
+        } else if (value == points.get(best)[0]) {
+          repeated = true ;
+        } else if (value < secondBestValue) {
+          secondBestValue = value ;
+        }
+      }
+    }
+
+    if ((best != -1) && !repeated) {
+      contributions[best] = secondBestValue - points.get(best)[0] ;
+    }
+  }
+
+  /**
+   * The points are sorted by the first objective to obtain the staircase of non-dominated points;
+   * the contribution of a point of the staircase is the rectangle between it and its neighbours,
+   * minus the part of it covered by the points it dominates (which are sorted after it and before
+   * the next point of the staircase). Dominated and repeated points have no contribution
+   */
+  private void computeTwoObjectivesContributions() {
+    List<Integer> sortedPoints = new ArrayList<>(keys.size()) ;
+    for (int i = 0; i < keys.size(); i++) {
+      contributions[i] = 0.0 ;
+      if (isInside(points.get(i))) {
+        sortedPoints.add(i) ;
+      }
+    }
+    sortedPoints.sort((index1, index2) -> {
+      double[] point1 = points.get(index1) ;
+      double[] point2 = points.get(index2) ;
+      int result = Double.compare(point1[0], point2[0]) ;
+      return (result != 0) ? result : Double.compare(point1[1], point2[1]) ;
+    });
+
+    int[] steps = new int[sortedPoints.size()] ;
+    boolean[] repeated = new boolean[sortedPoints.size()] ;
+    int[] dominatedPoints = new int[sortedPoints.size()] ;
+    int[] firstDominatedPoint = new int[sortedPoints.size() + 1] ;
+    int numberOfSteps = 0 ;
+    int numberOfDominatedPoints = 0 ;
+    for (int index : sortedPoints) {
+      double[] point = points.get(index) ;
+      if (numberOfSteps > 0) {
+        double[] lastStep = points.get(steps[numberOfSteps - 1]) ;
+        if ((point[0] == lastStep[0]) && (point[1] == lastStep[1])) {
+          repeated[numberOfSteps - 1] = true ;
+          continue ;
+        } else if (point[1] >= lastStep[1]) {
+          dominatedPoints[numberOfDominatedPoints++] = index ;
+          continue ;
+        }
+      }
+      firstDominatedPoint[numberOfSteps] = numberOfDominatedPoints ;
+      steps[numberOfSteps++] = index ;
+    }
+    firstDominatedPoint[numberOfSteps] = numberOfDominatedPoints ;
+
+    for (int i = 0; i < numberOfSteps; i++) {
+      if (!repeated[i]) {
+        double[] point = points.get(steps[i]) ;
+        double right = (i < numberOfSteps - 1) ? points.get(steps[i + 1])[0] : referencePoint[0] ;
+        double up = (i > 0) ? points.get(steps[i - 1])[1] : referencePoint[1] ;
+
+        double contribution = (right - point[0]) * (up - point[1]) ;
+        double lowestValue = up ;
+        for (int j = firstDominatedPoint[i]; j < firstDominatedPoint[i + 1]; j++) {
+          double[] dominatedPoint = points.get(dominatedPoints[j]) ;
+          if (dominatedPoint[1] < lowestValue) {
+            contribution -= (right - dominatedPoint[0]) * (lowestValue - dominatedPoint[1]) ;
+            lowestValue = dominatedPoint[1] ;
+          }
+        }
+        contributions[steps[i]] = contribution ;
+      }
+    }
+  }
+
+  /**
+   * Computes the contribution of a point with three or more objectives
+   */
+  private double computeContribution(int index) {
+    double[] point = points.get(index) ;
+    if (!isInside(point)) {
+      return 0.0 ;
+    }
+    for (int i = 0; i < points.size(); i++) {
+      if ((i != index) && weaklyDominates(points.get(i), point)) {
+        return 0.0 ;
+      }
+    }
+
+    if (numberOfObjectives == 3) {
+      return computeThreeObjectivesContribution(index) ;
+    } else {
+      return computeWfgContribution(index) ;
+    }
+  }
+
+  private double computeThreeObjectivesContribution(int index) {
+    double[] point = points.get(index) ;
+    if (limitedSet.length < points.size()) {
+      limitedSet = new double[points.size()][3] ;
+    }
+
+    int size = 0 ;
+    for (int i = 0; i < points.size(); i++) {
+      double[] other = points.get(i) ;
+      if ((i != index) && isInside(other)) {
+        for (int j = 0; j < 3; j++) {
+          limitedSet[size][j] = Math.max(point[j], other[j]) ;
+        }
+        size++ ;
+      }
+    }
+
+    return getInclusiveHV(point) - get3DHV(limitedSet, size) ;
+  }
+
+  /**
+   * Sweeps the points by the third objective, keeping the staircase of the two first ones (and its
+   * area) in a tree map
+   */
+  private double get3DHV(double[][] pointSet, int size) {
+    Arrays.sort(pointSet, 0, size, THIRD_OBJECTIVE_COMPARATOR);
+    staircase.clear();
+
+    double volume = 0.0 ;
+    double area = 0.0 ;
+    for (int i = 0; i < size; i++) {
+      if (i > 0) {
+        volume += area * (pointSet[i][2] - pointSet[i - 1][2]) ;
+      }
+      area += addToStaircase(pointSet[i][0], pointSet[i][1]) ;
+    }
+    if (size > 0) {
+      volume += area * (referencePoint[2] - pointSet[size - 1][2]) ;
+    }
+
+    return volume ;
+  }
+
+  /**
+   * Adds a point to the staircase, removing the points it dominates
+   * @return The increment of the area of the staircase
+   */
+  private double addToStaircase(double x, double y) {
+    Map.Entry<Double, Double> lower = staircase.floorEntry(x) ;
+    if ((lower != null) && (lower.getValue() <= y)) {
+      return 0.0 ;
+    }
+
+    double increment = 0.0 ;
+    double height = (lower == null) ? referencePoint[1] : lower.getValue() ;
+    double currentX = x ;
+    boolean covered = false ;
+    Iterator<Map.Entry<Double, Double>> iterator = staircase.tailMap(x, true).entrySet().iterator() ;
+    while (iterator.hasNext() && !covered) {
+      Map.Entry<Double, Double> step = iterator.next() ;
+      increment += (step.getKey() - currentX) * (height - y) ;
+      if (step.getValue() <= y) {
+        covered = true ;
+      } else {
+        height = step.getValue() ;
+        currentX = step.getKey() ;
+        iterator.remove();
+      }
+    }
+    if (!covered) {
+      increment += (referencePoint[0] - currentX) * (height - y) ;
+    }
+    staircase.put(x, y) ;
+
+    return increment ;
+  }
+
+  private double computeWfgContribution(int index) {
+    if ((wfgHypervolume == null) || (wfgCapacity < points.size() + 1)) {
+      wfgCapacity = points.size() + 1 ;
+      wfgHypervolume = new WfgHypervolumeVersion(numberOfObjectives, wfgCapacity, new ArrayPoint(referencePoint)) ;
+      wfgFront = new WfgHypervolumeFront(wfgCapacity, numberOfObjectives) ;
+    }
+
+    int size = 0 ;
+    size = copyToWfgFront(points.get(index), size) ;
+    for (int i = 0; i < points.size(); i++) {
+      if ((i != index) && isInside(points.get(i))) {
+        size = copyToWfgFront(points.get(i), size) ;
+      }
+    }
+    wfgFront.setNumberOfPoints(size);
+
+    return wfgHypervolume.getExclusiveHV(wfgFront, 0) ;
+  }
+
+  private int copyToWfgFront(double[] point, int position) {
+    for (int j = 0; j < numberOfObjectives; j++) {
+      wfgFront.getPoint(position).setValue(j, point[j]);
+    }
+
+    return position + 1 ;
+  }
+
+  /**
+   * Finds the points whose contribution may change when the given point is added or removed: the
+   * contribution of q does not change if max(p, q) is weakly dominated by a third point or is not
+   * better than the reference point
+   */
+  private List<Integer> findAffectedPoints(int index) {
+    double[] point = points.get(index) ;
+    List<Integer> affectedPoints = new ArrayList<>() ;
+    if (!isInside(point)) {
+      return affectedPoints ;
+    }
+
+    double[] limitedPoint = new double[numberOfObjectives] ;
+    for (int i = 0; i < points.size(); i++) {
+      double[] other = points.get(i) ;
+      if ((i != index) && isInside(other)) {
+        for (int j = 0; j < numberOfObjectives; j++) {
+          limitedPoint[j] = Math.max(point[j], other[j]) ;
+        }
+
+        boolean dominated = false ;
+        for (int k = 0; (k < points.size()) && !dominated; k++) {
+          dominated = (k != index) && (k != i) && weaklyDominates(points.get(k), limitedPoint) ;
+        }
+        if (!dominated) {
+          affectedPoints.add(i) ;
+        }
+      }
+    }
+
+    return affectedPoints ;
+  }
+
+  private double getInclusiveHV(double[] point) {
+    double volume = 1.0 ;
+    for (int j = 0; j < numberOfObjectives; j++) {
+      volume *= referencePoint[j] - point[j] ;
+    }
+
+    return volume ;
+  }
+
+  private boolean isInside(double[] point) {
+    for (int j = 0; j < numberOfObjectives; j++) {
+      if (!(point[j] < referencePoint[j])) {
+        return false ;
+      }
+    }
+
+    return true ;
+  }
+
+  private boolean weaklyDominates(double[] point1, double[] point2) {
+    for (int j = 0; j < numberOfObjectives; j++) {
+      if (point1[j] > point2[j]) {
+        return false ;
+      }
+    }
+
+    return true ;
+  }
+}
@@ -8,4 +8,39 @@ package org.uma.jmetal.solution;
 public interface DoubleSolution extends Solution<Double> {
   public Double getLowerBound(int index) ;
   public Double getUpperBound(int index) ;
+
+  /**
+   * Returns the values of all the variables without boxing them. Implementations backed by an
+   * array (see {@link org.uma.jmetal.solution.impl.ArrayDoubleSolution}) copy the array directly.
+   * @return A copy of the values of the variables
+   */
+  public default double[] getVariableValues() {
+    double[] values = new double[getNumberOfVariables()] ;
+    for (int i = 0; i < values.length; i++) {
+      values[i] = getVariableValue(i) ;
+    }
+    return values ;
+  }
+
+  /**
+   * Copies the values of all the variables into an array, which allows to reuse it in loops
+   * @param values Array with at least as many elements as variables
+   * @return The array received as parameter
+   */
+  public default double[] getVariableValues(double[] values) {
+    for (int i = 0; i < getNumberOfVariables(); i++) {
+      values[i] = getVariableValue(i) ;
+    }
+    return values ;
+  }
+
+  /**
+   * Sets the values of all the variables
+   * @param values Array with as many values as variables; it is copied, not referenced
+   */
+  public default void setVariableValues(double[] values) {
+    for (int i = 0; i < values.length; i++) {
+      setVariableValue(i, values[i]) ;
+    }
+  }
 }
@@ -1,5 +1,7 @@
 package org.uma.jmetal.solution;
 
+import org.uma.jmetal.util.solutionattribute.AttributeSlots;
+
 import java.io.Serializable;
 import java.util.List;
 import java.util.Map;
@@ -29,4 +31,14 @@ public interface Solution<T> extends Serializable {
   Object getAttribute(Object id) ;
   
   public Map<Object, Object> getAttributes();
+
+  /**
+   * Returns the values of the attributes registered in the
+   * {@link org.uma.jmetal.util.solutionattribute.AttributeSlotRegistry}. Solutions returning null
+   * keep all their attributes in the map returned by {@link #getAttributes()}.
+   * @return The attribute slots of the solution, or null
+   */
+  public default AttributeSlots getAttributeSlots() {
+    return null ;
+  }
 }
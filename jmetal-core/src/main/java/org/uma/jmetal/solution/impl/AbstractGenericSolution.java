@@ -3,6 +3,8 @@ package org.uma.jmetal.solution.impl;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.solutionattribute.AttributeSlotRegistry;
+import org.uma.jmetal.util.solutionattribute.AttributeSlots;
 
 import java.util.*;
 
@@ -17,6 +19,7 @@ public abstract class AbstractGenericSolution<T, P extends Problem<?>> implement
   private List<T> variables;
   protected P problem ;
   protected Map<Object, Object> attributes ;
+  protected AttributeSlots attributeSlots ;
   /**
    * @deprecated Call {@link JMetalRandom#getInstance()} if you need one.
    */
@@ -29,6 +32,7 @@ public abstract class AbstractGenericSolution<T, P extends Problem<?>> implement
   protected AbstractGenericSolution(P problem) {
     this.problem = problem ;
     attributes = new HashMap<>() ;
+    attributeSlots = new AttributeSlots() ;
     randomGenerator = JMetalRandom.getInstance() ;
 
     objectives = new double[problem.getNumberOfObjectives()] ;
@@ -50,14 +54,31 @@ public abstract class AbstractGenericSolution<T, P extends Problem<?>> implement
 
   @Override
   public void setAttribute(Object id, Object value) {
-    attributes.put(id, value) ;
+    AttributeSlotRegistry.Slot slot = AttributeSlotRegistry.getSlot(id) ;
+    if (slot == null) {
+      attributes.put(id, value) ;
+    } else {
+      attributeSlots.setAttribute(slot, value);
+      if (!attributes.isEmpty()) {
+        attributes.remove(id) ;
+      }
+    }
   }
 
   @Override
   public Object getAttribute(Object id) {
+    AttributeSlotRegistry.Slot slot = AttributeSlotRegistry.getSlot(id) ;
+    if ((slot != null) && attributeSlots.isAssigned(slot.getIndex())) {
+      return attributeSlots.getAttribute(slot) ;
+    }
     return attributes.get(id) ;
   }
 
+  @Override
+  public AttributeSlots getAttributeSlots() {
+    return attributeSlots ;
+  }
+
   @Override
   public void setObjective(int index, double value) {
     objectives[index] = value ;
@@ -142,6 +163,10 @@ public abstract class AbstractGenericSolution<T, P extends Problem<?>> implement
     //
     // the following implementation takes care of this by considering solutions as attributes as a special case
 
+    if (!attributeSlots.equals(that.attributeSlots)) {
+      return false;
+    }
+
     if (attributes.size() != that.attributes.size()) {
       return false;
     }
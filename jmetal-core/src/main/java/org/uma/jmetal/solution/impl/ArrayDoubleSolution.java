@@ -2,13 +2,17 @@ package org.uma.jmetal.solution.impl;
 
 import org.uma.jmetal.problem.DoubleProblem;
 import org.uma.jmetal.solution.DoubleSolution;
-import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.solutionattribute.AttributeSlotRegistry;
+import org.uma.jmetal.util.solutionattribute.AttributeSlots;
 
 import java.util.*;
 
 /**
- * Implementation of {@link DoubleSolution} using arrays.
+ * Implementation of {@link DoubleSolution} using arrays. The variables are stored as primitive
+ * doubles, so they are neither boxed when accessed through {@link #getVariableValues()} and
+ * {@link #setVariableValues(double[])} nor when the solution is copied.
  *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
@@ -18,6 +22,7 @@ public class ArrayDoubleSolution implements DoubleSolution {
   private double[] variables;
   protected DoubleProblem problem ;
   protected Map<Object, Object> attributes ;
+  protected AttributeSlots attributeSlots ;
   protected final JMetalRandom randomGenerator ;
 
   /**
@@ -26,6 +31,7 @@ public class ArrayDoubleSolution implements DoubleSolution {
   public ArrayDoubleSolution(DoubleProblem problem) {
     this.problem = problem ;
     attributes = new HashMap<>() ;
+    attributeSlots = new AttributeSlots() ;
     randomGenerator = JMetalRandom.getInstance() ;
 
     objectives = new double[problem.getNumberOfObjectives()] ;
@@ -40,17 +46,13 @@ public class ArrayDoubleSolution implements DoubleSolution {
    * @param solution to copy
    */
   public ArrayDoubleSolution(ArrayDoubleSolution solution) {
-    this(solution.problem) ;
-
-    for (int i = 0; i < problem.getNumberOfVariables(); i++) {
-      variables[i] = solution.getVariableValue(i) ;
-    }
-
-    for (int i = 0; i < problem.getNumberOfObjectives(); i++) {
-      objectives[i] = solution.getObjective(i) ;
-    }
+    problem = solution.problem ;
+    randomGenerator = solution.randomGenerator ;
+    objectives = solution.objectives.clone() ;
+    variables = solution.variables.clone() ;
 
     attributes = new HashMap<Object, Object>(solution.attributes) ;
+    attributeSlots = new AttributeSlots(solution.attributeSlots) ;
   }
 
   @Override
@@ -87,6 +89,26 @@ public class ArrayDoubleSolution implements DoubleSolution {
     variables[index] = value ;
   }
 
+  @Override
+  public double[] getVariableValues() {
+    return variables.clone() ;
+  }
+
+  @Override
+  public double[] getVariableValues(double[] values) {
+    System.arraycopy(variables, 0, values, 0, variables.length);
+    return values ;
+  }
+
+  @Override
+  public void setVariableValues(double[] values) {
+    if (values.length != variables.length) {
+      throw new JMetalException("The number of values (" + values.length + ") is not the number "
+          + "of variables (" + variables.length + ")") ;
+    }
+    System.arraycopy(values, 0, variables, 0, variables.length);
+  }
+
   @Override
   public String getVariableValueString(int index) {
     return getVariableValue(index).toString() ;
@@ -94,12 +116,12 @@ public class ArrayDoubleSolution implements DoubleSolution {
 
   @Override
   public int getNumberOfVariables() {
-    return problem.getNumberOfVariables();
+    return variables.length;
   }
 
   @Override
   public int getNumberOfObjectives() {
-    return problem.getNumberOfObjectives();
+    return objectives.length;
   }
 
   @Override
@@ -113,20 +135,53 @@ public class ArrayDoubleSolution implements DoubleSolution {
   }
 
   @Override
-  public Solution<Double> copy() {
+  public ArrayDoubleSolution copy() {
     return new ArrayDoubleSolution(this);
   }
 
   @Override
   public void setAttribute(Object id, Object value) {
-    attributes.put(id, value) ;
+    AttributeSlotRegistry.Slot slot = AttributeSlotRegistry.getSlot(id) ;
+    if (slot == null) {
+      attributes.put(id, value) ;
+    } else {
+      attributeSlots.setAttribute(slot, value);
+      if (!attributes.isEmpty()) {
+        attributes.remove(id) ;
+      }
+    }
   }
 
   @Override
   public Object getAttribute(Object id) {
+    AttributeSlotRegistry.Slot slot = AttributeSlotRegistry.getSlot(id) ;
+    if ((slot != null) && attributeSlots.isAssigned(slot.getIndex())) {
+      return attributeSlots.getAttribute(slot) ;
+    }
     return attributes.get(id) ;
   }
 
+  @Override
+  public AttributeSlots getAttributeSlots() {
+    return attributeSlots ;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder result = new StringBuilder("Variables: ") ;
+    for (double var : variables) {
+      result.append(var).append(" ") ;
+    }
+    result.append("Objectives: ") ;
+    for (double obj : objectives) {
+      result.append(obj).append(" ") ;
+    }
+    result.append("\t") ;
+    result.append("AlgorithmAttributes: ").append(attributes).append("\n") ;
+
+    return result.toString() ;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
@@ -4,6 +4,7 @@ import org.uma.jmetal.problem.BinaryProblem;
 import org.uma.jmetal.solution.BinarySolution;
 import org.uma.jmetal.util.binarySet.BinarySet;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.solutionattribute.AttributeSlots;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -39,6 +40,7 @@ public class DefaultBinarySolution
     }
 
     attributes = new HashMap<Object, Object>(solution.attributes) ;
+    attributeSlots = new AttributeSlots(solution.attributeSlots) ;
   }
 
   private static BinarySet createNewBitSet(int numberOfBits, JMetalRandom randomGenerator) {
@@ -3,6 +3,7 @@ package org.uma.jmetal.solution.impl;
 import org.uma.jmetal.problem.DoubleBinaryProblem;
 import org.uma.jmetal.solution.DoubleBinarySolution;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.solutionattribute.AttributeSlots;
 
 import java.util.BitSet;
 import java.util.HashMap;
@@ -46,6 +47,7 @@ public class DefaultDoubleBinarySolution
     copyBitSet(solution);
 
     attributes = new HashMap<Object, Object>(solution.attributes) ;
+    attributeSlots = new AttributeSlots(solution.attributeSlots) ;
   }
 
   private void initializeDoubleVariables(JMetalRandom randomGenerator) {
@@ -2,52 +2,32 @@ package org.uma.jmetal.solution.impl;
 
 import org.uma.jmetal.problem.DoubleProblem;
 import org.uma.jmetal.solution.DoubleSolution;
-import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 
 /**
- * Defines an implementation of a double solution
+ * Defines an implementation of a double solution. The variables are stored in an array of
+ * primitive doubles (see {@link ArrayDoubleSolution}).
+ *
+ * Unlike {@link ArrayDoubleSolution}, two solutions are equal when they have the same objectives,
+ * variables and attributes, whatever their problem, which is the contract of the
+ * {@link AbstractGenericSolution} based implementations of the rest of solutions.
  *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 @SuppressWarnings("serial")
 public class DefaultDoubleSolution 
-    extends AbstractGenericSolution<Double, DoubleProblem>
+    extends ArrayDoubleSolution
     implements DoubleSolution {
 
   /** Constructor */
   public DefaultDoubleSolution(DoubleProblem problem) {
     super(problem) ;
-
-    initializeDoubleVariables(JMetalRandom.getInstance());
-    initializeObjectiveValues();
   }
 
   /** Copy constructor */
   public DefaultDoubleSolution(DefaultDoubleSolution solution) {
-    super(solution.problem) ;
-
-    for (int i = 0; i < problem.getNumberOfVariables(); i++) {
-      setVariableValue(i, solution.getVariableValue(i));
-    }
-
-    for (int i = 0; i < problem.getNumberOfObjectives(); i++) {
-      setObjective(i, solution.getObjective(i)) ;
-    }
-
-    attributes = new HashMap<Object, Object>(solution.attributes) ;
-  }
-
-  @Override
-  public Double getUpperBound(int index) {
-    return problem.getUpperBound(index);
-  }
-
-  @Override
-  public Double getLowerBound(int index) {
-    return problem.getLowerBound(index) ;
+    super(solution) ;
   }
 
   @Override
@@ -55,20 +35,68 @@ public class DefaultDoubleSolution
     return new DefaultDoubleSolution(this);
   }
 
-  @Override
-  public String getVariableValueString(int index) {
-    return getVariableValue(index).toString() ;
+  private boolean equalsIgnoringAttributes(Object o) {
+    if (this == o)
+      return true;
+    if (o == null || getClass() != o.getClass())
+      return false;
+
+    DefaultDoubleSolution that = (DefaultDoubleSolution) o;
+
+    if (!Arrays.equals(getObjectives(), that.getObjectives()))
+      return false;
+
+    if (!Arrays.equals(getVariableValues(), that.getVariableValues()))
+      return false;
+
+    return true;
   }
-  
-  private void initializeDoubleVariables(JMetalRandom randomGenerator) {
-    for (int i = 0 ; i < problem.getNumberOfVariables(); i++) {
-      Double value = randomGenerator.nextDouble(getLowerBound(i), getUpperBound(i)) ;
-      setVariableValue(i, value) ;
+
+  @Override public boolean equals(Object o) {
+    if (!this.equalsIgnoringAttributes(o)) {
+      return false;
     }
+
+    DefaultDoubleSolution that = (DefaultDoubleSolution) o;
+    // solutions as attributes are compared ignoring their attributes to avoid recursive infinite
+    // comparisons (e.g., if A contains B as attribute and B contains A as attribute)
+
+    if (!attributeSlots.equals(that.attributeSlots)) {
+      return false;
+    }
+
+    if (attributes.size() != that.attributes.size()) {
+      return false;
+    }
+
+    for (Object key : attributes.keySet()) {
+      Object value      = attributes.get(key);
+      Object valueThat  = that.attributes.get(key);
+
+      if (value != valueThat) {
+        if ((value == null) || (valueThat == null)) {
+          return false;
+        }
+
+        boolean areAttributeValuesEqual;
+        if (value instanceof DefaultDoubleSolution) {
+          areAttributeValuesEqual = ((DefaultDoubleSolution) value).equalsIgnoringAttributes(valueThat);
+        } else {
+          areAttributeValuesEqual = value.equals(valueThat);
+        }
+        if (!areAttributeValuesEqual) {
+          return false;
+        }
+      }
+    }
+
+    return true;
   }
 
-	@Override
-	public Map<Object, Object> getAttributes() {
-		return attributes;
-	}
+  @Override public int hashCode() {
+    int result = Arrays.hashCode(getObjectives());
+    result = 31 * result + Arrays.hashCode(getVariableValues());
+    result = 31 * result + attributes.hashCode();
+    return result;
+  }
 }
@@ -3,6 +3,7 @@ package org.uma.jmetal.solution.impl;
 import org.uma.jmetal.problem.IntegerDoubleProblem;
 import org.uma.jmetal.solution.IntegerDoubleSolution;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.solutionattribute.AttributeSlots;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -48,6 +49,7 @@ public class DefaultIntegerDoubleSolution
     }
 
     attributes = new HashMap<Object, Object>(solution.attributes) ;
+    attributeSlots = new AttributeSlots(solution.attributeSlots) ;
   }
 
   @Override
@@ -2,6 +2,7 @@ package org.uma.jmetal.solution.impl;
 
 import org.uma.jmetal.problem.PermutationProblem;
 import org.uma.jmetal.solution.PermutationSolution;
+import org.uma.jmetal.util.solutionattribute.AttributeSlots;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -47,6 +48,7 @@ public class DefaultIntegerPermutationSolution
     }
     
     attributes = new HashMap<Object, Object>(solution.attributes) ;
+    attributeSlots = new AttributeSlots(solution.attributeSlots) ;
   }
 
   @Override public String getVariableValueString(int index) {
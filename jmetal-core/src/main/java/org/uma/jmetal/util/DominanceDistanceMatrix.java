@@ -0,0 +1,282 @@
+package org.uma.jmetal.util;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.comparator.DominanceComparator;
+import org.uma.jmetal.util.solutionattribute.impl.OverallConstraintViolation;
+
+import java.util.List;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Dominance relation and Euclidean distances in the objective space between every pair of
+ * solutions of a list, stored in primitive matrices. The objectives and overall constraint
+ * violations are copied once, and each unordered pair is compared only once (the dominance
+ * relation is antisymmetric and the distance is symmetric).
+ *
+ * The dominance between two solutions is the same as given by {@link DominanceComparator}: the
+ * overall constraint violation is compared first, and the objectives if it is the same.
+ *
+ * In the parallel version the rows of the matrices are computed by the threads of the common
+ * fork-join pool. Each pair is computed by the thread processing its first row, which also writes
+ * the symmetric element.
+ *
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+public class DominanceDistanceMatrix {
+  private final int size ;
+  private final int numberOfObjectives ;
+  private final double[] objectives ;
+  private final boolean parallel ;
+
+  private final byte[][] dominance ;
+  private double[][] distances ;
+
+  /**
+   * Constructor
+   */
+  public DominanceDistanceMatrix(List<? extends Solution<?>> solutionList) {
+    this(solutionList, false) ;
+  }
+
+  /**
+   * Constructor
+   * @param solutionList
+   * @param parallel If true, the rows of the matrices are computed in parallel
+   */
+  public DominanceDistanceMatrix(List<? extends Solution<?>> solutionList, boolean parallel) {
+    this.size = solutionList.size() ;
+    this.numberOfObjectives = size == 0 ? 0 : solutionList.get(0).getNumberOfObjectives() ;
+    this.parallel = parallel ;
+
+    objectives = new double[size * numberOfObjectives] ;
+    double[] violations = new double[size] ;
+    OverallConstraintViolation<Solution<?>> overallConstraintViolation = new OverallConstraintViolation<>() ;
+    for (int i = 0; i < size; i++) {
+      Solution<?> solution = solutionList.get(i) ;
+      if (solution.getNumberOfObjectives() != numberOfObjectives) {
+        throw new JMetalException("Cannot compare because solution 0 has " + numberOfObjectives
+            + " objectives and solution " + i + " has " + solution.getNumberOfObjectives()) ;
+      }
+      for (int j = 0; j < numberOfObjectives; j++) {
+        objectives[i * numberOfObjectives + j] = solution.getObjective(j) ;
+      }
+      violations[i] = overallConstraintViolation.getValue(solution, Double.NaN) ;
+    }
+
+    dominance = new byte[size][size] ;
+    forEachRow(i -> {
+      for (int j = i + 1; j < size; j++) {
+        int result = compareConstraintViolations(violations[i], violations[j]) ;
+        if (result == 0) {
+          result = dominanceTest(i, j) ;
+        }
+        dominance[i][j] = (byte) result ;
+        dominance[j][i] = (byte) -result ;
+      }
+    });
+  }
+
+  public int size() {
+    return size ;
+  }
+
+  public int getNumberOfObjectives() {
+    return numberOfObjectives ;
+  }
+
+  public double getObjective(int solution, int objective) {
+    return objectives[solution * numberOfObjectives + objective] ;
+  }
+
+  /**
+   * @return A copy of the objectives of a solution
+   */
+  public double[] getObjectives(int solution) {
+    double[] values = new double[numberOfObjectives] ;
+    System.arraycopy(objectives, solution * numberOfObjectives, values, 0, numberOfObjectives);
+
+    return values ;
+  }
+
+  /**
+   * Compares two solutions as {@link DominanceComparator#compare} does
+   * @return -1 if solution i dominates solution j, 1 if solution j dominates solution i, 0 otherwise
+   */
+  public int compare(int i, int j) {
+    return dominance[i][j] ;
+  }
+
+  public boolean dominates(int i, int j) {
+    return dominance[i][j] == -1 ;
+  }
+
+  /**
+   * @return The number of solutions dominated by solution i
+   */
+  public int getNumberOfDominatedSolutions(int i) {
+    int count = 0 ;
+    for (byte result : dominance[i]) {
+      if (result == -1) {
+        count++ ;
+      }
+    }
+
+    return count ;
+  }
+
+  /**
+   * Returns the matrix of Euclidean distances between the solutions in the objective space, which
+   * is computed the first time this method is called. The matrix must not be modified
+   */
+  public double[][] getDistances() {
+    if (distances == null) {
+      double[][] matrix = new double[size][size] ;
+      forEachRow(i -> {
+        for (int j = i + 1; j < size; j++) {
+          double distance = 0.0 ;
+          for (int k = 0; k < numberOfObjectives; k++) {
+            double diff = objectives[i * numberOfObjectives + k] - objectives[j * numberOfObjectives + k] ;
+            distance += diff * diff ;
+          }
+          matrix[i][j] = Math.sqrt(distance) ;
+          matrix[j][i] = matrix[i][j] ;
+        }
+      });
+      distances = matrix ;
+    }
+
+    return distances ;
+  }
+
+  /**
+   * Returns the k-th smallest distance from solution i to the solutions of the list (including
+   * itself, so k = 0 returns 0.0 and k = 1 the distance to the nearest neighbor). It is the value
+   * at position k of the sorted row of the distance matrix, found without sorting the row
+   */
+  public double getKthDistance(int i, int k) {
+    if ((k < 0) || (k >= size)) {
+      throw new JMetalException("Invalid k: " + k + ". The number of solutions is " + size) ;
+    }
+
+    return select(getDistances()[i].clone(), k) ;
+  }
+
+  /**
+   * Returns the k-th smallest value of an array (the value at position k if the array were sorted)
+   * by using the quickselect algorithm. The array is partially reordered
+   */
+  public static double select(double[] values, int k) {
+    if ((k < 0) || (k >= values.length)) {
+      throw new JMetalException("Invalid position: " + k + ". The number of values is " + values.length) ;
+    }
+
+    int left = 0 ;
+    int right = values.length - 1 ;
+    while (left < right) {
+      // median of three as pivot
+      int middle = (left + right) >>> 1 ;
+      if (values[middle] < values[left]) {
+        swap(values, left, middle) ;
+      }
+      if (values[right] < values[left]) {
+        swap(values, left, right) ;
+      }
+      if (values[right] < values[middle]) {
+        swap(values, middle, right) ;
+      }
+      double pivot = values[middle] ;
+
+      int i = left ;
+      int j = right ;
+      while (i <= j) {
+        while (values[i] < pivot) {
+          i++ ;
+        }
+        while (pivot < values[j]) {
+          j-- ;
+        }
+        if (i <= j) {
+          swap(values, i, j) ;
+          i++ ;
+          j-- ;
+        }
+      }
+
+      // values[left..j] <= pivot <= values[i..right], and values[j+1..i-1] == pivot
+      if (k <= j) {
+        right = j ;
+      } else if (k >= i) {
+        left = i ;
+      } else {
+        return values[k] ;
+      }
+    }
+
+    return values[k] ;
+  }
+
+  private static void swap(double[] values, int i, int j) {
+    double value = values[i] ;
+    values[i] = values[j] ;
+    values[j] = value ;
+  }
+
+  private void forEachRow(IntConsumer row) {
+    if (parallel) {
+      IntStream.range(0, size).parallel().forEach(row);
+    } else {
+      for (int i = 0; i < size; i++) {
+        row.accept(i);
+      }
+    }
+  }
+
+  /** Same as {@link org.uma.jmetal.util.comparator.impl.OverallConstraintViolationComparator} */
+  private static int compareConstraintViolations(double violation1, double violation2) {
+    if (Double.isNaN(violation1)) {
+      return 0 ;
+    }
+
+    if ((violation1 < 0) && (violation2 < 0)) {
+      if (violation1 > violation2) {
+        return -1;
+      } else if (violation2 > violation1) {
+        return 1;
+      } else {
+        return 0;
+      }
+    } else if ((violation1 == 0) && (violation2 < 0)) {
+      return -1;
+    } else if ((violation1 < 0) && (violation2 == 0)) {
+      return 1;
+    } else {
+      return 0;
+    }
+  }
+
+  /** Same as {@link DominanceComparator#dominanceTest} */
+  private int dominanceTest(int solution1, int solution2) {
+    boolean bestIsOne = false ;
+    boolean bestIsTwo = false ;
+    int offset1 = solution1 * numberOfObjectives ;
+    int offset2 = solution2 * numberOfObjectives ;
+    for (int i = 0; i < numberOfObjectives; i++) {
+      double value1 = objectives[offset1 + i] ;
+      double value2 = objectives[offset2 + i] ;
+      if (value1 < value2) {
+        bestIsOne = true ;
+      } else if (value2 < value1) {
+        bestIsTwo = true ;
+      }
+    }
+
+    if (bestIsOne && !bestIsTwo) {
+      return -1 ;
+    } else if (bestIsTwo && !bestIsOne) {
+      return 1 ;
+    } else {
+      return 0 ;
+    }
+  }
+}
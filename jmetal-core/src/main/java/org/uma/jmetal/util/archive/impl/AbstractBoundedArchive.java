@@ -4,6 +4,7 @@ import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.archive.Archive;
 import org.uma.jmetal.util.archive.BoundedArchive;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -52,6 +53,32 @@ public abstract class AbstractBoundedArchive<S extends Solution<?>> implements B
 
 	public abstract void prune();
 
+	/**
+	 * Adds a list of solutions to the archive, pruning it once after all of them have been
+	 * inserted instead of after each one
+	 * @param solutionList The solutions to add
+	 * @return The solutions that have been accepted by the archive (some of them could have been
+	 * removed later by the pruning)
+	 */
+	public List<S> addAll(List<S> solutionList) {
+		List<S> acceptedSolutions = new ArrayList<>(solutionList.size());
+		for (S solution : solutionList) {
+			if (archive.add(solution)) {
+				acceptedSolutions.add(solution);
+			}
+		}
+
+		while (size() > getMaxSize()) {
+			int sizeBeforePruning = size();
+			prune();
+			if (size() == sizeBeforePruning) {
+				break;
+			}
+		}
+
+		return acceptedSolutions;
+	}
+
 	public Archive<S> join(Archive<S> archive) {
 		for (S solution : archive.getSolutionList()) {
 			this.add(solution) ;
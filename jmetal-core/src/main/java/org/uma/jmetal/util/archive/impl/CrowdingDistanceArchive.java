@@ -1,22 +1,39 @@
 package org.uma.jmetal.util.archive.impl;
 
 import org.uma.jmetal.solution.Solution;
-import org.uma.jmetal.util.SolutionListUtils;
 import org.uma.jmetal.util.comparator.CrowdingDistanceComparator;
-import org.uma.jmetal.util.solutionattribute.DensityEstimator;
 import org.uma.jmetal.util.solutionattribute.impl.CrowdingDistance;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
 
 /**
  * Created by Antonio J. Nebro on 24/09/14.
  * Modified by Juanjo on 07/04/2015
+ *
+ * The pruning keeps the solutions sorted by each objective between calls, so removing the most
+ * crowded solution only updates the distances of its neighbours instead of recomputing the
+ * crowding distance of the whole archive. The sorted indices are synchronized with the solution
+ * list when {@link #prune()} is invoked, so solutions removed from the list by other means are
+ * taken into account. The sorted indices are not serialized, but they are rebuilt with the same
+ * insertion order when the archive is deserialized, so the ties are broken in the same way.
  */
 @SuppressWarnings("serial")
 public class CrowdingDistanceArchive<S extends Solution<?>> extends AbstractBoundedArchive<S> {
   private Comparator<S> crowdingDistanceComparator;
-  private DensityEstimator<S> crowdingDistance ;
+  private CrowdingDistance<S> crowdingDistance ;
+
+  private transient Map<S, Entry<S>> entries ;
+  private transient List<TreeSet<Entry<S>>> sortedEntries ;
+  private transient long insertionCounter ;
 
   public CrowdingDistanceArchive(int maxSize) {
     super(maxSize);
@@ -24,12 +41,25 @@ public class CrowdingDistanceArchive<S extends Solution<?>> extends AbstractBoun
     crowdingDistance = new CrowdingDistance<S>() ;
   }
 
+  /**
+   * Removes the most crowded solutions until the size of the archive is not greater than the
+   * maximum size. The crowding distance of the remaining solutions is updated if any solution is
+   * removed.
+   */
   @Override
   public void prune() {
     if (getSolutionList().size() > getMaxSize()) {
-      computeDensityEstimator();
-      S worst = new SolutionListUtils().findWorstSolution(getSolutionList(), crowdingDistanceComparator) ;
-      getSolutionList().remove(worst);
+      synchronizeEntries();
+
+      while (getSolutionList().size() > getMaxSize()) {
+        S worst = findWorstSolution() ;
+        removeEntry(entries.remove(worst));
+        getSolutionList().remove(worst);
+      }
+
+      for (S solution : getSolutionList()) {
+        crowdingDistance.setValue(solution, distance(entries.get(solution)));
+      }
     }
   }
 
@@ -46,4 +76,162 @@ public class CrowdingDistanceArchive<S extends Solution<?>> extends AbstractBoun
   public void sortByDensityEstimator() {
     Collections.sort(getSolutionList(), new CrowdingDistanceComparator<S>());
   }
+
+  /**
+   * Returns the first solution of the list having the lowest crowding distance, as
+   * {@link org.uma.jmetal.util.SolutionListUtils#findWorstSolution} does with the
+   * {@link CrowdingDistanceComparator}
+   */
+  private S findWorstSolution() {
+    S worst = null ;
+    double worstDistance = 0.0 ;
+    for (S solution : getSolutionList()) {
+      double distance = distance(entries.get(solution)) ;
+      if ((worst == null) || (distance < worstDistance)) {
+        worst = solution ;
+        worstDistance = distance ;
+      }
+    }
+
+    return worst ;
+  }
+
+  /** Adds to the sorted indices the new solutions of the archive and removes the missing ones */
+  private void synchronizeEntries() {
+    if (entries == null) {
+      entries = new IdentityHashMap<>() ;
+      sortedEntries = new ArrayList<>() ;
+    }
+
+    Map<S, Entry<S>> currentEntries = new IdentityHashMap<>() ;
+    List<S> newSolutions = new ArrayList<>() ;
+    for (S solution : getSolutionList()) {
+      Entry<S> entry = entries.remove(solution) ;
+      if (entry == null) {
+        newSolutions.add(solution) ;
+      } else {
+        currentEntries.put(solution, entry) ;
+      }
+    }
+
+    for (Entry<S> entry : entries.values()) {
+      removeEntry(entry);
+    }
+    entries = currentEntries ;
+
+    for (S solution : newSolutions) {
+      Entry<S> entry = new Entry<>(solution, insertionCounter++) ;
+      entries.put(solution, entry) ;
+      insertEntry(entry);
+    }
+  }
+
+  private void insertEntry(Entry<S> entry) {
+    while (sortedEntries.size() < entry.objectives.length) {
+      final int objective = sortedEntries.size() ;
+      sortedEntries.add(new TreeSet<Entry<S>>((entry1, entry2) -> {
+        int result = Double.compare(entry1.objectives[objective], entry2.objectives[objective]) ;
+        return result != 0 ? result : Long.compare(entry1.order, entry2.order) ;
+      }));
+    }
+
+    for (int i = 0; i < entry.objectives.length; i++) {
+      TreeSet<Entry<S>> sorted = sortedEntries.get(i) ;
+      sorted.add(entry) ;
+      updateGap(sorted, i, entry);
+      updateGap(sorted, i, sorted.lower(entry));
+      updateGap(sorted, i, sorted.higher(entry));
+    }
+  }
+
+  private void removeEntry(Entry<S> entry) {
+    for (int i = 0; i < entry.objectives.length; i++) {
+      TreeSet<Entry<S>> sorted = sortedEntries.get(i) ;
+      Entry<S> lower = sorted.lower(entry) ;
+      Entry<S> higher = sorted.higher(entry) ;
+      sorted.remove(entry) ;
+      updateGap(sorted, i, lower);
+      updateGap(sorted, i, higher);
+    }
+  }
+
+  /** Stores the distance between the neighbours of an entry, or infinity if it is an extreme */
+  private void updateGap(TreeSet<Entry<S>> sorted, int objective, Entry<S> entry) {
+    if (entry != null) {
+      Entry<S> lower = sorted.lower(entry) ;
+      Entry<S> higher = sorted.higher(entry) ;
+      if ((lower == null) || (higher == null)) {
+        entry.gaps[objective] = Double.POSITIVE_INFINITY ;
+      } else {
+        entry.gaps[objective] = higher.objectives[objective] - lower.objectives[objective] ;
+      }
+    }
+  }
+
+  /** Crowding distance of an entry, computed as in {@link CrowdingDistance} */
+  private double distance(Entry<S> entry) {
+    if (entries.size() <= 2) {
+      return Double.POSITIVE_INFINITY ;
+    }
+
+    double distance = 0.0 ;
+    for (int i = 0; i < entry.gaps.length; i++) {
+      if (entry.gaps[i] == Double.POSITIVE_INFINITY) {
+        return Double.POSITIVE_INFINITY ;
+      }
+      TreeSet<Entry<S>> sorted = sortedEntries.get(i) ;
+      distance += entry.gaps[i] / (sorted.last().objectives[i] - sorted.first().objectives[i]) ;
+    }
+
+    return distance ;
+  }
+
+  private void writeObject(ObjectOutputStream out) throws IOException {
+    out.defaultWriteObject();
+    out.writeLong(insertionCounter);
+    if (entries == null) {
+      out.writeInt(-1);
+    } else {
+      // insertion order of the entry of each solution of the list, or -1 if it has no entry
+      out.writeInt(getSolutionList().size());
+      for (S solution : getSolutionList()) {
+        Entry<S> entry = entries.get(solution) ;
+        out.writeLong(entry == null ? -1 : entry.order);
+      }
+    }
+  }
+
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    insertionCounter = in.readLong() ;
+    int size = in.readInt() ;
+    if (size >= 0) {
+      entries = new IdentityHashMap<>() ;
+      sortedEntries = new ArrayList<>() ;
+      for (int i = 0; i < size; i++) {
+        long order = in.readLong() ;
+        if (order >= 0) {
+          S solution = getSolutionList().get(i) ;
+          Entry<S> entry = new Entry<>(solution, order) ;
+          entries.put(solution, entry) ;
+          insertEntry(entry);
+        }
+      }
+    }
+  }
+
+  private static class Entry<S extends Solution<?>> {
+    private final double[] objectives ;
+    private final double[] gaps ;
+    private final long order ;
+
+    public Entry(S solution, long order) {
+      this.order = order ;
+      objectives = new double[solution.getNumberOfObjectives()] ;
+      for (int i = 0; i < objectives.length; i++) {
+        objectives[i] = solution.getObjective(i) ;
+      }
+      gaps = new double[objectives.length] ;
+    }
+  }
 }
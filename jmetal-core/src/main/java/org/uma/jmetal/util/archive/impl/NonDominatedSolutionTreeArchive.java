@@ -0,0 +1,420 @@
+package org.uma.jmetal.util.archive.impl;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.archive.Archive;
+import org.uma.jmetal.util.comparator.ConstraintViolationComparator;
+import org.uma.jmetal.util.comparator.impl.OverallConstraintViolationComparator;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * This class implements an archive containing non-dominated solutions, as
+ * {@link NonDominatedSolutionListArchive} does, but the solutions are indexed in a ND-tree (A.
+ * Jaszkiewicz and T. Lust, "ND-Tree-based update: a fast algorithm for the dynamic
+ * nondominance problem", IEEE TEVC 22(5), 2018). Each node of the tree keeps the ideal and nadir
+ * points of its solutions, so the subtrees whose solutions can neither dominate nor be dominated
+ * by a new solution are skipped. This makes insertions much faster than in the list archive when
+ * the archive holds thousands of solutions.
+ *
+ * Solutions are compared as in {@link org.uma.jmetal.util.comparator.DominanceComparator}: first
+ * by their constraint violation and then by Pareto dominance. As the solutions of the archive are
+ * non-dominated, all of them have the same constraint violation, so a new solution is compared
+ * by constraint violation with one of them only. The objective values are copied when a solution
+ * is added, so they must not change while the solution is in the archive.
+ *
+ * The list returned by {@link #getSolutionList()} cannot be modified, and the order of its
+ * solutions changes when solutions are removed from the archive.
+ *
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+@SuppressWarnings("serial")
+public class NonDominatedSolutionTreeArchive<S extends Solution<?>> implements Archive<S> {
+  private static final int DEFAULT_MAX_LEAF_SIZE = 20 ;
+
+  private final ConstraintViolationComparator<S> constraintViolationComparator ;
+  private final int maxLeafSize ;
+
+  private final List<S> solutionList ;
+  private final List<Entry> entryList ;
+  private final List<S> unmodifiableSolutionList ;
+  private Node root ;
+
+  /**
+   * Constructor
+   */
+  public NonDominatedSolutionTreeArchive() {
+    this(new OverallConstraintViolationComparator<S>(), DEFAULT_MAX_LEAF_SIZE) ;
+  }
+
+  /**
+   * Constructor
+   * @param constraintViolationComparator Comparator used before the dominance test
+   */
+  public NonDominatedSolutionTreeArchive(ConstraintViolationComparator<S> constraintViolationComparator) {
+    this(constraintViolationComparator, DEFAULT_MAX_LEAF_SIZE) ;
+  }
+
+  /**
+   * Constructor
+   * @param constraintViolationComparator Comparator used before the dominance test
+   * @param maxLeafSize Maximum number of solutions of a leaf of the tree
+   */
+  public NonDominatedSolutionTreeArchive(ConstraintViolationComparator<S> constraintViolationComparator,
+      int maxLeafSize) {
+    this.constraintViolationComparator = constraintViolationComparator ;
+    this.maxLeafSize = maxLeafSize ;
+
+    solutionList = new ArrayList<>() ;
+    entryList = new ArrayList<>() ;
+    unmodifiableSolutionList = Collections.unmodifiableList(solutionList) ;
+    root = null ;
+  }
+
+  /**
+   * Inserts a solution in the archive
+   *
+   * @param solution The solution to be inserted.
+   * @return true if the operation success, and false if the solution is dominated or if an
+   * identical individual exists
+   */
+  @Override
+  public boolean add(S solution) {
+    Entry entry = new Entry(solution) ;
+
+    if (root != null) {
+      int flag = constraintViolationComparator.compare(solution, solutionList.get(0)) ;
+      if (flag == 1) {
+        return false ;
+      } else if (flag == -1) {
+        clear() ;
+      } else if (update(root, entry.objectives)) {
+        return false ;
+      } else if (root.isEmpty()) {
+        root = null ;
+      }
+    }
+
+    if (root == null) {
+      root = new Node(entry.objectives.length) ;
+    }
+    entry.position = solutionList.size() ;
+    solutionList.add(solution) ;
+    entryList.add(entry) ;
+    insert(root, entry) ;
+
+    return true ;
+  }
+
+  public Archive<S> join(Archive<S> archive) {
+    return this.addAll(archive.getSolutionList());
+  }
+
+  public Archive<S> addAll(List<S> list) {
+    for (S solution : list) {
+      this.add(solution) ;
+    }
+
+    return this ;
+  }
+
+  @Override
+  public List<S> getSolutionList() {
+    return unmodifiableSolutionList ;
+  }
+
+  @Override
+  public int size() {
+    return solutionList.size();
+  }
+
+  @Override
+  public S get(int index) {
+    return solutionList.get(index);
+  }
+
+  private void clear() {
+    solutionList.clear();
+    entryList.clear();
+    root = null ;
+  }
+
+  /**
+   * Removes from the subtree the solutions dominated by the point
+   * @return true if the point is dominated by or equal to a solution of the subtree
+   */
+  private boolean update(Node node, double[] point) {
+    if (node.isEmpty()) {
+      return false ;
+    } else if (weaklyDominates(node.nadir, point)) {
+      // Every solution of the node dominates or is equal to the point
+      return true ;
+    } else if (weaklyDominates(point, node.ideal) && !Arrays.equals(point, node.ideal)) {
+      // Every solution of the node is dominated by the point
+      removeSubtree(node) ;
+      node.clear() ;
+      return false ;
+    } else if (!weaklyDominates(node.ideal, point) && !weaklyDominates(point, node.nadir)) {
+      // No solution of the node can dominate or be dominated by the point
+      return false ;
+    }
+
+    boolean removed = false ;
+    if (node.isLeaf()) {
+      for (int i = node.entries.size() - 1; i >= 0; i--) {
+        Entry entry = node.entries.get(i) ;
+        if (weaklyDominates(entry.objectives, point)) {
+          return true ;
+        } else if (weaklyDominates(point, entry.objectives)) {
+          removeFromList(entry) ;
+          node.entries.remove(i) ;
+          removed = true ;
+        }
+      }
+    } else {
+      for (int i = node.children.size() - 1; i >= 0; i--) {
+        Node child = node.children.get(i) ;
+        int size = solutionList.size() ;
+        if (update(child, point)) {
+          return true ;
+        }
+        removed |= solutionList.size() != size ;
+        if (child.isEmpty()) {
+          node.children.remove(i) ;
+        }
+      }
+      if (node.children.size() == 1) {
+        node.replaceWith(node.children.get(0)) ;
+      }
+    }
+
+    if (removed) {
+      node.updateBounds() ;
+    }
+
+    return false ;
+  }
+
+  private void insert(Node node, Entry entry) {
+    node.extendBounds(entry.objectives) ;
+    if (node.isLeaf()) {
+      node.entries.add(entry) ;
+      if (node.entries.size() > maxLeafSize) {
+        split(node) ;
+      }
+    } else {
+      Node closest = null ;
+      double minDistance = Double.POSITIVE_INFINITY ;
+      for (Node child : node.children) {
+        double distance = child.distanceToMidpoint(entry.objectives) ;
+        if (distance < minDistance) {
+          minDistance = distance ;
+          closest = child ;
+        }
+      }
+      insert(closest, entry) ;
+    }
+  }
+
+  /**
+   * Converts a leaf into an internal node with numberOfObjectives + 1 children. The solutions
+   * farthest from the others are used as seeds of the children, and the rest of the solutions
+   * are assigned to the closest child
+   */
+  private void split(Node node) {
+    List<Entry> entries = node.entries ;
+    int numberOfObjectives = entries.get(0).objectives.length ;
+    int numberOfChildren = Math.min(numberOfObjectives + 1, entries.size()) ;
+
+    double[][] distances = new double[entries.size()][entries.size()] ;
+    for (int i = 0; i < entries.size(); i++) {
+      for (int j = i + 1; j < entries.size(); j++) {
+        distances[i][j] = distances[j][i] = distance(entries.get(i).objectives, entries.get(j).objectives) ;
+      }
+    }
+
+    boolean[] assigned = new boolean[entries.size()] ;
+    List<Integer> seeds = new ArrayList<>(numberOfChildren) ;
+    while (seeds.size() < numberOfChildren) {
+      int best = -1 ;
+      double bestDistance = -1.0 ;
+      for (int i = 0; i < entries.size(); i++) {
+        if (!assigned[i]) {
+          double sum = 0.0 ;
+          if (seeds.isEmpty()) {
+            for (int j = 0; j < entries.size(); j++) {
+              sum += distances[i][j] ;
+            }
+          } else {
+            for (int seed : seeds) {
+              sum += distances[i][seed] ;
+            }
+          }
+          if (sum > bestDistance) {
+            bestDistance = sum ;
+            best = i ;
+          }
+        }
+      }
+      assigned[best] = true ;
+      seeds.add(best) ;
+    }
+
+    List<Node> children = new ArrayList<>(numberOfChildren) ;
+    for (int seed : seeds) {
+      Node child = new Node(numberOfObjectives) ;
+      child.entries.add(entries.get(seed)) ;
+      child.extendBounds(entries.get(seed).objectives) ;
+      children.add(child) ;
+    }
+    for (int i = 0; i < entries.size(); i++) {
+      if (!assigned[i]) {
+        Node closest = null ;
+        double minDistance = Double.POSITIVE_INFINITY ;
+        for (Node child : children) {
+          double distance = child.distanceToMidpoint(entries.get(i).objectives) ;
+          if (distance < minDistance) {
+            minDistance = distance ;
+            closest = child ;
+          }
+        }
+        closest.entries.add(entries.get(i)) ;
+        closest.extendBounds(entries.get(i).objectives) ;
+      }
+    }
+
+    node.entries = null ;
+    node.children = children ;
+  }
+
+  private void removeSubtree(Node node) {
+    if (node.isLeaf()) {
+      for (Entry entry : node.entries) {
+        removeFromList(entry) ;
+      }
+    } else {
+      for (Node child : node.children) {
+        removeSubtree(child) ;
+      }
+    }
+  }
+
+  /** Removes the solution of an entry from the list by moving the last solution to its position */
+  private void removeFromList(Entry entry) {
+    int last = solutionList.size() - 1 ;
+    if (entry.position != last) {
+      Entry moved = entryList.get(last) ;
+      moved.position = entry.position ;
+      solutionList.set(entry.position, solutionList.get(last)) ;
+      entryList.set(entry.position, moved) ;
+    }
+    solutionList.remove(last) ;
+    entryList.remove(last) ;
+  }
+
+  private static boolean weaklyDominates(double[] point1, double[] point2) {
+    for (int i = 0; i < point1.length; i++) {
+      if (point1[i] > point2[i]) {
+        return false ;
+      }
+    }
+    return true ;
+  }
+
+  private static double distance(double[] point1, double[] point2) {
+    double sum = 0.0 ;
+    for (int i = 0; i < point1.length; i++) {
+      double difference = point1[i] - point2[i] ;
+      sum += difference * difference ;
+    }
+    return Math.sqrt(sum) ;
+  }
+
+  /** Objectives of a solution stored in the tree and its position in the solution list */
+  private static class Entry implements Serializable {
+    private final double[] objectives ;
+    private int position ;
+
+    Entry(Solution<?> solution) {
+      objectives = new double[solution.getNumberOfObjectives()] ;
+      for (int i = 0; i < objectives.length; i++) {
+        objectives[i] = solution.getObjective(i) ;
+      }
+    }
+  }
+
+  /** Node of the tree: a leaf with entries or an internal node with children */
+  private class Node implements Serializable {
+    private final double[] ideal ;
+    private final double[] nadir ;
+    private List<Entry> entries ;
+    private List<Node> children ;
+
+    Node(int numberOfObjectives) {
+      ideal = new double[numberOfObjectives] ;
+      nadir = new double[numberOfObjectives] ;
+      entries = new ArrayList<>(maxLeafSize + 1) ;
+      children = null ;
+      resetBounds() ;
+    }
+
+    boolean isLeaf() {
+      return entries != null ;
+    }
+
+    boolean isEmpty() {
+      return isLeaf() ? entries.isEmpty() : children.isEmpty() ;
+    }
+
+    void clear() {
+      entries = new ArrayList<>(maxLeafSize + 1) ;
+      children = null ;
+      resetBounds() ;
+    }
+
+    void replaceWith(Node node) {
+      entries = node.entries ;
+      children = node.children ;
+      System.arraycopy(node.ideal, 0, ideal, 0, ideal.length);
+      System.arraycopy(node.nadir, 0, nadir, 0, nadir.length);
+    }
+
+    void extendBounds(double[] point) {
+      for (int i = 0; i < point.length; i++) {
+        ideal[i] = Math.min(ideal[i], point[i]) ;
+        nadir[i] = Math.max(nadir[i], point[i]) ;
+      }
+    }
+
+    void updateBounds() {
+      resetBounds() ;
+      if (isLeaf()) {
+        for (Entry entry : entries) {
+          extendBounds(entry.objectives) ;
+        }
+      } else {
+        for (Node child : children) {
+          extendBounds(child.ideal) ;
+          extendBounds(child.nadir) ;
+        }
+      }
+    }
+
+    double distanceToMidpoint(double[] point) {
+      double sum = 0.0 ;
+      for (int i = 0; i < point.length; i++) {
+        double difference = point[i] - (ideal[i] + nadir[i]) / 2.0 ;
+        sum += difference * difference ;
+      }
+      return sum ;
+    }
+
+    private void resetBounds() {
+      Arrays.fill(ideal, Double.POSITIVE_INFINITY);
+      Arrays.fill(nadir, Double.NEGATIVE_INFINITY);
+    }
+  }
+}
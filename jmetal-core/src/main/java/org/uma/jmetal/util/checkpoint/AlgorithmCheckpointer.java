@@ -0,0 +1,429 @@
+package org.uma.jmetal.util.checkpoint;
+
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.operator.Operator;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.problem.impl.CachedProblem;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidObjectException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * This class saves periodically the state of an algorithm in a file (a checkpoint), so that an
+ * interrupted run can be resumed from the last checkpoint instead of from the beginning. It is
+ * used by {@link org.uma.jmetal.algorithm.impl.AbstractEvolutionaryAlgorithm} and
+ * {@link org.uma.jmetal.algorithm.impl.AbstractParticleSwarmOptimization}: if a checkpointer is
+ * set, the state is saved after the initialization and every interval iterations, a run finding
+ * a checkpoint continues from it, and the checkpoint is deleted when the run completes.
+ *
+ * - The state is made of the values of the non transient fields of the algorithm, serialized
+ * together (so shared objects remain shared), the iteration and the random generator of
+ * {@link JMetalRandom}. As a result, a resumed run gives the same results as an uninterrupted one.
+ * - The problems, operators and evaluators (and other types added with
+ * {@link #addExternalType(Class)}) are not saved, but the ones of the algorithm the checkpoint is
+ * restored into are used, so it must be created with the same configuration. Those objects must be
+ * referenced by a field of the algorithm (or be the problem decorated by a {@link CachedProblem}).
+ * - The state is serialized and compressed when it is saved, and the snapshot is written in the
+ * background to a temporary file which replaces the checkpoint, so the checkpoint is never left
+ * partially written. If the snapshots are taken faster than they are written, only the last one is
+ * written.
+ *
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+public class AlgorithmCheckpointer {
+  public static final String FILE_PROPERTY = "jmetal.checkpoint.file" ;
+  public static final String INTERVAL_PROPERTY = "jmetal.checkpoint.interval" ;
+
+  private static final int MAGIC_NUMBER = 0x4a4d4350 ;
+  private static final int VERSION = 1 ;
+  private static final String RANDOM_KEY = "#JMetalRandom" ;
+
+  private final File file ;
+  private final int interval ;
+  private final List<Class<?>> externalTypes ;
+
+  private int iteration ;
+  private final AtomicReference<byte[]> pendingSnapshot ;
+  private ExecutorService writer ;
+
+  /**
+   * Constructor
+   * @param file Checkpoint file
+   * @param interval Number of iterations between checkpoints
+   */
+  public AlgorithmCheckpointer(File file, int interval) {
+    if (interval < 1) {
+      throw new JMetalException("The checkpoint interval must be positive: " + interval) ;
+    }
+    this.file = file ;
+    this.interval = interval ;
+    this.externalTypes = new ArrayList<>() ;
+    externalTypes.add(Problem.class) ;
+    externalTypes.add(Operator.class) ;
+    externalTypes.add(SolutionListEvaluator.class) ;
+    this.iteration = 0 ;
+    this.pendingSnapshot = new AtomicReference<>() ;
+  }
+
+  /**
+   * Creates a checkpointer from the system properties jmetal.checkpoint.file and
+   * jmetal.checkpoint.interval (1 by default)
+   * @return The checkpointer, or null if the file property is not set
+   */
+  public static AlgorithmCheckpointer fromSystemProperties() {
+    String fileName = System.getProperty(FILE_PROPERTY) ;
+    if ((fileName == null) || fileName.isEmpty()) {
+      return null ;
+    }
+
+    return new AlgorithmCheckpointer(new File(fileName), Integer.getInteger(INTERVAL_PROPERTY, 1)) ;
+  }
+
+  /**
+   * Adds a type of the objects that are not saved in the checkpoint, but taken from the algorithm
+   * the checkpoint is restored into (e.g. objects holding threads or external resources)
+   */
+  public AlgorithmCheckpointer addExternalType(Class<?> type) {
+    externalTypes.add(type) ;
+
+    return this ;
+  }
+
+  public File getFile() {
+    return file ;
+  }
+
+  public int getInterval() {
+    return interval ;
+  }
+
+  /**
+   * @return The number of iterations done (the initialization is iteration 0)
+   */
+  public int getIteration() {
+    return iteration ;
+  }
+
+  /**
+   * Called after the initialization and after each iteration of the algorithm. Saves a checkpoint
+   * every interval iterations
+   */
+  public void update(Algorithm<?> algorithm) {
+    if (isCheckpointIteration()) {
+      save(algorithm);
+    }
+    iteration++ ;
+  }
+
+  /**
+   * @return true if the next call to {@link #update(Algorithm)} saves a checkpoint
+   */
+  public boolean isCheckpointIteration() {
+    return iteration % interval == 0 ;
+  }
+
+  /**
+   * Takes a snapshot of the algorithm, which is written in the background
+   */
+  public synchronized void save(Algorithm<?> algorithm) {
+    pendingSnapshot.set(createSnapshot(algorithm)) ;
+    if (writer == null) {
+      writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "AlgorithmCheckpointer") ;
+        thread.setDaemon(true);
+        return thread ;
+      }) ;
+    }
+    writer.execute(this::writePendingSnapshot);
+  }
+
+  /**
+   * Restores the state of the algorithm from the checkpoint, if it exists
+   * @return true if the state has been restored
+   */
+  public synchronized boolean restore(Algorithm<?> algorithm) {
+    close() ;
+    if (!file.isFile()) {
+      return false ;
+    }
+
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+      if ((in.readInt() != MAGIC_NUMBER) || (in.readInt() != VERSION)) {
+        throw new JMetalException("The file " + file + " is not a checkpoint") ;
+      }
+
+      try (ObjectInputStream objects = new CheckpointInputStream(new GZIPInputStream(in),
+          resolveExternals(collectExternals(algorithm)))) {
+        String algorithmClass = objects.readUTF() ;
+        if (!algorithmClass.equals(algorithm.getClass().getName())) {
+          throw new JMetalException("The checkpoint " + file + " belongs to " + algorithmClass
+              + ", not to " + algorithm.getClass().getName()) ;
+        }
+        int savedIteration = objects.readInt() ;
+        PseudoRandomGenerator randomGenerator = (PseudoRandomGenerator) objects.readObject() ;
+        @SuppressWarnings("unchecked")
+        Map<String, Object> state = (Map<String, Object>) objects.readObject() ;
+
+        for (Field field : getStateFields(algorithm.getClass())) {
+          String key = getKey(field) ;
+          if (state.containsKey(key)) {
+            Object value = state.get(key) ;
+            if (field.get(algorithm) != value) {
+              field.set(algorithm, value);
+            }
+          }
+        }
+        JMetalRandom random = JMetalRandom.getInstance() ;
+        if (random.getThreadRandomGenerator() != null) {
+          random.setThreadRandomGenerator(randomGenerator);
+        } else {
+          random.setRandomGenerator(randomGenerator);
+        }
+        iteration = savedIteration + 1 ;
+      }
+    } catch (IOException | ClassNotFoundException | IllegalAccessException e) {
+      throw new JMetalException("Error reading the checkpoint " + file, e) ;
+    }
+    JMetalLogger.logger.info("Resuming " + algorithm.getName() + " from the checkpoint of iteration "
+        + (iteration - 1) + " in " + file);
+
+    return true ;
+  }
+
+  /**
+   * Waits until the pending snapshot, if any, is written
+   */
+  public synchronized void close() {
+    if (writer != null) {
+      writer.shutdown();
+      try {
+        writer.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS) ;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new JMetalException("Interrupted while writing the checkpoint " + file, e) ;
+      }
+      writer = null ;
+    }
+  }
+
+  /**
+   * Waits until the pending snapshot is written and deletes the checkpoint, which is called when
+   * the run completes
+   */
+  public synchronized void delete() {
+    close() ;
+    if (file.exists() && !file.delete()) {
+      JMetalLogger.logger.warning("Unable to delete the checkpoint " + file);
+    }
+    iteration = 0 ;
+  }
+
+  private byte[] createSnapshot(Algorithm<?> algorithm) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream() ;
+    try (ObjectOutputStream out = new CheckpointOutputStream(new GZIPOutputStream(bytes),
+        collectExternals(algorithm))) {
+      Map<String, Object> state = new LinkedHashMap<>() ;
+      for (Field field : getStateFields(algorithm.getClass())) {
+        state.put(getKey(field), field.get(algorithm)) ;
+      }
+      out.writeUTF(algorithm.getClass().getName());
+      out.writeInt(iteration);
+      out.writeObject(JMetalRandom.getInstance().getRandomGenerator());
+      out.writeObject(state);
+    } catch (IOException | IllegalAccessException e) {
+      throw new JMetalException("Error saving the state of " + algorithm.getName(), e) ;
+    }
+
+    return bytes.toByteArray() ;
+  }
+
+  private void writePendingSnapshot() {
+    byte[] snapshot = pendingSnapshot.getAndSet(null) ;
+    if (snapshot == null) {
+      return ;
+    }
+
+    File temporaryFile = new File(file.getAbsoluteFile().getParentFile(), file.getName() + ".tmp") ;
+    try {
+      temporaryFile.getParentFile().mkdirs() ;
+      try (FileOutputStream fileOut = new FileOutputStream(temporaryFile)) {
+        DataOutputStream out = new DataOutputStream(fileOut) ;
+        out.writeInt(MAGIC_NUMBER);
+        out.writeInt(VERSION);
+        out.write(snapshot);
+        out.flush();
+        fileOut.getFD().sync();
+      }
+      try {
+        Files.move(temporaryFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE) ;
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(temporaryFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING) ;
+      }
+    } catch (IOException e) {
+      JMetalLogger.logger.warning("Unable to write the checkpoint " + file + ": " + e);
+    }
+  }
+
+  /** Non static fields of a class and its superclasses, which are made accessible */
+  private static List<Field> getFields(Class<?> type) {
+    List<Field> fields = new ArrayList<>() ;
+    for (Class<?> current = type; current != Object.class; current = current.getSuperclass()) {
+      for (Field field : current.getDeclaredFields()) {
+        if (!Modifier.isStatic(field.getModifiers())) {
+          field.setAccessible(true);
+          fields.add(field) ;
+        }
+      }
+    }
+
+    return fields ;
+  }
+
+  private static List<Field> getStateFields(Class<?> type) {
+    List<Field> fields = getFields(type) ;
+    fields.removeIf(field -> Modifier.isTransient(field.getModifiers())) ;
+
+    return fields ;
+  }
+
+  private static String getKey(Field field) {
+    return field.getDeclaringClass().getName() + "." + field.getName() ;
+  }
+
+  private boolean isExternal(Object object) {
+    for (Class<?> type : externalTypes) {
+      if (type.isInstance(object)) {
+        return true ;
+      }
+    }
+
+    return false ;
+  }
+
+  /**
+   * Identifies each external object referenced by the algorithm with the field referencing it
+   */
+  private Map<Object, String> collectExternals(Algorithm<?> algorithm) {
+    Map<Object, String> externals = new IdentityHashMap<>() ;
+    externals.put(JMetalRandom.getInstance(), RANDOM_KEY) ;
+    try {
+      for (Field field : getFields(algorithm.getClass())) {
+        addExternal(externals, field.get(algorithm), getKey(field));
+      }
+    } catch (IllegalAccessException e) {
+      throw new JMetalException("Error reading the fields of " + algorithm.getName(), e) ;
+    }
+
+    return externals ;
+  }
+
+  private void addExternal(Map<Object, String> externals, Object value, String key) {
+    if ((value != null) && isExternal(value) && !externals.containsKey(value)) {
+      externals.put(value, key) ;
+      if (value instanceof CachedProblem) {
+        addExternal(externals, ((CachedProblem<?>) value).getProblem(), key + "/problem");
+      }
+    }
+  }
+
+  private static Map<String, Object> resolveExternals(Map<Object, String> externals) {
+    Map<String, Object> objects = new HashMap<>() ;
+    for (Map.Entry<Object, String> entry : externals.entrySet()) {
+      objects.put(entry.getValue(), entry.getKey()) ;
+    }
+
+    return objects ;
+  }
+
+  /** Placeholder of an external object in a checkpoint */
+  private static class ExternalReference implements Serializable {
+    private static final long serialVersionUID = 1L ;
+    private final String key ;
+
+    ExternalReference(String key) {
+      this.key = key ;
+    }
+  }
+
+  private class CheckpointOutputStream extends ObjectOutputStream {
+    private final Map<Object, String> externals ;
+
+    CheckpointOutputStream(OutputStream out, Map<Object, String> externals) throws IOException {
+      super(out) ;
+      this.externals = externals ;
+      enableReplaceObject(true) ;
+    }
+
+    @Override
+    protected Object replaceObject(Object object) throws IOException {
+      String key = externals.get(object) ;
+      if (key != null) {
+        return new ExternalReference(key) ;
+      } else if (isExternal(object)) {
+        throw new NotSerializableException(object.getClass().getName()
+            + " is not referenced by a field of the algorithm, so it cannot be restored") ;
+      }
+
+      return object ;
+    }
+  }
+
+  private static class CheckpointInputStream extends ObjectInputStream {
+    private final Map<String, Object> externals ;
+
+    CheckpointInputStream(InputStream in, Map<String, Object> externals) throws IOException {
+      super(in) ;
+      this.externals = externals ;
+      enableResolveObject(true) ;
+    }
+
+    @Override
+    protected Object resolveObject(Object object) throws IOException {
+      if (object instanceof ExternalReference) {
+        String key = ((ExternalReference) object).key ;
+        if (!externals.containsKey(key)) {
+          throw new InvalidObjectException("The algorithm has no object for " + key) ;
+        }
+        return externals.get(key) ;
+      }
+
+      return object ;
+    }
+  }
+}
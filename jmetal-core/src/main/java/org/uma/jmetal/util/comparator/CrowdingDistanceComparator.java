@@ -36,16 +36,8 @@ public class CrowdingDistanceComparator<S extends Solution<?>> implements Compar
     } else if (solution2 == null) {
       result = -1;
     } else {
-      double distance1 = Double.MIN_VALUE ;
-      double distance2 = Double.MIN_VALUE ;
-
-      if (crowdingDistance.getAttribute(solution1) != null) {
-        distance1 = (double) crowdingDistance.getAttribute(solution1);
-      }
-
-      if (crowdingDistance.getAttribute(solution2) != null) {
-        distance2 = (double) crowdingDistance.getAttribute(solution2);
-      }
+      double distance1 = crowdingDistance.getValue(solution1, Double.MIN_VALUE) ;
+      double distance2 = crowdingDistance.getValue(solution2, Double.MIN_VALUE) ;
 
       if (distance1 > distance2) {
         result = -1;
@@ -36,6 +36,13 @@ public class DominanceComparator<S extends Solution<?>> implements Comparator<S>
     constraintViolationComparator = constraintComparator ;
   }
 
+  /**
+   * @return The comparator used to compare the constraint violation of the solutions
+   */
+  public ConstraintViolationComparator<S> getConstraintViolationComparator() {
+    return constraintViolationComparator ;
+  }
+
   /**
    * Compares two solutions.
    *
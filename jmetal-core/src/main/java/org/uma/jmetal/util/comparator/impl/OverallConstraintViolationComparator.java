@@ -33,11 +33,11 @@ public class OverallConstraintViolationComparator<S extends Solution<?>>
   public int compare(S solution1, S solution2) {
     double violationDegreeSolution1 ;
     double violationDegreeSolution2;
-    if (overallConstraintViolation.getAttribute(solution1) == null) {
+    violationDegreeSolution1 = overallConstraintViolation.getValue(solution1, Double.NaN) ;
+    if (Double.isNaN(violationDegreeSolution1)) {
       return 0 ;
     }
-    violationDegreeSolution1 =  overallConstraintViolation.getAttribute(solution1);
-    violationDegreeSolution2 = overallConstraintViolation.getAttribute(solution2);
+    violationDegreeSolution2 = overallConstraintViolation.getValue(solution2, Double.NaN) ;
 
     if ((violationDegreeSolution1 < 0) && (violationDegreeSolution2 < 0)) {
       if (violationDegreeSolution1 > violationDegreeSolution2) {
@@ -0,0 +1,48 @@
+package org.uma.jmetal.util.evaluator;
+
+import org.uma.jmetal.problem.Problem;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Evaluator which does not act as a generational barrier: solutions are submitted one by one
+ * and they can be collected as soon as their evaluation has finished, so that steady-state
+ * algorithms can keep all the workers busy. The {@link #evaluate(List, Problem)} method
+ * inherited from {@link SolutionListEvaluator} submits the whole list and waits for all of it.
+ *
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+public interface AsynchronousSolutionListEvaluator<S> extends SolutionListEvaluator<S> {
+  /**
+   * Queues the evaluation of a solution and returns immediately
+   * @param solution Solution to evaluate
+   * @param problem Problem used to evaluate the solution
+   */
+  void submit(S solution, Problem<S> problem) ;
+
+  /**
+   * Returns the solutions whose evaluation has finished since the last call, waiting up to the
+   * given time if none is available yet
+   * @param timeout Maximum time to wait; zero returns immediately
+   * @param unit Time unit of the timeout
+   * @return The evaluated solutions, in order of completion (it can be empty)
+   */
+  List<S> pollCompleted(long timeout, TimeUnit unit) ;
+
+  /**
+   * Waits until all the submitted solutions have been evaluated
+   * @return The solutions evaluated since the last call to {@link #pollCompleted(long, TimeUnit)}
+   */
+  List<S> drain() ;
+
+  /**
+   * @return The number of solutions submitted and not yet returned to the caller
+   */
+  int getNumberOfPendingSolutions() ;
+
+  /**
+   * @return The number of solutions that can be evaluated concurrently
+   */
+  int getNumberOfThreads() ;
+}
@@ -0,0 +1,119 @@
+package org.uma.jmetal.util.evaluator.impl;
+
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.evaluator.AsynchronousSolutionListEvaluator;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Asynchronous evaluator sharing the persistent pool of {@link ThreadPoolSolutionListEvaluator}.
+ * Submitted solutions are returned by {@link #pollCompleted(long, TimeUnit)} in the order in
+ * which their evaluations finish. The submit/poll/drain methods are intended to be called from a
+ * single thread (the one running the algorithm).
+ *
+ * If the evaluation of a solution fails after others have already been collected in the same
+ * call, those solutions are returned first and the failure is thrown by the next call to
+ * {@link #pollCompleted(long, TimeUnit)} or {@link #drain()}, so no evaluated solution is lost.
+ * The evaluations pending when the evaluator is serialized are not part of its serialized state.
+ *
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+@SuppressWarnings("serial")
+public class AsynchronousThreadPoolSolutionListEvaluator<S>
+    extends ThreadPoolSolutionListEvaluator<S> implements AsynchronousSolutionListEvaluator<S> {
+
+  private transient CompletionService<S> completionService ;
+  private int numberOfPendingSolutions ;
+  private transient ExecutionException deferredFailure ;
+
+  public AsynchronousThreadPoolSolutionListEvaluator(int numberOfThreads, Problem<S> problem) {
+    super(numberOfThreads, problem) ;
+    completionService = new ExecutorCompletionService<>(executor) ;
+    numberOfPendingSolutions = 0 ;
+  }
+
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    completionService = new ExecutorCompletionService<>(executor) ;
+    numberOfPendingSolutions = 0 ;
+  }
+
+  @Override
+  public void submit(S solution, Problem<S> problem) {
+    if (executor.isShutdown()) {
+      throw new JMetalException("The evaluator has been shut down") ;
+    }
+    completionService.submit(new EvaluateOne(solution, problem), solution) ;
+    numberOfPendingSolutions++ ;
+    updateQueueDepth();
+  }
+
+  @Override
+  public List<S> pollCompleted(long timeout, TimeUnit unit) {
+    throwDeferredFailure() ;
+
+    List<S> completedSolutions = new ArrayList<>() ;
+    if (numberOfPendingSolutions == 0) {
+      return completedSolutions ;
+    }
+
+    try {
+      Future<S> future = completionService.poll(timeout, unit) ;
+      while (future != null) {
+        numberOfPendingSolutions-- ;
+        completedSolutions.add(future.get()) ;
+        future = completionService.poll() ;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new JMetalException("Interrupted while waiting for the evaluations", e) ;
+    } catch (ExecutionException e) {
+      if (completedSolutions.isEmpty()) {
+        rethrow(e) ;
+      }
+      deferredFailure = e ;
+    }
+
+    return completedSolutions ;
+  }
+
+  @Override
+  public List<S> drain() {
+    List<S> completedSolutions = new ArrayList<>(numberOfPendingSolutions) ;
+    throwDeferredFailure() ;
+    while ((numberOfPendingSolutions > 0) && (deferredFailure == null)) {
+      try {
+        completedSolutions.addAll(pollCompleted(Long.MAX_VALUE, TimeUnit.MILLISECONDS)) ;
+      } catch (RuntimeException | Error e) {
+        if (completedSolutions.isEmpty()) {
+          throw e ;
+        }
+        deferredFailure = new ExecutionException(e) ;
+      }
+    }
+
+    return completedSolutions ;
+  }
+
+  private void throwDeferredFailure() {
+    if (deferredFailure != null) {
+      ExecutionException failure = deferredFailure ;
+      deferredFailure = null ;
+      rethrow(failure) ;
+    }
+  }
+
+  @Override
+  public int getNumberOfPendingSolutions() {
+    return numberOfPendingSolutions ;
+  }
+}
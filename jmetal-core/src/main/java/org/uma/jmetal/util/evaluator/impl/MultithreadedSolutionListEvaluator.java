@@ -1,33 +1,75 @@
 package org.uma.jmetal.util.evaluator.impl;
 
 import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.JMetalLogger;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
+ * Evaluator based on a {@link ForkJoinPool} owned by the evaluator, so its parallelism does not
+ * depend on (nor modify) the common pool used by the parallel streams of the JVM. The solution
+ * list is recursively split in chunks which are evaluated by work stealing. By default the
+ * chunks are sized to obtain about four chunks per thread; {@link #setChunkSize(int)} allows to
+ * fix their size (e.g. 1 for expensive problems with very different evaluation times). A
+ * deserialized evaluator creates its own pool.
+ *
  * @author Antonio J. Nebro
  */
 @SuppressWarnings("serial")
 public class MultithreadedSolutionListEvaluator<S> implements SolutionListEvaluator<S> {
+  private static final int CHUNKS_PER_THREAD = 4 ;
 
   private int numberOfThreads;
+  private int chunkSize ;
+  private transient ForkJoinPool pool ;
 
   public MultithreadedSolutionListEvaluator(int numberOfThreads, Problem<S> problem) {
-    if (numberOfThreads == 0) {
+    if (numberOfThreads < 0) {
+      throw new JMetalException("The number of threads is negative: " + numberOfThreads) ;
+    } else if (numberOfThreads == 0) {
       this.numberOfThreads = Runtime.getRuntime().availableProcessors();
     } else {
       this.numberOfThreads = numberOfThreads;
-      System.setProperty("java.util.concurrent.ForkJoinPool.common.parallelism",
-          "" + this.numberOfThreads);
     }
-    JMetalLogger.logger.info("Number of cores: " + numberOfThreads);
+    this.chunkSize = 0 ;
+    this.pool = new ForkJoinPool(this.numberOfThreads) ;
+    JMetalLogger.logger.info("Number of cores: " + this.numberOfThreads);
+  }
+
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    pool = new ForkJoinPool(numberOfThreads) ;
+  }
+
+  /**
+   * Sets the maximum number of solutions evaluated sequentially by a task
+   * @param chunkSize Size of the chunks; 0 to compute it from the size of the list
+   * @return The evaluator
+   */
+  public MultithreadedSolutionListEvaluator<S> setChunkSize(int chunkSize) {
+    if (chunkSize < 0) {
+      throw new JMetalException("Chunk size is negative: " + chunkSize) ;
+    }
+    this.chunkSize = chunkSize ;
+
+    return this ;
   }
 
   @Override
   public List<S> evaluate(List<S> solutionList, Problem<S> problem) {
-    solutionList.parallelStream().forEach(s -> problem.evaluate(s));
+    if (!solutionList.isEmpty()) {
+      int threshold = chunkSize ;
+      if (threshold == 0) {
+        threshold = Math.max(1, solutionList.size() / (numberOfThreads * CHUNKS_PER_THREAD)) ;
+      }
+      pool.invoke(new EvaluationTask(solutionList, problem, 0, solutionList.size(), threshold)) ;
+    }
 
     return solutionList;
   }
@@ -36,8 +78,45 @@ public class MultithreadedSolutionListEvaluator<S> implements SolutionListEvalua
     return numberOfThreads;
   }
 
+  public int getChunkSize() {
+    return chunkSize ;
+  }
+
   @Override
   public void shutdown() {
-    //This method is an intentionally-blank override.
+    pool.shutdown();
+  }
+
+  /**
+   * Task evaluating the solutions in the range [from, to) of a list, splitting it in halves until
+   * the range is not larger than the threshold
+   */
+  private class EvaluationTask extends RecursiveAction {
+    private final List<S> solutionList ;
+    private final Problem<S> problem ;
+    private final int from ;
+    private final int to ;
+    private final int threshold ;
+
+    EvaluationTask(List<S> solutionList, Problem<S> problem, int from, int to, int threshold) {
+      this.solutionList = solutionList ;
+      this.problem = problem ;
+      this.from = from ;
+      this.to = to ;
+      this.threshold = threshold ;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= threshold) {
+        for (int i = from; i < to; i++) {
+          problem.evaluate(solutionList.get(i));
+        }
+      } else {
+        int middle = (from + to) >>> 1 ;
+        invokeAll(new EvaluationTask(solutionList, problem, from, middle, threshold),
+            new EvaluationTask(solutionList, problem, middle, to, threshold)) ;
+      }
+    }
   }
 }
@@ -0,0 +1,81 @@
+package org.uma.jmetal.util.evaluator.impl;
+
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.solutionattribute.impl.NumberOfViolatedConstraints;
+import org.uma.jmetal.util.solutionattribute.impl.OverallConstraintViolation;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Binary protocol shared by {@link RemoteSolutionListEvaluator} and {@link RemoteEvaluationWorker}.
+ * Every message starts with a type byte:
+ * - TASK (master to worker): long id, int n, n doubles with the variables
+ * - RESULT (worker to master): long id, int m, m doubles with the objectives, double overall
+ *   constraint violation, int number of violated constraints
+ * - ERROR (worker to master): long id, UTF message
+ * - HEARTBEAT (worker to master): no payload; sent periodically while evaluating
+ * - SHUTDOWN (master to worker): no payload
+ *
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+final class RemoteEvaluationProtocol {
+  static final byte TASK = 1 ;
+  static final byte RESULT = 2 ;
+  static final byte ERROR = 3 ;
+  static final byte HEARTBEAT = 4 ;
+  static final byte SHUTDOWN = 5 ;
+
+  private RemoteEvaluationProtocol() {
+  }
+
+  static void writeTask(DataOutputStream out, long id, DoubleSolution solution) throws IOException {
+    out.writeByte(TASK);
+    out.writeLong(id);
+    out.writeInt(solution.getNumberOfVariables());
+    for (int i = 0; i < solution.getNumberOfVariables(); i++) {
+      out.writeDouble(solution.getVariableValue(i));
+    }
+    out.flush();
+  }
+
+  static double[] readVariables(DataInputStream in) throws IOException {
+    double[] variables = new double[in.readInt()] ;
+    for (int i = 0; i < variables.length; i++) {
+      variables[i] = in.readDouble() ;
+    }
+    return variables ;
+  }
+
+  static void writeResult(DataOutputStream out, long id, DoubleSolution solution) throws IOException {
+    Double overallConstraintViolation = new OverallConstraintViolation<DoubleSolution>().getAttribute(solution) ;
+    Integer numberOfViolatedConstraints = new NumberOfViolatedConstraints<DoubleSolution>().getAttribute(solution) ;
+
+    out.writeByte(RESULT);
+    out.writeLong(id);
+    out.writeInt(solution.getNumberOfObjectives());
+    for (int i = 0; i < solution.getNumberOfObjectives(); i++) {
+      out.writeDouble(solution.getObjective(i));
+    }
+    out.writeDouble(overallConstraintViolation == null ? 0.0 : overallConstraintViolation);
+    out.writeInt(numberOfViolatedConstraints == null ? 0 : numberOfViolatedConstraints);
+    out.flush();
+  }
+
+  /**
+   * Reads the payload of a RESULT message (after its id) and copies it into the solution
+   */
+  static void readResult(DataInputStream in, DoubleSolution solution, boolean hasConstraints) throws IOException {
+    int numberOfObjectives = in.readInt() ;
+    for (int i = 0; i < numberOfObjectives; i++) {
+      solution.setObjective(i, in.readDouble());
+    }
+    double overallConstraintViolation = in.readDouble() ;
+    int numberOfViolatedConstraints = in.readInt() ;
+    if (hasConstraints) {
+      new OverallConstraintViolation<DoubleSolution>().setAttribute(solution, overallConstraintViolation);
+      new NumberOfViolatedConstraints<DoubleSolution>().setAttribute(solution, numberOfViolatedConstraints);
+    }
+  }
+}
@@ -0,0 +1,184 @@
+package org.uma.jmetal.util.evaluator.impl;
+
+import org.uma.jmetal.problem.DoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.ProblemUtils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Worker connecting to a {@link RemoteSolutionListEvaluator}. Each worker opens one connection
+ * and evaluates one solution at a time; a node with several cores runs several workers (see
+ * {@link #main(String[])}). A heartbeat is sent to the evaluator every heartbeatInterval
+ * milliseconds while a solution is being evaluated.
+ *
+ * The {@link #startLocalWorkers(int, int, String, int)} method launches worker processes on the
+ * local machine, which allows to use the remote evaluator on a single computer.
+ *
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+public class RemoteEvaluationWorker implements Runnable {
+  public static final long DEFAULT_HEARTBEAT_INTERVAL = 10000 ;
+
+  private final String host ;
+  private final int port ;
+  private final DoubleProblem problem ;
+  private final long heartbeatInterval ;
+  private final ScheduledExecutorService heartbeatScheduler ;
+
+  /**
+   * Constructor
+   * @param host Host of the evaluator
+   * @param port Port of the evaluator
+   * @param problem Problem used to evaluate the solutions
+   * @param heartbeatInterval Milliseconds between heartbeats while evaluating
+   */
+  public RemoteEvaluationWorker(String host, int port, DoubleProblem problem, long heartbeatInterval) {
+    this.host = host ;
+    this.port = port ;
+    this.problem = problem ;
+    this.heartbeatInterval = heartbeatInterval ;
+    this.heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable) ;
+      thread.setDaemon(true);
+      return thread ;
+    }) ;
+  }
+
+  public RemoteEvaluationWorker(String host, int port, DoubleProblem problem) {
+    this(host, port, problem, DEFAULT_HEARTBEAT_INTERVAL) ;
+  }
+
+  /**
+   * Evaluates the solutions received from the evaluator until it sends a shutdown message or the
+   * connection is closed
+   */
+  @Override
+  public void run() {
+    try (Socket socket = new Socket(host, port)) {
+      socket.setTcpNoDelay(true);
+      DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream())) ;
+      DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream())) ;
+
+      byte type = in.readByte() ;
+      while (type == RemoteEvaluationProtocol.TASK) {
+        long id = in.readLong() ;
+        double[] variables = RemoteEvaluationProtocol.readVariables(in) ;
+        evaluate(id, variables, out) ;
+        type = in.readByte() ;
+      }
+    } catch (EOFException e) {
+      JMetalLogger.logger.info("The evaluator closed the connection");
+    } catch (IOException e) {
+      throw new JMetalException("Error communicating with the evaluator at " + host + ":" + port, e) ;
+    } finally {
+      heartbeatScheduler.shutdownNow() ;
+    }
+  }
+
+  private void evaluate(long id, double[] variables, DataOutputStream out) throws IOException {
+    ScheduledFuture<?> heartbeat = heartbeatScheduler.scheduleAtFixedRate(() -> {
+      try {
+        synchronized (out) {
+          out.writeByte(RemoteEvaluationProtocol.HEARTBEAT);
+          out.flush();
+        }
+      } catch (IOException e) {
+        JMetalLogger.logger.warning("Unable to send heartbeat: " + e.getMessage());
+      }
+    }, heartbeatInterval, heartbeatInterval, TimeUnit.MILLISECONDS) ;
+
+    try {
+      DoubleSolution solution = problem.createSolution() ;
+      for (int i = 0; i < variables.length; i++) {
+        solution.setVariableValue(i, variables[i]);
+      }
+      problem.evaluate(solution);
+      heartbeat.cancel(false) ;
+      synchronized (out) {
+        RemoteEvaluationProtocol.writeResult(out, id, solution);
+      }
+    } catch (RuntimeException e) {
+      heartbeat.cancel(false) ;
+      synchronized (out) {
+        out.writeByte(RemoteEvaluationProtocol.ERROR);
+        out.writeLong(id);
+        out.writeUTF(String.valueOf(e.getMessage()));
+        out.flush();
+      }
+    }
+  }
+
+  /**
+   * Launches worker processes on the local machine using the current classpath
+   * @param numberOfProcesses Number of processes to launch
+   * @param port Port of the evaluator (on localhost)
+   * @param problemName Class name of the problem
+   * @param workersPerProcess Number of workers (connections) per process
+   * @return The processes
+   */
+  public static List<Process> startLocalWorkers(int numberOfProcesses, int port, String problemName,
+      int workersPerProcess) {
+    String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java" ;
+    List<Process> processes = new ArrayList<>(numberOfProcesses) ;
+    try {
+      for (int i = 0; i < numberOfProcesses; i++) {
+        ProcessBuilder builder = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+            RemoteEvaluationWorker.class.getName(), "localhost", "" + port, problemName, "" + workersPerProcess) ;
+        builder.inheritIO() ;
+        processes.add(builder.start()) ;
+      }
+    } catch (IOException e) {
+      for (Process process : processes) {
+        process.destroy();
+      }
+      throw new JMetalException("Unable to start the local workers", e) ;
+    }
+
+    return processes ;
+  }
+
+  /**
+   * Program to run workers in a node. The parameters are:
+   * - host: host of the evaluator
+   * - port: port of the evaluator
+   * - problemName: class name of the problem
+   * - numberOfWorkers: number of solutions evaluated concurrently (optional, default 1)
+   *
+   * @param args Command line arguments
+   */
+  public static void main(String[] args) throws InterruptedException {
+    if ((args.length != 3) && (args.length != 4)) {
+      throw new JMetalException("Usage: host port problemName [numberOfWorkers]") ;
+    }
+    String host = args[0] ;
+    int port = Integer.valueOf(args[1]) ;
+    DoubleProblem problem = (DoubleProblem) ProblemUtils.<DoubleSolution>loadProblem(args[2]) ;
+    int numberOfWorkers = args.length == 4 ? Integer.valueOf(args[3]) : 1 ;
+
+    List<Thread> threads = new ArrayList<>(numberOfWorkers) ;
+    for (int i = 0; i < numberOfWorkers; i++) {
+      Thread thread = new Thread(new RemoteEvaluationWorker(host, port, problem)) ;
+      thread.start();
+      threads.add(thread) ;
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+  }
+}
@@ -0,0 +1,323 @@
+package org.uma.jmetal.util.evaluator.impl;
+
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.List;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Evaluator which delegates the evaluation of the solutions to remote worker processes (see
+ * {@link RemoteEvaluationWorker}). The evaluator listens on a TCP port; every connection opened
+ * by a worker is an evaluation slot which takes one solution at a time from a shared queue, so
+ * faster nodes (or nodes with more connections) evaluate more solutions. Variables and objectives
+ * are sent in binary form (see {@link RemoteEvaluationProtocol}).
+ *
+ * While evaluating, workers send a heartbeat periodically. If nothing is received from a worker
+ * for heartbeatTimeout milliseconds, or its connection is lost, the connection is closed and its
+ * solution is dispatched again to another worker, up to maxAttempts times. If no worker is
+ * connected for noWorkerTimeout milliseconds while solutions are waiting, the evaluation fails
+ * instead of waiting forever.
+ *
+ * A deserialized evaluator listens again on the port given to the constructor, with an empty
+ * queue; the solutions being evaluated when it was serialized are not part of its state.
+ *
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+@SuppressWarnings("serial")
+public class RemoteSolutionListEvaluator implements SolutionListEvaluator<DoubleSolution> {
+  public static final long DEFAULT_HEARTBEAT_TIMEOUT = 60000 ;
+  public static final int DEFAULT_MAX_ATTEMPTS = 3 ;
+  public static final long DEFAULT_NO_WORKER_TIMEOUT = 600000 ;
+  private static final long POLL_INTERVAL = 100 ;
+  private static final long WAIT_INTERVAL = 1000 ;
+
+  private final int port ;
+  private final long heartbeatTimeout ;
+  private final int maxAttempts ;
+  private long noWorkerTimeout ;
+
+  private transient ServerSocket serverSocket ;
+  private transient ExecutorService connectionHandlers ;
+  private transient BlockingDeque<Task> taskQueue ;
+  private transient AtomicLong taskCounter ;
+  private transient AtomicInteger numberOfConnections ;
+  private transient volatile boolean running ;
+
+  /**
+   * Constructor
+   * @param port Port to listen on; 0 to use any free port (see {@link #getPort()})
+   */
+  public RemoteSolutionListEvaluator(int port) {
+    this(port, DEFAULT_HEARTBEAT_TIMEOUT, DEFAULT_MAX_ATTEMPTS) ;
+  }
+
+  /**
+   * Constructor
+   * @param port Port to listen on; 0 to use any free port (see {@link #getPort()})
+   * @param heartbeatTimeout Milliseconds without news from a worker before its task is dispatched again
+   * @param maxAttempts Maximum number of times a solution is dispatched
+   */
+  public RemoteSolutionListEvaluator(int port, long heartbeatTimeout, int maxAttempts) {
+    if (heartbeatTimeout <= 0) {
+      throw new JMetalException("The heartbeat timeout must be positive: " + heartbeatTimeout) ;
+    } else if (maxAttempts < 1) {
+      throw new JMetalException("The maximum number of attempts must be at least 1: " + maxAttempts) ;
+    }
+    this.port = port ;
+    this.heartbeatTimeout = heartbeatTimeout ;
+    this.maxAttempts = maxAttempts ;
+    this.noWorkerTimeout = DEFAULT_NO_WORKER_TIMEOUT ;
+
+    start() ;
+  }
+
+  /**
+   * @param noWorkerTimeout Milliseconds without any worker connected before an evaluation fails
+   * @return The evaluator
+   */
+  public RemoteSolutionListEvaluator setNoWorkerTimeout(long noWorkerTimeout) {
+    if (noWorkerTimeout <= 0) {
+      throw new JMetalException("The timeout without workers must be positive: " + noWorkerTimeout) ;
+    }
+    this.noWorkerTimeout = noWorkerTimeout ;
+
+    return this ;
+  }
+
+  private void start() {
+    taskQueue = new LinkedBlockingDeque<>() ;
+    taskCounter = new AtomicLong() ;
+    numberOfConnections = new AtomicInteger() ;
+    try {
+      serverSocket = new ServerSocket(port) ;
+    } catch (IOException e) {
+      throw new JMetalException("Unable to listen on port " + port, e) ;
+    }
+    running = true ;
+    connectionHandlers = Executors.newCachedThreadPool(runnable -> {
+      Thread thread = new Thread(runnable) ;
+      thread.setDaemon(true);
+      return thread ;
+    }) ;
+    connectionHandlers.execute(this::acceptConnections);
+    JMetalLogger.logger.info("Waiting for remote workers on port " + getPort());
+  }
+
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    start() ;
+  }
+
+  @Override
+  public List<DoubleSolution> evaluate(List<DoubleSolution> solutionList, Problem<DoubleSolution> problem) {
+    if (!running) {
+      throw new JMetalException("The evaluator has been shut down") ;
+    }
+
+    Batch batch = new Batch(solutionList.size(), problem.getNumberOfConstraints() > 0) ;
+    for (DoubleSolution solution : solutionList) {
+      taskQueue.add(new Task(taskCounter.incrementAndGet(), solution, batch)) ;
+    }
+
+    long noWorkerSince = -1 ;
+    try {
+      while (!batch.latch.await(Math.min(WAIT_INTERVAL, noWorkerTimeout), TimeUnit.MILLISECONDS)) {
+        if (numberOfConnections.get() > 0) {
+          noWorkerSince = -1 ;
+        } else if (noWorkerSince < 0) {
+          noWorkerSince = System.currentTimeMillis() ;
+          JMetalLogger.logger.warning("No remote worker is connected on port " + getPort()
+              + "; waiting up to " + noWorkerTimeout + " ms");
+        } else if (System.currentTimeMillis() - noWorkerSince >= noWorkerTimeout) {
+          cancel(batch) ;
+          throw new JMetalException("No remote worker has been connected on port " + getPort()
+              + " for " + noWorkerTimeout + " ms") ;
+        }
+      }
+    } catch (InterruptedException e) {
+      cancel(batch) ;
+      Thread.currentThread().interrupt();
+      throw new JMetalException("Interrupted while waiting for the remote evaluations", e) ;
+    }
+    if (batch.failure != null) {
+      throw new JMetalException(batch.failure) ;
+    }
+
+    return solutionList;
+  }
+
+  /**
+   * @return The port the evaluator is listening on
+   */
+  public int getPort() {
+    return serverSocket.getLocalPort() ;
+  }
+
+  /**
+   * @return The number of worker connections currently open
+   */
+  public int getNumberOfConnections() {
+    return numberOfConnections.get() ;
+  }
+
+  @Override
+  public void shutdown() {
+    running = false ;
+    try {
+      serverSocket.close();
+    } catch (IOException e) {
+      JMetalLogger.logger.warning("Error closing the server socket: " + e.getMessage());
+    }
+    connectionHandlers.shutdown();
+  }
+
+  /**
+   * Removes the pending tasks of a batch which is no longer awaited; the ones being evaluated are
+   * not dispatched again
+   */
+  private void cancel(Batch batch) {
+    batch.cancelled = true ;
+    taskQueue.removeIf(task -> task.batch == batch) ;
+  }
+
+  private void acceptConnections() {
+    while (running) {
+      try {
+        Socket socket = serverSocket.accept() ;
+        connectionHandlers.execute(() -> handleConnection(socket));
+      } catch (SocketException e) {
+        // The server socket has been closed by shutdown()
+      } catch (IOException e) {
+        JMetalLogger.logger.warning("Error accepting a worker connection: " + e.getMessage());
+      }
+    }
+  }
+
+  private void handleConnection(Socket socket) {
+    numberOfConnections.incrementAndGet() ;
+    JMetalLogger.logger.info("Remote worker connected from " + socket.getRemoteSocketAddress());
+    Task task = null ;
+    try {
+      socket.setSoTimeout((int) Math.min(heartbeatTimeout, Integer.MAX_VALUE));
+      socket.setTcpNoDelay(true);
+      DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream())) ;
+      DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream())) ;
+
+      while (running) {
+        task = taskQueue.poll(POLL_INTERVAL, TimeUnit.MILLISECONDS) ;
+        if ((task != null) && !task.batch.cancelled) {
+          task.attempts++ ;
+          RemoteEvaluationProtocol.writeTask(out, task.id, task.solution);
+          receiveResult(in, task);
+          task = null ;
+        }
+      }
+      out.writeByte(RemoteEvaluationProtocol.SHUTDOWN);
+      out.flush();
+    } catch (IOException e) {
+      JMetalLogger.logger.warning("Lost connection with remote worker " + socket.getRemoteSocketAddress()
+          + ": " + e.getMessage());
+      if (task != null) {
+        redispatch(task);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      numberOfConnections.decrementAndGet() ;
+      try {
+        socket.close();
+      } catch (IOException e) {
+        // Nothing to do
+      }
+    }
+  }
+
+  private void receiveResult(DataInputStream in, Task task) throws IOException {
+    while (true) {
+      byte type = in.readByte() ;
+      if (type == RemoteEvaluationProtocol.HEARTBEAT) {
+        continue ;
+      }
+
+      long id = in.readLong() ;
+      if (type == RemoteEvaluationProtocol.RESULT) {
+        if (id != task.id) {
+          throw new IOException("Result of task " + id + " received while waiting for task " + task.id) ;
+        }
+        RemoteEvaluationProtocol.readResult(in, task.solution, task.batch.hasConstraints);
+        task.batch.completed(null);
+      } else if (type == RemoteEvaluationProtocol.ERROR) {
+        task.batch.completed("Remote evaluation of task " + id + " failed: " + in.readUTF());
+      } else {
+        throw new IOException("Unexpected message type: " + type) ;
+      }
+      return ;
+    }
+  }
+
+  private void redispatch(Task task) {
+    if (task.batch.cancelled) {
+      return ;
+    } else if (task.attempts >= maxAttempts) {
+      task.batch.completed("Task " + task.id + " failed after " + task.attempts + " attempts");
+    } else {
+      JMetalLogger.logger.info("Dispatching task " + task.id + " again");
+      taskQueue.addFirst(task);
+    }
+  }
+
+  /** Solution waiting to be evaluated */
+  private static class Task {
+    private final long id ;
+    private final DoubleSolution solution ;
+    private final Batch batch ;
+    private int attempts ;
+
+    Task(long id, DoubleSolution solution, Batch batch) {
+      this.id = id ;
+      this.solution = solution ;
+      this.batch = batch ;
+      this.attempts = 0 ;
+    }
+  }
+
+  /** Group of tasks submitted by the same call to evaluate() */
+  private static class Batch {
+    private final CountDownLatch latch ;
+    private final boolean hasConstraints ;
+    private volatile String failure ;
+    private volatile boolean cancelled ;
+
+    Batch(int size, boolean hasConstraints) {
+      this.latch = new CountDownLatch(size) ;
+      this.hasConstraints = hasConstraints ;
+    }
+
+    void completed(String error) {
+      if ((error != null) && (failure == null)) {
+        failure = error ;
+      }
+      latch.countDown();
+    }
+  }
+}
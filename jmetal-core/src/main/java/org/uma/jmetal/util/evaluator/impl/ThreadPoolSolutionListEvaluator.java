@@ -1,26 +1,49 @@
 package org.uma.jmetal.util.evaluator.impl;
 
 import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.JMetalLogger;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.measure.Measurable;
+import org.uma.jmetal.util.measure.MeasureManager;
+import org.uma.jmetal.util.measure.impl.BasicMeasure;
+import org.uma.jmetal.util.measure.impl.CountingMeasure;
+import org.uma.jmetal.util.measure.impl.SimpleMeasureManager;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ThreadPoolExecutor;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
-import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 /**
- * Evaluator class using ThreadPoolExecutor.
+ * Evaluator class using ThreadPoolExecutor. The pool is created once when the evaluator is built
+ * and it is reused by every call to {@link #evaluate(List, Problem)}; it is only released by
+ * {@link #shutdown()}. Any exception raised while evaluating a solution is propagated to the
+ * caller of {@link #evaluate(List, Problem)}. A deserialized evaluator creates its own pool and
+ * starts its measures from scratch.
+ *
+ * The following measures are available through {@link #getMeasureManager()}:
+ * - "queueDepth": number of solutions waiting for a free thread (pull and push)
+ * - "taskLatency": time in milliseconds spent evaluating each solution (push)
+ * - "evaluations": number of evaluations computed so far (pull and push)
+ *
  * @author ohtayo <ohta.yoshihiro@outlook.jp>
  */
 @SuppressWarnings("serial")
-public class ThreadPoolSolutionListEvaluator<S> implements SolutionListEvaluator<S> {
+public class ThreadPoolSolutionListEvaluator<S> implements SolutionListEvaluator<S>, Measurable {
 
   private int numberOfThreads;
-  private ThreadPoolExecutor executor;
+  protected transient ThreadPoolExecutor executor;
+
+  private transient BasicMeasure<Integer> queueDepth ;
+  private transient BasicMeasure<Long> taskLatency ;
+  private transient CountingMeasure evaluations ;
+  private transient SimpleMeasureManager measureManager ;
 
   public ThreadPoolSolutionListEvaluator(int numberOfThreads, Problem<S> problem) {
     if (numberOfThreads == 0) {
@@ -28,36 +51,46 @@ public class ThreadPoolSolutionListEvaluator<S> implements SolutionListEvaluator
     } else {
       this.numberOfThreads = numberOfThreads;
     }
-    JMetalLogger.logger.info("Number of cores: " + numberOfThreads);
+    JMetalLogger.logger.info("Number of cores: " + this.numberOfThreads);
+
+    createExecutor() ;
+    initMeasures() ;
+  }
+
+  private void createExecutor() {
+    executor = new ThreadPoolExecutor(numberOfThreads, numberOfThreads,
+        0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>());
+  }
+
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    createExecutor() ;
+    initMeasures() ;
   }
 
   @Override
-  public List<S> evaluate(List<S> solutionList, Problem<S> problem)
-  {
-    executor = (ThreadPoolExecutor)Executors.newFixedThreadPool(numberOfThreads); //スレッドプールを用意
-    executor.setCorePoolSize(numberOfThreads);		//コア数のプールサイズを指定
-    executor.setMaximumPoolSize(numberOfThreads);	//最大プールサイズを指定
-
-    List<Future<?>> futureList = new ArrayList<Future<?>>();
-    Future<?> future;
-    try{
-      for(int i=0; i<solutionList.size(); i++)
-      {
-        JMetalLogger.logger.info("Running evaluation for solution "+i);
-        future = executor.submit(new EvaluateOne(solutionList.get(i), problem));
-        futureList.add(future);
-      }
-    } catch (RejectedExecutionException e){
-      e.printStackTrace();
-      JMetalLogger.logger.info(e.getMessage());
-    }finally{
-      executor.shutdown();	//新規タスクの受付を終了して残ったタスクを継続する．
-      try {
-        //指定時間が経過するか，全タスクが終了するまで処理を停止する．
-        executor.awaitTermination(solutionList.size(), TimeUnit.HOURS);
-      } catch (InterruptedException e) {
-        e.printStackTrace();
+  public List<S> evaluate(List<S> solutionList, Problem<S> problem) {
+    if (executor.isShutdown()) {
+      throw new JMetalException("The evaluator has been shut down") ;
+    }
+
+    List<Future<?>> futureList = new ArrayList<>(solutionList.size());
+    for (S solution : solutionList) {
+      futureList.add(executor.submit(new EvaluateOne(solution, problem)));
+    }
+    updateQueueDepth() ;
+
+    try {
+      for (Future<?> future : futureList) {
+        future.get() ;
       }
+    } catch (InterruptedException e) {
+      cancel(futureList) ;
+      Thread.currentThread().interrupt();
+      throw new JMetalException("Interrupted while waiting for the evaluations", e) ;
+    } catch (ExecutionException e) {
+      cancel(futureList) ;
+      rethrow(e) ;
     }
 
     return solutionList;
@@ -69,12 +102,67 @@ public class ThreadPoolSolutionListEvaluator<S> implements SolutionListEvaluator
 
   @Override
   public void shutdown() {
-    //This method is an intentionally-blank override.
+    executor.shutdown();
+    try {
+      executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS) ;
+    } catch (InterruptedException e) {
+      executor.shutdownNow() ;
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Override
+  public MeasureManager getMeasureManager() {
+    return measureManager;
+  }
+
+  /**
+   * Throws the exception raised by the problem while evaluating a solution
+   * @param e Exception wrapping the one thrown by the evaluation task
+   */
+  protected void rethrow(ExecutionException e) {
+    Throwable cause = e.getCause() ;
+    if (cause instanceof RuntimeException) {
+      throw (RuntimeException) cause ;
+    } else if (cause instanceof Error) {
+      throw (Error) cause ;
+    } else {
+      throw new JMetalException("Error evaluating a solution", (Exception) cause) ;
+    }
+  }
+
+  private void cancel(List<Future<?>> futureList) {
+    for (Future<?> future : futureList) {
+      future.cancel(false) ;
+    }
+    executor.purge() ;
+    updateQueueDepth() ;
+  }
+
+  protected void updateQueueDepth() {
+    int depth = executor.getQueue().size() ;
+    queueDepth.set(depth);
+    queueDepth.push(depth);
+  }
+
+  /* Measures code */
+  private void initMeasures() {
+    queueDepth = new BasicMeasure<>() ;
+    queueDepth.set(0);
+    taskLatency = new BasicMeasure<>() ;
+    evaluations = new CountingMeasure(0) ;
+
+    measureManager = new SimpleMeasureManager() ;
+    measureManager.setPullMeasure("queueDepth", queueDepth);
+    measureManager.setPullMeasure("evaluations", evaluations);
+    measureManager.setPushMeasure("queueDepth", queueDepth);
+    measureManager.setPushMeasure("taskLatency", taskLatency);
+    measureManager.setPushMeasure("evaluations", evaluations);
   }
 
   /**
-   * 粒子群評価をマルチスレッドで処理するためのクラス<br>
-   * implements Runnable<br>
+   * Task evaluating a single solution in one of the threads of the pool. The measures are
+   * updated from the worker thread, so registered listeners must be thread-safe.
    */
   public class EvaluateOne implements Runnable{
     private S solution;
@@ -86,7 +174,11 @@ public class ThreadPoolSolutionListEvaluator<S> implements SolutionListEvaluator
     }
 
     public void run(){
+      updateQueueDepth() ;
+      long startTime = System.currentTimeMillis() ;
       problem.evaluate(solution);
+      taskLatency.push(System.currentTimeMillis() - startTime);
+      evaluations.increment();
     }
   }
 }
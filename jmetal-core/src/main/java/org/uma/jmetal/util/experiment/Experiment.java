@@ -4,10 +4,12 @@ import org.uma.jmetal.qualityindicator.impl.GenericIndicator;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.experiment.util.ExperimentAlgorithm;
 import org.uma.jmetal.util.experiment.util.ExperimentProblem;
+import org.uma.jmetal.util.pseudorandom.RandomStreamFactory;
 
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.function.ToDoubleFunction;
 
 /**
  * Class for describing the configuration of a jMetal experiment.
@@ -30,6 +32,10 @@ public class Experiment<S extends Solution<?>, Result extends List<S>> {
 
   private int numberOfCores ;
 
+  private RandomStreamFactory randomStreamFactory ;
+
+  private ToDoubleFunction<ExperimentAlgorithm<S, Result>> costEstimator ;
+
 	/** Constructor */
 	public Experiment(ExperimentBuilder<S, Result> builder) {
 		this.experimentName = builder.getExperimentName() ;
@@ -42,6 +48,8 @@ public class Experiment<S extends Solution<?>, Result extends List<S>> {
     this.numberOfCores = builder.getNumberOfCores() ;
     this.referenceFrontDirectory = builder.getReferenceFrontDirectory() ;
     this.indicatorList = builder.getIndicatorList() ;
+    this.randomStreamFactory = builder.getRandomStreamFactory() ;
+    this.costEstimator = builder.getCostEstimator() ;
   }
 
   /* Getters */
@@ -85,6 +93,22 @@ public class Experiment<S extends Solution<?>, Result extends List<S>> {
     return indicatorList;
   }
 
+  /**
+   * @return The factory of the random streams of the runs, or null if the runs share the
+   * generator of JMetalRandom
+   */
+  public RandomStreamFactory getRandomStreamFactory() {
+    return randomStreamFactory;
+  }
+
+  /**
+   * @return The function estimating the cost of the runs, or null if the costs are estimated from
+   * the execution times of the runs already finished
+   */
+  public ToDoubleFunction<ExperimentAlgorithm<S, Result>> getCostEstimator() {
+    return costEstimator;
+  }
+
   /* Setters */
   public void setReferenceFrontDirectory(String referenceFrontDirectory) {
     this.referenceFrontDirectory = referenceFrontDirectory ;
@@ -2,11 +2,13 @@ package org.uma.jmetal.util.experiment;
 
 import org.uma.jmetal.qualityindicator.impl.GenericIndicator;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.pseudorandom.RandomStreamFactory;
 import org.uma.jmetal.util.experiment.util.ExperimentAlgorithm;
 import org.uma.jmetal.util.experiment.util.ExperimentProblem;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.ToDoubleFunction;
 
 /**
  * Builder for class {@link Experiment}
@@ -27,11 +29,17 @@ public class ExperimentBuilder<S extends Solution<?>, Result extends List<S>> {
 
   private int numberOfCores ;
 
+  private RandomStreamFactory randomStreamFactory ;
+
+  private ToDoubleFunction<ExperimentAlgorithm<S, Result>> costEstimator ;
+
   public ExperimentBuilder(String experimentName) {
     this.experimentName = experimentName ;
     this.independentRuns = 1 ;
     this.numberOfCores = 1 ;
     this.referenceFrontDirectory = null ;
+    this.randomStreamFactory = null ;
+    this.costEstimator = null ;
   }
 
   public ExperimentBuilder<S, Result> setAlgorithmList(List<ExperimentAlgorithm<S, Result>> algorithmList) {
@@ -89,6 +97,29 @@ public class ExperimentBuilder<S extends Solution<?>, Result extends List<S>> {
     return this ;
   }
 
+  /**
+   * If set, each run of the experiment uses its own stream of random numbers, named after the
+   * algorithm, the problem and the run, so the results are reproducible even if the runs are
+   * executed in parallel. Otherwise, all the runs share the generator of JMetalRandom
+   */
+  public ExperimentBuilder<S, Result> setRandomStreamFactory(RandomStreamFactory randomStreamFactory) {
+    this.randomStreamFactory = randomStreamFactory ;
+
+    return this ;
+  }
+
+  /**
+   * If set, the runs with the highest cost according to the function (e.g., computed from the
+   * number of evaluations and the problem) are executed first. Otherwise, the costs are estimated
+   * from the execution times of the runs already finished (see
+   * {@link org.uma.jmetal.util.experiment.util.ExperimentScheduler})
+   */
+  public ExperimentBuilder<S, Result> setCostEstimator(ToDoubleFunction<ExperimentAlgorithm<S, Result>> costEstimator) {
+    this.costEstimator = costEstimator ;
+
+    return this ;
+  }
+
   public Experiment<S, Result> build() {
     return new Experiment<S, Result>(this);
   }
@@ -133,4 +164,12 @@ public class ExperimentBuilder<S extends Solution<?>, Result extends List<S>> {
   public List<GenericIndicator<S>> getIndicatorList() {
     return indicatorList;
   }
+
+  public RandomStreamFactory getRandomStreamFactory() {
+    return randomStreamFactory;
+  }
+
+  public ToDoubleFunction<ExperimentAlgorithm<S, Result>> getCostEstimator() {
+    return costEstimator;
+  }
 }
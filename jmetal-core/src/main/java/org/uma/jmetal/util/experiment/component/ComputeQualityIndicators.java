@@ -1,5 +1,6 @@
 package org.uma.jmetal.util.experiment.component;
 
+import org.apache.commons.lang3.SerializationUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import org.uma.jmetal.qualityindicator.QualityIndicator;
@@ -17,7 +18,9 @@ import org.uma.jmetal.util.front.util.FrontNormalizer;
 import org.uma.jmetal.util.front.util.FrontUtils;
 import org.uma.jmetal.util.point.PointSolution;
 
+import java.io.BufferedWriter;
 import java.io.File;
+import java.io.FileNotFoundException;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
@@ -27,7 +30,13 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
 
 import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 
@@ -39,6 +48,10 @@ import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
  * the resulting values are store in a file called as {@link QualityIndicator #getName()}, which is located
  * in the same directory of the FUN files.
  *
+ * The runs are processed in parallel, with as many threads as the number of cores of the experiment.
+ * Each FUN file and each reference front is read and normalized only once for all the indicators,
+ * and the indicator files are written when all the values have been computed.
+ *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 public class ComputeQualityIndicators<S extends Solution<?>, Result extends List<S>> implements ExperimentComponent {
@@ -53,57 +66,155 @@ public class ComputeQualityIndicators<S extends Solution<?>, Result extends List
     experiment.removeDuplicatedAlgorithms() ;
     resetIndicatorFiles() ;
 
-    for (GenericIndicator<S> indicator : experiment.getIndicatorList()) {
-      JMetalLogger.logger.info("Computing indicator: " + indicator.getName()); ;
-
-      for (ExperimentAlgorithm<?, Result> algorithm : experiment.getAlgorithmList()) {
-        String algorithmDirectory;
-        algorithmDirectory = experiment.getExperimentBaseDirectory() + "/data/" + algorithm.getAlgorithmTag();
-        for (ExperimentProblem<?> problem : experiment.getProblemList()) {
-          String problemDirectory = algorithmDirectory + "/" + problem.getTag();
-
-          String referenceFrontDirectory = experiment.getReferenceFrontDirectory();
-
-          String referenceFrontName = referenceFrontDirectory + "/" + problem.getReferenceFront();
-
-          JMetalLogger.logger.info("RF: " + referenceFrontName);
+    List<GenericIndicator<S>> indicatorList = experiment.getIndicatorList() ;
+    List<ExperimentAlgorithm<S, Result>> algorithmList = experiment.getAlgorithmList() ;
+    List<ExperimentProblem<S>> problemList = experiment.getProblemList() ;
+    int numberOfRuns = experiment.getIndependentRuns() ;
+
+    // values[algorithm][problem][indicator][run]
+    double[][][][] indicatorValues =
+        new double[algorithmList.size()][problemList.size()][indicatorList.size()][numberOfRuns] ;
+    Map<String, NormalizedReferenceFront> referenceFronts = new ConcurrentHashMap<>() ;
+    ThreadLocal<Worker> workers = ThreadLocal.withInitial(() -> new Worker(indicatorList)) ;
+
+    int numberOfTasks = algorithmList.size() * problemList.size() * numberOfRuns ;
+    ForkJoinPool pool = new ForkJoinPool(experiment.getNumberOfCores()) ;
+    try {
+      pool.submit(() -> IntStream.range(0, numberOfTasks).parallel().forEach(task -> {
+        int run = task % numberOfRuns ;
+        int problem = (task / numberOfRuns) % problemList.size() ;
+        int algorithm = task / (numberOfRuns * problemList.size()) ;
+
+        computeQualityIndicators(algorithmList.get(algorithm), problemList.get(problem), run,
+            referenceFronts, workers.get(), indicatorValues[algorithm][problem]) ;
+      })).get() ;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new JMetalException("Interrupted while computing the quality indicators", e) ;
+    } catch (ExecutionException e) {
+      // the tasks only throw unchecked exceptions
+      if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause() ;
+      }
+      throw (RuntimeException) e.getCause() ;
+    } finally {
+      pool.shutdown();
+    }
 
-          Front referenceFront = new ArrayFront(referenceFrontName);
+    for (int algorithm = 0; algorithm < algorithmList.size(); algorithm++) {
+      for (int problem = 0; problem < problemList.size(); problem++) {
+        String problemDirectory = experiment.getExperimentBaseDirectory() + "/data/" +
+            algorithmList.get(algorithm).getAlgorithmTag() + "/" + problemList.get(problem).getTag() ;
+        for (int indicator = 0; indicator < indicatorList.size(); indicator++) {
+          String qualityIndicatorFile = problemDirectory + "/" + indicatorList.get(indicator).getName();
+          writeQualityIndicatorValuesToFile(indicatorValues[algorithm][problem][indicator], qualityIndicatorFile);
+        }
+      }
+    }
 
-          FrontNormalizer frontNormalizer = new FrontNormalizer(referenceFront);
-          Front normalizedReferenceFront = frontNormalizer.normalize(referenceFront);
+    findBestIndicatorFronts(experiment) ;
+    writeSummaryFile(experiment);
+  }
 
-          String qualityIndicatorFile = problemDirectory + "/" + indicator.getName();
+  /**
+   * Computes all the indicators of a run of an algorithm on a problem. The front of the run is read
+   * and normalized once for all of them, and the normalized reference front of the problem is read
+   * by the first task needing it and shared by the rest
+   *
+   * @param worker Indicators and reference fronts of the thread executing the task
+   * @param values Values of the indicators of the algorithm and problem, by indicator and run
+   */
+  @SuppressWarnings("unchecked")
+  private void computeQualityIndicators(ExperimentAlgorithm<?, Result> algorithm, ExperimentProblem<?> problem,
+      int run, Map<String, NormalizedReferenceFront> referenceFronts, Worker worker, double[][] values) {
+    String referenceFrontName = experiment.getReferenceFrontDirectory() + "/" + problem.getReferenceFront();
+    NormalizedReferenceFront referenceFront =
+        referenceFronts.computeIfAbsent(referenceFrontName, NormalizedReferenceFront::new) ;
+
+    String problemDirectory = experiment.getExperimentBaseDirectory() + "/data/" +
+        algorithm.getAlgorithmTag() + "/" + problem.getTag();
+    String frontFileName = problemDirectory + "/" +
+        experiment.getOutputParetoFrontFileName() + run + ".tsv";
+
+    List<PointSolution> normalizedPopulation ;
+    try {
+      Front normalizedFront = referenceFront.normalizer.normalize(new ArrayFront(frontFileName));
+      normalizedPopulation = FrontUtils.convertFrontToSolutionList(normalizedFront);
+    } catch (FileNotFoundException e) {
+      throw new JMetalException("Error reading the front " + frontFileName, e) ;
+    }
 
-          indicator.setReferenceParetoFront(normalizedReferenceFront);
-          for (int run = 0; run < experiment.getIndependentRuns(); run++) {
-            String frontFileName = problemDirectory + "/" +
-                experiment.getOutputParetoFrontFileName() + run + ".tsv";
+    Front normalizedReferenceFront = worker.getReferenceFront(referenceFrontName, referenceFront) ;
+    for (int i = 0; i < worker.indicatorList.size(); i++) {
+      GenericIndicator<S> indicator = worker.indicatorList.get(i) ;
+      try {
+        indicator.setReferenceParetoFront(normalizedReferenceFront);
+      } catch (FileNotFoundException e) {
+        throw new JMetalException(e) ;
+      }
+      // Some indicators sort the list they evaluate
+      Double indicatorValue = indicator.evaluate((List<S>) new ArrayList<>(normalizedPopulation));
+      JMetalLogger.logger.info(indicator.getName() + ": " + indicatorValue);
 
-            Front front = new ArrayFront(frontFileName);
-            Front normalizedFront = frontNormalizer.normalize(front);
-            List<PointSolution> normalizedPopulation = FrontUtils.convertFrontToSolutionList(normalizedFront);
-            Double indicatorValue = (Double) indicator.evaluate((List<S>) normalizedPopulation);
-            JMetalLogger.logger.info(indicator.getName() + ": " + indicatorValue);
+      values[i][run] = indicatorValue ;
+    }
+  }
 
-            writeQualityIndicatorValueToFile(indicatorValue, qualityIndicatorFile);
-          }
-        }
+  /**
+   * Indicators and reference fronts of a thread. The indicators can keep state while evaluating a
+   * front (e.g. the reference point of
+   * {@link org.uma.jmetal.qualityindicator.impl.hypervolume.WFGHypervolume}) and some of them sort
+   * the reference front (e.g. {@link org.uma.jmetal.qualityindicator.impl.Spread}), so each thread
+   * evaluates its own copies
+   */
+  private class Worker {
+    private final List<GenericIndicator<S>> indicatorList ;
+    private final Map<String, Front> referenceFronts ;
+
+    Worker(List<GenericIndicator<S>> indicatorList) {
+      this.indicatorList = new ArrayList<>(indicatorList.size()) ;
+      for (GenericIndicator<S> indicator : indicatorList) {
+        this.indicatorList.add(SerializationUtils.clone(indicator)) ;
       }
+      referenceFronts = new HashMap<>() ;
     }
-    findBestIndicatorFronts(experiment) ;
-    writeSummaryFile(experiment);
-  }
 
-  private void writeQualityIndicatorValueToFile(Double indicatorValue, String qualityIndicatorFile) {
+    Front getReferenceFront(String referenceFrontName, NormalizedReferenceFront referenceFront) {
+      return referenceFronts.computeIfAbsent(referenceFrontName, name -> new ArrayFront(referenceFront.front)) ;
+    }
+  }
 
-    try(FileWriter os = new FileWriter(qualityIndicatorFile, true)) {
-      os.write("" + indicatorValue + "\n");
+  private void writeQualityIndicatorValuesToFile(double[] indicatorValues, String qualityIndicatorFile) {
+    try (BufferedWriter os = new BufferedWriter(new FileWriter(qualityIndicatorFile))) {
+      for (double indicatorValue : indicatorValues) {
+        os.write("" + indicatorValue + "\n");
+      }
     } catch (IOException ex) {
       throw new JMetalException("Error writing indicator file" + ex) ;
     }
   }
 
+  /**
+   * Reference front of a problem, normalized with respect to its own extreme values
+   */
+  private static class NormalizedReferenceFront {
+    private final FrontNormalizer normalizer ;
+    private final Front front ;
+
+    NormalizedReferenceFront(String referenceFrontName) {
+      JMetalLogger.logger.info("RF: " + referenceFrontName);
+
+      Front referenceFront ;
+      try {
+        referenceFront = new ArrayFront(referenceFrontName);
+      } catch (FileNotFoundException e) {
+        throw new JMetalException("Error reading the reference front " + referenceFrontName, e) ;
+      }
+      normalizer = new FrontNormalizer(referenceFront);
+      front = normalizer.normalize(referenceFront);
+    }
+  }
+
   public void findBestIndicatorFronts(Experiment<?, Result> experiment) throws IOException {
     for (GenericIndicator<?> indicator : experiment.getIndicatorList()) {
       for (ExperimentAlgorithm<?, Result> algorithm : experiment.getAlgorithmList()) {
@@ -5,13 +5,15 @@ import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.JMetalLogger;
 import org.uma.jmetal.util.experiment.Experiment;
 import org.uma.jmetal.util.experiment.ExperimentComponent;
+import org.uma.jmetal.util.experiment.util.ExperimentScheduler;
 
 import java.io.File;
 import java.util.List;
 
 /**
  * This class executes the algorithms the have been configured with a instance of class
- * {@link Experiment}. Java 8 parallel streams are used to run the algorithms in parallel.
+ * {@link Experiment}. The algorithms are run in parallel by an {@link ExperimentScheduler}, which
+ * skips the runs already finished, so an interrupted experiment can be resumed.
  * <p>
  * The result of the execution is a pair of files FUNrunId.tsv and VARrunID.tsv per experiment,
  * which are stored in the directory
@@ -34,12 +36,7 @@ public class ExecuteAlgorithms<S extends Solution<?>, Result extends List<S>> im
     JMetalLogger.logger.info("ExecuteAlgorithms: Preparing output directory");
     prepareOutputDirectory();
 
-    System.setProperty("java.util.concurrent.ForkJoinPool.common.parallelism",
-            "" + this.experiment.getNumberOfCores());
-
-    experiment.getAlgorithmList()
-            .parallelStream()
-            .forEach(algorithm -> algorithm.runAlgorithm(experiment));
+    new ExperimentScheduler<>(experiment).run();
   }
 
 
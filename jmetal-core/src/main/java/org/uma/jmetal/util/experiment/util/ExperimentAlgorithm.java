@@ -2,6 +2,7 @@ package org.uma.jmetal.util.experiment.util;
 
 import org.uma.jmetal.algorithm.Algorithm;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.JMetalLogger;
 import org.uma.jmetal.util.experiment.Experiment;
 import org.uma.jmetal.util.fileoutput.SolutionListOutput;
@@ -22,6 +23,8 @@ public class ExperimentAlgorithm<S extends Solution<?>, Result extends List<S>>
   private String referenceParetoFront;
   private int runId ;
 
+  private static final String TEMPORARY_FILE_SUFFIX = ".tmp" ;
+
   /**
    * Constructor
    */
@@ -47,11 +50,7 @@ public class ExperimentAlgorithm<S extends Solution<?>, Result extends List<S>>
   }
 
   public void runAlgorithm(Experiment<?, ?> experimentData) {
-    String outputDirectoryName = experimentData.getExperimentBaseDirectory()
-            + "/data/"
-            + algorithmTag
-            + "/"
-            + problemTag;
+    String outputDirectoryName = getOutputDirectoryName(experimentData) ;
 
     File outputDirectory = new File(outputDirectoryName);
     if (!outputDirectory.exists()) {
@@ -63,8 +62,8 @@ public class ExperimentAlgorithm<S extends Solution<?>, Result extends List<S>>
       }
     }
 
-    String funFile = outputDirectoryName + "/FUN" + runId + ".tsv";
-    String varFile = outputDirectoryName + "/VAR" + runId + ".tsv";
+    String funFile = getFunFileName(experimentData) ;
+    String varFile = getVarFileName(experimentData) ;
     JMetalLogger.logger.info(
             " Running algorithm: " + algorithmTag +
                     ", problem: " + problemTag +
@@ -75,11 +74,49 @@ public class ExperimentAlgorithm<S extends Solution<?>, Result extends List<S>>
     algorithm.run();
     Result population = algorithm.getResult();
 
+    // The files are written with temporary names and renamed (FUN the last), so the FUN file of an
+    // interrupted run is never taken as a result (see hasResults())
     new SolutionListOutput(population)
             .setSeparator("\t")
-            .setVarFileOutputContext(new DefaultFileOutputContext(varFile))
-            .setFunFileOutputContext(new DefaultFileOutputContext(funFile))
+            .setVarFileOutputContext(new DefaultFileOutputContext(varFile + TEMPORARY_FILE_SUFFIX))
+            .setFunFileOutputContext(new DefaultFileOutputContext(funFile + TEMPORARY_FILE_SUFFIX))
             .print();
+    rename(varFile + TEMPORARY_FILE_SUFFIX, varFile) ;
+    rename(funFile + TEMPORARY_FILE_SUFFIX, funFile) ;
+  }
+
+  /**
+   * Returns true if the FUN and VAR files of the run already exist, so it doesn't need to be
+   * executed again
+   */
+  public boolean hasResults(Experiment<?, ?> experimentData) {
+    return new File(getFunFileName(experimentData)).isFile() && new File(getVarFileName(experimentData)).isFile() ;
+  }
+
+  private String getOutputDirectoryName(Experiment<?, ?> experimentData) {
+    return experimentData.getExperimentBaseDirectory()
+            + "/data/"
+            + algorithmTag
+            + "/"
+            + problemTag;
+  }
+
+  private String getFunFileName(Experiment<?, ?> experimentData) {
+    return getOutputDirectoryName(experimentData) + "/FUN" + runId + ".tsv";
+  }
+
+  private String getVarFileName(Experiment<?, ?> experimentData) {
+    return getOutputDirectoryName(experimentData) + "/VAR" + runId + ".tsv";
+  }
+
+  private void rename(String fileName, String newFileName) {
+    File file = new File(newFileName) ;
+    if (file.exists() && !file.delete()) {
+      throw new JMetalException("Unable to replace " + newFileName) ;
+    }
+    if (!new File(fileName).renameTo(file)) {
+      throw new JMetalException("Unable to rename " + fileName + " to " + newFileName) ;
+    }
   }
 
   public Algorithm<Result> getAlgorithm() {
@@ -0,0 +1,337 @@
+package org.uma.jmetal.util.experiment.util;
+
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.experiment.Experiment;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.RandomStreamFactory;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * This class runs the {@link ExperimentAlgorithm}s of an {@link Experiment} in a pool with as many
+ * threads as the number of cores of the experiment:
+ * - The runs having their FUN and VAR files are skipped, so an interrupted experiment is resumed
+ * by running it again.
+ * - Each thread takes the pending run with the highest estimated cost (longest first), which
+ * balances the load at the end of the experiment. The cost estimator can be set in the
+ * {@link org.uma.jmetal.util.experiment.ExperimentBuilder}. By default, the cost of a run is the
+ * mean wall time of the finished runs of the same algorithm and problem, taken from the file
+ * ExecutionTimes.csv of the experiment directory, where the wall time of every run is appended.
+ * If there is none (e.g., in the first run of an experiment), a prior cost given by the size of
+ * the problem (number of variables times number of objectives) is used, scaled by the ratio of
+ * wall times to prior costs of the finished runs of the same algorithm (or of all the runs).
+ * - The wall time of each run, the throughput, the estimated remaining time and the runs being
+ * executed are logged when a run finishes.
+ * - If the experiment has a {@link RandomStreamFactory}, the thread executing a run is bound to
+ * the stream named after the algorithm, problem and run, so the results of a run do not depend on
+ * the rest of runs, nor on the thread executing it.
+ *
+ * If a run fails, the rest continue and an exception is thrown at the end.
+ *
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+public class ExperimentScheduler<S extends Solution<?>, Result extends List<S>> {
+  private static final String EXECUTION_TIMES_FILE = "ExecutionTimes.csv" ;
+  private static final String EXECUTION_TIMES_HEADER = "Algorithm,Problem,ExecutionId,WallTime(ms)" ;
+
+  private final Experiment<S, Result> experiment ;
+  private ToDoubleFunction<ExperimentAlgorithm<S, Result>> costEstimator ;
+
+  private List<ExperimentAlgorithm<S, Result>> pendingRuns ;
+  private Set<String> runningRuns ;
+  private Map<String, long[]> executionTimes ;
+  private Map<String, double[]> priorCostRatios ;
+  private Map<String, Problem<S>> problems ;
+  private BufferedWriter executionTimesWriter ;
+  private int numberOfRuns ;
+  private int numberOfFinishedRuns ;
+  private int numberOfFailedRuns ;
+  private long startTime ;
+
+  /**
+   * Constructor
+   */
+  public ExperimentScheduler(Experiment<S, Result> experiment) {
+    this.experiment = experiment ;
+    if (experiment.getCostEstimator() == null) {
+      this.costEstimator = this::estimateCostFromExecutionTimes ;
+    } else {
+      this.costEstimator = experiment.getCostEstimator() ;
+    }
+  }
+
+  /**
+   * Sets the function estimating the cost of a run (e.g. from the number of evaluations and the
+   * problem), replacing the one of the experiment. The runs with the highest estimated cost are
+   * executed first
+   */
+  public ExperimentScheduler<S, Result> setCostEstimator(ToDoubleFunction<ExperimentAlgorithm<S, Result>> costEstimator) {
+    this.costEstimator = costEstimator ;
+
+    return this ;
+  }
+
+  public void run() {
+    problems = new HashMap<>() ;
+    if (experiment.getProblemList() != null) {
+      for (ExperimentProblem<S> problem : experiment.getProblemList()) {
+        problems.put(problem.getTag(), problem.getProblem()) ;
+      }
+    }
+    executionTimes = new HashMap<>() ;
+    priorCostRatios = new HashMap<>() ;
+    readExecutionTimes() ;
+
+    pendingRuns = new ArrayList<>() ;
+    int numberOfSkippedRuns = 0 ;
+    for (ExperimentAlgorithm<S, Result> algorithm : experiment.getAlgorithmList()) {
+      if (algorithm.hasResults(experiment)) {
+        numberOfSkippedRuns++ ;
+      } else {
+        pendingRuns.add(algorithm) ;
+      }
+    }
+    numberOfRuns = pendingRuns.size() ;
+    numberOfFinishedRuns = 0 ;
+    numberOfFailedRuns = 0 ;
+    runningRuns = new LinkedHashSet<>() ;
+    JMetalLogger.logger.info("ExperimentScheduler: " + numberOfRuns + " runs to execute, "
+        + numberOfSkippedRuns + " runs skipped because their results already exist");
+    if (numberOfRuns == 0) {
+      return ;
+    }
+
+    int numberOfThreads = Math.max(1, Math.min(experiment.getNumberOfCores(), numberOfRuns)) ;
+    ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads) ;
+    try {
+      executionTimesWriter = openExecutionTimesFile() ;
+      startTime = System.currentTimeMillis() ;
+
+      List<Future<?>> workers = new ArrayList<>(numberOfThreads) ;
+      for (int i = 0; i < numberOfThreads; i++) {
+        workers.add(executor.submit(this::executeRuns)) ;
+      }
+      for (Future<?> worker : workers) {
+        worker.get() ;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new JMetalException("Interrupted while running the experiment", e) ;
+    } catch (Exception e) {
+      throw new JMetalException("Error running the experiment", e) ;
+    } finally {
+      executor.shutdownNow() ;
+      closeExecutionTimesFile() ;
+    }
+
+    if (numberOfFailedRuns > 0) {
+      throw new JMetalException(numberOfFailedRuns + " of " + numberOfRuns + " runs failed. "
+          + "Run the experiment again to execute them") ;
+    }
+  }
+
+  /**
+   * Body of the threads of the pool: executes the pending runs until there is none
+   */
+  private void executeRuns() {
+    ExperimentAlgorithm<S, Result> algorithm ;
+    while ((algorithm = nextRun()) != null) {
+      String description = describe(algorithm) ;
+      long runStartTime = System.currentTimeMillis() ;
+      boolean failed = false ;
+      try {
+        RandomStreamFactory randomStreamFactory = experiment.getRandomStreamFactory() ;
+        if (randomStreamFactory == null) {
+          algorithm.runAlgorithm(experiment);
+        } else {
+          ExperimentAlgorithm<S, Result> run = algorithm ;
+          JMetalRandom.getInstance().runWithRandomGenerator(randomStreamFactory.getStream(description),
+              () -> run.runAlgorithm(experiment));
+        }
+      } catch (RuntimeException e) {
+        JMetalLogger.logger.severe("Run " + description + " failed: " + e);
+        failed = true ;
+      }
+      finishRun(algorithm, description, System.currentTimeMillis() - runStartTime, failed) ;
+    }
+  }
+
+  /**
+   * Takes the pending run with the highest estimated cost (the first one in the list in case of
+   * ties). The costs are estimated when the run is taken, so the times of the runs finished in the
+   * meantime are considered
+   */
+  private synchronized ExperimentAlgorithm<S, Result> nextRun() {
+    if (pendingRuns.isEmpty()) {
+      return null ;
+    }
+
+    int selected = 0 ;
+    double selectedCost = costEstimator.applyAsDouble(pendingRuns.get(0)) ;
+    for (int i = 1; i < pendingRuns.size(); i++) {
+      double cost = costEstimator.applyAsDouble(pendingRuns.get(i)) ;
+      if (cost > selectedCost) {
+        selected = i ;
+        selectedCost = cost ;
+      }
+    }
+
+    ExperimentAlgorithm<S, Result> algorithm = pendingRuns.remove(selected) ;
+    runningRuns.add(describe(algorithm)) ;
+
+    return algorithm ;
+  }
+
+  private synchronized void finishRun(ExperimentAlgorithm<S, Result> algorithm, String description,
+      long wallTime, boolean failed) {
+    runningRuns.remove(description) ;
+    numberOfFinishedRuns++ ;
+    if (failed) {
+      numberOfFailedRuns++ ;
+    } else {
+      addExecutionTime(algorithm.getAlgorithmTag(), algorithm.getProblemTag(), wallTime) ;
+      writeExecutionTime(algorithm, wallTime) ;
+    }
+
+    double elapsedTime = System.currentTimeMillis() - startTime ;
+    double runsPerHour = numberOfFinishedRuns / (elapsedTime / 3600000.0) ;
+    double remainingTime = (numberOfRuns - numberOfFinishedRuns) * elapsedTime / numberOfFinishedRuns ;
+    JMetalLogger.logger.info(String.format(
+        "ExperimentScheduler: run %d/%d %s %s in %.1f s. Throughput: %.1f runs/hour. " +
+            "Estimated remaining time: %.1f min. Running: %s",
+        numberOfFinishedRuns, numberOfRuns, description, failed ? "failed" : "finished",
+        wallTime / 1000.0, runsPerHour, remainingTime / 60000.0, runningRuns));
+  }
+
+  /**
+   * Default cost estimator: mean wall time of the runs of the same algorithm and problem or, if
+   * there is none, the prior cost of the run scaled by the ratio of wall times to prior costs of
+   * the runs of the same algorithm or, if there is none, of all the runs
+   */
+  private double estimateCostFromExecutionTimes(ExperimentAlgorithm<S, Result> algorithm) {
+    long[] times = executionTimes.get(algorithm.getAlgorithmTag() + "," + algorithm.getProblemTag()) ;
+    if (times != null) {
+      return (double) times[0] / times[1] ;
+    }
+
+    double priorCost = getPriorCost(algorithm.getProblemTag()) ;
+    double[] ratio = priorCostRatios.get(algorithm.getAlgorithmTag()) ;
+    if (ratio == null) {
+      ratio = priorCostRatios.get("") ;
+    }
+
+    return ratio == null ? priorCost : priorCost * ratio[0] / ratio[1] ;
+  }
+
+  /**
+   * Prior cost of the runs of a problem, used until a run of the same algorithm and problem has
+   * finished: the number of variables times the number of objectives, which the cost of the
+   * evaluations and the operators grows with. The cost of the problems not in the experiment is 1
+   */
+  private double getPriorCost(String problemTag) {
+    Problem<S> problem = problems.get(problemTag) ;
+
+    return problem == null ? 1.0 : (double) problem.getNumberOfVariables() * problem.getNumberOfObjectives() ;
+  }
+
+  /**
+   * Accumulates the total time and the number of runs of the algorithm and problem, and the total
+   * time and prior cost of the algorithm and of all the runs
+   */
+  private void addExecutionTime(String algorithmTag, String problemTag, long wallTime) {
+    long[] times = executionTimes.computeIfAbsent(algorithmTag + "," + problemTag, k -> new long[2]) ;
+    times[0] += wallTime ;
+    times[1]++ ;
+
+    double priorCost = getPriorCost(problemTag) ;
+    for (String key : new String[]{algorithmTag, ""}) {
+      double[] ratio = priorCostRatios.computeIfAbsent(key, k -> new double[2]) ;
+      ratio[0] += wallTime ;
+      ratio[1] += priorCost ;
+    }
+  }
+
+  private void readExecutionTimes() {
+    File file = new File(experiment.getExperimentBaseDirectory(), EXECUTION_TIMES_FILE) ;
+    if (!file.isFile()) {
+      return ;
+    }
+
+    try {
+      List<String> lines = Files.readAllLines(Paths.get(file.getPath()), StandardCharsets.UTF_8) ;
+      for (int i = 1; i < lines.size(); i++) {
+        String[] fields = lines.get(i).split(",") ;
+        // lines written partially by an interrupted experiment are ignored
+        if (fields.length == 4) {
+          try {
+            addExecutionTime(fields[0], fields[1], Long.parseLong(fields[3].trim()));
+          } catch (NumberFormatException e) {
+            JMetalLogger.logger.warning("Invalid line in " + file + ": " + lines.get(i));
+          }
+        }
+      }
+    } catch (IOException e) {
+      JMetalLogger.logger.warning("Unable to read the execution times in " + file + ": " + e);
+    }
+  }
+
+  private BufferedWriter openExecutionTimesFile() throws IOException {
+    File file = new File(experiment.getExperimentBaseDirectory(), EXECUTION_TIMES_FILE) ;
+    // the scheduler may be run before any component has created the experiment directory
+    file.getParentFile().mkdirs() ;
+    boolean newFile = !file.exists() ;
+    BufferedWriter writer = new BufferedWriter(new FileWriter(file, true)) ;
+    if (newFile) {
+      writer.write(EXECUTION_TIMES_HEADER);
+      writer.newLine();
+      writer.flush();
+    }
+
+    return writer ;
+  }
+
+  private void writeExecutionTime(ExperimentAlgorithm<S, Result> algorithm, long wallTime) {
+    try {
+      executionTimesWriter.write(algorithm.getAlgorithmTag() + "," + algorithm.getProblemTag() + ","
+          + algorithm.getRunId() + "," + wallTime);
+      executionTimesWriter.newLine();
+      executionTimesWriter.flush();
+    } catch (IOException e) {
+      JMetalLogger.logger.warning("Unable to write the execution time of " + describe(algorithm) + ": " + e);
+    }
+  }
+
+  private void closeExecutionTimesFile() {
+    if (executionTimesWriter != null) {
+      try {
+        executionTimesWriter.close();
+      } catch (IOException e) {
+        JMetalLogger.logger.warning("Unable to close the execution times file: " + e);
+      }
+      executionTimesWriter = null ;
+    }
+  }
+
+  private String describe(ExperimentAlgorithm<S, Result> algorithm) {
+    return algorithm.getAlgorithmTag() + "/" + algorithm.getProblemTag() + "/" + algorithm.getRunId() ;
+  }
+}
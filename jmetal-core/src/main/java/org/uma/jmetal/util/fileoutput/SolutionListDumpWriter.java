@@ -0,0 +1,568 @@
+package org.uma.jmetal.util.fileoutput;
+
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.solutionattribute.impl.NumberOfViolatedConstraints;
+import org.uma.jmetal.util.solutionattribute.impl.OverallConstraintViolation;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Writer of the solution lists of an algorithm along the search (e.g. the archives and the swarm
+ * of a PSO at each iteration). The {@link #write(String, int, List)} method copies the variables,
+ * objectives and constraint values of the solutions into primitive arrays and passes them to a
+ * background thread through a bounded queue, so the algorithm only waits for the disk when the
+ * queue is full.
+ *
+ * Each stream (e.g. "epsilon", "swarm") is written to its own files, opened once per writer and
+ * appended at every call, instead of creating new files per iteration:
+ * - {@link Format#CSV}: [stream]variable.csv, [stream]fitness.csv and [stream]constraint.csv. Each
+ * line contains the iteration followed by the values of a solution. The constraint file contains
+ * the number of violated constraints and the overall constraint violation, and it is only written
+ * if the solutions have these attributes.
+ * - {@link Format#BINARY}: [stream].bin, with a record per call (big endian): int iteration,
+ * int number of solutions, int number of variables, int number of objectives, int number of
+ * constraint values (0 or 2), and then the variables, objectives and constraint values of each
+ * solution as doubles.
+ *
+ * The files are overwritten by a new writer, unless it continues a run resumed from a checkpoint
+ * ({@link #setResumedIteration(int)}): then the rows of the iterations after the checkpoint are
+ * removed and the new ones are appended. The dumps taken before a checkpoint must be on disk when
+ * it is saved, which is ensured by {@link #flush()}.
+ *
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+public class SolutionListDumpWriter implements Closeable {
+  public enum Format {CSV, BINARY}
+
+  public static final int DEFAULT_QUEUE_CAPACITY = 16 ;
+
+  private static final Snapshot END_OF_STREAM = new Snapshot(null, 0, 0, 0, 0, false) ;
+
+  private final String directory ;
+  private final Format format ;
+  private String separator = "," ;
+
+  private final BlockingQueue<Snapshot> queue ;
+  private final Thread writerThread ;
+  private final Map<String, StreamFiles> files ;
+  private volatile Exception failure ;
+  private boolean closed ;
+  private boolean started ;
+  private int resumedIteration ;
+
+  private final NumberOfViolatedConstraints<Solution<?>> numberOfViolatedConstraints ;
+  private final OverallConstraintViolation<Solution<?>> overallConstraintViolation ;
+
+  /**
+   * Constructor
+   * @param directory Directory of the files
+   * @param format Format of the files
+   * @param queueCapacity Number of solution lists waiting to be written before {@link #write} blocks
+   */
+  public SolutionListDumpWriter(String directory, Format format, int queueCapacity) {
+    if (queueCapacity < 1) {
+      throw new JMetalException("The queue capacity must be at least 1: " + queueCapacity) ;
+    }
+    this.directory = directory ;
+    this.format = format ;
+    this.queue = new ArrayBlockingQueue<>(queueCapacity) ;
+    this.files = new HashMap<>() ;
+    this.numberOfViolatedConstraints = new NumberOfViolatedConstraints<>() ;
+    this.overallConstraintViolation = new OverallConstraintViolation<>() ;
+    this.resumedIteration = -1 ;
+
+    File path = new File(directory) ;
+    if (!path.isDirectory() && !path.mkdirs()) {
+      throw new JMetalException("Unable to create the directory " + directory) ;
+    }
+
+    writerThread = new Thread(this::writeSnapshots, "SolutionListDumpWriter") ;
+    writerThread.setDaemon(true);
+    writerThread.start();
+  }
+
+  public SolutionListDumpWriter(String directory) {
+    this(directory, Format.CSV, DEFAULT_QUEUE_CAPACITY) ;
+  }
+
+  /**
+   * @return true if the solution lists of the iteration (starting at 1) are dumped: the first and
+   * the last iterations and one out of dumpInterval iterations; none if dumpInterval is 0
+   */
+  public static boolean isDumpIteration(int iteration, int maxIterations, int dumpInterval) {
+    return (dumpInterval > 0)
+        && (((iteration - 1) % dumpInterval == 0) || (iteration >= maxIterations));
+  }
+
+  public SolutionListDumpWriter setSeparator(String separator) {
+    this.separator = separator ;
+
+    return this ;
+  }
+
+  /**
+   * Continues the files of a run resumed from a checkpoint: the rows of the iterations after the
+   * one of the checkpoint are removed, as well as incomplete rows, and the new ones are appended.
+   * It must be called before the first solution list is written
+   * @param iteration Last iteration of the files to keep
+   */
+  public SolutionListDumpWriter setResumedIteration(int iteration) {
+    if (started) {
+      throw new JMetalException("The files have already been opened") ;
+    }
+    this.resumedIteration = iteration ;
+
+    return this ;
+  }
+
+  /**
+   * Copies the solution list and queues it to be written
+   * @param stream Name of the stream (prefix of the files)
+   * @param iteration Iteration of the algorithm
+   * @param solutionList Solutions to write
+   */
+  public void write(String stream, int iteration, List<? extends Solution<?>> solutionList) {
+    checkFailure() ;
+    if (closed) {
+      throw new JMetalException("The writer is closed") ;
+    }
+
+    Snapshot snapshot = createSnapshot(stream, iteration, solutionList) ;
+    started = true ;
+    try {
+      queue.put(snapshot);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new JMetalException("Interrupted while queueing the solution list", e) ;
+    }
+  }
+
+  /**
+   * Waits until the queued solution lists are written and synchronized with the disk, which is
+   * called before saving a checkpoint
+   */
+  public void flush() {
+    checkFailure() ;
+    if (closed) {
+      throw new JMetalException("The writer is closed") ;
+    }
+
+    FlushRequest request = new FlushRequest() ;
+    try {
+      queue.put(request);
+      request.done.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new JMetalException("Interrupted while flushing the solution lists", e) ;
+    }
+    checkFailure() ;
+  }
+
+  /**
+   * Waits until the queued solution lists are written and closes the files
+   */
+  @Override
+  public void close() {
+    if (!closed) {
+      closed = true ;
+      try {
+        queue.put(END_OF_STREAM);
+        writerThread.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new JMetalException("Interrupted while closing the writer", e) ;
+      }
+    }
+    checkFailure() ;
+  }
+
+  private void checkFailure() {
+    if (failure != null) {
+      throw new JMetalException("Error writing the solution lists to " + directory, failure) ;
+    }
+  }
+
+  private Snapshot createSnapshot(String stream, int iteration, List<? extends Solution<?>> solutionList) {
+    int numberOfVariables = 0 ;
+    int numberOfObjectives = 0 ;
+    boolean hasConstraints = false ;
+    if (!solutionList.isEmpty()) {
+      Solution<?> first = solutionList.get(0) ;
+      numberOfVariables = first.getNumberOfVariables() ;
+      numberOfObjectives = first.getNumberOfObjectives() ;
+      hasConstraints = numberOfViolatedConstraints.getAttribute(first) != null ;
+    }
+
+    Snapshot snapshot = new Snapshot(stream, iteration, solutionList.size(), numberOfVariables,
+        numberOfObjectives, hasConstraints) ;
+    double[] buffer = new double[numberOfVariables] ;
+    for (int i = 0; i < solutionList.size(); i++) {
+      Solution<?> solution = solutionList.get(i) ;
+      if (solution instanceof DoubleSolution) {
+        ((DoubleSolution) solution).getVariableValues(buffer) ;
+        System.arraycopy(buffer, 0, snapshot.variables, i * numberOfVariables, numberOfVariables);
+      } else {
+        for (int j = 0; j < numberOfVariables; j++) {
+          Object value = solution.getVariableValue(j) ;
+          if (!(value instanceof Number)) {
+            throw new JMetalException("The variables of the solutions must be numbers: " + value) ;
+          }
+          snapshot.variables[i * numberOfVariables + j] = ((Number) value).doubleValue() ;
+        }
+      }
+      for (int j = 0; j < numberOfObjectives; j++) {
+        snapshot.objectives[i * numberOfObjectives + j] = solution.getObjective(j) ;
+      }
+      if (hasConstraints) {
+        snapshot.constraints[2 * i] = numberOfViolatedConstraints.getValue(solution, 0) ;
+        snapshot.constraints[2 * i + 1] = overallConstraintViolation.getValue(solution, 0.0) ;
+      }
+    }
+
+    return snapshot ;
+  }
+
+  /**
+   * Body of the writer thread. After an error the queue is still drained (without writing), so
+   * the algorithm does not block; the error is reported by the next call to write() or close()
+   */
+  private void writeSnapshots() {
+    boolean running = true ;
+    while (running) {
+      try {
+        Snapshot snapshot = queue.poll() ;
+        if (snapshot == null) {
+          // Make the data written so far visible while the algorithm is running
+          if (failure == null) {
+            flushFiles() ;
+          }
+          snapshot = queue.take() ;
+        }
+
+        if (snapshot == END_OF_STREAM) {
+          running = false ;
+        } else if (snapshot instanceof FlushRequest) {
+          try {
+            if (failure == null) {
+              syncFiles() ;
+            }
+          } finally {
+            ((FlushRequest) snapshot).done.countDown();
+          }
+        } else if (failure == null) {
+          writeSnapshot(snapshot) ;
+        }
+      } catch (IOException | RuntimeException e) {
+        failure = e ;
+      } catch (InterruptedException e) {
+        failure = e ;
+        running = false ;
+      }
+    }
+
+    try {
+      closeFiles() ;
+    } catch (IOException e) {
+      if (failure == null) {
+        failure = e ;
+      }
+    }
+  }
+
+  private void writeSnapshot(Snapshot snapshot) throws IOException {
+    StreamFiles streamFiles = files.get(snapshot.stream) ;
+    if (streamFiles == null) {
+      streamFiles = new StreamFiles(snapshot.stream) ;
+      files.put(snapshot.stream, streamFiles) ;
+    }
+
+    if (format == Format.BINARY) {
+      DataOutputStream out = streamFiles.binary ;
+      out.writeInt(snapshot.iteration);
+      out.writeInt(snapshot.numberOfSolutions);
+      out.writeInt(snapshot.numberOfVariables);
+      out.writeInt(snapshot.numberOfObjectives);
+      out.writeInt(snapshot.constraints.length == 0 ? 0 : 2);
+      for (int i = 0; i < snapshot.numberOfSolutions; i++) {
+        writeDoubles(out, snapshot.variables, i * snapshot.numberOfVariables, snapshot.numberOfVariables) ;
+        writeDoubles(out, snapshot.objectives, i * snapshot.numberOfObjectives, snapshot.numberOfObjectives) ;
+        if (snapshot.constraints.length > 0) {
+          writeDoubles(out, snapshot.constraints, 2 * i, 2) ;
+        }
+      }
+    } else {
+      StringBuilder line = new StringBuilder() ;
+      for (int i = 0; i < snapshot.numberOfSolutions; i++) {
+        writeLine(streamFiles.variables, line, snapshot.iteration, snapshot.variables,
+            i * snapshot.numberOfVariables, snapshot.numberOfVariables) ;
+        writeLine(streamFiles.objectives, line, snapshot.iteration, snapshot.objectives,
+            i * snapshot.numberOfObjectives, snapshot.numberOfObjectives) ;
+        if (snapshot.constraints.length > 0) {
+          line.setLength(0);
+          line.append(snapshot.iteration).append(separator)
+              .append((int) snapshot.constraints[2 * i]).append(separator)
+              .append(snapshot.constraints[2 * i + 1]) ;
+          streamFiles.constraints().write(line.toString());
+          streamFiles.constraints().newLine();
+        }
+      }
+    }
+  }
+
+  private void writeLine(BufferedWriter writer, StringBuilder line, int iteration, double[] values,
+      int offset, int length) throws IOException {
+    line.setLength(0);
+    line.append(iteration) ;
+    for (int j = 0; j < length; j++) {
+      line.append(separator).append(values[offset + j]) ;
+    }
+    writer.write(line.toString());
+    writer.newLine();
+  }
+
+  private void writeDoubles(DataOutputStream out, double[] values, int offset, int length) throws IOException {
+    for (int j = 0; j < length; j++) {
+      out.writeDouble(values[offset + j]);
+    }
+  }
+
+  private void flushFiles() throws IOException {
+    for (StreamFiles streamFiles : files.values()) {
+      streamFiles.flush();
+    }
+  }
+
+  private void syncFiles() throws IOException {
+    for (StreamFiles streamFiles : files.values()) {
+      streamFiles.sync();
+    }
+  }
+
+  private void closeFiles() throws IOException {
+    IOException exception = null ;
+    for (StreamFiles streamFiles : files.values()) {
+      try {
+        streamFiles.close();
+      } catch (IOException e) {
+        exception = e ;
+      }
+    }
+    files.clear();
+    if (exception != null) {
+      throw exception ;
+    }
+  }
+
+  /** Copy of a solution list */
+  private static class Snapshot {
+    private final String stream ;
+    private final int iteration ;
+    private final int numberOfSolutions ;
+    private final int numberOfVariables ;
+    private final int numberOfObjectives ;
+    private final double[] variables ;
+    private final double[] objectives ;
+    private final double[] constraints ;
+
+    Snapshot(String stream, int iteration, int numberOfSolutions, int numberOfVariables,
+        int numberOfObjectives, boolean hasConstraints) {
+      this.stream = stream ;
+      this.iteration = iteration ;
+      this.numberOfSolutions = numberOfSolutions ;
+      this.numberOfVariables = numberOfVariables ;
+      this.numberOfObjectives = numberOfObjectives ;
+      this.variables = new double[numberOfSolutions * numberOfVariables] ;
+      this.objectives = new double[numberOfSolutions * numberOfObjectives] ;
+      this.constraints = new double[hasConstraints ? 2 * numberOfSolutions : 0] ;
+    }
+  }
+
+  /** Request to flush the files, processed by the writer thread in order with the solution lists */
+  private static class FlushRequest extends Snapshot {
+    private final CountDownLatch done ;
+
+    FlushRequest() {
+      super(null, 0, 0, 0, 0, false) ;
+      done = new CountDownLatch(1) ;
+    }
+  }
+
+  /**
+   * Removes the rows of a CSV file after the given iteration (the first value of each row), as well
+   * as an incomplete last row
+   */
+  private static void truncateTextFile(File file, int lastIteration) throws IOException {
+    if (!file.isFile()) {
+      return ;
+    }
+
+    long length = 0 ;
+    try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+      long position = 0 ;
+      long iteration = 0 ;
+      boolean readingIteration = true ;
+      int value ;
+      while ((value = in.read()) != -1) {
+        position++ ;
+        if (value == '\n') {
+          if (iteration > lastIteration) {
+            break ;
+          }
+          length = position ;
+          iteration = 0 ;
+          readingIteration = true ;
+        } else if (readingIteration && (value >= '0') && (value <= '9')) {
+          iteration = 10 * iteration + (value - '0') ;
+        } else {
+          readingIteration = false ;
+        }
+      }
+    }
+    truncate(file, length) ;
+  }
+
+  /**
+   * Removes the records of a binary file after the given iteration, as well as an incomplete last
+   * record
+   */
+  private static void truncateBinaryFile(File file, int lastIteration) throws IOException {
+    if (!file.isFile()) {
+      return ;
+    }
+
+    long fileLength = file.length() ;
+    long length = 0 ;
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+      while (length + 5 * 4 <= fileLength) {
+        int iteration = in.readInt() ;
+        long numberOfSolutions = in.readInt() ;
+        long numberOfValues = in.readInt() + in.readInt() + in.readInt() ;
+        long recordLength = 5 * 4 + 8 * numberOfSolutions * numberOfValues ;
+        if ((iteration > lastIteration) || (length + recordLength > fileLength)) {
+          break ;
+        }
+        skipFully(in, recordLength - 5 * 4) ;
+        length += recordLength ;
+      }
+    }
+    truncate(file, length) ;
+  }
+
+  private static void skipFully(InputStream in, long bytes) throws IOException {
+    while (bytes > 0) {
+      long skipped = in.skip(bytes) ;
+      if (skipped <= 0) {
+        throw new EOFException() ;
+      }
+      bytes -= skipped ;
+    }
+  }
+
+  private static void truncate(File file, long length) throws IOException {
+    if (length < file.length()) {
+      try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+        randomAccessFile.setLength(length);
+      }
+    }
+  }
+
+  /** Files of a stream. The constraint file is created when the first constraint values arrive */
+  private class StreamFiles {
+    private final String stream ;
+    private final List<FileOutputStream> outputs ;
+    private BufferedWriter variables ;
+    private BufferedWriter objectives ;
+    private BufferedWriter constraints ;
+    private DataOutputStream binary ;
+
+    StreamFiles(String stream) throws IOException {
+      this.stream = stream ;
+      this.outputs = new ArrayList<>(3) ;
+      if (format == Format.BINARY) {
+        File file = new File(directory, stream + ".bin") ;
+        if (resumedIteration >= 0) {
+          truncateBinaryFile(file, resumedIteration) ;
+        }
+        binary = new DataOutputStream(new BufferedOutputStream(open(file))) ;
+      } else {
+        if (resumedIteration >= 0) {
+          for (String suffix : new String[]{"variable.csv", "fitness.csv", "constraint.csv"}) {
+            truncateTextFile(new File(directory, stream + suffix), resumedIteration) ;
+          }
+        }
+        variables = openWriter(stream + "variable.csv") ;
+        objectives = openWriter(stream + "fitness.csv") ;
+      }
+    }
+
+    BufferedWriter constraints() throws IOException {
+      if (constraints == null) {
+        constraints = openWriter(stream + "constraint.csv") ;
+      }
+      return constraints ;
+    }
+
+    private BufferedWriter openWriter(String fileName) throws IOException {
+      return new BufferedWriter(new OutputStreamWriter(open(new File(directory, fileName)))) ;
+    }
+
+    /** Opens a file, appending to it if the run has been resumed */
+    private FileOutputStream open(File file) throws IOException {
+      FileOutputStream output = new FileOutputStream(file, resumedIteration >= 0) ;
+      outputs.add(output) ;
+
+      return output ;
+    }
+
+    void flush() throws IOException {
+      if (binary != null) {
+        binary.flush();
+      }
+      for (BufferedWriter writer : new BufferedWriter[]{variables, objectives, constraints}) {
+        if (writer != null) {
+          writer.flush();
+        }
+      }
+    }
+
+    void sync() throws IOException {
+      flush() ;
+      for (FileOutputStream output : outputs) {
+        output.getFD().sync();
+      }
+    }
+
+    void close() throws IOException {
+      if (binary != null) {
+        binary.close();
+      }
+      for (BufferedWriter writer : new BufferedWriter[]{variables, objectives, constraints}) {
+        if (writer != null) {
+          writer.close();
+        }
+      }
+    }
+  }
+}
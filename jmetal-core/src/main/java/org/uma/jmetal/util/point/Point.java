@@ -1,11 +1,13 @@
 package org.uma.jmetal.util.point;
 
+import java.io.Serializable;
+
 /**
  * Interface representing a point
  *
  * @author Antonio J. Nebro
  */
-public interface Point {
+public interface Point extends Serializable {
   int getDimension();
   double[] getValues() ;
   double getValue(int index) ;
@@ -3,55 +3,115 @@ package org.uma.jmetal.util.pseudorandom;
 import org.uma.jmetal.util.pseudorandom.impl.JavaRandomGenerator;
 
 import java.io.Serializable;
+import java.util.function.Supplier;
 
 /**
+ * Source of the random numbers used by jMetal. By default, all the threads share the same
+ * {@link PseudoRandomGenerator}. A thread can be bound to its own generator (e.g. a stream of a
+ * {@link RandomStreamFactory}), so that parallel runs do not contend for the same generator and
+ * are reproducible regardless of the order in which the threads are scheduled. The methods of this
+ * class use the generator bound to the calling thread or, if there is none, the shared one.
+ *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 @SuppressWarnings("serial")
 public class JMetalRandom implements Serializable {
-  private static JMetalRandom instance ;
-  private PseudoRandomGenerator randomGenerator ;
+  private static final ThreadLocal<PseudoRandomGenerator> threadRandomGenerator = new ThreadLocal<>() ;
+  private volatile PseudoRandomGenerator randomGenerator ;
 
   private JMetalRandom() {
     randomGenerator = new JavaRandomGenerator() ;
   }
 
+  private static class InstanceHolder {
+    private static final JMetalRandom instance = new JMetalRandom() ;
+  }
+
   public static JMetalRandom getInstance() {
-    if (instance == null) {
-      instance = new JMetalRandom() ;
-    }
-    return instance ;
+    return InstanceHolder.instance ;
   }
 
+  /**
+   * Sets the generator shared by the threads not bound to a generator
+   */
   public void setRandomGenerator(PseudoRandomGenerator randomGenerator) {
     this.randomGenerator = randomGenerator;
   }
 
+  /**
+   * @return The generator used by the calling thread
+   */
   public PseudoRandomGenerator getRandomGenerator() {
-    return randomGenerator ;
+    PseudoRandomGenerator generator = threadRandomGenerator.get() ;
+
+    return generator == null ? randomGenerator : generator ;
+  }
+
+  /**
+   * Binds the calling thread to a generator, which is used instead of the shared one until the
+   * thread is bound to another generator or unbound (with null)
+   */
+  public void setThreadRandomGenerator(PseudoRandomGenerator randomGenerator) {
+    if (randomGenerator == null) {
+      threadRandomGenerator.remove();
+    } else {
+      threadRandomGenerator.set(randomGenerator);
+    }
+  }
+
+  /**
+   * @return The generator bound to the calling thread, or null if it uses the shared one
+   */
+  public PseudoRandomGenerator getThreadRandomGenerator() {
+    return threadRandomGenerator.get() ;
+  }
+
+  /**
+   * Runs a task in the calling thread bound to a generator, restoring the previous binding at
+   * the end
+   */
+  public void runWithRandomGenerator(PseudoRandomGenerator randomGenerator, Runnable task) {
+    callWithRandomGenerator(randomGenerator, () -> {
+      task.run();
+      return null ;
+    }) ;
+  }
+
+  /**
+   * Same as {@link #runWithRandomGenerator(PseudoRandomGenerator, Runnable)}, returning the result
+   * of the task
+   */
+  public <T> T callWithRandomGenerator(PseudoRandomGenerator randomGenerator, Supplier<T> task) {
+    PseudoRandomGenerator previousGenerator = threadRandomGenerator.get() ;
+    setThreadRandomGenerator(randomGenerator);
+    try {
+      return task.get() ;
+    } finally {
+      setThreadRandomGenerator(previousGenerator);
+    }
   }
 
   public int nextInt(int lowerBound, int upperBound) {
-    return randomGenerator.nextInt(lowerBound, upperBound) ;
+    return getRandomGenerator().nextInt(lowerBound, upperBound) ;
   }
 
   public double nextDouble() {
-    return randomGenerator.nextDouble() ;
+    return getRandomGenerator().nextDouble() ;
   }
 
   public double nextDouble(double lowerBound, double upperBound) {
-    return randomGenerator.nextDouble(lowerBound, upperBound) ;
+    return getRandomGenerator().nextDouble(lowerBound, upperBound) ;
   }
 
   public void setSeed(long seed) {
-    randomGenerator.setSeed(seed);
+    getRandomGenerator().setSeed(seed);
   }
 
   public long getSeed() {
-    return randomGenerator.getSeed() ;
+    return getRandomGenerator().getSeed() ;
   }
 
   public String getGeneratorName() {
-    return randomGenerator.getName() ;
+    return getRandomGenerator().getName() ;
   }
 }
@@ -0,0 +1,113 @@
+package org.uma.jmetal.util.pseudorandom;
+
+import org.uma.jmetal.util.pseudorandom.impl.JavaRandomGenerator;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Factory of independent and reproducible streams of random numbers derived from a master seed.
+ * Each stream is a new {@link PseudoRandomGenerator} seeded with the value of the SplitMix64
+ * function (the one of {@link java.util.SplittableRandom}) for the master seed and the index of
+ * the stream, so the same index always gives the same stream, no matter how many streams have
+ * been created before or in which thread. The streams can be identified by a name too (e.g. the
+ * algorithm, problem and run of an experiment), and a factory can be split into child factories
+ * (e.g. one per run, whose streams are used by the threads of the run).
+ *
+ * A stream is not thread safe, so each one must be used by only one thread at a time (see
+ * {@link JMetalRandom#setThreadRandomGenerator(PseudoRandomGenerator)}).
+ *
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+@SuppressWarnings("serial")
+public class RandomStreamFactory implements Serializable {
+  private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L ;
+
+  private final long masterSeed ;
+  private final GeneratorFactory generatorFactory ;
+
+  /**
+   * Creator of the generator of a stream from its seed
+   */
+  @FunctionalInterface
+  public interface GeneratorFactory extends Serializable {
+    PseudoRandomGenerator create(long seed) ;
+  }
+
+  /**
+   * Constructor. The streams are {@link JavaRandomGenerator}s
+   */
+  public RandomStreamFactory(long masterSeed) {
+    this(masterSeed, JavaRandomGenerator::new) ;
+  }
+
+  /**
+   * Constructor
+   * @param masterSeed
+   * @param generatorFactory Creates the generator of a stream from its seed (e.g.
+   *                         MersenneTwisterGenerator::new)
+   */
+  public RandomStreamFactory(long masterSeed, GeneratorFactory generatorFactory) {
+    this.masterSeed = masterSeed ;
+    this.generatorFactory = generatorFactory ;
+  }
+
+  public long getMasterSeed() {
+    return masterSeed ;
+  }
+
+  /**
+   * @return The seed of a stream
+   */
+  public long getSeed(long streamIndex) {
+    return mix64(masterSeed + (streamIndex + 1) * GOLDEN_GAMMA) ;
+  }
+
+  /**
+   * @return A new generator of the stream with the given index
+   */
+  public PseudoRandomGenerator getStream(long streamIndex) {
+    return generatorFactory.create(getSeed(streamIndex)) ;
+  }
+
+  /**
+   * @return A new generator of the stream with the given name
+   */
+  public PseudoRandomGenerator getStream(String streamName) {
+    return getStream(hash64(streamName)) ;
+  }
+
+  /**
+   * @return A factory of the streams derived from the seed of the stream with the given index,
+   * which creates the same kind of generators
+   */
+  public RandomStreamFactory split(long streamIndex) {
+    return new RandomStreamFactory(getSeed(streamIndex), generatorFactory) ;
+  }
+
+  /**
+   * @return A factory of the streams derived from the seed of the stream with the given name
+   */
+  public RandomStreamFactory split(String streamName) {
+    return split(hash64(streamName)) ;
+  }
+
+  /** Finalizer of SplitMix64 */
+  private static long mix64(long z) {
+    z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L ;
+    z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL ;
+
+    return z ^ (z >>> 31) ;
+  }
+
+  /** 64-bit FNV-1a hash of the UTF-8 bytes of a string, which does not depend on the JVM */
+  private static long hash64(String value) {
+    long hash = 0xcbf29ce484222325L ;
+    for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+      hash ^= b & 0xff ;
+      hash *= 0x100000001b3L ;
+    }
+
+    return hash ;
+  }
+}
@@ -0,0 +1,113 @@
+package org.uma.jmetal.util.solutionattribute;
+
+import org.uma.jmetal.util.JMetalException;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Registry of the attribute identifiers whose values are numbers (e.g. the rank or the crowding
+ * distance). Each registered identifier gets a fixed slot index, so solutions can store their
+ * values in a primitive array (see {@link AttributeSlots}) instead of a hash map of boxed values.
+ * Identifiers which are not registered are stored in the attribute map of the solutions.
+ *
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+public final class AttributeSlotRegistry {
+  private static final Map<Object, Slot> slots = new ConcurrentHashMap<>() ;
+  private static final List<Slot> slotsByIndex = new CopyOnWriteArrayList<>() ;
+
+  private AttributeSlotRegistry() {
+  }
+
+  /**
+   * Registers an attribute identifier with double values
+   * @param identifier Attribute identifier
+   * @return The slot of the identifier
+   */
+  public static Slot registerDoubleAttribute(Object identifier) {
+    return register(identifier, false) ;
+  }
+
+  /**
+   * Registers an attribute identifier with integer values
+   * @param identifier Attribute identifier
+   * @return The slot of the identifier
+   */
+  public static Slot registerIntegerAttribute(Object identifier) {
+    return register(identifier, true) ;
+  }
+
+  /**
+   * @param identifier Attribute identifier
+   * @return The slot of the identifier, or null if it has not been registered
+   */
+  public static Slot getSlot(Object identifier) {
+    return identifier == null ? null : slots.get(identifier) ;
+  }
+
+  /**
+   * @param index Slot index
+   * @return The slot with the given index
+   */
+  public static Slot getSlot(int index) {
+    return slotsByIndex.get(index) ;
+  }
+
+  private static Slot register(Object identifier, boolean integer) {
+    Slot slot = slots.get(identifier) ;
+    if (slot == null) {
+      synchronized (slots) {
+        slot = slots.get(identifier) ;
+        if (slot == null) {
+          slot = new Slot(identifier, slotsByIndex.size(), integer) ;
+          slotsByIndex.add(slot) ;
+          slots.put(identifier, slot) ;
+        }
+      }
+    }
+
+    if (slot.isInteger() != integer) {
+      throw new JMetalException("The attribute " + identifier + " is already registered with "
+          + (slot.isInteger() ? "integer" : "double") + " values") ;
+    }
+
+    return slot ;
+  }
+
+  /** Slot assigned to an attribute identifier */
+  @SuppressWarnings("serial")
+  public static final class Slot implements Serializable {
+    private final Object identifier ;
+    private final int index ;
+    private final boolean integer ;
+
+    private Slot(Object identifier, int index, boolean integer) {
+      this.identifier = identifier ;
+      this.index = index ;
+      this.integer = integer ;
+    }
+
+    public Object getIdentifier() {
+      return identifier ;
+    }
+
+    public int getIndex() {
+      return index ;
+    }
+
+    public boolean isInteger() {
+      return integer ;
+    }
+
+    /**
+     * Slots are resolved again when deserialized, as indexes depend on the order of registration
+     */
+    private Object readResolve() {
+      return register(identifier, integer) ;
+    }
+  }
+}
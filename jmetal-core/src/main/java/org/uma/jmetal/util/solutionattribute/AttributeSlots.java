@@ -0,0 +1,170 @@
+package org.uma.jmetal.util.solutionattribute;
+
+import org.uma.jmetal.util.JMetalException;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Values of the attributes of a solution registered in the {@link AttributeSlotRegistry}. The
+ * values are kept in a primitive array indexed by the slot of the attributes (integer values are
+ * stored as doubles, which represent them exactly), so reading or writing them does not box the
+ * values nor compute hash codes.
+ *
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+@SuppressWarnings("serial")
+public class AttributeSlots implements Serializable {
+  private static final double[] NO_VALUES = new double[0] ;
+  private static final boolean[] NO_FLAGS = new boolean[0] ;
+
+  private transient double[] values ;
+  private transient boolean[] assigned ;
+
+  public AttributeSlots() {
+    values = NO_VALUES ;
+    assigned = NO_FLAGS ;
+  }
+
+  /**
+   * Copy constructor
+   * @param slots Slots to copy
+   */
+  public AttributeSlots(AttributeSlots slots) {
+    values = slots.values.length == 0 ? NO_VALUES : slots.values.clone() ;
+    assigned = slots.assigned.length == 0 ? NO_FLAGS : slots.assigned.clone() ;
+  }
+
+  /**
+   * @param slot Slot of the attribute
+   * @return true if the attribute has a value
+   */
+  public boolean isAssigned(int slot) {
+    return (slot < assigned.length) && assigned[slot] ;
+  }
+
+  /**
+   * @param slot Slot of the attribute
+   * @param defaultValue Value returned if the attribute has no value
+   * @return The value of the attribute
+   */
+  public double getValue(int slot, double defaultValue) {
+    return isAssigned(slot) ? values[slot] : defaultValue ;
+  }
+
+  public void setValue(int slot, double value) {
+    if (slot >= values.length) {
+      int length = Math.max(slot + 1, 2 * values.length) ;
+      values = Arrays.copyOf(values, length) ;
+      assigned = Arrays.copyOf(assigned, length) ;
+    }
+    values[slot] = value ;
+    assigned[slot] = true ;
+  }
+
+  public void removeValue(int slot) {
+    if (slot < assigned.length) {
+      assigned[slot] = false ;
+    }
+  }
+
+  /**
+   * Returns the value of an attribute as an object, as done by {@link org.uma.jmetal.solution.Solution#getAttribute(Object)}
+   * @param slot Slot of the attribute
+   * @return The value (an Integer or a Double depending on the slot), or null if it has no value
+   */
+  public Object getAttribute(AttributeSlotRegistry.Slot slot) {
+    int index = slot.getIndex() ;
+    if (!isAssigned(index)) {
+      return null ;
+    }
+
+    Object value ;
+    if (slot.isInteger()) {
+      value = Integer.valueOf((int) values[index]) ;
+    } else {
+      value = Double.valueOf(values[index]) ;
+    }
+    return value ;
+  }
+
+  /**
+   * Sets the value of an attribute from an object, as done by {@link org.uma.jmetal.solution.Solution#setAttribute(Object, Object)}
+   * @param slot Slot of the attribute
+   * @param value Number, or null to remove the value
+   */
+  public void setAttribute(AttributeSlotRegistry.Slot slot, Object value) {
+    if (value == null) {
+      removeValue(slot.getIndex());
+    } else if (value instanceof Number) {
+      setValue(slot.getIndex(), ((Number) value).doubleValue());
+    } else {
+      throw new JMetalException("The value of the attribute " + slot.getIdentifier()
+          + " must be a number: " + value) ;
+    }
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+
+    AttributeSlots that = (AttributeSlots) o;
+    int length = Math.max(assigned.length, that.assigned.length) ;
+    for (int i = 0; i < length; i++) {
+      if (isAssigned(i) != that.isAssigned(i)) {
+        return false ;
+      }
+      if (isAssigned(i) && (Double.compare(values[i], that.values[i]) != 0)) {
+        return false ;
+      }
+    }
+
+    return true ;
+  }
+
+  @Override
+  public int hashCode() {
+    int result = 1 ;
+    for (int i = 0; i < assigned.length; i++) {
+      if (assigned[i]) {
+        result = 31 * result + i ;
+        result = 31 * result + Double.hashCode(values[i]) ;
+      }
+    }
+    return result ;
+  }
+
+  /**
+   * Slot indexes depend on the order in which the attributes are registered, so each value is
+   * written together with its slot, which is resolved again when read
+   */
+  private void writeObject(ObjectOutputStream out) throws IOException {
+    out.defaultWriteObject();
+    int count = 0 ;
+    for (boolean flag : assigned) {
+      count += flag ? 1 : 0 ;
+    }
+    out.writeInt(count);
+    for (int i = 0; i < assigned.length; i++) {
+      if (assigned[i]) {
+        out.writeObject(AttributeSlotRegistry.getSlot(i));
+        out.writeDouble(values[i]);
+      }
+    }
+  }
+
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    values = NO_VALUES ;
+    assigned = NO_FLAGS ;
+    int count = in.readInt() ;
+    for (int i = 0; i < count; i++) {
+      AttributeSlotRegistry.Slot slot = (AttributeSlotRegistry.Slot) in.readObject() ;
+      setValue(slot.getIndex(), in.readDouble());
+    }
+  }
+}
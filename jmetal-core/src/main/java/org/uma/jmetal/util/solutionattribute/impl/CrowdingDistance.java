@@ -15,7 +15,7 @@ import java.util.List;
  */
 @SuppressWarnings("serial")
 public class CrowdingDistance<S extends Solution<?>>
-    extends GenericSolutionAttribute<S, Double> implements DensityEstimator<S>{
+    extends DoubleValueSolutionAttribute<S> implements DensityEstimator<S>{
 
   /**
    * Assigns crowding distances to all solutions in a <code>SolutionSet</code>.
@@ -33,13 +33,13 @@ public class CrowdingDistance<S extends Solution<?>>
     }
 
     if (size == 1) {
-      solutionList.get(0).setAttribute(getAttributeIdentifier(), Double.POSITIVE_INFINITY);
+      setValue(solutionList.get(0), Double.POSITIVE_INFINITY);
       return;
     }
 
     if (size == 2) {
-      solutionList.get(0).setAttribute(getAttributeIdentifier(), Double.POSITIVE_INFINITY);
-      solutionList.get(1).setAttribute(getAttributeIdentifier(), Double.POSITIVE_INFINITY);
+      setValue(solutionList.get(0), Double.POSITIVE_INFINITY);
+      setValue(solutionList.get(1), Double.POSITIVE_INFINITY);
 
       return;
     }
@@ -51,7 +51,7 @@ public class CrowdingDistance<S extends Solution<?>>
     }
 
     for (int i = 0; i < size; i++) {
-      front.get(i).setAttribute(getAttributeIdentifier(), 0.0);
+      setValue(front.get(i), 0.0);
     }
 
     double objetiveMaxn;
@@ -67,14 +67,14 @@ public class CrowdingDistance<S extends Solution<?>>
       objetiveMaxn = front.get(front.size() - 1).getObjective(i);
 
       // Set de crowding distance
-      front.get(0).setAttribute(getAttributeIdentifier(), Double.POSITIVE_INFINITY);
-      front.get(size - 1).setAttribute(getAttributeIdentifier(), Double.POSITIVE_INFINITY);
+      setValue(front.get(0), Double.POSITIVE_INFINITY);
+      setValue(front.get(size - 1), Double.POSITIVE_INFINITY);
 
       for (int j = 1; j < size - 1; j++) {
         distance = front.get(j + 1).getObjective(i) - front.get(j - 1).getObjective(i);
         distance = distance / (objetiveMaxn - objetiveMinn);
-        distance += (double)front.get(j).getAttribute(getAttributeIdentifier());
-        front.get(j).setAttribute(getAttributeIdentifier(), distance);
+        distance += getValue(front.get(j), 0.0);
+        setValue(front.get(j), distance);
       }
     }
   }
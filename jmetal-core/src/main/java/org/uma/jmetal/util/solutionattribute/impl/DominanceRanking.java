@@ -22,7 +22,7 @@ import java.util.*;
  */
 @SuppressWarnings("serial")
 public class DominanceRanking <S extends Solution<?>>
-    extends GenericSolutionAttribute<S, Integer> implements Ranking<S> {
+    extends IntegerValueSolutionAttribute<S> implements Ranking<S> {
 
   private Comparator<S> dominanceComparator ;
   private static final Comparator<Solution<?>> CONSTRAINT_VIOLATION_COMPARATOR =
@@ -99,7 +99,7 @@ public class DominanceRanking <S extends Solution<?>>
     for (int i = 0; i < population.size(); i++) {
       if (dominateMe[i] == 0) {
         front.get(0).add(i);
-        solutionSet.get(i).setAttribute(getAttributeIdentifier(), 0);
+        setValue(solutionSet.get(i), 0);
       }
     }
 
@@ -117,7 +117,7 @@ public class DominanceRanking <S extends Solution<?>>
           if (dominateMe[index] == 0) {
             front.get(i).add(index);
             //RankingAndCrowdingAttr.getAttributes(solutionSet.get(index)).setRank(i);
-            solutionSet.get(index).setAttribute(getAttributeIdentifier(), i);
+            setValue(solutionSet.get(index), i);
           }
         }
       }
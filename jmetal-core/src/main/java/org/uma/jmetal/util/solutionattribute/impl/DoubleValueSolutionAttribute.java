@@ -0,0 +1,79 @@
+package org.uma.jmetal.util.solutionattribute.impl;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.solutionattribute.AttributeSlotRegistry;
+import org.uma.jmetal.util.solutionattribute.AttributeSlots;
+
+/**
+ * Solution attribute whose values are doubles. The identifier of the attribute is registered in
+ * the {@link AttributeSlotRegistry}, so the values are stored in the {@link AttributeSlots} of the
+ * solutions providing them and can be read and written without boxing through
+ * {@link #getValue(Solution, double)} and {@link #setValue(Solution, double)}. The attribute map
+ * of the solution is used otherwise.
+ *
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+@SuppressWarnings("serial")
+public class DoubleValueSolutionAttribute<S extends Solution<?>> extends GenericSolutionAttribute<S, Double> {
+  private final AttributeSlotRegistry.Slot slot ;
+
+  /**
+   * Constructor
+   */
+  public DoubleValueSolutionAttribute() {
+    slot = AttributeSlotRegistry.registerDoubleAttribute(getAttributeIdentifier()) ;
+  }
+
+  /**
+   * Constructor
+   * @param id Attribute identifier
+   */
+  public DoubleValueSolutionAttribute(Object id) {
+    super(id) ;
+    slot = AttributeSlotRegistry.registerDoubleAttribute(getAttributeIdentifier()) ;
+  }
+
+  /**
+   * @param solution Solution
+   * @param defaultValue Value returned if the solution has no value for the attribute
+   * @return The value of the attribute
+   */
+  public double getValue(S solution, double defaultValue) {
+    AttributeSlots slots = solution.getAttributeSlots() ;
+    if ((slots != null) && slots.isAssigned(slot.getIndex())) {
+      return slots.getValue(slot.getIndex(), defaultValue) ;
+    }
+
+    Object value = solution.getAttribute(getAttributeIdentifier()) ;
+    return value == null ? defaultValue : ((Number) value).doubleValue() ;
+  }
+
+  public void setValue(S solution, double value) {
+    AttributeSlots slots = solution.getAttributeSlots() ;
+    if (slots != null) {
+      slots.setValue(slot.getIndex(), value);
+    } else {
+      solution.setAttribute(getAttributeIdentifier(), value);
+    }
+  }
+
+  @Override
+  public Double getAttribute(S solution) {
+    AttributeSlots slots = solution.getAttributeSlots() ;
+    if ((slots != null) && slots.isAssigned(slot.getIndex())) {
+      return slots.getValue(slot.getIndex(), 0.0) ;
+    }
+
+    Object value = solution.getAttribute(getAttributeIdentifier()) ;
+    return value == null ? null : ((Number) value).doubleValue() ;
+  }
+
+  @Override
+  public void setAttribute(S solution, Double value) {
+    if (value == null) {
+      solution.setAttribute(getAttributeIdentifier(), null);
+    } else {
+      setValue(solution, value);
+    }
+  }
+}
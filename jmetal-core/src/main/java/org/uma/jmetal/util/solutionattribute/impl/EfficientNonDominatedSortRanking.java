@@ -0,0 +1,627 @@
+package org.uma.jmetal.util.solutionattribute.impl;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.comparator.DominanceComparator;
+import org.uma.jmetal.util.comparator.impl.OverallConstraintViolationComparator;
+import org.uma.jmetal.util.solutionattribute.Ranking;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * This class ranks a set of solutions producing the same subfronts as {@link DominanceRanking},
+ * but the objectives are copied to a matrix of doubles and the non-dominated sorting is done with
+ * algorithms faster than the O(MN^2) fast non-dominated sort of NSGA-II:
+ * - two objectives: a sweep line over the solutions sorted lexicographically, O(N log N)
+ * - up to a few thousand solutions: ENS-SS (efficient non-dominated sort with sequential
+ * search), see: X. Zhang, Y. Tian, R. Cheng, Y. Jin. "An efficient approach to nondominated
+ * sorting for evolutionary multiobjective optimization". IEEE TEVC 19(2), 2015.
+ * - otherwise: the divide-and-conquer algorithm of Jensen generalized by Buzdalov and Shalyto,
+ * O(N log^(M-1) N), see: M. Buzdalov, A. Shalyto. "A provably asymptotically fast version of the
+ * generalized Jensen algorithm for non-dominated sorting". PPSN XIII, 2014.
+ *
+ * The constraints are taken into account in a separate pass: the solutions are grouped by their
+ * overall constraint violation, as the {@link OverallConstraintViolationComparator} does, and each
+ * group is sorted after the groups with lower violation. If the ranking is created with a
+ * comparator other than a {@link DominanceComparator} based on the overall constraint violation,
+ * or the solutions mix constrained and unconstrained values, the ranking is computed by
+ * {@link DominanceRanking}.
+ *
+ * The ranks are stored with the same identifier as in {@link DominanceRanking}, and the solutions
+ * of each subfront are kept in the order of the ranked list.
+ *
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+@SuppressWarnings("serial")
+public class EfficientNonDominatedSortRanking<S extends Solution<?>>
+    extends IntegerValueSolutionAttribute<S> implements Ranking<S> {
+
+  /**
+   * Sets with more than two objectives and fewer points are sorted by ENS-SS, which is faster
+   * unless most of the points are in a few fronts
+   */
+  private static final int DIVIDE_AND_CONQUER_THRESHOLD = 2000 ;
+  /** Subproblems with fewer points are solved comparing every pair of points */
+  private static final int BRUTE_FORCE_THRESHOLD = 16 ;
+
+  private final Comparator<S> dominanceComparator ;
+  private final boolean paretoDominance ;
+  private final OverallConstraintViolation<S> overallConstraintViolation ;
+
+  private List<ArrayList<S>> rankedSubPopulations;
+
+  /**
+   * Constructor
+   */
+  public EfficientNonDominatedSortRanking(Comparator<S> comparator) {
+    super(DominanceRanking.class) ;
+    this.dominanceComparator = comparator ;
+    this.paretoDominance = isParetoDominanceComparator(comparator) ;
+    this.overallConstraintViolation = new OverallConstraintViolation<S>() ;
+    rankedSubPopulations = new ArrayList<>();
+  }
+
+  /**
+   * Constructor
+   */
+  public EfficientNonDominatedSortRanking() {
+    this(new DominanceComparator<>()) ;
+  }
+
+  @Override
+  public Ranking<S> computeRanking(List<S> solutionList) {
+    int[] ranks = paretoDominance ? computeRanks(solutionList) : null ;
+    if (ranks == null) {
+      Ranking<S> ranking = new DominanceRanking<S>(dominanceComparator).computeRanking(solutionList) ;
+      rankedSubPopulations = new ArrayList<>(ranking.getNumberOfSubfronts()) ;
+      for (int i = 0; i < ranking.getNumberOfSubfronts(); i++) {
+        rankedSubPopulations.add(new ArrayList<>(ranking.getSubfront(i))) ;
+      }
+
+      return this ;
+    }
+
+    int numberOfSubfronts = 0 ;
+    for (int rank : ranks) {
+      numberOfSubfronts = Math.max(numberOfSubfronts, rank + 1) ;
+    }
+    rankedSubPopulations = new ArrayList<>(numberOfSubfronts);
+    for (int i = 0; i < numberOfSubfronts; i++) {
+      rankedSubPopulations.add(new ArrayList<S>()) ;
+    }
+    for (int i = 0; i < solutionList.size(); i++) {
+      rankedSubPopulations.get(ranks[i]).add(solutionList.get(i)) ;
+      setValue(solutionList.get(i), ranks[i]);
+    }
+
+    return this;
+  }
+
+  @Override
+  public List<S> getSubfront(int rank) {
+    if (rank >= rankedSubPopulations.size()) {
+      throw new JMetalException("Invalid rank: " + rank + ". Max rank = " + (rankedSubPopulations.size() -1)) ;
+    }
+    return rankedSubPopulations.get(rank);
+  }
+
+  @Override
+  public int getNumberOfSubfronts() {
+    return rankedSubPopulations.size();
+  }
+
+  /**
+   * Computes the rank of every solution, or returns null if the constraint violation values can
+   * not be handled by grouping (some solutions with violation and some without it, or positive
+   * violation values)
+   */
+  private int[] computeRanks(List<S> solutionList) {
+    int size = solutionList.size() ;
+    double[] violations = new double[size] ;
+    int numberOfSolutionsWithoutViolation = 0 ;
+    for (int i = 0; i < size; i++) {
+      violations[i] = overallConstraintViolation.getValue(solutionList.get(i), Double.NaN) ;
+      if (Double.isNaN(violations[i])) {
+        numberOfSolutionsWithoutViolation++ ;
+      } else if (violations[i] > 0) {
+        return null ;
+      } else if (violations[i] == 0) {
+        // -0.0 and 0.0 belong to the same group
+        violations[i] = 0.0 ;
+      }
+    }
+    if (numberOfSolutionsWithoutViolation == size) {
+      Arrays.fill(violations, 0.0);
+    } else if (numberOfSolutionsWithoutViolation != 0) {
+      return null ;
+    }
+
+    // Solutions sorted by decreasing violation value (i.e., the feasible ones first)
+    int[] order = new int[size] ;
+    for (int i = 0; i < size; i++) {
+      order[i] = i ;
+    }
+    sortIndexes(order, (i, j) -> Double.compare(violations[j], violations[i])) ;
+
+    int[] ranks = new int[size] ;
+    int rankOffset = 0 ;
+    int groupStart = 0 ;
+    while (groupStart < size) {
+      int groupEnd = groupStart + 1 ;
+      while ((groupEnd < size) && (violations[order[groupEnd]] == violations[order[groupStart]])) {
+        groupEnd++ ;
+      }
+
+      double[][] objectives = new double[groupEnd - groupStart][] ;
+      for (int i = groupStart; i < groupEnd; i++) {
+        S solution = solutionList.get(order[i]) ;
+        objectives[i - groupStart] = new double[solution.getNumberOfObjectives()] ;
+        for (int j = 0; j < objectives[i - groupStart].length; j++) {
+          objectives[i - groupStart][j] = solution.getObjective(j) ;
+        }
+      }
+
+      int[] groupRanks = sort(objectives) ;
+      int maxRank = 0 ;
+      for (int i = groupStart; i < groupEnd; i++) {
+        ranks[order[i]] = rankOffset + groupRanks[i - groupStart] ;
+        maxRank = Math.max(maxRank, ranks[order[i]]) ;
+      }
+
+      rankOffset = maxRank + 1 ;
+      groupStart = groupEnd ;
+    }
+
+    return ranks ;
+  }
+
+  /**
+   * Non-dominated sorting of a set of points (minimization)
+   * @param points Matrix with a row per point
+   * @return The rank of each point (0 for the non-dominated ones)
+   */
+  public static int[] sort(double[][] points) {
+    int size = points.length ;
+    int[] ranks = new int[size] ;
+    if (size == 0) {
+      return ranks ;
+    }
+
+    // Lexicographic order, with the duplicated points grouped
+    int[] order = new int[size] ;
+    for (int i = 0; i < size; i++) {
+      order[i] = i ;
+    }
+    sortIndexes(order, (i, j) -> compareLexicographically(points[i], points[j])) ;
+
+    int[] uniqueIndex = new int[size] ;
+    double[][] uniquePoints = new double[size][] ;
+    int numberOfUniquePoints = 0 ;
+    for (int i = 0; i < size; i++) {
+      if ((i == 0) || (compareLexicographically(points[order[i - 1]], points[order[i]]) != 0)) {
+        uniquePoints[numberOfUniquePoints++] = points[order[i]] ;
+      }
+      uniqueIndex[order[i]] = numberOfUniquePoints - 1 ;
+    }
+
+    Sorter sorter = new Sorter(Arrays.copyOf(uniquePoints, numberOfUniquePoints)) ;
+    sorter.sort();
+
+    for (int i = 0; i < size; i++) {
+      ranks[i] = sorter.ranks[uniqueIndex[i]] ;
+    }
+
+    return ranks ;
+  }
+
+  private boolean isParetoDominanceComparator(Comparator<S> comparator) {
+    return (comparator != null) && (comparator.getClass() == DominanceComparator.class)
+        && (((DominanceComparator<S>) comparator).getConstraintViolationComparator().getClass()
+            == OverallConstraintViolationComparator.class) ;
+  }
+
+  private static int compareLexicographically(double[] point1, double[] point2) {
+    for (int i = 0; i < point1.length; i++) {
+      if (point1[i] < point2[i]) {
+        return -1 ;
+      } else if (point1[i] > point2[i]) {
+        return 1 ;
+      }
+    }
+
+    return 0 ;
+  }
+
+  private interface IndexComparator {
+    int compare(int index1, int index2) ;
+  }
+
+  /** Stable merge sort of an array of indexes, avoiding boxing them */
+  private static void sortIndexes(int[] indexes, IndexComparator comparator) {
+    int[] buffer = new int[indexes.length] ;
+    for (int width = 1; width < indexes.length; width *= 2) {
+      for (int low = 0; low < indexes.length - width; low += 2 * width) {
+        int middle = low + width ;
+        int high = Math.min(low + 2 * width, indexes.length) ;
+        int i = low ;
+        int j = middle ;
+        int k = low ;
+        while ((i < middle) && (j < high)) {
+          buffer[k++] = comparator.compare(indexes[j], indexes[i]) < 0 ? indexes[j++] : indexes[i++] ;
+        }
+        while (i < middle) {
+          buffer[k++] = indexes[i++] ;
+        }
+        while (j < high) {
+          buffer[k++] = indexes[j++] ;
+        }
+        System.arraycopy(buffer, low, indexes, low, high - low);
+      }
+    }
+  }
+
+  /**
+   * Non-dominated sorting of a set of different points sorted lexicographically, so that a point
+   * can only be dominated by the previous ones. The sets of points handled by the
+   * divide-and-conquer methods are arrays of increasing indexes, hence sorted lexicographically.
+   */
+  private static class Sorter {
+    private final double[][] points ;
+    private final int[] ranks ;
+    private final int numberOfObjectives ;
+    private final Staircase staircase ;
+
+    Sorter(double[][] points) {
+      this.points = points ;
+      this.ranks = new int[points.length] ;
+      this.numberOfObjectives = points[0].length ;
+      this.staircase = new Staircase(points.length) ;
+    }
+
+    void sort() {
+      if (numberOfObjectives == 1) {
+        for (int i = 0; i < points.length; i++) {
+          ranks[i] = i ;
+        }
+      } else if ((numberOfObjectives > 2) && (points.length < DIVIDE_AND_CONQUER_THRESHOLD)) {
+        sequentialSearchSort() ;
+      } else {
+        int[] indexes = new int[points.length] ;
+        for (int i = 0; i < indexes.length; i++) {
+          indexes[i] = i ;
+        }
+        helperA(indexes, numberOfObjectives - 1);
+      }
+    }
+
+    /** ENS-SS: each point is added to the first front without any point dominating it */
+    private void sequentialSearchSort() {
+      int[][] fronts = new int[points.length][] ;
+      int[] frontSizes = new int[points.length] ;
+      int numberOfFronts = 0 ;
+      for (int point = 0; point < points.length; point++) {
+        int front = 0 ;
+        while ((front < numberOfFronts) && isDominatedByFront(point, fronts[front], frontSizes[front])) {
+          front++ ;
+        }
+        if (front == numberOfFronts) {
+          fronts[numberOfFronts++] = new int[4] ;
+        } else if (frontSizes[front] == fronts[front].length) {
+          fronts[front] = Arrays.copyOf(fronts[front], 2 * frontSizes[front]) ;
+        }
+        fronts[front][frontSizes[front]++] = point ;
+        ranks[point] = front ;
+      }
+    }
+
+    private boolean isDominatedByFront(int point, int[] front, int frontSize) {
+      // The last points added to a front are the most likely to dominate the new one
+      for (int i = frontSize - 1; i >= 0; i--) {
+        if (dominates(front[i], point, numberOfObjectives - 1)) {
+          return true ;
+        }
+      }
+
+      return false ;
+    }
+
+    /**
+     * Whether a point dominates another one which is after it in lexicographic order, assuming
+     * that it is not worse in the objectives greater than the given one
+     */
+    private boolean dominates(int point1, int point2, int objective) {
+      for (int i = 0; i <= objective; i++) {
+        if (points[point1][i] > points[point2][i]) {
+          return false ;
+        }
+      }
+
+      return true ;
+    }
+
+    private void updateRank(int dominatingPoint, int dominatedPoint) {
+      if (ranks[dominatedPoint] <= ranks[dominatingPoint]) {
+        ranks[dominatedPoint] = ranks[dominatingPoint] + 1 ;
+      }
+    }
+
+    /**
+     * Sets the ranks of a set of points taking into account the objectives up to the given one
+     * (the points have the same values in the greater ones). The ranks of the points must already
+     * take into account the dominance by points which are not in the set.
+     */
+    private void helperA(int[] set, int objective) {
+      if (set.length < 2) {
+        return ;
+      } else if (set.length <= BRUTE_FORCE_THRESHOLD) {
+        for (int i = 1; i < set.length; i++) {
+          for (int j = 0; j < i; j++) {
+            if (dominates(set[j], set[i], objective)) {
+              updateRank(set[j], set[i]);
+            }
+          }
+        }
+      } else if (objective == 1) {
+        sweepA(set) ;
+      } else {
+        double minimum = minimum(set, objective) ;
+        double maximum = maximum(set, objective) ;
+        if (minimum == maximum) {
+          helperA(set, objective - 1);
+        } else {
+          double median = median(set, objective) ;
+          int[] lower = filter(set, objective, median, -1) ;
+          int[] equal = filter(set, objective, median, 0) ;
+          int[] greater = filter(set, objective, median, 1) ;
+
+          helperA(lower, objective);
+          helperB(lower, equal, objective - 1);
+          helperA(equal, objective - 1);
+          helperB(merge(lower, equal), greater, objective - 1);
+          helperA(greater, objective);
+        }
+      }
+    }
+
+    /**
+     * Updates the ranks of the points of a set with the points of another one whose ranks are
+     * final, taking into account the objectives up to the given one (the points of the first set
+     * are not worse in the greater ones)
+     */
+    private void helperB(int[] lowSet, int[] highSet, int objective) {
+      if ((lowSet.length == 0) || (highSet.length == 0)) {
+        return ;
+      } else if ((lowSet.length == 1) || (highSet.length == 1)
+          || (lowSet.length * highSet.length <= BRUTE_FORCE_THRESHOLD * BRUTE_FORCE_THRESHOLD)) {
+        for (int high : highSet) {
+          for (int low : lowSet) {
+            if (dominates(low, high, objective)) {
+              updateRank(low, high);
+            }
+          }
+        }
+      } else if (objective == 1) {
+        sweepB(lowSet, highSet) ;
+      } else {
+        double lowMinimum = minimum(lowSet, objective) ;
+        double lowMaximum = maximum(lowSet, objective) ;
+        double highMinimum = minimum(highSet, objective) ;
+        double highMaximum = maximum(highSet, objective) ;
+        if (lowMaximum <= highMinimum) {
+          helperB(lowSet, highSet, objective - 1);
+        } else if (lowMinimum <= highMaximum) {
+          double median = median(merge(lowSet, highSet), objective) ;
+          int[] lowLower = filter(lowSet, objective, median, -1) ;
+          int[] lowEqual = filter(lowSet, objective, median, 0) ;
+          int[] lowGreater = filter(lowSet, objective, median, 1) ;
+          int[] highLower = filter(highSet, objective, median, -1) ;
+          int[] highEqual = filter(highSet, objective, median, 0) ;
+          int[] highGreater = filter(highSet, objective, median, 1) ;
+
+          helperB(lowLower, highLower, objective);
+          helperB(merge(lowLower, lowEqual), merge(highEqual, highGreater), objective - 1);
+          helperB(lowGreater, highGreater, objective);
+        }
+      }
+    }
+
+    /** helperA for the first two objectives */
+    private void sweepA(int[] set) {
+      staircase.clear();
+      for (int point : set) {
+        int dominatingRank = staircase.findRank(points[point][1]) ;
+        if (ranks[point] <= dominatingRank) {
+          ranks[point] = dominatingRank + 1 ;
+        }
+        staircase.add(points[point][1], ranks[point]);
+      }
+    }
+
+    /** helperB for the first two objectives */
+    private void sweepB(int[] lowSet, int[] highSet) {
+      staircase.clear();
+      int low = 0 ;
+      for (int point : highSet) {
+        while ((low < lowSet.length) && !isAfter(lowSet[low], point)) {
+          staircase.add(points[lowSet[low]][1], ranks[lowSet[low]]);
+          low++ ;
+        }
+
+        int dominatingRank = staircase.findRank(points[point][1]) ;
+        if (ranks[point] <= dominatingRank) {
+          ranks[point] = dominatingRank + 1 ;
+        }
+      }
+    }
+
+    /** Whether a point is after another one in lexicographic order of the first two objectives */
+    private boolean isAfter(int point1, int point2) {
+      return (points[point1][0] > points[point2][0])
+          || ((points[point1][0] == points[point2][0]) && (points[point1][1] > points[point2][1])) ;
+    }
+
+    private double minimum(int[] set, int objective) {
+      double minimum = Double.POSITIVE_INFINITY ;
+      for (int point : set) {
+        minimum = Math.min(minimum, points[point][objective]) ;
+      }
+      return minimum ;
+    }
+
+    private double maximum(int[] set, int objective) {
+      double maximum = Double.NEGATIVE_INFINITY ;
+      for (int point : set) {
+        maximum = Math.max(maximum, points[point][objective]) ;
+      }
+      return maximum ;
+    }
+
+    private double median(int[] set, int objective) {
+      double[] values = new double[set.length] ;
+      for (int i = 0; i < set.length; i++) {
+        values[i] = points[set[i]][objective] ;
+      }
+
+      return select(values, set.length / 2) ;
+    }
+
+    /** Quickselect: the k-th smallest value of an array, which is reordered */
+    private static double select(double[] values, int k) {
+      int left = 0 ;
+      int right = values.length - 1 ;
+      while (left < right) {
+        double pivot = values[(left + right) >>> 1] ;
+        int i = left ;
+        int j = right ;
+        while (i <= j) {
+          while (values[i] < pivot) {
+            i++ ;
+          }
+          while (values[j] > pivot) {
+            j-- ;
+          }
+          if (i <= j) {
+            double value = values[i] ;
+            values[i] = values[j] ;
+            values[j] = value ;
+            i++ ;
+            j-- ;
+          }
+        }
+        if (k <= j) {
+          right = j ;
+        } else if (k >= i) {
+          left = i ;
+        } else {
+          return values[k] ;
+        }
+      }
+
+      return values[k] ;
+    }
+
+    /** Points of a set whose value in an objective is lower (-1), equal (0) or greater (1) than a given one */
+    private int[] filter(int[] set, int objective, double value, int side) {
+      int[] result = new int[set.length] ;
+      int size = 0 ;
+      for (int point : set) {
+        double pointValue = points[point][objective] ;
+        if ((side < 0) ? (pointValue < value) : ((side == 0) ? (pointValue == value) : (pointValue > value))) {
+          result[size++] = point ;
+        }
+      }
+
+      return Arrays.copyOf(result, size) ;
+    }
+
+    /** Merges two sets keeping the increasing order of the indexes */
+    private static int[] merge(int[] set1, int[] set2) {
+      int[] result = new int[set1.length + set2.length] ;
+      int i = 0 ;
+      int j = 0 ;
+      int k = 0 ;
+      while ((i < set1.length) && (j < set2.length)) {
+        result[k++] = set1[i] < set2[j] ? set1[i++] : set2[j++] ;
+      }
+      while (i < set1.length) {
+        result[k++] = set1[i++] ;
+      }
+      while (j < set2.length) {
+        result[k++] = set2[j++] ;
+      }
+
+      return result ;
+    }
+  }
+
+  /**
+   * Pairs (value, rank) where the ranks increase with the values; it gives the highest rank of the
+   * points added with a value not greater than a given one
+   */
+  private static class Staircase {
+    private final double[] values ;
+    private final int[] ranks ;
+    private int size ;
+
+    Staircase(int capacity) {
+      values = new double[capacity] ;
+      ranks = new int[capacity] ;
+    }
+
+    void clear() {
+      size = 0 ;
+    }
+
+    /** @return The highest rank of the points with a value not greater than the given one, or -1 */
+    int findRank(double value) {
+      int position = upperBound(value) ;
+      return position == 0 ? -1 : ranks[position - 1] ;
+    }
+
+    void add(double value, int rank) {
+      int position = upperBound(value) ;
+      if ((position > 0) && (ranks[position - 1] >= rank)) {
+        return ;
+      }
+      if ((position > 0) && (values[position - 1] == value)) {
+        position-- ;
+      }
+
+      // The following steps with a rank not greater than the new one are removed
+      int end = position ;
+      while ((end < size) && (ranks[end] <= rank)) {
+        end++ ;
+      }
+      if (end == position) {
+        System.arraycopy(values, position, values, position + 1, size - position);
+        System.arraycopy(ranks, position, ranks, position + 1, size - position);
+        size++ ;
+      } else if (end > position + 1) {
+        System.arraycopy(values, end, values, position + 1, size - end);
+        System.arraycopy(ranks, end, ranks, position + 1, size - end);
+        size -= end - position - 1 ;
+      }
+      values[position] = value ;
+      ranks[position] = rank ;
+    }
+
+    /** First position with a value greater than the given one */
+    private int upperBound(double value) {
+      int low = 0 ;
+      int high = size ;
+      while (low < high) {
+        int middle = (low + high) >>> 1 ;
+        if (values[middle] <= value) {
+          low = middle + 1 ;
+        } else {
+          high = middle ;
+        }
+      }
+
+      return low ;
+    }
+  }
+}
@@ -6,5 +6,5 @@ import org.uma.jmetal.solution.Solution;
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 @SuppressWarnings("serial")
-public class Fitness<S extends Solution<?>> extends GenericSolutionAttribute<S, Double> {
+public class Fitness<S extends Solution<?>> extends DoubleValueSolutionAttribute<S> {
 }
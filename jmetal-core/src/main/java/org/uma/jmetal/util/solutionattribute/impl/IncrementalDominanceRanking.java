@@ -0,0 +1,248 @@
+package org.uma.jmetal.util.solutionattribute.impl;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.comparator.DominanceComparator;
+import org.uma.jmetal.util.comparator.impl.OverallConstraintViolationComparator;
+import org.uma.jmetal.util.solutionattribute.Ranking;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * This class ranks a set of solutions as {@link DominanceRanking} does, but the decomposition in
+ * subfronts is kept between calls and updated when a solution is added or removed, which is the
+ * case of steady-state algorithms (e.g. SMS-EMOA) where only one solution changes in each step.
+ *
+ * A new solution is placed in the first subfront without any solution dominating it (found by
+ * binary search on the subfronts); the solutions of that subfront dominated by the new one are
+ * moved to the next subfront, and so on. When a solution is removed, the solutions of the next
+ * subfront that were only dominated by it are moved up, and so on. See: K. Li, K. Deb, Q. Zhang,
+ * S. Kwong. "Efficient non-domination level update approach for steady-state evolutionary
+ * multiobjective optimization". IEEE TEVC 19(5), 2015.
+ *
+ * The ranks are stored with the same identifier as in {@link DominanceRanking}, so they can be
+ * read with the comparators based on it.
+ *
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+@SuppressWarnings("serial")
+public class IncrementalDominanceRanking<S extends Solution<?>>
+    extends IntegerValueSolutionAttribute<S> implements Ranking<S> {
+
+  private static final Comparator<Solution<?>> CONSTRAINT_VIOLATION_COMPARATOR =
+      new OverallConstraintViolationComparator<Solution<?>>();
+
+  private Comparator<S> dominanceComparator ;
+  private List<List<S>> subfronts ;
+  private int size ;
+
+  /**
+   * Constructor
+   */
+  public IncrementalDominanceRanking(Comparator<S> comparator) {
+    super(DominanceRanking.class) ;
+    this.dominanceComparator = comparator ;
+    subfronts = new ArrayList<>() ;
+  }
+
+  /**
+   * Constructor
+   */
+  public IncrementalDominanceRanking() {
+    this(new DominanceComparator<>()) ;
+  }
+
+  /**
+   * Ranks a list of solutions, discarding the solutions previously added. The initial subfronts
+   * are computed with {@link EfficientNonDominatedSortRanking}
+   */
+  @Override
+  public Ranking<S> computeRanking(List<S> solutionList) {
+    Ranking<S> ranking = new EfficientNonDominatedSortRanking<S>(dominanceComparator).computeRanking(solutionList) ;
+
+    subfronts = new ArrayList<>(ranking.getNumberOfSubfronts()) ;
+    for (int i = 0; i < ranking.getNumberOfSubfronts(); i++) {
+      subfronts.add(new ArrayList<>(ranking.getSubfront(i))) ;
+    }
+    size = solutionList.size() ;
+
+    return this;
+  }
+
+  /**
+   * Adds a solution, updating the ranks of the solutions it dominates
+   * @param solution
+   * @return The rank of the solution
+   */
+  public int add(S solution) {
+    int rank = findRank(solution) ;
+
+    List<S> movedSolutions = new ArrayList<>(1) ;
+    movedSolutions.add(solution) ;
+    int currentRank = rank ;
+    while (!movedSolutions.isEmpty()) {
+      if (currentRank == subfronts.size()) {
+        subfronts.add(new ArrayList<S>()) ;
+      }
+      List<S> subfront = subfronts.get(currentRank) ;
+
+      List<S> dominatedSolutions = new ArrayList<>() ;
+      int last = 0 ;
+      for (S member : subfront) {
+        if (isDominatedByAny(member, movedSolutions)) {
+          dominatedSolutions.add(member) ;
+        } else {
+          subfront.set(last++, member) ;
+        }
+      }
+      subfront.subList(last, subfront.size()).clear();
+
+      for (S movedSolution : movedSolutions) {
+        subfront.add(movedSolution) ;
+        setValue(movedSolution, currentRank);
+      }
+
+      movedSolutions = dominatedSolutions ;
+      currentRank++ ;
+    }
+    size++ ;
+
+    return rank ;
+  }
+
+  /**
+   * Removes a solution, updating the ranks of the solutions it dominates
+   * @param solution
+   */
+  public void remove(S solution) {
+    int rank = findSubfrontContaining(solution) ;
+    if (rank == -1) {
+      throw new JMetalException("The solution has not been ranked: " + solution) ;
+    }
+    removeByIdentity(subfronts.get(rank), solution) ;
+    size-- ;
+
+    List<S> removedSolutions = new ArrayList<>(1) ;
+    removedSolutions.add(solution) ;
+    for (int i = rank + 1; (i < subfronts.size()) && !removedSolutions.isEmpty(); i++) {
+      List<S> upperSubfront = subfronts.get(i - 1) ;
+      List<S> subfront = subfronts.get(i) ;
+
+      List<S> promotedSolutions = new ArrayList<>() ;
+      int last = 0 ;
+      for (S member : subfront) {
+        if (isDominatedByAny(member, removedSolutions) && !isDominatedByAny(member, upperSubfront)) {
+          promotedSolutions.add(member) ;
+        } else {
+          subfront.set(last++, member) ;
+        }
+      }
+      subfront.subList(last, subfront.size()).clear();
+
+      for (S promotedSolution : promotedSolutions) {
+        upperSubfront.add(promotedSolution) ;
+        setValue(promotedSolution, i - 1);
+      }
+
+      removedSolutions = promotedSolutions ;
+    }
+
+    while (!subfronts.isEmpty() && subfronts.get(subfronts.size() - 1).isEmpty()) {
+      subfronts.remove(subfronts.size() - 1) ;
+    }
+  }
+
+  /**
+   * Returns a read-only view of a subfront, which changes when solutions are added or removed
+   */
+  @Override
+  public List<S> getSubfront(int rank) {
+    if (rank >= subfronts.size()) {
+      throw new JMetalException("Invalid rank: " + rank + ". Max rank = " + (subfronts.size() -1)) ;
+    }
+    return Collections.unmodifiableList(subfronts.get(rank));
+  }
+
+  @Override
+  public int getNumberOfSubfronts() {
+    return subfronts.size();
+  }
+
+  /**
+   * @return The number of ranked solutions
+   */
+  public int size() {
+    return size ;
+  }
+
+  /**
+   * The subfronts are sorted by dominance (a solution dominated by a member of a subfront is
+   * dominated by a member of every previous subfront), so the first subfront without any solution
+   * dominating the given one is found by binary search
+   */
+  private int findRank(S solution) {
+    int low = 0 ;
+    int high = subfronts.size() ;
+    while (low < high) {
+      int middle = (low + high) >>> 1 ;
+      if (isDominatedByAny(solution, subfronts.get(middle))) {
+        low = middle + 1 ;
+      } else {
+        high = middle ;
+      }
+    }
+
+    return low ;
+  }
+
+  private int findSubfrontContaining(S solution) {
+    int rank = getValue(solution, -1) ;
+    if ((rank >= 0) && (rank < subfronts.size()) && containsByIdentity(subfronts.get(rank), solution)) {
+      return rank ;
+    }
+
+    for (int i = 0; i < subfronts.size(); i++) {
+      if (containsByIdentity(subfronts.get(i), solution)) {
+        return i ;
+      }
+    }
+
+    return -1 ;
+  }
+
+  private boolean isDominatedByAny(S solution, List<S> solutionList) {
+    for (S other : solutionList) {
+      int flagDominate = CONSTRAINT_VIOLATION_COMPARATOR.compare(other, solution) ;
+      if (flagDominate == 0) {
+        flagDominate = dominanceComparator.compare(other, solution) ;
+      }
+      if (flagDominate == -1) {
+        return true ;
+      }
+    }
+
+    return false ;
+  }
+
+  private static <S> boolean containsByIdentity(List<S> solutionList, S solution) {
+    for (S member : solutionList) {
+      if (member == solution) {
+        return true ;
+      }
+    }
+
+    return false ;
+  }
+
+  private static <S> void removeByIdentity(List<S> solutionList, S solution) {
+    for (int i = 0; i < solutionList.size(); i++) {
+      if (solutionList.get(i) == solution) {
+        solutionList.remove(i) ;
+        return ;
+      }
+    }
+  }
+}
@@ -0,0 +1,79 @@
+package org.uma.jmetal.util.solutionattribute.impl;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.solutionattribute.AttributeSlotRegistry;
+import org.uma.jmetal.util.solutionattribute.AttributeSlots;
+
+/**
+ * Solution attribute whose values are integers. The identifier of the attribute is registered in
+ * the {@link AttributeSlotRegistry}, so the values are stored in the {@link AttributeSlots} of the
+ * solutions providing them and can be read and written without boxing through
+ * {@link #getValue(Solution, int)} and {@link #setValue(Solution, int)}. The attribute map
+ * of the solution is used otherwise.
+ *
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+@SuppressWarnings("serial")
+public class IntegerValueSolutionAttribute<S extends Solution<?>> extends GenericSolutionAttribute<S, Integer> {
+  private final AttributeSlotRegistry.Slot slot ;
+
+  /**
+   * Constructor
+   */
+  public IntegerValueSolutionAttribute() {
+    slot = AttributeSlotRegistry.registerIntegerAttribute(getAttributeIdentifier()) ;
+  }
+
+  /**
+   * Constructor
+   * @param id Attribute identifier
+   */
+  public IntegerValueSolutionAttribute(Object id) {
+    super(id) ;
+    slot = AttributeSlotRegistry.registerIntegerAttribute(getAttributeIdentifier()) ;
+  }
+
+  /**
+   * @param solution Solution
+   * @param defaultValue Value returned if the solution has no value for the attribute
+   * @return The value of the attribute
+   */
+  public int getValue(S solution, int defaultValue) {
+    AttributeSlots slots = solution.getAttributeSlots() ;
+    if ((slots != null) && slots.isAssigned(slot.getIndex())) {
+      return (int) slots.getValue(slot.getIndex(), defaultValue) ;
+    }
+
+    Object value = solution.getAttribute(getAttributeIdentifier()) ;
+    return value == null ? defaultValue : ((Number) value).intValue() ;
+  }
+
+  public void setValue(S solution, int value) {
+    AttributeSlots slots = solution.getAttributeSlots() ;
+    if (slots != null) {
+      slots.setValue(slot.getIndex(), value);
+    } else {
+      solution.setAttribute(getAttributeIdentifier(), value);
+    }
+  }
+
+  @Override
+  public Integer getAttribute(S solution) {
+    AttributeSlots slots = solution.getAttributeSlots() ;
+    if ((slots != null) && slots.isAssigned(slot.getIndex())) {
+      return (int) slots.getValue(slot.getIndex(), 0) ;
+    }
+
+    Object value = solution.getAttribute(getAttributeIdentifier()) ;
+    return value == null ? null : ((Number) value).intValue() ;
+  }
+
+  @Override
+  public void setAttribute(S solution, Integer value) {
+    if (value == null) {
+      solution.setAttribute(getAttributeIdentifier(), null);
+    } else {
+      setValue(solution, value);
+    }
+  }
+}
@@ -1,50 +1,51 @@
 package org.uma.jmetal.util.solutionattribute.impl;
 
 import org.uma.jmetal.solution.Solution;
-import org.uma.jmetal.util.SolutionListUtils;
-import org.uma.jmetal.util.comparator.DominanceComparator;
+import org.uma.jmetal.util.DominanceDistanceMatrix;
 import org.uma.jmetal.util.solutionattribute.DensityEstimator;
 
-import java.util.Arrays;
-import java.util.Comparator;
 import java.util.List;
 
 @SuppressWarnings("serial")
 public class StrengthRawFitness <S extends Solution<?>>
-    extends GenericSolutionAttribute<S, Double> implements DensityEstimator<S>{
-  private static final Comparator<Solution<?>> DOMINANCE_COMPARATOR = new DominanceComparator<Solution<?>>();
-
+    extends DoubleValueSolutionAttribute<S> implements DensityEstimator<S>{
   private int k ; // k-th individual
+  private boolean parallel ;
 
   public StrengthRawFitness(int k) {
-    this.k = k ;
+    this(k, false) ;
   }
 
   public StrengthRawFitness() {
-    this.k = 1 ;
+    this(1) ;
+  }
+
+  /**
+   * @param k k-th individual
+   * @param parallel If true, the dominance and distance matrices are computed in parallel
+   */
+  public StrengthRawFitness(int k, boolean parallel) {
+    this.k = k ;
+    this.parallel = parallel ;
   }
 
   @Override
   public void computeDensityEstimator(List<S> solutionSet) {
-    double [][] distance = SolutionListUtils.distanceMatrix(solutionSet);
+    DominanceDistanceMatrix matrix = new DominanceDistanceMatrix(solutionSet, parallel) ;
     double []   strength    = new double[solutionSet.size()];
     double []   rawFitness  = new double[solutionSet.size()];
     double kDistance                                          ;
 
     // strength(i) = |{j | j <- SolutionSet and i dominate j}|
     for (int i = 0; i < solutionSet.size(); i++) {
-      for (int j = 0; j < solutionSet.size();j++) {
-        if (DOMINANCE_COMPARATOR.compare(solutionSet.get(i),solutionSet.get(j))==-1) {
-          strength[i] += 1.0;
-        }
-      }
+      strength[i] = matrix.getNumberOfDominatedSolutions(i) ;
     }
 
     //Calculate the raw fitness
     // rawFitness(i) = |{sum strenght(j) | j <- SolutionSet and j dominate i}|
     for (int i = 0;i < solutionSet.size(); i++) {
       for (int j = 0; j < solutionSet.size();j++) {
-        if (DOMINANCE_COMPARATOR.compare(solutionSet.get(i),solutionSet.get(j))==1) {
+        if (matrix.dominates(j, i)) {
           rawFitness[i] += strength[j];
         }
       }
@@ -53,18 +54,21 @@ public class StrengthRawFitness <S extends Solution<?>>
     // Add the distance to the k-th individual. In the reference paper of SPEA2,
     // k = sqrt(population.size()), but a value of k = 1 is recommended. See
     // http://www.tik.ee.ethz.ch/pisa/selectors/spea2/spea2_documentation.txt
-    for (int i = 0; i < distance.length; i++) {
-      Arrays.sort(distance[i]);
-      if(distance.length>1) {
-        kDistance = 1.0 / (distance[i][k] + 2.0);
+    for (int i = 0; i < solutionSet.size(); i++) {
+      if(solutionSet.size()>1) {
+        kDistance = 1.0 / (matrix.getKthDistance(i, k) + 2.0);
       }else{
         kDistance = 0.0;
       }
-      solutionSet.get(i).setAttribute(getAttributeIdentifier(), rawFitness[i] + kDistance);
+      setValue(solutionSet.get(i), rawFitness[i] + kDistance);
     }
   }
 
   public int getK() {
     return k ;
   }
+
+  public boolean isParallel() {
+    return parallel ;
+  }
 }
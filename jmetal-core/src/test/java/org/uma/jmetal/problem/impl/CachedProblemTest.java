@@ -0,0 +1,330 @@
+package org.uma.jmetal.problem.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.solution.impl.DefaultDoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.solutionattribute.impl.NumberOfViolatedConstraints;
+import org.uma.jmetal.util.solutionattribute.impl.OverallConstraintViolation;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+public class CachedProblemTest {
+  private static final double EPSILON = 0.0000000001 ;
+
+  @Test
+  public void shouldEvaluateTheSameVariablesOnlyOnce() {
+    MockedDoubleProblem problem = new MockedDoubleProblem() ;
+    CachedDoubleProblem cachedProblem = new CachedDoubleProblem(problem, 0.0, 0) ;
+
+    DoubleSolution solution1 = createSolution(cachedProblem, 1.0, 2.0) ;
+    DoubleSolution solution2 = createSolution(cachedProblem, 1.0, 2.0) ;
+    DoubleSolution solution3 = createSolution(cachedProblem, 1.0, 3.0) ;
+    cachedProblem.evaluate(solution1);
+    cachedProblem.evaluate(solution2);
+    cachedProblem.evaluate(solution3);
+
+    assertEquals(2, problem.getNumberOfEvaluations()) ;
+    assertEquals(1, cachedProblem.getNumberOfHits()) ;
+    assertEquals(2, cachedProblem.getNumberOfMisses()) ;
+    assertEquals(3.0, solution2.getObjective(0), EPSILON) ;
+    assertEquals(1.0, solution2.getObjective(1), EPSILON) ;
+    assertEquals(4.0, solution3.getObjective(0), EPSILON) ;
+  }
+
+  @Test
+  public void shouldCopyTheConstraintAttributesOfACachedEvaluation() {
+    MockedDoubleProblem problem = new MockedDoubleProblem() ;
+    CachedDoubleProblem cachedProblem = new CachedDoubleProblem(problem, 0.0, 0) ;
+
+    DoubleSolution solution1 = createSolution(cachedProblem, 3.0, 2.0) ;
+    DoubleSolution solution2 = createSolution(cachedProblem, 3.0, 2.0) ;
+    DoubleSolution solution3 = createSolution(cachedProblem, 1.5, 2.0) ;
+    DoubleSolution solution4 = createSolution(cachedProblem, 1.5, 2.0) ;
+    cachedProblem.evaluate(solution1);
+    cachedProblem.evaluate(solution2);
+    cachedProblem.evaluate(solution3);
+    cachedProblem.evaluate(solution4);
+
+    assertEquals(-1.0, new OverallConstraintViolation<DoubleSolution>().getAttribute(solution2), EPSILON) ;
+    assertEquals(1, (int) new NumberOfViolatedConstraints<DoubleSolution>().getAttribute(solution2)) ;
+    assertEquals(0.0, new OverallConstraintViolation<DoubleSolution>().getAttribute(solution4), EPSILON) ;
+  }
+
+  @Test
+  public void shouldRoundTheVariablesToTheQuantum() {
+    MockedDoubleProblem problem = new MockedDoubleProblem() ;
+    CachedDoubleProblem cachedProblem = new CachedDoubleProblem(problem, 0.01, 0) ;
+
+    cachedProblem.evaluate(createSolution(cachedProblem, 1.0, 2.0));
+    cachedProblem.evaluate(createSolution(cachedProblem, 1.001, 1.999));
+    cachedProblem.evaluate(createSolution(cachedProblem, 1.01, 2.0));
+
+    assertEquals(2, problem.getNumberOfEvaluations()) ;
+    assertEquals(1, cachedProblem.getNumberOfHits()) ;
+  }
+
+  @Test
+  public void shouldDiscardTheLeastRecentlyUsedEvaluations() {
+    MockedDoubleProblem problem = new MockedDoubleProblem() ;
+    CachedDoubleProblem cachedProblem = new CachedDoubleProblem(problem, 0.0, 2) ;
+
+    cachedProblem.evaluate(createSolution(cachedProblem, 1.0, 1.0));
+    cachedProblem.evaluate(createSolution(cachedProblem, 2.0, 2.0));
+    cachedProblem.evaluate(createSolution(cachedProblem, 1.0, 1.0));
+    cachedProblem.evaluate(createSolution(cachedProblem, 3.0, 3.0));
+
+    assertEquals(2, cachedProblem.size()) ;
+    assertEquals(1, cachedProblem.getNumberOfEvictions()) ;
+
+    cachedProblem.evaluate(createSolution(cachedProblem, 1.0, 1.0));
+    assertEquals(3, problem.getNumberOfEvaluations()) ;
+    cachedProblem.evaluate(createSolution(cachedProblem, 2.0, 2.0));
+    assertEquals(4, problem.getNumberOfEvaluations()) ;
+  }
+
+  @Test
+  public void shouldEvaluateOnlyOnceTheSameVariablesEvaluatedConcurrently() throws Exception {
+    MockedDoubleProblem problem = new MockedDoubleProblem() ;
+    problem.delay = 50 ;
+    CachedDoubleProblem cachedProblem = new CachedDoubleProblem(problem, 0.0, 0) ;
+
+    int numberOfThreads = 8 ;
+    ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads) ;
+    CountDownLatch start = new CountDownLatch(1) ;
+    List<DoubleSolution> solutions = new ArrayList<>() ;
+    List<Future<?>> futures = new ArrayList<>() ;
+    for (int i = 0; i < numberOfThreads; i++) {
+      DoubleSolution solution = createSolution(cachedProblem, 5.0, 6.0) ;
+      solutions.add(solution) ;
+      futures.add(executor.submit(() -> {
+        start.await() ;
+        cachedProblem.evaluate(solution);
+        return null ;
+      })) ;
+    }
+    start.countDown();
+    for (Future<?> future : futures) {
+      future.get() ;
+    }
+    executor.shutdown();
+    executor.awaitTermination(1, TimeUnit.SECONDS) ;
+
+    assertEquals(1, problem.getNumberOfEvaluations()) ;
+    assertEquals(numberOfThreads - 1, cachedProblem.getNumberOfHits()) ;
+    for (DoubleSolution solution : solutions) {
+      assertEquals(11.0, solution.getObjective(0), EPSILON) ;
+    }
+  }
+
+  @Test
+  public void shouldEvaluateAgainIfTheEvaluationFails() {
+    MockedDoubleProblem problem = new MockedDoubleProblem() ;
+    CachedDoubleProblem cachedProblem = new CachedDoubleProblem(problem, 0.0, 0) ;
+
+    problem.fail = true ;
+    try {
+      cachedProblem.evaluate(createSolution(cachedProblem, 1.0, 2.0));
+      fail("The evaluation should have failed") ;
+    } catch (JMetalException e) {
+      // expected
+    }
+    problem.fail = false ;
+    DoubleSolution solution = createSolution(cachedProblem, 1.0, 2.0) ;
+    cachedProblem.evaluate(solution);
+
+    assertEquals(2, problem.getNumberOfEvaluations()) ;
+    assertEquals(3.0, solution.getObjective(0), EPSILON) ;
+  }
+
+  @Test
+  public void shouldNotDiscardAnEvaluationInProgress() throws Exception {
+    MockedDoubleProblem problem = new MockedDoubleProblem() ;
+    CachedDoubleProblem cachedProblem = new CachedDoubleProblem(problem, 0.0, 1) ;
+    problem.blockedValue = 5.0 ;
+
+    ExecutorService executor = Executors.newFixedThreadPool(2) ;
+    try {
+      Future<?> first = executor.submit(() -> cachedProblem.evaluate(createSolution(cachedProblem, 5.0, 1.0))) ;
+      assertTrue(problem.blockedEvaluationStarted.await(10, TimeUnit.SECONDS)) ;
+
+      // the cache exceeds its maximum size, but the evaluation in progress is the eldest
+      cachedProblem.evaluate(createSolution(cachedProblem, 1.0, 1.0));
+      assertEquals(1, cachedProblem.size()) ;
+      assertEquals(1, cachedProblem.getNumberOfEvictions()) ;
+
+      DoubleSolution solution = createSolution(cachedProblem, 5.0, 1.0) ;
+      Future<?> second = executor.submit(() -> cachedProblem.evaluate(solution)) ;
+      Thread.sleep(100);
+      problem.releaseBlockedEvaluation.countDown();
+      first.get(10, TimeUnit.SECONDS) ;
+      second.get(10, TimeUnit.SECONDS) ;
+
+      assertEquals(2, problem.getNumberOfEvaluations()) ;
+      assertEquals(1, cachedProblem.getNumberOfHits()) ;
+      assertEquals(6.0, solution.getObjective(0), EPSILON) ;
+    } finally {
+      problem.releaseBlockedEvaluation.countDown();
+      executor.shutdownNow() ;
+    }
+  }
+
+  @Test
+  public void shouldLoadTheEvaluationsOfThePersistentFile() throws IOException {
+    File directory = Files.createTempDirectory("cachedProblemTest").toFile() ;
+    File file = new File(directory, "cache.bin") ;
+    try {
+      MockedDoubleProblem problem = new MockedDoubleProblem() ;
+      CachedDoubleProblem cachedProblem = new CachedDoubleProblem(problem, 0.0, 0) ;
+      cachedProblem.setPersistentFile(file) ;
+      cachedProblem.evaluate(createSolution(cachedProblem, 1.0, 2.0));
+      cachedProblem.evaluate(createSolution(cachedProblem, 3.0, 2.0));
+      cachedProblem.close();
+
+      // a partially written record must be discarded
+      try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+        randomAccessFile.seek(randomAccessFile.length());
+        randomAccessFile.writeLong(7L);
+      }
+
+      MockedDoubleProblem newProblem = new MockedDoubleProblem() ;
+      CachedDoubleProblem newCachedProblem = new CachedDoubleProblem(newProblem, 0.0, 0) ;
+      newCachedProblem.setPersistentFile(file);
+      DoubleSolution solution1 = createSolution(newCachedProblem, 1.0, 2.0) ;
+      DoubleSolution solution2 = createSolution(newCachedProblem, 3.0, 2.0) ;
+      newCachedProblem.evaluate(solution1);
+      newCachedProblem.evaluate(solution2);
+      newCachedProblem.evaluate(createSolution(newCachedProblem, 4.0, 4.0));
+      newCachedProblem.close();
+
+      assertEquals(1, newProblem.getNumberOfEvaluations()) ;
+      assertEquals(3.0, solution1.getObjective(0), EPSILON) ;
+      assertNull(new OverallConstraintViolation<DoubleSolution>().getAttribute(solution1)) ;
+      assertEquals(-1.0, new OverallConstraintViolation<DoubleSolution>().getAttribute(solution2), EPSILON) ;
+
+      CachedDoubleProblem reloadedProblem = new CachedDoubleProblem(new MockedDoubleProblem(), 0.0, 0) ;
+      reloadedProblem.setPersistentFile(file);
+      reloadedProblem.close();
+      assertEquals(3, reloadedProblem.size()) ;
+    } finally {
+      file.delete() ;
+      directory.delete() ;
+    }
+  }
+
+  @Test(expected = JMetalException.class)
+  public void shouldRejectAPersistentFileWithADifferentQuantum() throws IOException {
+    File directory = Files.createTempDirectory("cachedProblemTest").toFile() ;
+    File file = new File(directory, "cache.bin") ;
+    try {
+      CachedDoubleProblem cachedProblem = new CachedDoubleProblem(new MockedDoubleProblem(), 0.0, 0) ;
+      cachedProblem.setPersistentFile(file);
+      cachedProblem.close();
+
+      new CachedDoubleProblem(new MockedDoubleProblem(), 0.1, 0).setPersistentFile(file);
+    } finally {
+      assertTrue(file.delete()) ;
+      directory.delete() ;
+    }
+  }
+
+  private DoubleSolution createSolution(CachedDoubleProblem problem, double x, double y) {
+    DoubleSolution solution = problem.createSolution() ;
+    solution.setVariableValue(0, x);
+    solution.setVariableValue(1, y);
+
+    return solution ;
+  }
+
+  /**
+   * Problem with two objectives, x + y and y - x, and the constraint x <= 2. The constraint
+   * attributes are not set when x is lower than 1.5, to check that missing attributes are not stored
+   */
+  @SuppressWarnings("serial")
+  private class MockedDoubleProblem extends AbstractDoubleProblem {
+    private final AtomicInteger evaluations = new AtomicInteger() ;
+    private volatile long delay = 0 ;
+    private volatile boolean fail = false ;
+    private volatile double blockedValue = Double.NaN ;
+    private final CountDownLatch blockedEvaluationStarted = new CountDownLatch(1) ;
+    private final CountDownLatch releaseBlockedEvaluation = new CountDownLatch(1) ;
+
+    public MockedDoubleProblem() {
+      setNumberOfVariables(2);
+      setNumberOfObjectives(2);
+      setNumberOfConstraints(1);
+
+      List<Double> lowerLimit = new ArrayList<>(getNumberOfVariables());
+      List<Double> upperLimit = new ArrayList<>(getNumberOfVariables());
+
+      for (int i = 0; i < getNumberOfVariables(); i++) {
+        lowerLimit.add(0.0);
+        upperLimit.add(10.0);
+      }
+
+      setLowerLimit(lowerLimit);
+      setUpperLimit(upperLimit);
+    }
+
+    public int getNumberOfEvaluations() {
+      return evaluations.get() ;
+    }
+
+    @Override
+    public void evaluate(DoubleSolution solution) {
+      evaluations.incrementAndGet() ;
+      if (fail) {
+        throw new JMetalException("Evaluation failed") ;
+      }
+      if (delay > 0) {
+        try {
+          Thread.sleep(delay);
+        } catch (InterruptedException e) {
+          throw new JMetalException(e) ;
+        }
+      }
+      if (solution.getVariableValue(0) == blockedValue) {
+        blockedEvaluationStarted.countDown();
+        try {
+          releaseBlockedEvaluation.await();
+        } catch (InterruptedException e) {
+          throw new JMetalException(e) ;
+        }
+      }
+      double x = solution.getVariableValue(0) ;
+      double y = solution.getVariableValue(1) ;
+      solution.setObjective(0, x + y);
+      solution.setObjective(1, y - x);
+      if (x > 2.0) {
+        new OverallConstraintViolation<DoubleSolution>().setAttribute(solution, 2.0 - x);
+        new NumberOfViolatedConstraints<DoubleSolution>().setAttribute(solution, 1);
+      } else if (x >= 1.5) {
+        new OverallConstraintViolation<DoubleSolution>().setAttribute(solution, 0.0);
+      }
+    }
+
+    @Override
+    public DoubleSolution createSolution() {
+      return new DefaultDoubleSolution(this) ;
+    }
+  }
+}
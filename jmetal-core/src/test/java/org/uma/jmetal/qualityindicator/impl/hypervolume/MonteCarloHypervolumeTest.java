@@ -0,0 +1,120 @@
+package org.uma.jmetal.qualityindicator.impl.hypervolume;
+
+import org.junit.Test;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.util.HypervolumeContributionEngine;
+import org.uma.jmetal.util.point.PointSolution;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+public class MonteCarloHypervolumeTest {
+
+  @Test
+  public void shouldEvaluateReturnAValueCloseToTheExactHypervolume() {
+    for (int numberOfObjectives : new int[]{2, 4}) {
+      List<PointSolution> front = createFront(50, numberOfObjectives, new Random(1)) ;
+      MonteCarloHypervolume<PointSolution> hypervolume = new MonteCarloHypervolume<PointSolution>()
+          .setNumberOfSamples(400000).setSeed(1) ;
+
+      double exactValue = new PISAHypervolume<PointSolution>().evaluate(front, numberOfObjectives) ;
+      double value = hypervolume.evaluate(front) ;
+
+      assertEquals(exactValue, value, 0.005) ;
+      assertEquals(value, hypervolume.getLastEstimate().getValue(), 0.0) ;
+      assertEquals(400000, hypervolume.getLastEstimate().getNumberOfSamples()) ;
+      assertTrue(hypervolume.getLastEstimate().getLowerBound() < value) ;
+      assertTrue(hypervolume.getLastEstimate().getUpperBound() > value) ;
+    }
+  }
+
+  @Test
+  public void shouldEvaluateStopWhenTheMaximumErrorIsReached() {
+    List<PointSolution> front = createFront(50, 3, new Random(1)) ;
+    MonteCarloHypervolume<PointSolution> hypervolume = new MonteCarloHypervolume<PointSolution>()
+        .setNumberOfSamples(100000000).setMaximumError(0.002).setNumberOfWorkers(4).setSeed(1) ;
+
+    hypervolume.evaluate(front) ;
+    MonteCarloHypervolume.Estimate estimate = hypervolume.getLastEstimate() ;
+
+    assertTrue(estimate.getNumberOfSamples() < 100000000) ;
+    assertTrue(estimate.getUpperBound() - estimate.getValue() <= 0.002) ;
+  }
+
+  @Test
+  public void shouldEvaluateReturnTheSameValueWithTheSameSeedAndNumberOfWorkers() {
+    List<PointSolution> front = createFront(30, 5, new Random(1)) ;
+
+    double value = new MonteCarloHypervolume<PointSolution>().setNumberOfSamples(100000)
+        .setNumberOfWorkers(3).setSeed(5).evaluate(front) ;
+
+    assertEquals(value, new MonteCarloHypervolume<PointSolution>().setNumberOfSamples(100000)
+        .setNumberOfWorkers(3).setSeed(5).evaluate(front), 0.0) ;
+  }
+
+  @Test
+  public void shouldEvaluateReturnZeroIfThePointsAreNotBetterThanTheReferencePoint() {
+    List<PointSolution> front = new ArrayList<>() ;
+    front.add(createSolution(1.0, 0.5)) ;
+    front.add(createSolution(2.0, 2.0)) ;
+
+    assertEquals(0.0, new MonteCarloHypervolume<PointSolution>().evaluate(front), 0.0) ;
+  }
+
+  @Test
+  public void shouldEstimateContributionsReturnValuesCloseToTheExactContributions() {
+    Random random = new Random(1) ;
+    for (int numberOfObjectives : new int[]{2, 3, 5}) {
+      double[][] points = new double[30][] ;
+      List<PointSolution> front = createFront(points.length, numberOfObjectives, random) ;
+      for (int i = 0; i < points.length; i++) {
+        points[i] = front.get(i).getObjectives() ;
+      }
+      double[] referencePoint = new double[numberOfObjectives] ;
+      for (int j = 0; j < numberOfObjectives; j++) {
+        referencePoint[j] = 1.1 ;
+      }
+
+      double[] exactContributions = HypervolumeContributionEngine.computeContributions(points, referencePoint) ;
+      double[] contributions = new MonteCarloHypervolume<PointSolution>().setNumberOfSamples(3000000)
+          .setSeed(1).estimateContributions(points, referencePoint) ;
+
+      for (int i = 0; i < points.length; i++) {
+        assertEquals(exactContributions[i], contributions[i], 0.1 * exactContributions[i] + 1e-6) ;
+      }
+    }
+  }
+
+  private List<PointSolution> createFront(int numberOfPoints, int numberOfObjectives, Random random) {
+    List<PointSolution> front = new ArrayList<>() ;
+    for (int i = 0; i < numberOfPoints; i++) {
+      double[] objectives = new double[numberOfObjectives] ;
+      double norm = 0.0 ;
+      for (int j = 0; j < numberOfObjectives; j++) {
+        objectives[j] = Math.abs(random.nextGaussian()) ;
+        norm += objectives[j] * objectives[j] ;
+      }
+      for (int j = 0; j < numberOfObjectives; j++) {
+        objectives[j] = objectives[j] / Math.sqrt(norm) ;
+      }
+      front.add(createSolution(objectives)) ;
+    }
+
+    return front ;
+  }
+
+  private PointSolution createSolution(double... objectives) {
+    PointSolution solution = new PointSolution(objectives.length) ;
+    for (int i = 0; i < objectives.length; i++) {
+      solution.setObjective(i, objectives[i]);
+    }
+
+    return solution ;
+  }
+}
@@ -0,0 +1,172 @@
+package org.uma.jmetal.qualityindicator.impl.hypervolume.util;
+
+import org.junit.Test;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.PISAHypervolume;
+import org.uma.jmetal.util.point.PointSolution;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+public class HypervolumeContributionEngineTest {
+  private static final double EPSILON = 1e-10 ;
+
+  @Test
+  public void shouldComputeContributionsReturnTheRectanglesOfATwoObjectivesFront() {
+    double[][] points = {{0.75, 0.25}, {0.25, 0.75}, {0.5, 0.5}} ;
+
+    double[] contributions = HypervolumeContributionEngine.computeContributions(points, new double[]{1.0, 1.0}) ;
+
+    assertArrayEquals(new double[]{0.25 * 0.25, 0.25 * 0.25, 0.25 * 0.25}, contributions, EPSILON) ;
+  }
+
+  @Test
+  public void shouldComputeContributionsTakeIntoAccountDominatedRepeatedAndOutsidePoints() {
+    double[][] points = {{0.5, 0.5}, {0.6, 0.6}, {0.2, 0.8}, {0.2, 0.8}, {1.5, 0.1}, {0.9, 0.3}} ;
+
+    double[] contributions = HypervolumeContributionEngine.computeContributions(points, new double[]{1.0, 1.0}) ;
+
+    assertEquals((0.9 - 0.5) * (0.8 - 0.5) - (0.9 - 0.6) * (0.8 - 0.6), contributions[0], EPSILON) ;
+    assertEquals(0.0, contributions[1], EPSILON) ;
+    assertEquals(0.0, contributions[2], EPSILON) ;
+    assertEquals(0.0, contributions[3], EPSILON) ;
+    assertEquals(0.0, contributions[4], EPSILON) ;
+    assertEquals((1.0 - 0.9) * (0.5 - 0.3), contributions[5], EPSILON) ;
+  }
+
+  @Test
+  public void shouldComputeContributionsReturnTheSameValuesAsTheFullHypervolumeDifferences() {
+    Random random = new Random(1) ;
+    for (int numberOfObjectives = 1; numberOfObjectives <= 5; numberOfObjectives++) {
+      for (int test = 0; test < 20; test++) {
+        double[][] points = createPoints(10 + random.nextInt(30), numberOfObjectives, random) ;
+        double[] referencePoint = createReferencePoint(numberOfObjectives) ;
+
+        assertArrayEquals(computeContributionsByDifferences(points, referencePoint),
+            HypervolumeContributionEngine.computeContributions(points, referencePoint), EPSILON) ;
+      }
+    }
+  }
+
+  @Test
+  public void shouldAddAndRemoveUpdateTheContributionsAsAFullComputation() {
+    Random random = new Random(1) ;
+    for (int numberOfObjectives = 2; numberOfObjectives <= 4; numberOfObjectives++) {
+      double[] referencePoint = createReferencePoint(numberOfObjectives) ;
+      HypervolumeContributionEngine engine = new HypervolumeContributionEngine(numberOfObjectives) ;
+      engine.setReferencePoint(referencePoint);
+      List<Object> keys = new ArrayList<>() ;
+      List<double[]> points = new ArrayList<>() ;
+
+      for (int step = 0; step < 150; step++) {
+        if ((points.size() < 5) || random.nextBoolean()) {
+          Object key = new Object() ;
+          double[] point = createPoints(1, numberOfObjectives, random)[0] ;
+          engine.add(key, point);
+          keys.add(key) ;
+          points.add(point) ;
+        } else {
+          int index = random.nextInt(points.size()) ;
+          engine.remove(keys.remove(index));
+          points.remove(index) ;
+        }
+
+        double[] expectedContributions = computeContributionsByDifferences(points.toArray(new double[0][]), referencePoint) ;
+        assertEquals(points.size(), engine.size()) ;
+        for (int i = 0; i < keys.size(); i++) {
+          assertEquals(expectedContributions[i], engine.getContribution(keys.get(i)), EPSILON) ;
+        }
+      }
+    }
+  }
+
+  @Test
+  public void shouldUpdateReturnTheContributionsOfTheNewSetOfPoints() {
+    Random random = new Random(1) ;
+    double[] referencePoint = createReferencePoint(3) ;
+    HypervolumeContributionEngine engine = new HypervolumeContributionEngine(3) ;
+    List<Object> keys = new ArrayList<>() ;
+    List<double[]> points = new ArrayList<>() ;
+    for (int i = 0; i < 30; i++) {
+      keys.add(new Object()) ;
+      points.add(createPoints(1, 3, random)[0]) ;
+    }
+
+    for (int step = 0; step < 50; step++) {
+      double[][] pointArray = points.toArray(new double[0][]) ;
+
+      assertArrayEquals(computeContributionsByDifferences(pointArray, referencePoint),
+          engine.update(keys, pointArray, referencePoint), EPSILON) ;
+
+      // Steady-state step: a new point is added and another one is removed
+      int index = random.nextInt(points.size()) ;
+      keys.remove(index) ;
+      points.remove(index) ;
+      keys.add(new Object()) ;
+      points.add(createPoints(1, 3, random)[0]) ;
+    }
+  }
+
+  /** Points near the unit sphere, rounded so that some of them are repeated */
+  private double[][] createPoints(int numberOfPoints, int numberOfObjectives, Random random) {
+    double[][] points = new double[numberOfPoints][numberOfObjectives] ;
+    for (int i = 0; i < numberOfPoints; i++) {
+      double norm = 0.0 ;
+      for (int j = 0; j < numberOfObjectives; j++) {
+        points[i][j] = Math.abs(random.nextGaussian()) ;
+        norm += points[i][j] * points[i][j] ;
+      }
+      double radius = 1.0 + 0.2 * random.nextDouble() ;
+      for (int j = 0; j < numberOfObjectives; j++) {
+        points[i][j] = Math.round(10.0 * radius * points[i][j] / Math.sqrt(norm)) / 10.0 ;
+      }
+    }
+
+    return points ;
+  }
+
+  /** Some points are outside the box of the reference point */
+  private double[] createReferencePoint(int numberOfObjectives) {
+    double[] referencePoint = new double[numberOfObjectives] ;
+    for (int j = 0; j < numberOfObjectives; j++) {
+      referencePoint[j] = 1.1 ;
+    }
+
+    return referencePoint ;
+  }
+
+  /** Contribution of each point as the hypervolume of the set minus the one without the point */
+  private double[] computeContributionsByDifferences(double[][] points, double[] referencePoint) {
+    double[] contributions = new double[points.length] ;
+    double totalVolume = computeHypervolume(points, -1, referencePoint) ;
+    for (int i = 0; i < points.length; i++) {
+      contributions[i] = totalVolume - computeHypervolume(points, i, referencePoint) ;
+    }
+
+    return contributions ;
+  }
+
+  private double computeHypervolume(double[][] points, int excludedPoint, double[] referencePoint) {
+    List<double[]> front = new ArrayList<>() ;
+    for (int i = 0; i < points.length; i++) {
+      double[] invertedPoint = new double[referencePoint.length] ;
+      boolean inside = true ;
+      for (int j = 0; j < referencePoint.length; j++) {
+        invertedPoint[j] = referencePoint[j] - points[i][j] ;
+        inside &= invertedPoint[j] > 0 ;
+      }
+      if ((i != excludedPoint) && inside) {
+        front.add(invertedPoint) ;
+      }
+    }
+
+    return new PISAHypervolume<PointSolution>().calculateHypervolume(front.toArray(new double[0][]),
+        front.size(), referencePoint.length) ;
+  }
+}
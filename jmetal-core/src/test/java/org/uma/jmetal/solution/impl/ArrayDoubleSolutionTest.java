@@ -5,17 +5,22 @@ import org.junit.Test;
 import org.uma.jmetal.problem.DoubleProblem;
 import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
 import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.JMetalException;
 
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 
 /**
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 public class ArrayDoubleSolutionTest {
+  private static final double EPSILON = 0.0000000001 ;
   private DoubleProblem problem ;
 
   @Before
@@ -56,6 +61,56 @@ public class ArrayDoubleSolutionTest {
     assertEquals(problem.getUpperBound(2), solution.getUpperBound(2));
   }
 
+  @Test
+  public void shouldCopyNotShareTheVariablesWithTheOriginalSolution() {
+    DoubleSolution solution = problem.createSolution() ;
+    DoubleSolution copy = (DoubleSolution) solution.copy() ;
+    copy.setVariableValue(0, 3.5);
+
+    assertNotEquals(3.5, solution.getVariableValue(0), EPSILON);
+  }
+
+  @Test
+  public void shouldGetVariableValuesReturnACopyOfTheVariables() {
+    DoubleSolution solution = problem.createSolution() ;
+
+    double[] values = solution.getVariableValues() ;
+    assertEquals(3, values.length);
+    for (int i = 0; i < values.length; i++) {
+      assertEquals(solution.getVariableValue(i), values[i], EPSILON);
+    }
+
+    values[0] = 3.5 ;
+    assertNotEquals(3.5, solution.getVariableValue(0), EPSILON);
+  }
+
+  @Test
+  public void shouldGetVariableValuesFillTheArrayReceivedAsParameter() {
+    DoubleSolution solution = problem.createSolution() ;
+    double[] values = new double[3] ;
+
+    assertSame(values, solution.getVariableValues(values));
+    for (int i = 0; i < values.length; i++) {
+      assertEquals(solution.getVariableValue(i), values[i], EPSILON);
+    }
+  }
+
+  @Test
+  public void shouldSetVariableValuesCopyTheValues() {
+    DoubleSolution solution = problem.createSolution() ;
+    double[] values = {1.0, 2.0, 3.0} ;
+
+    solution.setVariableValues(values);
+    values[0] = 0.0 ;
+
+    assertArrayEquals(new double[]{1.0, 2.0, 3.0}, solution.getVariableValues(), EPSILON);
+  }
+
+  @Test(expected = JMetalException.class)
+  public void shouldSetVariableValuesRaiseAnExceptionIfTheNumberOfValuesIsWrong() {
+    problem.createSolution().setVariableValues(new double[]{1.0, 2.0});
+  }
+
   @SuppressWarnings("serial")
   private class MockedDoubleProblem extends AbstractDoubleProblem {
     public MockedDoubleProblem() {
@@ -0,0 +1,113 @@
+package org.uma.jmetal.solution.impl;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.uma.jmetal.problem.DoubleProblem;
+import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+/**
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+public class DefaultDoubleSolutionTest {
+  private DoubleProblem problem ;
+
+  @Before
+  public void setup() {
+    problem = new MockedDoubleProblem() ;
+  }
+
+  @Test
+  public void shouldCopyBeEqualToTheOriginalSolution() {
+    DoubleSolution solution = problem.createSolution() ;
+    solution.setObjective(0, 1.0);
+    solution.setAttribute("attribute", "value");
+
+    DoubleSolution copy = (DoubleSolution) solution.copy() ;
+
+    assertEquals(solution, copy);
+    assertEquals(solution.hashCode(), copy.hashCode());
+  }
+
+  @Test
+  public void shouldSolutionsWithDifferentAttributesNotBeEqual() {
+    DoubleSolution solution = problem.createSolution() ;
+    DoubleSolution copy = (DoubleSolution) solution.copy() ;
+    solution.setAttribute("attribute", "value");
+    copy.setAttribute("attribute", "anotherValue");
+
+    assertNotEquals(solution, copy);
+  }
+
+  @Test
+  public void shouldSolutionsWithEqualButNotIdenticalAttributesBeEqual() {
+    DoubleSolution solution = problem.createSolution() ;
+    DoubleSolution copy = (DoubleSolution) solution.copy() ;
+    solution.setAttribute("attribute", new String("value"));
+    copy.setAttribute("attribute", new String("value"));
+
+    assertEquals(solution, copy);
+    assertEquals(solution.hashCode(), copy.hashCode());
+  }
+
+  @Test
+  public void shouldSolutionsWithDifferentVariablesNotBeEqual() {
+    DoubleSolution solution = problem.createSolution() ;
+    DoubleSolution copy = (DoubleSolution) solution.copy() ;
+    copy.setVariableValue(0, solution.getVariableValue(0) + 1.0);
+
+    assertNotEquals(solution, copy);
+  }
+
+  @Test
+  public void shouldSolutionsOfDifferentProblemsWithTheSameValuesBeEqual() {
+    DoubleSolution solution = problem.createSolution() ;
+    DoubleSolution other = new MockedDoubleProblem().createSolution() ;
+    other.setVariableValues(solution.getVariableValues());
+
+    assertEquals(solution, other);
+    assertEquals(solution.hashCode(), other.hashCode());
+  }
+
+  @Test
+  public void shouldSolutionsHavingEachOtherAsAttributeBeComparedWithoutRecursion() {
+    DoubleSolution solution = problem.createSolution() ;
+    DoubleSolution copy = (DoubleSolution) solution.copy() ;
+    solution.setAttribute("other", copy);
+    copy.setAttribute("other", solution);
+
+    assertEquals(solution, copy);
+  }
+
+  @SuppressWarnings("serial")
+  private class MockedDoubleProblem extends AbstractDoubleProblem {
+    public MockedDoubleProblem() {
+      setNumberOfVariables(3);
+      setNumberOfObjectives(2);
+      setNumberOfConstraints(0);
+
+      List<Double> lowerLimit = new ArrayList<>(getNumberOfVariables()) ;
+      List<Double> upperLimit = new ArrayList<>(getNumberOfVariables()) ;
+
+      lowerLimit.add(-4.0);
+      lowerLimit.add(-3.0);
+      lowerLimit.add(-2.0);
+      upperLimit.add(4.0);
+      upperLimit.add(5.0);
+      upperLimit.add(6.0);
+
+      setLowerLimit(lowerLimit);
+      setUpperLimit(upperLimit);
+    }
+
+    @Override
+    public void evaluate(DoubleSolution solution) {
+    }
+  }
+}
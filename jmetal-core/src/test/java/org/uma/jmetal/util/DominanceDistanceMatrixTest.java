@@ -0,0 +1,148 @@
+package org.uma.jmetal.util;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.DoubleProblem;
+import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.solution.impl.DefaultDoubleSolution;
+import org.uma.jmetal.util.comparator.DominanceComparator;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.solutionattribute.impl.OverallConstraintViolation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+public class DominanceDistanceMatrixTest {
+  private static final double EPSILON = 0.0000000001 ;
+
+  @Test
+  public void shouldCompareWorkProperlyWithTwoSolutions() {
+    DoubleProblem problem = new MockedDoubleProblem(2) ;
+    DoubleSolution solution1 = problem.createSolution() ;
+    DoubleSolution solution2 = problem.createSolution() ;
+
+    solution1.setObjective(0, 1.0);
+    solution1.setObjective(1, 2.0);
+    solution2.setObjective(0, 2.0);
+    solution2.setObjective(1, 3.0);
+
+    DominanceDistanceMatrix matrix = new DominanceDistanceMatrix(Arrays.asList(solution1, solution2)) ;
+
+    assertEquals(-1, matrix.compare(0, 1)) ;
+    assertEquals(1, matrix.compare(1, 0)) ;
+    assertEquals(0, matrix.compare(0, 0)) ;
+    assertTrue(matrix.dominates(0, 1)) ;
+    assertFalse(matrix.dominates(1, 0)) ;
+    assertEquals(1, matrix.getNumberOfDominatedSolutions(0)) ;
+    assertEquals(0, matrix.getNumberOfDominatedSolutions(1)) ;
+    assertEquals(Math.sqrt(2.0), matrix.getDistances()[0][1], EPSILON) ;
+    assertEquals(Math.sqrt(2.0), matrix.getDistances()[1][0], EPSILON) ;
+  }
+
+  @Test
+  public void shouldCompareReturnTheSameAsTheDominanceComparator() {
+    List<DoubleSolution> solutionList = createSolutionList(60) ;
+    DominanceComparator<DoubleSolution> comparator = new DominanceComparator<>() ;
+
+    for (boolean parallel : new boolean[]{false, true}) {
+      DominanceDistanceMatrix matrix = new DominanceDistanceMatrix(solutionList, parallel) ;
+      for (int i = 0; i < solutionList.size(); i++) {
+        for (int j = 0; j < solutionList.size(); j++) {
+          assertEquals(comparator.compare(solutionList.get(i), solutionList.get(j)), matrix.compare(i, j)) ;
+        }
+      }
+    }
+  }
+
+  @Test
+  public void shouldGetKthDistanceReturnTheValueOfTheSortedDistances() {
+    List<DoubleSolution> solutionList = createSolutionList(40) ;
+    double[][] distances = SolutionListUtils.distanceMatrix(solutionList) ;
+
+    for (boolean parallel : new boolean[]{false, true}) {
+      DominanceDistanceMatrix matrix = new DominanceDistanceMatrix(solutionList, parallel) ;
+      for (int i = 0; i < solutionList.size(); i++) {
+        double[] sortedDistances = distances[i].clone() ;
+        Arrays.sort(sortedDistances);
+        for (int k = 0; k < solutionList.size(); k++) {
+          assertEquals(sortedDistances[k], matrix.getKthDistance(i, k), EPSILON) ;
+        }
+      }
+    }
+  }
+
+  @Test
+  public void shouldSelectReturnTheValueAtPositionKOfTheSortedArray() {
+    double[] values = {5.0, 1.0, 4.0, 1.0, 3.0, 5.0, 2.0, 0.0, 4.0} ;
+    double[] sortedValues = values.clone() ;
+    Arrays.sort(sortedValues);
+
+    for (int k = 0; k < values.length; k++) {
+      assertEquals(sortedValues[k], DominanceDistanceMatrix.select(values.clone(), k), EPSILON) ;
+    }
+  }
+
+  @Test (expected = JMetalException.class)
+  public void shouldSelectRaiseAnExceptionIfThePositionIsOutOfTheArray() {
+    DominanceDistanceMatrix.select(new double[]{1.0, 2.0}, 2) ;
+  }
+
+  /**
+   * List of solutions with repeated objective values and some of them violating constraints
+   */
+  private List<DoubleSolution> createSolutionList(int size) {
+    JMetalRandom randomGenerator = JMetalRandom.getInstance() ;
+    DoubleProblem problem = new MockedDoubleProblem(3) ;
+    OverallConstraintViolation<DoubleSolution> overallConstraintViolation = new OverallConstraintViolation<>() ;
+    List<DoubleSolution> solutionList = new ArrayList<>(size) ;
+    for (int i = 0; i < size; i++) {
+      DoubleSolution solution = problem.createSolution() ;
+      for (int j = 0; j < problem.getNumberOfObjectives(); j++) {
+        solution.setObjective(j, randomGenerator.nextInt(0, 4));
+      }
+      if (i % 5 == 0) {
+        overallConstraintViolation.setAttribute(solution, -1.0 * randomGenerator.nextInt(0, 2));
+      }
+      solutionList.add(solution) ;
+    }
+
+    return solutionList ;
+  }
+
+  @SuppressWarnings("serial")
+  private class MockedDoubleProblem extends AbstractDoubleProblem {
+    public MockedDoubleProblem(int numberOfObjectives) {
+      setNumberOfVariables(1);
+      setNumberOfObjectives(numberOfObjectives);
+      setNumberOfConstraints(0);
+
+      List<Double> lowerLimit = new ArrayList<>(getNumberOfVariables());
+      List<Double> upperLimit = new ArrayList<>(getNumberOfVariables());
+
+      for (int i = 0; i < getNumberOfVariables(); i++) {
+        lowerLimit.add(0.0);
+        upperLimit.add(10.0);
+      }
+
+      setLowerLimit(lowerLimit);
+      setUpperLimit(upperLimit);
+    }
+
+    @Override
+    public void evaluate(DoubleSolution solution) {
+    }
+
+    @Override
+    public DoubleSolution createSolution() {
+      return new DefaultDoubleSolution(this) ;
+    }
+  }
+}
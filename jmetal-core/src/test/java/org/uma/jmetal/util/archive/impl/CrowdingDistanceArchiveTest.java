@@ -0,0 +1,188 @@
+package org.uma.jmetal.util.archive.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.util.SolutionListUtils;
+import org.uma.jmetal.util.comparator.CrowdingDistanceComparator;
+import org.uma.jmetal.util.point.PointSolution;
+import org.uma.jmetal.util.solutionattribute.impl.CrowdingDistance;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+public class CrowdingDistanceArchiveTest {
+  private static final double EPSILON = 0.0000000001 ;
+
+  @Test
+  public void shouldAddKeepTheSameSolutionsAsRecomputingTheCrowdingDistance() {
+    Random random = new Random(1) ;
+    for (int numberOfObjectives : new int[]{2, 3, 5}) {
+      CrowdingDistanceArchive<PointSolution> archive = new CrowdingDistanceArchive<>(20) ;
+      List<PointSolution> expected = new ArrayList<>() ;
+
+      for (int i = 0; i < 2000; i++) {
+        PointSolution solution = createSolutionNearTheFront(numberOfObjectives, random) ;
+        archive.add(solution) ;
+        addAndPruneByRecomputingTheCrowdingDistance(expected, solution, 20);
+
+        assertEquals(expected, archive.getSolutionList()) ;
+      }
+    }
+  }
+
+  @Test
+  public void shouldPruneUpdateTheCrowdingDistanceOfTheRemainingSolutions() {
+    CrowdingDistance<PointSolution> crowdingDistance = new CrowdingDistance<>() ;
+    CrowdingDistanceArchive<PointSolution> archive = new CrowdingDistanceArchive<>(10) ;
+    Random random = new Random(1) ;
+    List<PointSolution> solutions = new ArrayList<>() ;
+    for (int i = 0; i < 100; i++) {
+      solutions.add(createSolutionNearTheFront(3, random)) ;
+    }
+
+    archive.addAll(solutions) ;
+
+    List<Double> distances = new ArrayList<>() ;
+    for (PointSolution solution : archive.getSolutionList()) {
+      distances.add(crowdingDistance.getAttribute(solution)) ;
+    }
+    crowdingDistance.computeDensityEstimator(archive.getSolutionList());
+    for (int i = 0; i < archive.size(); i++) {
+      assertEquals(crowdingDistance.getAttribute(archive.get(i)), distances.get(i), EPSILON) ;
+    }
+  }
+
+  @Test
+  public void shouldAddAllReturnTheAcceptedSolutionsAndPruneTheArchive() {
+    CrowdingDistanceArchive<PointSolution> archive = new CrowdingDistanceArchive<>(3) ;
+    PointSolution dominated = createSolution(5.0, 5.0) ;
+    List<PointSolution> solutions = new ArrayList<>() ;
+    for (int i = 0; i <= 5; i++) {
+      solutions.add(createSolution(i, 5.0 - i)) ;
+    }
+    solutions.add(dominated) ;
+
+    List<PointSolution> accepted = archive.addAll(solutions) ;
+
+    assertEquals(solutions.subList(0, 6), accepted) ;
+    assertEquals(3, archive.size()) ;
+    assertSame(solutions.get(0), archive.get(0)) ;
+    assertSame(solutions.get(5), archive.get(archive.size() - 1)) ;
+  }
+
+  @Test
+  public void shouldPruneTakeIntoAccountTheSolutionsRemovedFromTheList() {
+    CrowdingDistanceArchive<PointSolution> archive = new CrowdingDistanceArchive<>(4) ;
+    for (int i = 0; i <= 5; i++) {
+      archive.add(createSolution(i, 5.0 - i)) ;
+    }
+    archive.getSolutionList().remove(0) ;
+    archive.getSolutionList().remove(0) ;
+    List<PointSolution> expected = new ArrayList<>(archive.getSolutionList()) ;
+    PointSolution solution = createSolution(0.5, 4.75) ;
+    addAndPruneByRecomputingTheCrowdingDistance(expected, solution, 4);
+
+    archive.add(solution) ;
+
+    assertEquals(expected, archive.getSolutionList()) ;
+  }
+
+  @Test
+  public void shouldADeserializedArchiveBreakTheTiesAsTheOriginalOne() throws IOException, ClassNotFoundException {
+    Random random = new Random(1) ;
+    CrowdingDistanceArchive<PointSolution> archive = new CrowdingDistanceArchive<>(10) ;
+    for (int i = 0; i < 200; i++) {
+      archive.add(createSolutionInAGridNearTheFront(random)) ;
+    }
+
+    CrowdingDistanceArchive<PointSolution> deserializedArchive = serializeAndDeserialize(archive) ;
+    assertEquals(archive.getSolutionList(), deserializedArchive.getSolutionList()) ;
+
+    for (int i = 0; i < 500; i++) {
+      PointSolution solution = createSolutionInAGridNearTheFront(random) ;
+      archive.add(solution) ;
+      deserializedArchive.add(solution.copy()) ;
+
+      assertEquals(archive.getSolutionList(), deserializedArchive.getSolutionList()) ;
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private CrowdingDistanceArchive<PointSolution> serializeAndDeserialize(
+      CrowdingDistanceArchive<PointSolution> archive) throws IOException, ClassNotFoundException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream() ;
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(archive);
+    }
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      return (CrowdingDistanceArchive<PointSolution>) in.readObject() ;
+    }
+  }
+
+  private void addAndPruneByRecomputingTheCrowdingDistance(List<PointSolution> solutionList,
+      PointSolution solution, int maxSize) {
+    NonDominatedSolutionListArchive<PointSolution> archive = new NonDominatedSolutionListArchive<>() ;
+    for (PointSolution archived : solutionList) {
+      archive.getSolutionList().add(archived) ;
+    }
+
+    if (archive.add(solution) && (archive.size() > maxSize)) {
+      new CrowdingDistance<PointSolution>().computeDensityEstimator(archive.getSolutionList());
+      PointSolution worst = new SolutionListUtils().findWorstSolution(archive.getSolutionList(),
+          new CrowdingDistanceComparator<PointSolution>()) ;
+      archive.getSolutionList().remove(worst) ;
+    }
+
+    solutionList.clear();
+    solutionList.addAll(archive.getSolutionList()) ;
+  }
+
+  private PointSolution createSolution(double... objectives) {
+    PointSolution solution = new PointSolution(objectives.length) ;
+    for (int i = 0; i < objectives.length; i++) {
+      solution.setObjective(i, objectives[i]);
+    }
+
+    return solution ;
+  }
+
+  /**
+   * Point near the front rounded to a grid, so that there are many solutions with the same
+   * crowding distance
+   */
+  private PointSolution createSolutionInAGridNearTheFront(Random random) {
+    PointSolution solution = createSolutionNearTheFront(3, random) ;
+    for (int i = 0; i < solution.getNumberOfObjectives(); i++) {
+      solution.setObjective(i, Math.round(20.0 * solution.getObjective(i)) / 20.0);
+    }
+
+    return solution ;
+  }
+
+  /** Point of the unit sphere (positive orthant) moved away from the origin at random */
+  private PointSolution createSolutionNearTheFront(int numberOfObjectives, Random random) {
+    double[] objectives = new double[numberOfObjectives] ;
+    double norm = 0.0 ;
+    for (int i = 0; i < numberOfObjectives; i++) {
+      objectives[i] = Math.abs(random.nextGaussian()) ;
+      norm += objectives[i] * objectives[i] ;
+    }
+    double radius = 1.0 + 0.2 * random.nextDouble() ;
+    for (int i = 0; i < numberOfObjectives; i++) {
+      objectives[i] = radius * objectives[i] / Math.sqrt(norm) ;
+    }
+
+    return createSolution(objectives) ;
+  }
+}
@@ -0,0 +1,141 @@
+package org.uma.jmetal.util.archive.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.util.point.PointSolution;
+import org.uma.jmetal.util.solutionattribute.impl.OverallConstraintViolation;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+public class NonDominatedSolutionTreeArchiveTest {
+
+  @Test
+  public void shouldConstructorCreateAnEmptyArchive() {
+    NonDominatedSolutionTreeArchive<PointSolution> archive = new NonDominatedSolutionTreeArchive<>() ;
+
+    assertEquals(0, archive.size()) ;
+    assertEquals(0, archive.getSolutionList().size()) ;
+  }
+
+  @Test
+  public void shouldAddADominatedSolutionDiscardTheNewSolution() {
+    NonDominatedSolutionTreeArchive<PointSolution> archive = new NonDominatedSolutionTreeArchive<>() ;
+    PointSolution solution = createSolution(1.0, 1.0) ;
+
+    assertTrue(archive.add(solution)) ;
+    assertFalse(archive.add(createSolution(2.0, 2.0))) ;
+    assertEquals(1, archive.size()) ;
+    assertSame(solution, archive.get(0)) ;
+  }
+
+  @Test
+  public void shouldAddADominantSolutionDiscardTheExistingSolutions() {
+    NonDominatedSolutionTreeArchive<PointSolution> archive = new NonDominatedSolutionTreeArchive<>() ;
+    archive.add(createSolution(2.0, 1.0)) ;
+    archive.add(createSolution(1.0, 2.0)) ;
+    PointSolution solution = createSolution(0.5, 0.5) ;
+
+    assertTrue(archive.add(solution)) ;
+    assertEquals(1, archive.size()) ;
+    assertSame(solution, archive.get(0)) ;
+  }
+
+  @Test
+  public void shouldAddAnEqualSolutionDiscardTheNewSolution() {
+    NonDominatedSolutionTreeArchive<PointSolution> archive = new NonDominatedSolutionTreeArchive<>() ;
+    archive.add(createSolution(1.0, 2.0)) ;
+
+    assertFalse(archive.add(createSolution(1.0, 2.0))) ;
+    assertEquals(1, archive.size()) ;
+  }
+
+  @Test
+  public void shouldAddAFeasibleSolutionDiscardTheUnfeasibleSolutions() {
+    OverallConstraintViolation<PointSolution> overallConstraintViolation = new OverallConstraintViolation<>() ;
+    NonDominatedSolutionTreeArchive<PointSolution> archive = new NonDominatedSolutionTreeArchive<>() ;
+    PointSolution unfeasible = createSolution(0.0, 0.0) ;
+    overallConstraintViolation.setAttribute(unfeasible, -1.0);
+    PointSolution feasible = createSolution(1.0, 1.0) ;
+    overallConstraintViolation.setAttribute(feasible, 0.0);
+
+    archive.add(unfeasible) ;
+
+    assertTrue(archive.add(feasible)) ;
+    assertEquals(1, archive.size()) ;
+    assertSame(feasible, archive.get(0)) ;
+    assertFalse(archive.add(unfeasible)) ;
+  }
+
+  @Test
+  public void shouldTheArchiveContainTheSameSolutionsAsTheListArchive() {
+    Random random = new Random(1) ;
+    for (int numberOfObjectives : new int[]{2, 3, 5}) {
+      NonDominatedSolutionTreeArchive<PointSolution> treeArchive = new NonDominatedSolutionTreeArchive<>() ;
+      NonDominatedSolutionListArchive<PointSolution> listArchive = new NonDominatedSolutionListArchive<>() ;
+
+      for (int i = 0; i < 3000; i++) {
+        PointSolution solution = createSolutionNearTheFront(numberOfObjectives, random) ;
+
+        assertEquals(listArchive.add(solution), treeArchive.add(solution)) ;
+      }
+
+      assertEquals(listArchive.size(), treeArchive.size()) ;
+      assertEquals(identitySet(listArchive.getSolutionList()), identitySet(treeArchive.getSolutionList())) ;
+      for (int i = 0; i < treeArchive.size(); i++) {
+        assertSame(treeArchive.getSolutionList().get(i), treeArchive.get(i)) ;
+      }
+    }
+  }
+
+  @Test (expected = UnsupportedOperationException.class)
+  public void shouldTheSolutionListNotBeModifiable() {
+    NonDominatedSolutionTreeArchive<PointSolution> archive = new NonDominatedSolutionTreeArchive<>() ;
+    archive.add(createSolution(1.0, 2.0)) ;
+
+    archive.getSolutionList().clear();
+  }
+
+  private PointSolution createSolution(double... objectives) {
+    PointSolution solution = new PointSolution(objectives.length) ;
+    for (int i = 0; i < objectives.length; i++) {
+      solution.setObjective(i, objectives[i]);
+    }
+
+    return solution ;
+  }
+
+  /** Point of the unit sphere (positive orthant) moved away from the origin at random */
+  private PointSolution createSolutionNearTheFront(int numberOfObjectives, Random random) {
+    double[] objectives = new double[numberOfObjectives] ;
+    double norm = 0.0 ;
+    for (int i = 0; i < numberOfObjectives; i++) {
+      objectives[i] = Math.abs(random.nextGaussian()) ;
+      norm += objectives[i] * objectives[i] ;
+    }
+    double radius = 1.0 + 0.5 * random.nextDouble() ;
+    for (int i = 0; i < numberOfObjectives; i++) {
+      // Rounded so that some solutions are duplicated
+      objectives[i] = Math.round(100.0 * radius * objectives[i] / Math.sqrt(norm)) / 100.0 ;
+    }
+
+    return createSolution(objectives) ;
+  }
+
+  private Set<PointSolution> identitySet(List<PointSolution> solutionList) {
+    Set<PointSolution> set = Collections.newSetFromMap(new IdentityHashMap<>()) ;
+    set.addAll(solutionList) ;
+
+    return set ;
+  }
+}
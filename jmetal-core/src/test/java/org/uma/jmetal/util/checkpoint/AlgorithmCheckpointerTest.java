@@ -0,0 +1,223 @@
+package org.uma.jmetal.util.checkpoint;
+
+import org.junit.Test;
+import org.uma.jmetal.algorithm.impl.AbstractEvolutionaryAlgorithm;
+import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.solution.impl.DefaultDoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.impl.JavaRandomGenerator;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+public class AlgorithmCheckpointerTest {
+
+  @Test
+  public void shouldAResumedRunGiveTheSameResultAsAnUninterruptedOne() throws IOException {
+    File directory = Files.createTempDirectory("algorithmCheckpointerTest").toFile() ;
+    File file = new File(directory, "checkpoint.bin") ;
+    try {
+      List<Double> expectedResult = runWithSeed(new MockedAlgorithm(new MockedDoubleProblem(Integer.MAX_VALUE)), 1L) ;
+
+      MockedAlgorithm interruptedAlgorithm = new MockedAlgorithm(new MockedDoubleProblem(250)) ;
+      interruptedAlgorithm.setCheckpointer(new AlgorithmCheckpointer(file, 3));
+      try {
+        runWithSeed(interruptedAlgorithm, 1L) ;
+        fail("The run should have been interrupted") ;
+      } catch (JMetalException e) {
+        // expected
+      }
+      assertTrue(file.isFile()) ;
+
+      MockedDoubleProblem problem = new MockedDoubleProblem(Integer.MAX_VALUE) ;
+      MockedAlgorithm resumedAlgorithm = new MockedAlgorithm(problem) ;
+      resumedAlgorithm.setCheckpointer(new AlgorithmCheckpointer(file, 3));
+      List<Double> result = runWithSeed(resumedAlgorithm, 2L) ;
+
+      assertEquals(expectedResult, result) ;
+      assertTrue(problem.evaluations < MockedAlgorithm.POPULATION_SIZE * MockedAlgorithm.MAX_ITERATIONS - 200) ;
+      assertSame(problem, resumedAlgorithm.getProblem()) ;
+      assertFalse(file.exists()) ;
+    } finally {
+      file.delete() ;
+      directory.delete() ;
+    }
+  }
+
+  @Test
+  public void shouldRestoreReturnFalseIfThereIsNoCheckpoint() throws IOException {
+    File directory = Files.createTempDirectory("algorithmCheckpointerTest").toFile() ;
+    try {
+      AlgorithmCheckpointer checkpointer = new AlgorithmCheckpointer(new File(directory, "none.bin"), 1) ;
+
+      assertFalse(checkpointer.restore(new MockedAlgorithm(new MockedDoubleProblem(Integer.MAX_VALUE)))) ;
+    } finally {
+      directory.delete() ;
+    }
+  }
+
+  @Test(expected = JMetalException.class)
+  public void shouldRestoreFailIfTheCheckpointBelongsToAnotherAlgorithm() throws IOException {
+    File directory = Files.createTempDirectory("algorithmCheckpointerTest").toFile() ;
+    File file = new File(directory, "checkpoint.bin") ;
+    try {
+      AlgorithmCheckpointer checkpointer = new AlgorithmCheckpointer(file, 1) ;
+      MockedAlgorithm algorithm = new MockedAlgorithm(new MockedDoubleProblem(Integer.MAX_VALUE)) ;
+      algorithm.setPopulation(new ArrayList<>());
+      checkpointer.save(algorithm);
+      checkpointer.close();
+
+      checkpointer.restore(new AnotherMockedAlgorithm(new MockedDoubleProblem(Integer.MAX_VALUE))) ;
+    } finally {
+      file.delete() ;
+      directory.delete() ;
+    }
+  }
+
+  private List<Double> runWithSeed(MockedAlgorithm algorithm, long seed) {
+    return JMetalRandom.getInstance().callWithRandomGenerator(new JavaRandomGenerator(seed), () -> {
+      algorithm.run();
+      return algorithm.getResult() ;
+    }) ;
+  }
+
+  /**
+   * Minimizes the first variable by mutating it randomly, keeping the best solutions of the
+   * population and the offspring
+   */
+  @SuppressWarnings("serial")
+  private static class MockedAlgorithm extends AbstractEvolutionaryAlgorithm<DoubleSolution, List<Double>> {
+    private static final int POPULATION_SIZE = 10 ;
+    private static final int MAX_ITERATIONS = 50 ;
+    private int iterations ;
+
+    MockedAlgorithm(MockedDoubleProblem problem) {
+      setProblem(problem);
+    }
+
+    @Override protected void initProgress() {
+      iterations = 1 ;
+    }
+
+    @Override protected void updateProgress() {
+      iterations++ ;
+    }
+
+    @Override protected boolean isStoppingConditionReached() {
+      return iterations >= MAX_ITERATIONS ;
+    }
+
+    @Override protected List<DoubleSolution> createInitialPopulation() {
+      List<DoubleSolution> population = new ArrayList<>() ;
+      for (int i = 0; i < POPULATION_SIZE; i++) {
+        population.add(problem.createSolution()) ;
+      }
+      return population ;
+    }
+
+    @Override protected List<DoubleSolution> evaluatePopulation(List<DoubleSolution> population) {
+      for (DoubleSolution solution : population) {
+        problem.evaluate(solution);
+      }
+      return population ;
+    }
+
+    @Override protected List<DoubleSolution> selection(List<DoubleSolution> population) {
+      return population ;
+    }
+
+    @Override protected List<DoubleSolution> reproduction(List<DoubleSolution> population) {
+      List<DoubleSolution> offspring = new ArrayList<>() ;
+      for (DoubleSolution solution : population) {
+        DoubleSolution child = (DoubleSolution) solution.copy() ;
+        double value = child.getVariableValue(0) + JMetalRandom.getInstance().nextDouble(-1.0, 1.0) ;
+        child.setVariableValue(0, Math.max(0.0, Math.min(10.0, value)));
+        offspring.add(child) ;
+      }
+      return offspring ;
+    }
+
+    @Override protected List<DoubleSolution> replacement(List<DoubleSolution> population,
+        List<DoubleSolution> offspringPopulation) {
+      List<DoubleSolution> union = new ArrayList<>(population) ;
+      union.addAll(offspringPopulation) ;
+      union.sort((solution1, solution2) -> Double.compare(solution1.getObjective(0), solution2.getObjective(0)));
+      return new ArrayList<>(union.subList(0, POPULATION_SIZE)) ;
+    }
+
+    @Override public List<Double> getResult() {
+      List<Double> result = new ArrayList<>() ;
+      for (DoubleSolution solution : getPopulation()) {
+        result.add(solution.getObjective(0)) ;
+      }
+      return result ;
+    }
+
+    @Override public String getName() {
+      return "MockedAlgorithm" ;
+    }
+
+    @Override public String getDescription() {
+      return "Mocked algorithm" ;
+    }
+  }
+
+  @SuppressWarnings("serial")
+  private static class AnotherMockedAlgorithm extends MockedAlgorithm {
+    AnotherMockedAlgorithm(MockedDoubleProblem problem) {
+      super(problem) ;
+    }
+  }
+
+  /** Problem failing after a number of evaluations */
+  @SuppressWarnings("serial")
+  private static class MockedDoubleProblem extends AbstractDoubleProblem {
+    private final int maxEvaluations ;
+    private int evaluations ;
+
+    MockedDoubleProblem(int maxEvaluations) {
+      this.maxEvaluations = maxEvaluations ;
+      setNumberOfVariables(1);
+      setNumberOfObjectives(1);
+      setNumberOfConstraints(0);
+
+      List<Double> lowerLimit = new ArrayList<>(getNumberOfVariables());
+      List<Double> upperLimit = new ArrayList<>(getNumberOfVariables());
+
+      for (int i = 0; i < getNumberOfVariables(); i++) {
+        lowerLimit.add(0.0);
+        upperLimit.add(10.0);
+      }
+
+      setLowerLimit(lowerLimit);
+      setUpperLimit(upperLimit);
+    }
+
+    @Override
+    public void evaluate(DoubleSolution solution) {
+      if (++evaluations > maxEvaluations) {
+        throw new JMetalException("Evaluation failed") ;
+      }
+      solution.setObjective(0, solution.getVariableValue(0));
+    }
+
+    @Override
+    public DoubleSolution createSolution() {
+      return new DefaultDoubleSolution(this) ;
+    }
+  }
+}
@@ -40,23 +40,16 @@ public class CrowdingDistanceComparatorTest {
   }
 
   @Test public void shouldCompareReturnZeroIfBothSolutionsHaveNoCrowdingDistanceAttribute() {
-    @SuppressWarnings("unchecked")
-    CrowdingDistance<Solution<?>> distance = mock(CrowdingDistance.class) ;
-    when(distance.getAttribute(any(Solution.class))).thenReturn((Double) null, (Double) null) ;
-
-    ReflectionTestUtils.setField(comparator, "crowdingDistance", distance);
-
     Solution<?> solution1 = mock(Solution.class) ;
     Solution<?> solution2 = mock(Solution.class) ;
 
     assertEquals(0, comparator.compare(solution1, solution2));
-    verify(distance, times(2)).getAttribute(any(Solution.class)) ;
   }
 
   @Test public void shouldCompareReturnZeroIfBothSolutionsHaveTheSameDistance() {
     @SuppressWarnings("unchecked")
     CrowdingDistance<Solution<?>> distance = mock(CrowdingDistance.class) ;
-    when(distance.getAttribute(any(DoubleSolution.class))).thenReturn(2.0, 2.0, 2.0, 2.0) ;
+    when(distance.getValue(any(DoubleSolution.class), anyDouble())).thenReturn(2.0, 2.0) ;
 
     ReflectionTestUtils.setField(comparator, "crowdingDistance", distance);
 
@@ -64,13 +57,13 @@ public class CrowdingDistanceComparatorTest {
     DoubleSolution solution2 = mock(DoubleSolution.class) ;
 
     assertEquals(0, comparator.compare(solution1, solution2));
-    verify(distance, times(4)).getAttribute(any(Solution.class)) ;
+    verify(distance, times(2)).getValue(any(Solution.class), anyDouble()) ;
   }
 
   @Test public void shouldCompareReturnOneIfSolutionAHasLessDistance() {
     @SuppressWarnings("unchecked")
     CrowdingDistance<Solution<?>> distance = mock(CrowdingDistance.class) ;
-    when(distance.getAttribute(any(BinarySolution.class))).thenReturn(0.0, 0.0, 2.0, 2.0) ;
+    when(distance.getValue(any(BinarySolution.class), anyDouble())).thenReturn(0.0, 2.0) ;
 
     ReflectionTestUtils.setField(comparator, "crowdingDistance", distance);
 
@@ -78,13 +71,13 @@ public class CrowdingDistanceComparatorTest {
     BinarySolution solution2 = mock(BinarySolution.class) ;
 
     assertEquals(1, comparator.compare(solution1, solution2));
-    verify(distance, times(4)).getAttribute(any(Solution.class)) ;
+    verify(distance, times(2)).getValue(any(Solution.class), anyDouble()) ;
   }
 
   @Test public void shouldCompareReturnMinusOneIfSolutionBHasHigherDistance() {
     @SuppressWarnings("unchecked")
     CrowdingDistance<Solution<?>> distance = mock(CrowdingDistance.class) ;
-    when(distance.getAttribute(any(BinarySolution.class))).thenReturn(3.0, 3.0, 2.0, 2.0) ;
+    when(distance.getValue(any(BinarySolution.class), anyDouble())).thenReturn(3.0, 2.0) ;
 
     ReflectionTestUtils.setField(comparator, "crowdingDistance", distance);
 
@@ -92,6 +85,6 @@ public class CrowdingDistanceComparatorTest {
     BinarySolution solution2 = mock(BinarySolution.class) ;
 
     assertEquals(-1, comparator.compare(solution1, solution2));
-    verify(distance, times(4)).getAttribute(any(Solution.class)) ;
+    verify(distance, times(2)).getValue(any(Solution.class), anyDouble()) ;
   }
 }
@@ -6,7 +6,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 import org.uma.jmetal.solution.BinarySolution;
 import org.uma.jmetal.solution.DoubleSolution;
 import org.uma.jmetal.solution.Solution;
-import org.uma.jmetal.util.solutionattribute.Ranking;
+import org.uma.jmetal.util.solutionattribute.impl.DominanceRanking;
 
 import static org.junit.Assert.assertEquals;
 import static org.mockito.Matchers.any;
@@ -40,23 +40,16 @@ public class RankingComparatorTest {
   }
 
   @Test public void shouldCompareReturnZeroIfBothSolutionsHaveNoRankingAttribute() {
-    @SuppressWarnings("unchecked")
-    Ranking<Solution<?>> ranking = mock(Ranking.class) ;
-    when(ranking.getAttribute(any(Solution.class))).thenReturn((Integer) null, (Integer) null) ;
-
-    ReflectionTestUtils.setField(comparator, "ranking", ranking);
-
     Solution<?> solution1 = mock(Solution.class) ;
     Solution<?> solution2 = mock(Solution.class) ;
 
     assertEquals(0, comparator.compare(solution1, solution2));
-    verify(ranking, times(2)).getAttribute(any(Solution.class)) ;
   }
 
   @Test public void shouldCompareReturnZeroIfBothSolutionsHaveTheSameRanking() {
     @SuppressWarnings("unchecked")
-    Ranking<Solution<?>> ranking = mock(Ranking.class) ;
-    when(ranking.getAttribute(any(DoubleSolution.class))).thenReturn(1, 1, 1, 1) ;
+    DominanceRanking<Solution<?>> ranking = mock(DominanceRanking.class) ;
+    when(ranking.getValue(any(DoubleSolution.class), anyInt())).thenReturn(1, 1) ;
 
     ReflectionTestUtils.setField(comparator, "ranking", ranking);
 
@@ -64,13 +57,13 @@ public class RankingComparatorTest {
     DoubleSolution solution2 = mock(DoubleSolution.class) ;
 
     assertEquals(0, comparator.compare(solution1, solution2));
-    verify(ranking, times(4)).getAttribute(any(Solution.class)) ;
+    verify(ranking, times(2)).getValue(any(Solution.class), anyInt()) ;
   }
 
   @Test public void shouldCompareReturnMinusOneIfSolutionAHasLessRanking() {
     @SuppressWarnings("unchecked")
-    Ranking<Solution<?>> ranking = mock(Ranking.class) ;
-    when(ranking.getAttribute(any(BinarySolution.class))).thenReturn(0, 0, 2, 2) ;
+    DominanceRanking<Solution<?>> ranking = mock(DominanceRanking.class) ;
+    when(ranking.getValue(any(BinarySolution.class), anyInt())).thenReturn(0, 2) ;
 
     ReflectionTestUtils.setField(comparator, "ranking", ranking);
 
@@ -78,13 +71,13 @@ public class RankingComparatorTest {
     BinarySolution solution2 = mock(BinarySolution.class) ;
 
     assertEquals(-1, comparator.compare(solution1, solution2));
-    verify(ranking, times(4)).getAttribute(any(Solution.class)) ;
+    verify(ranking, times(2)).getValue(any(Solution.class), anyInt()) ;
   }
 
   @Test public void shouldCompareReturnOneIfSolutionBHasLessRanking() {
     @SuppressWarnings("unchecked")
-    Ranking<Solution<?>> ranking = mock(Ranking.class) ;
-    when(ranking.getAttribute(any(BinarySolution.class))).thenReturn(3, 3, 2, 2) ;
+    DominanceRanking<Solution<?>> ranking = mock(DominanceRanking.class) ;
+    when(ranking.getValue(any(BinarySolution.class), anyInt())).thenReturn(3, 2) ;
 
     ReflectionTestUtils.setField(comparator, "ranking", ranking);
 
@@ -92,7 +85,7 @@ public class RankingComparatorTest {
     BinarySolution solution2 = mock(BinarySolution.class) ;
 
     assertEquals(1, comparator.compare(solution1, solution2));
-    verify(ranking, times(4)).getAttribute(any(Solution.class)) ;
+    verify(ranking, times(2)).getValue(any(Solution.class), anyInt()) ;
   }
 
 }
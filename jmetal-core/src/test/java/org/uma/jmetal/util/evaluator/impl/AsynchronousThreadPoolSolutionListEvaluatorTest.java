@@ -0,0 +1,142 @@
+package org.uma.jmetal.util.evaluator.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.DoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+public class AsynchronousThreadPoolSolutionListEvaluatorTest {
+
+  @Test
+  public void shouldPollCompletedReturnAnEmptyListIfNothingHasBeenSubmitted() {
+    DoubleProblem problem = mock(DoubleProblem.class) ;
+    AsynchronousThreadPoolSolutionListEvaluator<DoubleSolution> evaluator =
+        new AsynchronousThreadPoolSolutionListEvaluator<>(2, problem) ;
+
+    assertTrue(evaluator.pollCompleted(0, TimeUnit.MILLISECONDS).isEmpty()) ;
+    evaluator.shutdown();
+  }
+
+  @Test
+  public void shouldDrainReturnAllTheSubmittedSolutions() {
+    DoubleProblem problem = mock(DoubleProblem.class) ;
+    AsynchronousThreadPoolSolutionListEvaluator<DoubleSolution> evaluator =
+        new AsynchronousThreadPoolSolutionListEvaluator<>(3, problem) ;
+
+    List<DoubleSolution> solutionList = new ArrayList<>() ;
+    for (int i = 0 ; i < 10; i++) {
+      DoubleSolution solution = mock(DoubleSolution.class) ;
+      solutionList.add(solution) ;
+      evaluator.submit(solution, problem);
+    }
+
+    List<DoubleSolution> completed = new ArrayList<>() ;
+    completed.addAll(evaluator.pollCompleted(1, TimeUnit.SECONDS)) ;
+    completed.addAll(evaluator.drain()) ;
+    evaluator.shutdown();
+
+    assertEquals(0, evaluator.getNumberOfPendingSolutions()) ;
+    assertEquals(10, completed.size()) ;
+    assertTrue(completed.containsAll(solutionList)) ;
+    for (DoubleSolution solution : solutionList) {
+      verify(problem).evaluate(solution);
+    }
+  }
+
+  @Test(expected = JMetalException.class)
+  public void shouldPollCompletedPropagateTheExceptionsOfTheProblem() {
+    DoubleProblem problem = mock(DoubleProblem.class) ;
+    doThrow(new JMetalException("Evaluation error")).when(problem).evaluate(any(DoubleSolution.class));
+
+    AsynchronousThreadPoolSolutionListEvaluator<DoubleSolution> evaluator =
+        new AsynchronousThreadPoolSolutionListEvaluator<>(2, problem) ;
+    evaluator.submit(mock(DoubleSolution.class), problem);
+
+    try {
+      evaluator.drain() ;
+    } finally {
+      evaluator.shutdown();
+    }
+  }
+
+  @Test
+  public void shouldAFailedEvaluationNotLoseTheSolutionsEvaluatedSuccessfully() {
+    DoubleProblem problem = mock(DoubleProblem.class) ;
+    DoubleSolution failingSolution = mock(DoubleSolution.class) ;
+    doThrow(new JMetalException("Evaluation error")).when(problem).evaluate(failingSolution);
+
+    List<DoubleSolution> solutionsBefore = new ArrayList<>() ;
+    List<DoubleSolution> solutionsAfter = new ArrayList<>() ;
+    for (int i = 0 ; i < 3; i++) {
+      solutionsBefore.add(mock(DoubleSolution.class)) ;
+      solutionsAfter.add(mock(DoubleSolution.class)) ;
+    }
+
+    /* A single thread completes the evaluations in order of submission */
+    AsynchronousThreadPoolSolutionListEvaluator<DoubleSolution> evaluator =
+        new AsynchronousThreadPoolSolutionListEvaluator<>(1, problem) ;
+    for (DoubleSolution solution : solutionsBefore) {
+      evaluator.submit(solution, problem);
+    }
+    evaluator.submit(failingSolution, problem);
+    for (DoubleSolution solution : solutionsAfter) {
+      evaluator.submit(solution, problem);
+    }
+
+    try {
+      assertEquals(solutionsBefore, evaluator.drain()) ;
+      try {
+        evaluator.drain() ;
+        fail("The failed evaluation has not been reported") ;
+      } catch (JMetalException e) {
+        assertEquals("Evaluation error", e.getMessage()) ;
+      }
+      assertEquals(solutionsAfter, evaluator.drain()) ;
+      assertEquals(0, evaluator.getNumberOfPendingSolutions()) ;
+    } finally {
+      evaluator.shutdown();
+    }
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void shouldADeserializedEvaluatorEvaluateTheSubmittedSolutions() throws IOException, ClassNotFoundException {
+    DoubleProblem problem = mock(DoubleProblem.class) ;
+    AsynchronousThreadPoolSolutionListEvaluator<DoubleSolution> evaluator =
+        new AsynchronousThreadPoolSolutionListEvaluator<>(2, problem) ;
+    evaluator.shutdown();
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream() ;
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(evaluator);
+    }
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      evaluator = (AsynchronousThreadPoolSolutionListEvaluator<DoubleSolution>) in.readObject() ;
+    }
+
+    DoubleSolution solution = mock(DoubleSolution.class) ;
+    evaluator.submit(solution, problem);
+    List<DoubleSolution> completed = evaluator.drain() ;
+    evaluator.shutdown();
+
+    assertEquals(1, completed.size()) ;
+    assertSame(solution, completed.get(0)) ;
+    verify(problem).evaluate(solution);
+  }
+}
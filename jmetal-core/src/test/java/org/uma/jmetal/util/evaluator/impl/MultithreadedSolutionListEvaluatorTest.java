@@ -0,0 +1,107 @@
+package org.uma.jmetal.util.evaluator.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.DoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+public class MultithreadedSolutionListEvaluatorTest {
+
+  @Test
+  public void shouldConstructorUseTheNumberOfProcessorsIfZeroThreadsAreRequested() {
+    MultithreadedSolutionListEvaluator<DoubleSolution> evaluator =
+        new MultithreadedSolutionListEvaluator<>(0, mock(DoubleProblem.class)) ;
+
+    assertEquals(Runtime.getRuntime().availableProcessors(), evaluator.getNumberOfThreads()) ;
+    assertEquals(0, evaluator.getChunkSize()) ;
+    evaluator.shutdown();
+  }
+
+  @Test
+  public void shouldEvaluateAllTheSolutionsWithTheDefaultChunkSize() {
+    shouldEvaluateAllTheSolutions(0, 101) ;
+  }
+
+  @Test
+  public void shouldEvaluateAllTheSolutionsWithChunksOfOneSolution() {
+    shouldEvaluateAllTheSolutions(1, 37) ;
+  }
+
+  @Test
+  public void shouldEvaluateAllTheSolutionsWithChunksLargerThanTheList() {
+    shouldEvaluateAllTheSolutions(50, 10) ;
+  }
+
+  @Test(expected = JMetalException.class)
+  public void shouldConstructorRaiseAnExceptionIfTheNumberOfThreadsIsNegative() {
+    new MultithreadedSolutionListEvaluator<DoubleSolution>(-1, mock(DoubleProblem.class)) ;
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void shouldADeserializedEvaluatorEvaluateTheSolutions() throws IOException, ClassNotFoundException {
+    DoubleProblem problem = mock(DoubleProblem.class) ;
+    MultithreadedSolutionListEvaluator<DoubleSolution> evaluator =
+        new MultithreadedSolutionListEvaluator<DoubleSolution>(2, problem).setChunkSize(1) ;
+    evaluator.shutdown();
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream() ;
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(evaluator);
+    }
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      evaluator = (MultithreadedSolutionListEvaluator<DoubleSolution>) in.readObject() ;
+    }
+
+    List<DoubleSolution> solutionList = new ArrayList<>() ;
+    for (int i = 0 ; i < 5; i++) {
+      solutionList.add(mock(DoubleSolution.class)) ;
+    }
+    evaluator.evaluate(solutionList, problem) ;
+    evaluator.shutdown();
+
+    assertEquals(2, evaluator.getNumberOfThreads()) ;
+    assertEquals(1, evaluator.getChunkSize()) ;
+    for (DoubleSolution solution : solutionList) {
+      verify(problem).evaluate(solution);
+    }
+  }
+
+  @Test(expected = JMetalException.class)
+  public void shouldSetChunkSizeRaiseAnExceptionIfTheValueIsNegative() {
+    new MultithreadedSolutionListEvaluator<DoubleSolution>(2, mock(DoubleProblem.class))
+        .setChunkSize(-1) ;
+  }
+
+  private void shouldEvaluateAllTheSolutions(int chunkSize, int numberOfSolutions) {
+    DoubleProblem problem = mock(DoubleProblem.class) ;
+    MultithreadedSolutionListEvaluator<DoubleSolution> evaluator =
+        new MultithreadedSolutionListEvaluator<DoubleSolution>(3, problem).setChunkSize(chunkSize) ;
+
+    List<DoubleSolution> solutionList = new ArrayList<>() ;
+    for (int i = 0 ; i < numberOfSolutions; i++) {
+      solutionList.add(mock(DoubleSolution.class)) ;
+    }
+
+    assertSame(solutionList, evaluator.evaluate(solutionList, problem)) ;
+    evaluator.shutdown();
+
+    for (DoubleSolution solution : solutionList) {
+      verify(problem, times(1)).evaluate(solution);
+    }
+  }
+}
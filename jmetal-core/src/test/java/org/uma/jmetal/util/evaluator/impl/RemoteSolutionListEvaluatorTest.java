@@ -0,0 +1,286 @@
+package org.uma.jmetal.util.evaluator.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.solutionattribute.impl.NumberOfViolatedConstraints;
+import org.uma.jmetal.util.solutionattribute.impl.OverallConstraintViolation;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+public class RemoteSolutionListEvaluatorTest {
+  private static final double EPSILON = 0.0000000000001 ;
+
+  @Test
+  public void shouldEvaluateTheSolutionsInTheRemoteWorkers() throws InterruptedException {
+    MockedDoubleProblem problem = new MockedDoubleProblem() ;
+    RemoteSolutionListEvaluator evaluator = new RemoteSolutionListEvaluator(0) ;
+
+    List<Thread> workers = new ArrayList<>() ;
+    for (int i = 0; i < 3; i++) {
+      Thread worker = new Thread(new RemoteEvaluationWorker("localhost", evaluator.getPort(), problem)) ;
+      worker.start();
+      workers.add(worker) ;
+    }
+
+    List<DoubleSolution> solutionList = new ArrayList<>() ;
+    for (int i = 0; i < 20; i++) {
+      solutionList.add(problem.createSolution()) ;
+    }
+    evaluator.evaluate(solutionList, problem) ;
+    evaluator.shutdown();
+    for (Thread worker : workers) {
+      worker.join();
+    }
+
+    OverallConstraintViolation<DoubleSolution> overallConstraintViolation = new OverallConstraintViolation<>() ;
+    NumberOfViolatedConstraints<DoubleSolution> numberOfViolatedConstraints = new NumberOfViolatedConstraints<>() ;
+    for (DoubleSolution solution : solutionList) {
+      assertEquals(solution.getVariableValue(0) + solution.getVariableValue(1), solution.getObjective(0), EPSILON) ;
+      assertEquals(solution.getVariableValue(0) - solution.getVariableValue(1), solution.getObjective(1), EPSILON) ;
+      assertEquals(-solution.getVariableValue(0), overallConstraintViolation.getAttribute(solution), EPSILON) ;
+      assertEquals(1, (int) numberOfViolatedConstraints.getAttribute(solution)) ;
+    }
+  }
+
+  @Test(expected = JMetalException.class)
+  public void shouldEvaluateRaiseAnExceptionIfTheEvaluatorHasBeenShutDown() {
+    RemoteSolutionListEvaluator evaluator = new RemoteSolutionListEvaluator(0) ;
+    evaluator.shutdown();
+
+    evaluator.evaluate(new ArrayList<DoubleSolution>(), new MockedDoubleProblem()) ;
+  }
+
+  @Test(expected = JMetalException.class)
+  public void shouldConstructorRaiseAnExceptionIfTheNumberOfAttemptsIsZero() {
+    new RemoteSolutionListEvaluator(0, 1000, 0) ;
+  }
+
+  @Test
+  public void shouldEvaluateTheSolutionsInLocalWorkerProcesses() throws InterruptedException {
+    MockedDoubleProblem problem = new MockedDoubleProblem() ;
+    RemoteSolutionListEvaluator evaluator = new RemoteSolutionListEvaluator(0).setNoWorkerTimeout(60000) ;
+    List<Process> processes = RemoteEvaluationWorker.startLocalWorkers(2, evaluator.getPort(),
+        MockedDoubleProblem.class.getName(), 2) ;
+
+    try {
+      List<DoubleSolution> solutionList = createSolutionList(problem, 20) ;
+      evaluator.evaluate(solutionList, problem) ;
+      evaluator.shutdown();
+
+      assertEvaluated(solutionList) ;
+      for (Process process : processes) {
+        assertTrue(process.waitFor(30, TimeUnit.SECONDS)) ;
+        assertEquals(0, process.exitValue()) ;
+      }
+    } finally {
+      evaluator.shutdown();
+      for (Process process : processes) {
+        process.destroy();
+      }
+    }
+  }
+
+  @Test
+  public void shouldDispatchAgainTheTaskOfAWorkerWhichGoesSilent() throws Exception {
+    shouldDispatchAgainTheTaskOfAFaultyWorker(false) ;
+  }
+
+  @Test
+  public void shouldDispatchAgainTheTaskOfAWorkerWhichDropsItsConnection() throws Exception {
+    shouldDispatchAgainTheTaskOfAFaultyWorker(true) ;
+  }
+
+  private void shouldDispatchAgainTheTaskOfAFaultyWorker(boolean dropConnection) throws Exception {
+    MockedDoubleProblem problem = new MockedDoubleProblem() ;
+    RemoteSolutionListEvaluator evaluator = new RemoteSolutionListEvaluator(0, 300, 2) ;
+    List<DoubleSolution> solutionList = createSolutionList(problem, 10) ;
+
+    // the faulty worker is the only one connected when the first task is dispatched
+    FaultyWorker faultyWorker = new FaultyWorker(evaluator.getPort(), dropConnection, 1) ;
+    faultyWorker.start();
+    waitForConnections(evaluator, 1) ;
+    Thread evaluation = new Thread(() -> evaluator.evaluate(solutionList, problem)) ;
+    evaluation.start();
+    assertTrue(faultyWorker.taskReceived.await(10, TimeUnit.SECONDS)) ;
+
+    Thread worker = new Thread(new RemoteEvaluationWorker("localhost", evaluator.getPort(), problem, 50)) ;
+    worker.start();
+    evaluation.join(10000);
+    assertFalse(evaluation.isAlive()) ;
+    evaluator.shutdown();
+    worker.join();
+    faultyWorker.close();
+
+    assertEvaluated(solutionList) ;
+  }
+
+  @Test
+  public void shouldEvaluateRaiseAnExceptionWhenTheMaximumNumberOfAttemptsIsExhausted() throws Exception {
+    MockedDoubleProblem problem = new MockedDoubleProblem() ;
+    RemoteSolutionListEvaluator evaluator = new RemoteSolutionListEvaluator(0, 300, 3) ;
+
+    // every attempt is received by a worker which drops the connection
+    FaultyWorker faultyWorker = new FaultyWorker(evaluator.getPort(), true, Integer.MAX_VALUE) ;
+    faultyWorker.start();
+    try {
+      evaluator.evaluate(createSolutionList(problem, 1), problem) ;
+      fail("The evaluation should fail") ;
+    } catch (JMetalException e) {
+      assertTrue(e.getMessage().contains("after 3 attempts")) ;
+      assertEquals(3, faultyWorker.numberOfTasks) ;
+    } finally {
+      evaluator.shutdown();
+      faultyWorker.close();
+    }
+  }
+
+  @Test(expected = JMetalException.class)
+  public void shouldEvaluateRaiseAnExceptionIfNoWorkerConnects() {
+    MockedDoubleProblem problem = new MockedDoubleProblem() ;
+    RemoteSolutionListEvaluator evaluator = new RemoteSolutionListEvaluator(0).setNoWorkerTimeout(200) ;
+
+    try {
+      evaluator.evaluate(createSolutionList(problem, 2), problem) ;
+    } finally {
+      evaluator.shutdown();
+    }
+  }
+
+  @Test
+  public void shouldADeserializedEvaluatorEvaluateTheSolutions() throws Exception {
+    MockedDoubleProblem problem = new MockedDoubleProblem() ;
+    RemoteSolutionListEvaluator evaluator = new RemoteSolutionListEvaluator(0) ;
+    evaluator.shutdown();
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream() ;
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(evaluator);
+    }
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      evaluator = (RemoteSolutionListEvaluator) in.readObject() ;
+    }
+
+    Thread worker = new Thread(new RemoteEvaluationWorker("localhost", evaluator.getPort(), problem)) ;
+    worker.start();
+    List<DoubleSolution> solutionList = createSolutionList(problem, 5) ;
+    evaluator.evaluate(solutionList, problem) ;
+    evaluator.shutdown();
+    worker.join();
+
+    assertEvaluated(solutionList) ;
+  }
+
+  private List<DoubleSolution> createSolutionList(MockedDoubleProblem problem, int size) {
+    List<DoubleSolution> solutionList = new ArrayList<>(size) ;
+    for (int i = 0; i < size; i++) {
+      solutionList.add(problem.createSolution()) ;
+    }
+    return solutionList ;
+  }
+
+  private void assertEvaluated(List<DoubleSolution> solutionList) {
+    for (DoubleSolution solution : solutionList) {
+      assertEquals(solution.getVariableValue(0) + solution.getVariableValue(1), solution.getObjective(0), EPSILON) ;
+      assertEquals(solution.getVariableValue(0) - solution.getVariableValue(1), solution.getObjective(1), EPSILON) ;
+    }
+  }
+
+  private void waitForConnections(RemoteSolutionListEvaluator evaluator, int numberOfConnections)
+      throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 10000 ;
+    while ((evaluator.getNumberOfConnections() < numberOfConnections) && (System.currentTimeMillis() < deadline)) {
+      Thread.sleep(10);
+    }
+    assertEquals(numberOfConnections, evaluator.getNumberOfConnections()) ;
+  }
+
+  /**
+   * Worker which receives tasks and never answers them: it either keeps the connection open
+   * without sending heartbeats or closes it and connects again, up to a number of tasks
+   */
+  private static class FaultyWorker extends Thread {
+    private final int port ;
+    private final boolean dropConnection ;
+    private final int maxTasks ;
+    private final CountDownLatch taskReceived = new CountDownLatch(1) ;
+    private final List<Socket> sockets = new ArrayList<>() ;
+    private volatile int numberOfTasks ;
+    private volatile boolean closed ;
+
+    FaultyWorker(int port, boolean dropConnection, int maxTasks) {
+      this.port = port ;
+      this.dropConnection = dropConnection ;
+      this.maxTasks = maxTasks ;
+      setDaemon(true);
+    }
+
+    @Override
+    public void run() {
+      try {
+        while (!closed && (numberOfTasks < maxTasks)) {
+          Socket socket = new Socket("localhost", port) ;
+          synchronized (sockets) {
+            sockets.add(socket) ;
+          }
+          if (new DataInputStream(socket.getInputStream()).readByte() != RemoteEvaluationProtocol.TASK) {
+            return ;
+          }
+          numberOfTasks++ ;
+          taskReceived.countDown();
+          if (dropConnection) {
+            socket.close();
+          }
+        }
+      } catch (IOException e) {
+        // The evaluator has closed the connection
+      }
+    }
+
+    void close() throws IOException {
+      closed = true ;
+      synchronized (sockets) {
+        for (Socket socket : sockets) {
+          socket.close();
+        }
+      }
+    }
+  }
+
+  /** Public, so the local worker processes can load it by its name */
+  public static class MockedDoubleProblem extends AbstractDoubleProblem {
+    public MockedDoubleProblem() {
+      setNumberOfVariables(2);
+      setNumberOfObjectives(2);
+      setNumberOfConstraints(1);
+
+      setLowerLimit(Arrays.asList(0.0, 0.0));
+      setUpperLimit(Arrays.asList(1.0, 1.0));
+    }
+
+    @Override
+    public void evaluate(DoubleSolution solution) {
+      solution.setObjective(0, solution.getVariableValue(0) + solution.getVariableValue(1));
+      solution.setObjective(1, solution.getVariableValue(0) - solution.getVariableValue(1));
+      new OverallConstraintViolation<DoubleSolution>().setAttribute(solution, -solution.getVariableValue(0));
+      new NumberOfViolatedConstraints<DoubleSolution>().setAttribute(solution, 1);
+    }
+  }
+}
@@ -0,0 +1,137 @@
+package org.uma.jmetal.util.evaluator.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.DoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.measure.MeasureListener;
+import org.uma.jmetal.util.measure.PullMeasure;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+public class ThreadPoolSolutionListEvaluatorTest {
+
+  @Test
+  public void shouldEvaluateAllTheSolutionsInSeveralCalls() {
+    DoubleProblem problem = mock(DoubleProblem.class) ;
+    ThreadPoolSolutionListEvaluator<DoubleSolution> evaluator =
+        new ThreadPoolSolutionListEvaluator<>(2, problem) ;
+
+    List<DoubleSolution> solutionList = new ArrayList<>() ;
+    for (int i = 0 ; i < 10; i++) {
+      solutionList.add(mock(DoubleSolution.class)) ;
+    }
+
+    assertSame(solutionList, evaluator.evaluate(solutionList, problem)) ;
+    evaluator.evaluate(solutionList, problem) ;
+    evaluator.shutdown();
+
+    for (DoubleSolution solution : solutionList) {
+      verify(problem, times(2)).evaluate(solution);
+    }
+  }
+
+  @Test
+  public void shouldTheMeasuresCountTheEvaluations() {
+    DoubleProblem problem = mock(DoubleProblem.class) ;
+    ThreadPoolSolutionListEvaluator<DoubleSolution> evaluator =
+        new ThreadPoolSolutionListEvaluator<>(4, problem) ;
+
+    final AtomicInteger latencies = new AtomicInteger() ;
+    evaluator.getMeasureManager().<Long>getPushMeasure("taskLatency").register(
+        new MeasureListener<Long>() {
+          @Override
+          public void measureGenerated(Long value) {
+            latencies.incrementAndGet() ;
+          }
+        });
+
+    List<DoubleSolution> solutionList = new ArrayList<>() ;
+    for (int i = 0 ; i < 7; i++) {
+      solutionList.add(mock(DoubleSolution.class)) ;
+    }
+    evaluator.evaluate(solutionList, problem) ;
+    evaluator.shutdown();
+
+    PullMeasure<Long> evaluations = evaluator.getMeasureManager().getPullMeasure("evaluations") ;
+    PullMeasure<Integer> queueDepth = evaluator.getMeasureManager().getPullMeasure("queueDepth") ;
+    assertEquals(7, (long) evaluations.get()) ;
+    assertEquals(7, latencies.get()) ;
+    assertEquals(0, (int) queueDepth.get()) ;
+  }
+
+  @Test(expected = JMetalException.class)
+  public void shouldEvaluatePropagateTheExceptionsOfTheProblem() {
+    DoubleProblem problem = mock(DoubleProblem.class) ;
+    doThrow(new JMetalException("Evaluation error")).when(problem).evaluate(any(DoubleSolution.class));
+
+    ThreadPoolSolutionListEvaluator<DoubleSolution> evaluator =
+        new ThreadPoolSolutionListEvaluator<>(2, problem) ;
+    List<DoubleSolution> solutionList = new ArrayList<>() ;
+    solutionList.add(mock(DoubleSolution.class)) ;
+
+    try {
+      evaluator.evaluate(solutionList, problem) ;
+    } finally {
+      evaluator.shutdown();
+    }
+  }
+
+  @Test(expected = JMetalException.class)
+  public void shouldEvaluateRaiseAnExceptionIfTheEvaluatorHasBeenShutDown() {
+    DoubleProblem problem = mock(DoubleProblem.class) ;
+    ThreadPoolSolutionListEvaluator<DoubleSolution> evaluator =
+        new ThreadPoolSolutionListEvaluator<>(2, problem) ;
+    evaluator.shutdown();
+
+    evaluator.evaluate(new ArrayList<DoubleSolution>(), problem) ;
+  }
+
+  @Test
+  public void shouldADeserializedEvaluatorEvaluateTheSolutions() throws IOException, ClassNotFoundException {
+    DoubleProblem problem = mock(DoubleProblem.class) ;
+    ThreadPoolSolutionListEvaluator<DoubleSolution> evaluator =
+        new ThreadPoolSolutionListEvaluator<>(2, problem) ;
+    evaluator.shutdown();
+
+    ThreadPoolSolutionListEvaluator<DoubleSolution> deserializedEvaluator = serializeAndDeserialize(evaluator) ;
+
+    List<DoubleSolution> solutionList = new ArrayList<>() ;
+    for (int i = 0 ; i < 5; i++) {
+      solutionList.add(mock(DoubleSolution.class)) ;
+    }
+    deserializedEvaluator.evaluate(solutionList, problem) ;
+    deserializedEvaluator.shutdown();
+
+    assertEquals(2, deserializedEvaluator.getNumberOfThreads()) ;
+    for (DoubleSolution solution : solutionList) {
+      verify(problem).evaluate(solution);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private ThreadPoolSolutionListEvaluator<DoubleSolution> serializeAndDeserialize(
+      ThreadPoolSolutionListEvaluator<DoubleSolution> evaluator) throws IOException, ClassNotFoundException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream() ;
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(evaluator);
+    }
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      return (ThreadPoolSolutionListEvaluator<DoubleSolution>) in.readObject() ;
+    }
+  }
+}
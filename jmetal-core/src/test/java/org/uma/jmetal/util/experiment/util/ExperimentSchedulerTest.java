@@ -0,0 +1,229 @@
+package org.uma.jmetal.util.experiment.util;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.experiment.Experiment;
+import org.uma.jmetal.util.experiment.ExperimentBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+public class ExperimentSchedulerTest {
+  private File directory ;
+  private ExperimentProblem<DoubleSolution> problem ;
+  private List<String> executedRuns ;
+
+  @Before
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("experiment").toFile() ;
+    problem = new ExperimentProblem<>(new MockedDoubleProblem(), "Problem") ;
+    executedRuns = Collections.synchronizedList(new ArrayList<String>()) ;
+  }
+
+  @After
+  public void cleanup() throws IOException {
+    FileUtils.deleteDirectory(directory);
+  }
+
+  @Test
+  public void shouldRunSkipTheRunsWhoseResultsExist() throws IOException {
+    List<ExperimentAlgorithm<DoubleSolution, List<DoubleSolution>>> algorithmList = new ArrayList<>() ;
+    for (int run = 0; run < 3; run++) {
+      algorithmList.add(createRun("A", run, false)) ;
+    }
+    Experiment<DoubleSolution, List<DoubleSolution>> experiment = createExperiment(algorithmList, null) ;
+
+    File runDirectory = new File(experiment.getExperimentBaseDirectory(), "data/A/Problem") ;
+    assertTrue(runDirectory.mkdirs()) ;
+    assertTrue(new File(runDirectory, "FUN1.tsv").createNewFile()) ;
+    assertTrue(new File(runDirectory, "VAR1.tsv").createNewFile()) ;
+    // a run with only its FUN file was interrupted, so it is executed again
+    assertTrue(new File(runDirectory, "FUN2.tsv").createNewFile()) ;
+
+    new ExperimentScheduler<>(experiment).run();
+
+    assertEquals(Arrays.asList("A/0", "A/2"), executedRuns) ;
+    for (int run = 0; run < 3; run++) {
+      assertTrue(algorithmList.get(run).hasResults(experiment)) ;
+    }
+  }
+
+  @Test
+  public void shouldRunExecuteTheRunsInDescendingOrderOfEstimatedCost() {
+    List<ExperimentAlgorithm<DoubleSolution, List<DoubleSolution>>> algorithmList = new ArrayList<>() ;
+    for (int run : new int[]{2, 0, 3, 1}) {
+      algorithmList.add(createRun("A", run, false)) ;
+    }
+    ToDoubleFunction<ExperimentAlgorithm<DoubleSolution, List<DoubleSolution>>> costEstimator =
+        algorithm -> algorithm.getRunId() ;
+
+    new ExperimentScheduler<>(createExperiment(algorithmList, costEstimator)).run();
+
+    assertEquals(Arrays.asList("A/3", "A/2", "A/1", "A/0"), executedRuns) ;
+  }
+
+  @Test
+  public void shouldTheDefaultCostEstimatorStartWithTheSlowestAlgorithmOfThePreviousExecutions()
+      throws IOException {
+    List<ExperimentAlgorithm<DoubleSolution, List<DoubleSolution>>> algorithmList = new ArrayList<>() ;
+    algorithmList.add(createRun("Fast", 1, false)) ;
+    algorithmList.add(createRun("Slow", 1, false)) ;
+    Experiment<DoubleSolution, List<DoubleSolution>> experiment = createExperiment(algorithmList, null) ;
+    writeExecutionTimes(experiment, "Fast,Problem,0,100", "Slow,Problem,0,5000") ;
+
+    new ExperimentScheduler<>(experiment).run();
+
+    assertEquals(Arrays.asList("Slow/1", "Fast/1"), executedRuns) ;
+  }
+
+  @Test
+  public void shouldRunAppendTheWallTimesToTheExecutionTimesFile() throws IOException {
+    List<ExperimentAlgorithm<DoubleSolution, List<DoubleSolution>>> algorithmList = new ArrayList<>() ;
+    algorithmList.add(createRun("A", 1, false)) ;
+    algorithmList.add(createRun("B", 1, false)) ;
+    Experiment<DoubleSolution, List<DoubleSolution>> experiment = createExperiment(algorithmList, null) ;
+    writeExecutionTimes(experiment, "A,Problem,0,100") ;
+
+    new ExperimentScheduler<>(experiment).run();
+
+    List<String> lines = Files.readAllLines(
+        new File(experiment.getExperimentBaseDirectory(), "ExecutionTimes.csv").toPath(), StandardCharsets.UTF_8) ;
+    assertEquals(4, lines.size()) ;
+    assertEquals("Algorithm,Problem,ExecutionId,WallTime(ms)", lines.get(0)) ;
+    assertEquals("A,Problem,0,100", lines.get(1)) ;
+    List<String> newRuns = new ArrayList<>() ;
+    for (String line : lines.subList(2, 4)) {
+      String[] fields = line.split(",") ;
+      assertEquals(4, fields.length) ;
+      assertTrue(Long.parseLong(fields[3]) >= 0) ;
+      newRuns.add(fields[0] + "," + fields[1] + "," + fields[2]) ;
+    }
+    Collections.sort(newRuns);
+    assertEquals(Arrays.asList("A,Problem,1", "B,Problem,1"), newRuns) ;
+  }
+
+  @Test
+  public void shouldAFailedRunLetTheOthersFinishBeforeRaisingAnException() {
+    List<ExperimentAlgorithm<DoubleSolution, List<DoubleSolution>>> algorithmList = new ArrayList<>() ;
+    algorithmList.add(createRun("A", 0, false)) ;
+    algorithmList.add(createRun("A", 1, true)) ;
+    algorithmList.add(createRun("A", 2, false)) ;
+    // the failing run is the first one executed
+    ToDoubleFunction<ExperimentAlgorithm<DoubleSolution, List<DoubleSolution>>> costEstimator =
+        algorithm -> algorithm.getRunId() == 1 ? 10 : algorithm.getRunId() ;
+    Experiment<DoubleSolution, List<DoubleSolution>> experiment = createExperiment(algorithmList, costEstimator) ;
+
+    try {
+      new ExperimentScheduler<>(experiment).run();
+      fail("The failed run has not been reported") ;
+    } catch (JMetalException e) {
+      assertTrue(e.getMessage().startsWith("1 of 3 runs failed")) ;
+    }
+
+    assertEquals(Arrays.asList("A/1", "A/2", "A/0"), executedRuns) ;
+    assertTrue(algorithmList.get(0).hasResults(experiment)) ;
+    assertFalse(algorithmList.get(1).hasResults(experiment)) ;
+    assertTrue(algorithmList.get(2).hasResults(experiment)) ;
+  }
+
+  private Experiment<DoubleSolution, List<DoubleSolution>> createExperiment(
+      List<ExperimentAlgorithm<DoubleSolution, List<DoubleSolution>>> algorithmList,
+      ToDoubleFunction<ExperimentAlgorithm<DoubleSolution, List<DoubleSolution>>> costEstimator) {
+    // a single core, so the runs are executed in the order they are taken
+    return new ExperimentBuilder<DoubleSolution, List<DoubleSolution>>("Experiment")
+        .setAlgorithmList(algorithmList)
+        .setProblemList(Collections.singletonList(problem))
+        .setExperimentBaseDirectory(directory.getPath())
+        .setNumberOfCores(1)
+        .setCostEstimator(costEstimator)
+        .build() ;
+  }
+
+  private ExperimentAlgorithm<DoubleSolution, List<DoubleSolution>> createRun(String tag, int runId, boolean failing) {
+    return new ExperimentAlgorithm<>(new StubAlgorithm(tag + "/" + runId, failing), tag, problem, runId) ;
+  }
+
+  private void writeExecutionTimes(Experiment<DoubleSolution, List<DoubleSolution>> experiment, String... lines)
+      throws IOException {
+    File file = new File(experiment.getExperimentBaseDirectory(), "ExecutionTimes.csv") ;
+    assertTrue(file.getParentFile().mkdirs()) ;
+    List<String> content = new ArrayList<>() ;
+    content.add("Algorithm,Problem,ExecutionId,WallTime(ms)") ;
+    content.addAll(Arrays.asList(lines)) ;
+    Files.write(file.toPath(), content, StandardCharsets.UTF_8) ;
+  }
+
+  /**
+   * Algorithm recording its execution and returning a single solution, or failing
+   */
+  @SuppressWarnings("serial")
+  private class StubAlgorithm implements Algorithm<List<DoubleSolution>> {
+    private final String name ;
+    private final boolean failing ;
+
+    StubAlgorithm(String name, boolean failing) {
+      this.name = name ;
+      this.failing = failing ;
+    }
+
+    @Override
+    public void run() {
+      executedRuns.add(name) ;
+      if (failing) {
+        throw new JMetalException("Run " + name + " failed") ;
+      }
+    }
+
+    @Override
+    public List<DoubleSolution> getResult() {
+      return Collections.singletonList(problem.getProblem().createSolution()) ;
+    }
+
+    @Override
+    public String getName() {
+      return name ;
+    }
+
+    @Override
+    public String getDescription() {
+      return name ;
+    }
+  }
+
+  @SuppressWarnings("serial")
+  private static class MockedDoubleProblem extends AbstractDoubleProblem {
+    MockedDoubleProblem() {
+      setNumberOfVariables(2);
+      setNumberOfObjectives(2);
+      setLowerLimit(Arrays.asList(0.0, 0.0));
+      setUpperLimit(Arrays.asList(1.0, 1.0));
+    }
+
+    @Override
+    public void evaluate(DoubleSolution solution) {
+      solution.setObjective(0, solution.getVariableValue(0));
+      solution.setObjective(1, solution.getVariableValue(1));
+    }
+  }
+}
@@ -0,0 +1,282 @@
+package org.uma.jmetal.util.fileoutput;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.uma.jmetal.problem.DoubleProblem;
+import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.solution.impl.DefaultDoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.solutionattribute.impl.NumberOfViolatedConstraints;
+import org.uma.jmetal.util.solutionattribute.impl.OverallConstraintViolation;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+public class SolutionListDumpWriterTest {
+  private static final double EPSILON = 0.0000000001 ;
+  private DoubleProblem problem ;
+  private File directory ;
+
+  @Before
+  public void setup() throws IOException {
+    problem = new MockedDoubleProblem() ;
+    directory = Files.createTempDirectory("dump").toFile() ;
+  }
+
+  @After
+  public void cleanup() {
+    File[] files = directory.listFiles() ;
+    if (files != null) {
+      for (File file : files) {
+        file.delete() ;
+      }
+    }
+    directory.delete() ;
+  }
+
+  @Test
+  public void shouldWriteAppendTheIterationsToASingleFilePerStream() throws IOException {
+    List<DoubleSolution> solutionList = createSolutionList(3) ;
+
+    SolutionListDumpWriter writer = new SolutionListDumpWriter(directory.getPath()) ;
+    writer.write("swarm", 1, solutionList);
+    writer.write("swarm", 2, solutionList);
+    writer.close();
+
+    List<String> variables = Files.readAllLines(new File(directory, "swarmvariable.csv").toPath()) ;
+    List<String> objectives = Files.readAllLines(new File(directory, "swarmfitness.csv").toPath()) ;
+
+    assertEquals(6, variables.size()) ;
+    assertEquals(6, objectives.size()) ;
+    assertEquals("2," + solutionList.get(1).getVariableValue(0) + "," + solutionList.get(1).getVariableValue(1),
+        variables.get(4)) ;
+    assertEquals("1," + solutionList.get(0).getObjective(0) + "," + solutionList.get(0).getObjective(1),
+        objectives.get(0)) ;
+    assertFalse(new File(directory, "swarmconstraint.csv").exists()) ;
+  }
+
+  @Test
+  public void shouldWriteTheConstraintsIfTheSolutionsHaveThem() throws IOException {
+    List<DoubleSolution> solutionList = createSolutionList(2) ;
+    NumberOfViolatedConstraints<DoubleSolution> numberOfViolatedConstraints = new NumberOfViolatedConstraints<>() ;
+    OverallConstraintViolation<DoubleSolution> overallConstraintViolation = new OverallConstraintViolation<>() ;
+    for (DoubleSolution solution : solutionList) {
+      numberOfViolatedConstraints.setAttribute(solution, 1);
+      overallConstraintViolation.setAttribute(solution, -0.5);
+    }
+
+    SolutionListDumpWriter writer = new SolutionListDumpWriter(directory.getPath()) ;
+    writer.write("epsilon", 7, solutionList);
+    writer.close();
+
+    List<String> constraints = Files.readAllLines(new File(directory, "epsilonconstraint.csv").toPath()) ;
+
+    assertEquals(Arrays.asList("7,1,-0.5", "7,1,-0.5"), constraints) ;
+  }
+
+  @Test
+  public void shouldTheSolutionListBeCopiedWhenWritten() throws IOException {
+    List<DoubleSolution> solutionList = createSolutionList(1) ;
+    double value = solutionList.get(0).getVariableValue(0) ;
+
+    SolutionListDumpWriter writer = new SolutionListDumpWriter(directory.getPath()) ;
+    writer.write("swarm", 1, solutionList);
+    solutionList.get(0).setVariableValue(0, value + 1.0);
+    writer.close();
+
+    List<String> variables = Files.readAllLines(new File(directory, "swarmvariable.csv").toPath()) ;
+    assertEquals("1," + value + "," + solutionList.get(0).getVariableValue(1), variables.get(0)) ;
+  }
+
+  @Test
+  public void shouldTheBinaryFormatContainARecordPerCall() throws IOException {
+    List<DoubleSolution> solutionList = createSolutionList(2) ;
+
+    SolutionListDumpWriter writer = new SolutionListDumpWriter(directory.getPath(),
+        SolutionListDumpWriter.Format.BINARY, 1) ;
+    writer.write("leader", 3, solutionList);
+    writer.write("leader", 4, solutionList.subList(0, 1));
+    writer.close();
+
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+        new FileInputStream(new File(directory, "leader.bin"))))) {
+      assertEquals(3, in.readInt()) ;
+      assertEquals(2, in.readInt()) ;
+      assertEquals(2, in.readInt()) ;
+      assertEquals(2, in.readInt()) ;
+      assertEquals(0, in.readInt()) ;
+      for (DoubleSolution solution : solutionList) {
+        assertEquals(solution.getVariableValue(0), in.readDouble(), EPSILON) ;
+        assertEquals(solution.getVariableValue(1), in.readDouble(), EPSILON) ;
+        assertEquals(solution.getObjective(0), in.readDouble(), EPSILON) ;
+        assertEquals(solution.getObjective(1), in.readDouble(), EPSILON) ;
+      }
+      assertEquals(4, in.readInt()) ;
+      assertEquals(1, in.readInt()) ;
+    }
+  }
+
+  @Test
+  public void shouldFlushWriteTheQueuedSolutionLists() throws IOException {
+    List<DoubleSolution> solutionList = createSolutionList(3) ;
+
+    SolutionListDumpWriter writer = new SolutionListDumpWriter(directory.getPath()) ;
+    writer.write("swarm", 1, solutionList);
+    writer.flush();
+
+    assertEquals(3, Files.readAllLines(new File(directory, "swarmvariable.csv").toPath()).size()) ;
+    assertEquals(3, Files.readAllLines(new File(directory, "swarmfitness.csv").toPath()).size()) ;
+    writer.close();
+  }
+
+  @Test
+  public void shouldAResumedWriterRemoveTheRowsAfterTheResumedIteration() throws IOException {
+    List<DoubleSolution> solutionList = createSolutionList(2) ;
+
+    SolutionListDumpWriter writer = new SolutionListDumpWriter(directory.getPath()) ;
+    for (int iteration = 1; iteration <= 11; iteration++) {
+      writer.write("swarm", iteration, solutionList);
+    }
+    writer.close();
+    File variableFile = new File(directory, "swarmvariable.csv") ;
+    Files.write(variableFile.toPath(), "12,0.".getBytes(), StandardOpenOption.APPEND) ;
+
+    writer = new SolutionListDumpWriter(directory.getPath()).setResumedIteration(2) ;
+    writer.write("swarm", 3, solutionList.subList(0, 1));
+    writer.close();
+
+    List<String> variables = Files.readAllLines(variableFile.toPath()) ;
+    List<String> objectives = Files.readAllLines(new File(directory, "swarmfitness.csv").toPath()) ;
+
+    assertEquals(5, variables.size()) ;
+    assertEquals(5, objectives.size()) ;
+    assertEquals(Arrays.asList(1, 1, 2, 2, 3), getIterations(variables)) ;
+    assertEquals(Arrays.asList(1, 1, 2, 2, 3), getIterations(objectives)) ;
+  }
+
+  @Test
+  public void shouldAResumedBinaryWriterRemoveTheRecordsAfterTheResumedIteration() throws IOException {
+    List<DoubleSolution> solutionList = createSolutionList(2) ;
+
+    SolutionListDumpWriter writer = new SolutionListDumpWriter(directory.getPath(),
+        SolutionListDumpWriter.Format.BINARY, 1) ;
+    for (int iteration = 1; iteration <= 3; iteration++) {
+      writer.write("leader", iteration, solutionList);
+    }
+    writer.close();
+    File file = new File(directory, "leader.bin") ;
+    long recordLength = file.length() / 3 ;
+
+    writer = new SolutionListDumpWriter(directory.getPath(), SolutionListDumpWriter.Format.BINARY, 1)
+        .setResumedIteration(1) ;
+    writer.write("leader", 2, solutionList.subList(0, 1));
+    writer.close();
+
+    assertEquals(recordLength + 5 * 4 + 4 * 8, file.length()) ;
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+      assertEquals(1, in.readInt()) ;
+      assertEquals(2, in.readInt()) ;
+      in.skipBytes((int) recordLength - 2 * 4) ;
+      assertEquals(2, in.readInt()) ;
+      assertEquals(1, in.readInt()) ;
+    }
+  }
+
+  @Test (expected = JMetalException.class)
+  public void shouldSetResumedIterationRaiseAnExceptionIfASolutionListHasBeenWritten() {
+    SolutionListDumpWriter writer = new SolutionListDumpWriter(directory.getPath()) ;
+    writer.write("swarm", 1, createSolutionList(1));
+
+    try {
+      writer.setResumedIteration(1) ;
+    } finally {
+      writer.close();
+    }
+  }
+
+  @Test (expected = JMetalException.class)
+  public void shouldWriteRaiseAnExceptionIfTheWriterIsClosed() {
+    SolutionListDumpWriter writer = new SolutionListDumpWriter(directory.getPath()) ;
+    writer.close();
+
+    writer.write("swarm", 1, createSolutionList(1));
+  }
+
+  @Test
+  public void shouldIsDumpIterationSelectTheFirstTheLastAndOneOutOfIntervalIterations() {
+    List<Integer> dumpedIterations = new ArrayList<>() ;
+    for (int iteration = 1; iteration <= 10; iteration++) {
+      if (SolutionListDumpWriter.isDumpIteration(iteration, 10, 4)) {
+        dumpedIterations.add(iteration) ;
+      }
+    }
+
+    assertEquals(Arrays.asList(1, 5, 9, 10), dumpedIterations) ;
+    assertFalse(SolutionListDumpWriter.isDumpIteration(1, 10, 0)) ;
+  }
+
+  private List<Integer> getIterations(List<String> lines) {
+    List<Integer> iterations = new ArrayList<>(lines.size()) ;
+    for (String line : lines) {
+      iterations.add(Integer.valueOf(line.substring(0, line.indexOf(',')))) ;
+    }
+
+    return iterations ;
+  }
+
+  private List<DoubleSolution> createSolutionList(int size) {
+    List<DoubleSolution> solutionList = new ArrayList<>(size) ;
+    for (int i = 0; i < size; i++) {
+      DoubleSolution solution = problem.createSolution() ;
+      solution.setObjective(0, i);
+      solution.setObjective(1, 1.0 - i);
+      solutionList.add(solution) ;
+    }
+
+    return solutionList ;
+  }
+
+  @SuppressWarnings("serial")
+  private class MockedDoubleProblem extends AbstractDoubleProblem {
+    public MockedDoubleProblem() {
+      setNumberOfVariables(2);
+      setNumberOfObjectives(2);
+      setNumberOfConstraints(0);
+
+      List<Double> lowerLimit = new ArrayList<>(getNumberOfVariables()) ;
+      List<Double> upperLimit = new ArrayList<>(getNumberOfVariables()) ;
+      for (int i = 0; i < getNumberOfVariables(); i++) {
+        lowerLimit.add(0.0);
+        upperLimit.add(1.0);
+      }
+
+      setLowerLimit(lowerLimit);
+      setUpperLimit(upperLimit);
+    }
+
+    @Override
+    public void evaluate(DoubleSolution solution) {
+    }
+
+    @Override
+    public DoubleSolution createSolution() {
+      return new DefaultDoubleSolution(this)  ;
+    }
+  }
+}
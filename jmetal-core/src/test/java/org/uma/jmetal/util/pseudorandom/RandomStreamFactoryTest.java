@@ -0,0 +1,105 @@
+package org.uma.jmetal.util.pseudorandom;
+
+import org.junit.Test;
+import org.uma.jmetal.util.pseudorandom.impl.JavaRandomGenerator;
+import org.uma.jmetal.util.pseudorandom.impl.MersenneTwisterGenerator;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+public class RandomStreamFactoryTest {
+
+  @Test
+  public void shouldTheSameStreamBeCreatedForTheSameIndex() {
+    RandomStreamFactory factory = new RandomStreamFactory(1234L, MersenneTwisterGenerator::new) ;
+
+    PseudoRandomGenerator stream1 = factory.getStream(5) ;
+    factory.getStream(6) ;
+    PseudoRandomGenerator stream2 = new RandomStreamFactory(1234L, MersenneTwisterGenerator::new).getStream(5) ;
+
+    assertEquals("MersenneTwister", stream1.getName()) ;
+    assertEquals(stream1.getSeed(), stream2.getSeed()) ;
+    for (int i = 0; i < 100; i++) {
+      assertEquals(stream1.nextDouble(), stream2.nextDouble(), 0.0) ;
+    }
+  }
+
+  @Test
+  public void shouldTheStreamsHaveDifferentSeeds() {
+    RandomStreamFactory factory = new RandomStreamFactory(0L) ;
+
+    Set<Long> seeds = new HashSet<>() ;
+    for (int i = 0; i < 1000; i++) {
+      seeds.add(factory.getSeed(i)) ;
+    }
+    seeds.add(factory.getStream("NSGAII/ZDT1/0").getSeed()) ;
+    seeds.add(factory.getStream("NSGAII/ZDT1/1").getSeed()) ;
+    seeds.add(factory.split(0).getSeed(0)) ;
+
+    assertEquals(1003, seeds.size()) ;
+    assertNotEquals(factory.getSeed(0), new RandomStreamFactory(1L).getSeed(0)) ;
+  }
+
+  @Test
+  public void shouldTheStreamOfANameNotDependOnTheFactoryInstance() {
+    assertEquals(new RandomStreamFactory(42L).getStream("SMPSO/DTLZ2/3").getSeed(),
+        new RandomStreamFactory(42L).getStream("SMPSO/DTLZ2/3").getSeed()) ;
+  }
+
+  @Test
+  public void shouldTheThreadsBoundToTheSameStreamsGetTheSameNumbersAsSequentially() throws Exception {
+    RandomStreamFactory factory = new RandomStreamFactory(7L) ;
+    int numberOfStreams = 8 ;
+
+    List<List<Double>> expectedValues = new ArrayList<>() ;
+    for (int i = 0; i < numberOfStreams; i++) {
+      expectedValues.add(drawNumbers(factory.getStream(i))) ;
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(4) ;
+    List<Future<List<Double>>> futures = new ArrayList<>() ;
+    for (int i = numberOfStreams - 1; i >= 0; i--) {
+      PseudoRandomGenerator stream = factory.getStream(i) ;
+      futures.add(0, executor.submit(() ->
+          JMetalRandom.getInstance().callWithRandomGenerator(stream, () -> drawNumbers(JMetalRandom.getInstance().getRandomGenerator())))) ;
+    }
+    for (int i = 0; i < numberOfStreams; i++) {
+      assertEquals(expectedValues.get(i), futures.get(i).get()) ;
+    }
+    executor.shutdown();
+  }
+
+  @Test
+  public void shouldTheThreadBindingBeRestoredAfterRunning() {
+    JMetalRandom random = JMetalRandom.getInstance() ;
+    PseudoRandomGenerator sharedGenerator = random.getRandomGenerator() ;
+    PseudoRandomGenerator stream = new JavaRandomGenerator(1L) ;
+
+    random.runWithRandomGenerator(stream, () -> assertSame(stream, random.getRandomGenerator()));
+
+    assertNull(random.getThreadRandomGenerator()) ;
+    assertSame(sharedGenerator, random.getRandomGenerator()) ;
+  }
+
+  private List<Double> drawNumbers(PseudoRandomGenerator generator) {
+    List<Double> values = new ArrayList<>() ;
+    for (int i = 0; i < 50; i++) {
+      values.add(generator.nextDouble()) ;
+    }
+
+    return values ;
+  }
+}
@@ -0,0 +1,158 @@
+package org.uma.jmetal.util.solutionattribute;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.uma.jmetal.problem.DoubleProblem;
+import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.solution.impl.DefaultDoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.solutionattribute.impl.CrowdingDistance;
+import org.uma.jmetal.util.solutionattribute.impl.DominanceRanking;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+public class AttributeSlotsTest {
+  private static final double EPSILON = 0.0000000001 ;
+  private DoubleProblem problem ;
+
+  @Before
+  public void setup() {
+    problem = new MockedDoubleProblem() ;
+  }
+
+  @Test
+  public void shouldSetValueBeReturnedByTheGetAttributeMethodOfTheSolution() {
+    DominanceRanking<DoubleSolution> ranking = new DominanceRanking<>() ;
+    DoubleSolution solution = problem.createSolution() ;
+
+    ranking.setValue(solution, 3);
+
+    assertEquals(3, solution.getAttribute(ranking.getAttributeIdentifier())) ;
+    assertEquals(3, (int) ranking.getAttribute(solution)) ;
+    assertTrue(solution.getAttributes().isEmpty());
+  }
+
+  @Test
+  public void shouldSetAttributeOfTheSolutionBeReturnedByGetValue() {
+    CrowdingDistance<DoubleSolution> crowdingDistance = new CrowdingDistance<>() ;
+    DoubleSolution solution = problem.createSolution() ;
+
+    solution.setAttribute(crowdingDistance.getAttributeIdentifier(), 2.5);
+
+    assertEquals(2.5, crowdingDistance.getValue(solution, 0.0), EPSILON) ;
+  }
+
+  @Test
+  public void shouldGetValueReturnTheDefaultValueIfTheAttributeHasNoValue() {
+    CrowdingDistance<DoubleSolution> crowdingDistance = new CrowdingDistance<>() ;
+    DoubleSolution solution = problem.createSolution() ;
+
+    assertEquals(-1.0, crowdingDistance.getValue(solution, -1.0), EPSILON) ;
+    assertNull(crowdingDistance.getAttribute(solution)) ;
+  }
+
+  @Test
+  public void shouldSetAttributeToNullRemoveTheValue() {
+    CrowdingDistance<DoubleSolution> crowdingDistance = new CrowdingDistance<>() ;
+    DoubleSolution solution = problem.createSolution() ;
+
+    crowdingDistance.setValue(solution, 1.0);
+    crowdingDistance.setAttribute(solution, null);
+
+    assertNull(solution.getAttribute(crowdingDistance.getAttributeIdentifier())) ;
+    assertFalse(solution.getAttributeSlots().isAssigned(
+        AttributeSlotRegistry.getSlot(crowdingDistance.getAttributeIdentifier()).getIndex())) ;
+  }
+
+  @Test
+  public void shouldTheValuesOfACopyBeIndependentOfTheOriginalSolution() {
+    CrowdingDistance<DoubleSolution> crowdingDistance = new CrowdingDistance<>() ;
+    DoubleSolution solution = problem.createSolution() ;
+    crowdingDistance.setValue(solution, 1.0);
+
+    DoubleSolution copy = (DoubleSolution) solution.copy() ;
+    crowdingDistance.setValue(copy, 2.0);
+
+    assertEquals(1.0, crowdingDistance.getValue(solution, 0.0), EPSILON) ;
+    assertEquals(2.0, crowdingDistance.getValue(copy, 0.0), EPSILON) ;
+  }
+
+  @Test
+  public void shouldUnregisteredAttributesBeStoredInTheAttributeMap() {
+    DoubleSolution solution = problem.createSolution() ;
+
+    solution.setAttribute("unregistered-attribute", "value");
+
+    assertEquals("value", solution.getAttribute("unregistered-attribute")) ;
+    assertEquals("value", solution.getAttributes().get("unregistered-attribute")) ;
+  }
+
+  @Test (expected = JMetalException.class)
+  public void shouldRegisterAnIdentifierWithAnotherTypeRaiseAnException() {
+    AttributeSlotRegistry.registerDoubleAttribute("attribute-slots-test") ;
+    AttributeSlotRegistry.registerIntegerAttribute("attribute-slots-test") ;
+  }
+
+  @Test
+  public void shouldSerializationKeepTheValues() throws IOException, ClassNotFoundException {
+    DominanceRanking<DoubleSolution> ranking = new DominanceRanking<>() ;
+    CrowdingDistance<DoubleSolution> crowdingDistance = new CrowdingDistance<>() ;
+    DoubleSolution solution = problem.createSolution() ;
+    ranking.setValue(solution, 2);
+    crowdingDistance.setValue(solution, 0.5);
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream() ;
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(solution.getAttributeSlots());
+    }
+    AttributeSlots slots ;
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      slots = (AttributeSlots) in.readObject() ;
+    }
+
+    assertEquals(solution.getAttributeSlots(), slots) ;
+  }
+
+  @SuppressWarnings("serial")
+  private class MockedDoubleProblem extends AbstractDoubleProblem {
+    public MockedDoubleProblem() {
+      setNumberOfVariables(2);
+      setNumberOfObjectives(2);
+      setNumberOfConstraints(0);
+
+      List<Double> lowerLimit = new ArrayList<>(getNumberOfVariables()) ;
+      List<Double> upperLimit = new ArrayList<>(getNumberOfVariables()) ;
+      for (int i = 0; i < getNumberOfVariables(); i++) {
+        lowerLimit.add(0.0);
+        upperLimit.add(1.0);
+      }
+
+      setLowerLimit(lowerLimit);
+      setUpperLimit(upperLimit);
+    }
+
+    @Override
+    public void evaluate(DoubleSolution solution) {
+    }
+
+    @Override
+    public DoubleSolution createSolution() {
+      return new DefaultDoubleSolution(this)  ;
+    }
+  }
+}
@@ -0,0 +1,124 @@
+package org.uma.jmetal.util.solutionattribute.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.util.comparator.DominanceComparator;
+import org.uma.jmetal.util.point.PointSolution;
+import org.uma.jmetal.util.solutionattribute.Ranking;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+public class EfficientNonDominatedSortRankingTest {
+
+  @Test
+  public void shouldTheRankingOfAnEmptyPopulationReturnZeroSubfronts() {
+    Ranking<PointSolution> ranking = new EfficientNonDominatedSortRanking<>() ;
+    ranking.computeRanking(Collections.<PointSolution>emptyList()) ;
+
+    assertEquals(0, ranking.getNumberOfSubfronts()) ;
+  }
+
+  @Test
+  public void shouldSortReturnTheRanksOfThePoints() {
+    double[][] points = {{1.0, 4.0}, {2.0, 2.0}, {3.0, 3.0}, {2.0, 2.0}, {4.0, 4.0}, {0.5, 5.0}} ;
+
+    assertArrayEquals(new int[]{0, 0, 1, 0, 2, 0}, EfficientNonDominatedSortRanking.sort(points)) ;
+  }
+
+  @Test
+  public void shouldTheSubfrontsBeTheSameAsTheOnesOfDominanceRanking() {
+    Random random = new Random(1) ;
+    for (int numberOfObjectives = 1; numberOfObjectives <= 6; numberOfObjectives++) {
+      for (int size : new int[]{2, 10, 50, 150, 500}) {
+        for (int numberOfValues : new int[]{4, 20, 1000}) {
+          List<PointSolution> population = createPopulation(size, numberOfObjectives, numberOfValues, random) ;
+
+          assertSameSubfronts(new DominanceRanking<PointSolution>().computeRanking(population),
+              new EfficientNonDominatedSortRanking<PointSolution>().computeRanking(population));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void shouldTheSubfrontsOfLargePopulationsBeTheSameAsTheOnesOfDominanceRanking() {
+    Random random = new Random(1) ;
+    for (int numberOfObjectives : new int[]{3, 5}) {
+      for (int numberOfValues : new int[]{20, 1000}) {
+        List<PointSolution> population = createPopulation(2500, numberOfObjectives, numberOfValues, random) ;
+
+        assertSameSubfronts(new DominanceRanking<PointSolution>().computeRanking(population),
+            new EfficientNonDominatedSortRanking<PointSolution>().computeRanking(population));
+      }
+    }
+  }
+
+  @Test
+  public void shouldTheSubfrontsBeTheSameAsTheOnesOfDominanceRankingWithConstraints() {
+    OverallConstraintViolation<PointSolution> overallConstraintViolation = new OverallConstraintViolation<>() ;
+    Random random = new Random(1) ;
+    for (int numberOfObjectives : new int[]{2, 3}) {
+      List<PointSolution> population = createPopulation(300, numberOfObjectives, 20, random) ;
+      for (PointSolution solution : population) {
+        overallConstraintViolation.setAttribute(solution, random.nextBoolean() ? 0.0 : -random.nextInt(5));
+      }
+
+      assertSameSubfronts(new DominanceRanking<PointSolution>().computeRanking(population),
+          new EfficientNonDominatedSortRanking<PointSolution>().computeRanking(population));
+    }
+  }
+
+  @Test
+  public void shouldARankingWithAnotherComparatorBeTheSameAsTheOneOfDominanceRanking() {
+    DominanceComparator<PointSolution> comparator = new DominanceComparator<PointSolution>() {
+      @Override public int compare(PointSolution solution1, PointSolution solution2) {
+        return super.compare(solution2, solution1) ;
+      }
+    } ;
+    List<PointSolution> population = createPopulation(100, 2, 20, new Random(1)) ;
+
+    assertSameSubfronts(new DominanceRanking<PointSolution>(comparator).computeRanking(population),
+        new EfficientNonDominatedSortRanking<PointSolution>(comparator).computeRanking(population));
+  }
+
+  private void assertSameSubfronts(Ranking<PointSolution> expected, Ranking<PointSolution> ranking) {
+    assertEquals(expected.getNumberOfSubfronts(), ranking.getNumberOfSubfronts()) ;
+    for (int i = 0; i < expected.getNumberOfSubfronts(); i++) {
+      assertEquals(identitySet(expected.getSubfront(i)), identitySet(ranking.getSubfront(i))) ;
+      for (PointSolution solution : ranking.getSubfront(i)) {
+        assertEquals(i, (int) ranking.getAttribute(solution)) ;
+      }
+    }
+  }
+
+  private Set<PointSolution> identitySet(List<PointSolution> solutionList) {
+    Set<PointSolution> set = Collections.newSetFromMap(new IdentityHashMap<>()) ;
+    set.addAll(solutionList) ;
+
+    return set ;
+  }
+
+  private List<PointSolution> createPopulation(int size, int numberOfObjectives, int numberOfValues, Random random) {
+    List<PointSolution> population = new ArrayList<>(size) ;
+    for (int i = 0; i < size; i++) {
+      PointSolution solution = new PointSolution(numberOfObjectives) ;
+      for (int j = 0; j < numberOfObjectives; j++) {
+        // Few different values produce repeated values and duplicated points
+        solution.setObjective(j, random.nextInt(numberOfValues));
+      }
+      population.add(solution) ;
+    }
+
+    return population ;
+  }
+}
@@ -0,0 +1,135 @@
+package org.uma.jmetal.util.solutionattribute.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.point.PointSolution;
+import org.uma.jmetal.util.solutionattribute.Ranking;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+public class IncrementalDominanceRankingTest {
+
+  @Test
+  public void shouldTheRankingOfAnEmptyPopulationReturnZeroSubfronts() {
+    IncrementalDominanceRanking<PointSolution> ranking = new IncrementalDominanceRanking<>() ;
+    ranking.computeRanking(Collections.<PointSolution>emptyList()) ;
+
+    assertEquals(0, ranking.getNumberOfSubfronts()) ;
+    assertEquals(0, ranking.size()) ;
+  }
+
+  @Test
+  public void shouldAddADominatingSolutionMoveTheDominatedOnesToTheNextSubfront() {
+    IncrementalDominanceRanking<PointSolution> ranking = new IncrementalDominanceRanking<>() ;
+    PointSolution solution1 = createSolution(2.0, 2.0) ;
+    PointSolution solution2 = createSolution(3.0, 3.0) ;
+    PointSolution solution3 = createSolution(1.0, 1.0) ;
+
+    assertEquals(0, ranking.add(solution1)) ;
+    assertEquals(1, ranking.add(solution2)) ;
+    assertEquals(0, ranking.add(solution3)) ;
+
+    assertEquals(3, ranking.getNumberOfSubfronts()) ;
+    assertEquals(2, (int) ranking.getAttribute(solution2)) ;
+    assertEquals(1, (int) new DominanceRanking<PointSolution>().getAttribute(solution1)) ;
+  }
+
+  @Test
+  public void shouldRemoveASolutionMoveUpTheSolutionsOnlyDominatedByIt() {
+    IncrementalDominanceRanking<PointSolution> ranking = new IncrementalDominanceRanking<>() ;
+    PointSolution solution1 = createSolution(1.0, 3.0) ;
+    PointSolution solution2 = createSolution(3.0, 1.0) ;
+    PointSolution solution3 = createSolution(2.0, 4.0) ;
+    PointSolution solution4 = createSolution(4.0, 4.0) ;
+    ranking.add(solution1) ;
+    ranking.add(solution2) ;
+    ranking.add(solution3) ;
+    ranking.add(solution4) ;
+
+    ranking.remove(solution1) ;
+
+    assertEquals(2, ranking.getNumberOfSubfronts()) ;
+    assertEquals(0, (int) ranking.getAttribute(solution3)) ;
+    assertEquals(1, (int) ranking.getAttribute(solution4)) ;
+    assertEquals(3, ranking.size()) ;
+  }
+
+  @Test (expected = JMetalException.class)
+  public void shouldRemoveRaiseAnExceptionIfTheSolutionHasNotBeenRanked() {
+    IncrementalDominanceRanking<PointSolution> ranking = new IncrementalDominanceRanking<>() ;
+    ranking.add(createSolution(1.0, 1.0)) ;
+
+    ranking.remove(createSolution(1.0, 1.0)) ;
+  }
+
+  @Test
+  public void shouldTheSubfrontsBeTheSameAsTheOnesOfDominanceRanking() {
+    Random random = new Random(1) ;
+    for (int numberOfObjectives : new int[]{2, 3, 5}) {
+      IncrementalDominanceRanking<PointSolution> ranking = new IncrementalDominanceRanking<>() ;
+      List<PointSolution> population = new ArrayList<>() ;
+      for (int i = 0; i < 50; i++) {
+        PointSolution solution = createRandomSolution(numberOfObjectives, random) ;
+        population.add(solution) ;
+        ranking.add(solution) ;
+      }
+
+      for (int i = 0; i < 500; i++) {
+        PointSolution solution = createRandomSolution(numberOfObjectives, random) ;
+        population.add(solution) ;
+        ranking.add(solution) ;
+        assertSameSubfronts(new DominanceRanking<PointSolution>().computeRanking(population), ranking);
+
+        PointSolution removed = population.remove(random.nextInt(population.size())) ;
+        ranking.remove(removed) ;
+        assertSameSubfronts(new DominanceRanking<PointSolution>().computeRanking(population), ranking);
+      }
+    }
+  }
+
+  private void assertSameSubfronts(Ranking<PointSolution> expected, IncrementalDominanceRanking<PointSolution> ranking) {
+    assertEquals(expected.getNumberOfSubfronts(), ranking.getNumberOfSubfronts()) ;
+    for (int i = 0; i < expected.getNumberOfSubfronts(); i++) {
+      assertEquals(identitySet(expected.getSubfront(i)), identitySet(ranking.getSubfront(i))) ;
+      for (PointSolution solution : ranking.getSubfront(i)) {
+        assertEquals(i, (int) ranking.getAttribute(solution)) ;
+      }
+    }
+  }
+
+  private Set<PointSolution> identitySet(List<PointSolution> solutionList) {
+    Set<PointSolution> set = Collections.newSetFromMap(new IdentityHashMap<>()) ;
+    set.addAll(solutionList) ;
+
+    return set ;
+  }
+
+  private PointSolution createRandomSolution(int numberOfObjectives, Random random) {
+    PointSolution solution = new PointSolution(numberOfObjectives) ;
+    for (int i = 0; i < numberOfObjectives; i++) {
+      // Integer values, so that some objective values are repeated
+      solution.setObjective(i, random.nextInt(20));
+    }
+
+    return solution ;
+  }
+
+  private PointSolution createSolution(double... objectives) {
+    PointSolution solution = new PointSolution(objectives.length) ;
+    for (int i = 0; i < objectives.length; i++) {
+      solution.setObjective(i, objectives[i]);
+    }
+
+    return solution ;
+  }
+}
@@ -8,6 +8,7 @@ import org.apache.commons.io.FileUtils;
 import org.uma.jmetal.problem.DoubleProblem;
 import org.uma.jmetal.qualityindicator.QualityIndicator;
 import org.uma.jmetal.qualityindicator.impl.*;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.MonteCarloHypervolume;
 import org.uma.jmetal.qualityindicator.impl.hypervolume.PISAHypervolume;
 import org.uma.jmetal.solution.DoubleSolution;
 import org.uma.jmetal.util.JMetalException;
@@ -16,25 +17,46 @@ import org.uma.jmetal.util.ProblemUtils;
 import org.uma.jmetal.util.front.Front;
 import org.uma.jmetal.util.front.imp.ArrayFront;
 import org.uma.jmetal.util.front.util.FrontNormalizer;
-import org.uma.jmetal.util.front.util.FrontUtils;
 import org.uma.jmetal.util.point.PointSolution;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
 import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 import java.util.regex.Pattern;
+import java.util.stream.IntStream;
 
 /**
  * Calculate Hypervolume from many search results.
  *
+ * The results of each repeat are read once into a {@link RunObjectivesCache}, which is used to
+ * compute the extreme values and the indicators. The values of the indicators of each repeat are
+ * saved when they are computed, so an interrupted calculation is resumed from them.
+ *
  * @author Ohta Yoshihiro <ohta.yoshihiro@outlook.jp>
  */
 public class CalculateIndicatorFromManyResultsRunner {
+  private static final String PARTIAL_RESULT_KEY_PREFIX = "# " ;
+
+  private int numberOfHypervolumeSamples ;
+  private Map<String, RunObjectivesCache[]> results ;
+  private ForkJoinPool pool ;
+
   public static void main(String[] args)
   {
     new CalculateIndicatorFromManyResultsRunner().calculate(args);
@@ -117,6 +139,14 @@ public class CalculateIndicatorFromManyResultsRunner {
     int numberOfRepeats = 20;    // 20
     int numberOfThreads = 6;
 
+    // hypervolume: exact (PISA) if 0, approximated by Monte Carlo sampling with this number of samples otherwise
+    numberOfHypervolumeSamples = 0;
+//    numberOfHypervolumeSamples = 1000000;
+
+    // indicators of each generation: "HV" and "IGD" (with respect to the reference front, normalized as the results)
+    String[] indicators = {"HV"};
+//    String[] indicators = {"HV", "IGD"};
+
     DoubleProblem problem = (DoubleProblem) ProblemUtils.<DoubleSolution> loadProblem(problemName);
     if( problem.getNumberOfObjectives()==3 || problem.getNumberOfObjectives()==8 ) {
       numberOfIndividuals = 36;
@@ -124,247 +154,367 @@ public class CalculateIndicatorFromManyResultsRunner {
       numberOfIndividuals = 35;
     }
 
-    calculateExtremeValues(archiveFolderBase, problem, algorithms, numberOfIndividuals, numberOfGenerations, numberOfRepeats, numberOfThreads);
-    calculateHypervolumes(archiveFolderBase, problem, algorithms, numberOfIndividuals, numberOfGenerations, numberOfRepeats, numberOfThreads);
-
+    // the results of each repeat are read once, and the indicator of each generation is a task of the pool
+    results = new HashMap<>();
+    pool = new ForkJoinPool(numberOfThreads);
+    try {
+      calculateExtremeValues(archiveFolderBase, problem, algorithms, numberOfIndividuals, numberOfGenerations, numberOfRepeats);
+      for (String indicatorName : indicators) {
+        calculateIndicators(indicatorName, referenceParetoFront, archiveFolderBase, problem, algorithms,
+            numberOfIndividuals, numberOfGenerations, numberOfRepeats);
+      }
+    } finally {
+      pool.shutdown();
+      results = null;
+    }
   }
 
-  private String getFitnessFileName(String algorithmName, int generation)
+  /**
+   * Prefix of the result files of an algorithm: "truncated" for the archives with limited size,
+   * "epsilon" for the epsilon archive of OMOPSO, and none otherwise.
+   */
+  private String getFitnessFilePrefix(String algorithmName)
   {
-    String fileName = "fitness"+(generation+1) +".csv";
+    String prefix = "";
     if(algorithmName.contains("Archive") && !algorithmName.contains("Degrade")){
-      fileName = "truncated" + fileName;
+      prefix = "truncated";
     }else if(algorithmName.contains("OMOPSO")){
-      fileName = "epsilon" + fileName;
+      prefix = "epsilon";
+    }
+    return prefix;
+  }
+
+  /**
+   * Returns the results of the repeats of an experiment. They are read once (in parallel) and kept
+   * for the extreme values and all the indicators.
+   */
+  private RunObjectivesCache[] getResults(String archiveFolderBase, String experimentName, String algorithmName,
+                                          int numberOfGenerations, int numberOfRepeats){
+    RunObjectivesCache[] runs = results.get(experimentName);
+    if(runs == null){
+      JMetalLogger.logger.info("Read results of " + experimentName);
+      RunObjectivesCache[] loadedRuns = new RunObjectivesCache[numberOfRepeats];
+      String prefix = getFitnessFilePrefix(algorithmName);
+      runInPool(() -> IntStream.range(0, numberOfRepeats).parallel().forEach(r ->
+          loadedRuns[r] = RunObjectivesCache.load(archiveFolderBase + experimentName + "\\" + r + "\\", prefix, numberOfGenerations)));
+      results.put(experimentName, loadedRuns);
+      runs = loadedRuns;
+    }
+    return runs;
+  }
+
+  /**
+   * Runs a task in the pool, so the parallel streams in it are executed by the threads of the pool
+   */
+  private void runInPool(Runnable task){
+    try {
+      pool.submit(task).get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new JMetalException("Interrupted while calculating the indicators", e);
+    } catch (ExecutionException e) {
+      // the tasks only throw unchecked exceptions
+      if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
+      }
+      throw (RuntimeException) e.getCause();
     }
-    return fileName;
   }
 
   private void calculateExtremeValues(String archiveFolderBase, DoubleProblem  problem, String[] algorithms,
-                                      int numberOfIndividuals, int numberOfGenerations, int numberOfRepeats, int numberOfThreads){
+                                      int numberOfIndividuals, int numberOfGenerations, int numberOfRepeats){
     // calculate minimum and maximum objective values from search results.
     JMetalLogger.logger.info("Calculate minimum and maximum objective values from search results.");
 
     Matrix minimumValues = new Matrix(problem.getNumberOfObjectives(), algorithms.length, Double.MAX_VALUE);
     Matrix maximumValues = new Matrix(problem.getNumberOfObjectives(), algorithms.length, Double.MIN_VALUE);
 
-    // アルゴリズム毎に最小値・最大値を計算する．計算結果はcsvで保存しておき，csvがあればそれを読み込む．
+    // アルゴリズム毎に最小値・最大値を計算してcsvで保存する．結果から毎回計算するため，結果が変わっても古い値は使われない．
     for(int algorithmNumber=0; algorithmNumber<algorithms.length; algorithmNumber++) {
       String algorithmName = algorithms[algorithmNumber];
       String experimentName = problem.getName() + "_"+algorithmName+"_pop" + numberOfIndividuals + "_gen" + numberOfGenerations;
       JMetalLogger.logger.info(experimentName);
 
-      Matrix minimumValuesOfAlgorithm = new Matrix(problem.getNumberOfObjectives(), numberOfRepeats);
-      Matrix maximumValuesOfAlgorithm = new Matrix(problem.getNumberOfObjectives(), numberOfRepeats);
-      if(new File(archiveFolderBase+experimentName+"\\minimumValues.csv").exists() ){
-        JMetalLogger.logger.info("Extreme values are already calculated. Read calculated values.");
-        minimumValuesOfAlgorithm = new Matrix(Csv.read(archiveFolderBase + experimentName + "\\minimumValues.csv"));
-        maximumValuesOfAlgorithm = new Matrix(Csv.read(archiveFolderBase + experimentName + "\\maximumValues.csv"));
-      }else {
-        // calculate extreme values of each iteration using multi threads.
-        calculateExtremeValuesInIterate(minimumValuesOfAlgorithm, maximumValuesOfAlgorithm, problem, numberOfThreads, numberOfGenerations, archiveFolderBase, experimentName, algorithmName);
-
-        Csv.write(archiveFolderBase + experimentName + "\\minimumValues.csv", minimumValuesOfAlgorithm.min(Matrix.DIRECTION_ROW).get());
-        Csv.write(archiveFolderBase + experimentName + "\\maximumValues.csv", maximumValuesOfAlgorithm.max(Matrix.DIRECTION_ROW).get());
-      }
-      minimumValues.setColumn(algorithmNumber, minimumValuesOfAlgorithm.min(Matrix.DIRECTION_ROW));
-      maximumValues.setColumn(algorithmNumber, maximumValuesOfAlgorithm.min(Matrix.DIRECTION_ROW));
+      // the extreme values of each repeat are computed when its results are read, and the results
+      // are read from their caches, which are rebuilt when the result files change
+      RunObjectivesCache[] runs = getResults(archiveFolderBase, experimentName, algorithmName, numberOfGenerations, numberOfRepeats);
+      double[] minimumValuesOfAlgorithm = getMinimumValues(runs);
+      double[] maximumValuesOfAlgorithm = getMaximumValues(runs);
+
+      Csv.write(archiveFolderBase + experimentName + "\\minimumValues.csv", minimumValuesOfAlgorithm);
+      Csv.write(archiveFolderBase + experimentName + "\\maximumValues.csv", maximumValuesOfAlgorithm);
+      minimumValues.setColumn(algorithmNumber, new Vector(minimumValuesOfAlgorithm));
+      maximumValues.setColumn(algorithmNumber, new Vector(maximumValuesOfAlgorithm));
     }
     // 問題に対するすべてのアルゴリズムの最大値・最小値のセットを保存
     String extremeValueFolder = archiveFolderBase + problem.getName();
     new File(extremeValueFolder).mkdir();
-    if( !new File(extremeValueFolder+"\\minimumValues.csv").exists() ) {  // すでにminimumValues.csvが存在したら更新しない．
-      Csv.write(extremeValueFolder + "\\minimumValues.csv", minimumValues.get(), String.join(",", algorithms));
-      Csv.write(extremeValueFolder + "\\maximumValues.csv", maximumValues.get(), String.join(",", algorithms));
+    String header = String.join(",", algorithms);
+    File minimumValuesFile = new File(extremeValueFolder + "\\minimumValues.csv");
+    // 別のアルゴリズムの組み合わせで計算されたminimumValues.csvは更新しない．同じ組み合わせなら結果の変更を反映する．
+    if( !minimumValuesFile.exists() || header.equals(readHeader(minimumValuesFile)) ) {
+      Csv.write(extremeValueFolder + "\\minimumValues.csv", minimumValues.get(), header);
+      Csv.write(extremeValueFolder + "\\maximumValues.csv", maximumValues.get(), header);
+    } else {
+      JMetalLogger.logger.info("The extreme values of " + problem.getName() + " were calculated with other algorithms. Keeping them.");
     }
   }
 
-  private void calculateExtremeValuesInIterate(Matrix minimumValuesOfAlgorithm, Matrix maximumValuesOfAlgorithm, DoubleProblem problem,
-                                               int numberOfThreads, int numberOfGenerations,
-                                               String archiveFolderBase, String experimentName, String algorithmName)
-  {
-    int numberOfRepeats = minimumValuesOfAlgorithm.columnLength();
-    //8スレッドの枠を用意
-    ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads);
-    try{
-      //別スレッドで順次解の評価タスクを渡す
-      for(int i=0; i<numberOfRepeats; i++)
-      {
-        executor.execute(new CalculateExtremeValuesOneIteration(minimumValuesOfAlgorithm, maximumValuesOfAlgorithm, problem,
-            i, numberOfGenerations,
-            archiveFolderBase, experimentName, algorithmName));
-      }
-    }finally{
-      //新規タスクの受付を終了して残ったタスクを継続する．
-      executor.shutdown();
-      try {
-        //指定時間(個体数×1分)が経過するか，全タスクが終了するまで処理を停止する．
-        executor.awaitTermination(numberOfRepeats*100, TimeUnit.MINUTES);
-      } catch (InterruptedException e) {
-        e.printStackTrace();
-        JMetalLogger.logger.severe(e.getMessage());
-      }
+  /**
+   * @return The first line of a file, or null if it cannot be read
+   */
+  private static String readHeader(File file){
+    try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+      return reader.readLine();
+    } catch (IOException e) {
+      return null;
     }
   }
 
-  private class CalculateExtremeValuesOneIteration implements Runnable{
-
-    private Matrix minimumValuesOfAlgorithm;
-    private Matrix maximumValuesOfAlgorithm;
-    private int repeats;
-    private DoubleProblem problem;
-    private int numberOfGenerations;
-    private String archiveFolderBase;
-    private String experimentName;
-    private String algorithmName;
-    //コンストラクタ
-    public CalculateExtremeValuesOneIteration(Matrix minimumValuesOfAlgorithm, Matrix maximumValuesOfAlgorithm, DoubleProblem problem,
-                                              int repeats, int numberOfGenerations,
-                                              String archiveFolderBase, String experimentName, String algorithmName){
-      this.minimumValuesOfAlgorithm = minimumValuesOfAlgorithm;
-      this.maximumValuesOfAlgorithm = maximumValuesOfAlgorithm;
-      this.repeats = repeats;
-      this.problem = problem;
-      this.numberOfGenerations = numberOfGenerations;
-      this.archiveFolderBase = archiveFolderBase;
-      this.experimentName = experimentName;
-      this.algorithmName = algorithmName;
+  /**
+   * @return The minimum value of each objective in all the generations of all the repeats
+   */
+  static double[] getMinimumValues(RunObjectivesCache[] runs){
+    double[] minimumValues = runs[0].getMinimumValues();
+    for (int r = 1; r < runs.length; r++) {
+      double[] minimumValuesOfRun = runs[r].getMinimumValues();
+      for (int o = 0; o < minimumValues.length; o++) {
+        minimumValues[o] = Math.min(minimumValues[o], minimumValuesOfRun[o]);
+      }
     }
+    return minimumValues;
+  }
 
-    //実行
-    public void run(){
-      JMetalLogger.logger.info("Repeats: " + repeats);
-
-      Matrix minimumValuesInIterate = new Matrix(problem.getNumberOfObjectives(), numberOfGenerations);
-      Matrix maximumValuesInIterate = new Matrix(problem.getNumberOfObjectives(), numberOfGenerations);
-      for (int g = 0; g < numberOfGenerations; g++) {
-        if(g%100==0)  JMetalLogger.logger.info("Generations: "+g);
-        // read fitness in each generation
-        String archiveFolder = archiveFolderBase + experimentName + "\\" + String.valueOf(repeats) + "\\";
-        Matrix fitness = new Matrix(Csv.read(archiveFolder + getFitnessFileName(algorithmName, g)));
-        minimumValuesInIterate.setColumn(g, fitness.min(Matrix.DIRECTION_COLUMN));
-        maximumValuesInIterate.setColumn(g, fitness.max(Matrix.DIRECTION_COLUMN));
+  /**
+   * @return The maximum value of each objective in all the generations of all the repeats
+   */
+  static double[] getMaximumValues(RunObjectivesCache[] runs){
+    double[] maximumValues = runs[0].getMaximumValues();
+    for (int r = 1; r < runs.length; r++) {
+      double[] maximumValuesOfRun = runs[r].getMaximumValues();
+      for (int o = 0; o < maximumValues.length; o++) {
+        maximumValues[o] = Math.max(maximumValues[o], maximumValuesOfRun[o]);
       }
-      minimumValuesOfAlgorithm.setColumn(repeats, minimumValuesInIterate.min(Matrix.DIRECTION_ROW));
-      maximumValuesOfAlgorithm.setColumn(repeats, maximumValuesInIterate.max(Matrix.DIRECTION_ROW));
     }
+    return maximumValues;
   }
 
+  // calculate average indicator values of each generations
+  private void calculateIndicators(String indicatorName, String referenceParetoFront,
+                                   String archiveFolderBase, DoubleProblem problem, String[] algorithms,
+                                   int numberOfIndividuals, int numberOfGenerations, int numberOfRepeats){
+    JMetalLogger.logger.info("Calculate average " + indicatorName + " of each generations.");
 
-  // calculate average HyperVolume of each generations
-  private void calculateHypervolumes(String archiveFolderBase, DoubleProblem problem, String[] algorithms,
-                                     int numberOfIndividuals, int numberOfGenerations, int numberOfRepeats,
-                                     int numberOfThreads){
-    JMetalLogger.logger.info("Calculate average HyperVolume of each generations.");
+    // the objectives are normalized with the extreme values of all the algorithms
+    String extremeValueFolder = archiveFolderBase + problem.getName() +"\\";
+    double[] minimumValues = new Matrix(Csv.read(extremeValueFolder+"minimumValues.csv", 1, 0)).min(Matrix.DIRECTION_ROW).get();
+    double[] maximumValues = new Matrix(Csv.read(extremeValueFolder+"maximumValues.csv", 1, 0)).max(Matrix.DIRECTION_ROW).get();
 
-    Matrix normalizedHypervolumes = new Matrix(numberOfGenerations, numberOfRepeats);
-    Matrix averagedHypervolumes = new Matrix(numberOfGenerations, algorithms.length);
+    Front normalizedReferenceFront = null;
+    if (indicatorName.equals("IGD")) {
+      try {
+        normalizedReferenceFront = new FrontNormalizer(minimumValues, maximumValues).normalize(new ArrayFront(referenceParetoFront));
+      } catch (FileNotFoundException e) {
+        throw new JMetalException("The reference front is not found: " + referenceParetoFront, e);
+      }
+    } else if (!indicatorName.equals("HV")) {
+      throw new JMetalException("Unknown indicator: " + indicatorName);
+    }
+
+    // the indicator values depend on the extreme values (the reference point of the hypervolume is
+    // the maximum values in the normalized space) and on the reference front, besides the results
+    String indicatorKey = getIndicatorKey(indicatorName, referenceParetoFront, minimumValues, maximumValues);
+
+    Matrix normalizedValues;
+    Matrix averagedValues = new Matrix(numberOfGenerations, algorithms.length);
     String hypervolumesFolder = archiveFolderBase + "Hypervolume\\";
-    new File(hypervolumesFolder).mkdir();
+    String partialResultsFolder = hypervolumesFolder + "partial\\";
+    new File(partialResultsFolder).mkdirs();
 
     for(int algorithmNumber=0; algorithmNumber<algorithms.length; algorithmNumber++) {
       String algorithmName = algorithms[algorithmNumber];
       String experimentName = problem.getName() + "_" + algorithmName + "_pop" + numberOfIndividuals + "_gen" + numberOfGenerations;
+      String resultFileName = hypervolumesFolder + indicatorName + "(normalized)_" + experimentName + ".csv";
       JMetalLogger.logger.info(experimentName);
 
-      if(new File(hypervolumesFolder+"HV(normalized)_"+experimentName+".csv").exists()){
-        JMetalLogger.logger.info("Normalized Hypervolume values are already calculated. Read calculated values.");
-        normalizedHypervolumes = new Matrix(Csv.read(hypervolumesFolder+"HV(normalized)_"+experimentName+".csv"));
-      }else {
-        calculateHypervolumesInIterate(normalizedHypervolumes, problem,
-            numberOfThreads, numberOfGenerations,
-            archiveFolderBase, experimentName, algorithmName);
-        // save values
-        Csv.write(hypervolumesFolder+"HV(normalized)_"+experimentName+".csv", normalizedHypervolumes.get());
-      }
-      averagedHypervolumes.setColumn(algorithmNumber, normalizedHypervolumes.mean(Matrix.DIRECTION_ROW));
+      // the values are always rebuilt from the partial results of the repeats, which are only
+      // reused while their key matches, so a changed run or extreme value is never read back
+      double[][] values = calculateIndicatorsInParallel(indicatorName, indicatorKey, normalizedReferenceFront, minimumValues, maximumValues,
+          partialResultsFolder, archiveFolderBase, experimentName, algorithmName, numberOfGenerations, numberOfRepeats);
+      normalizedValues = new Matrix(values);
+      // save values
+      Csv.write(resultFileName, values);
+      averagedValues.setColumn(algorithmNumber, normalizedValues.mean(Matrix.DIRECTION_ROW));
     }
-    // save total experiment's Hypervolumes
-    Matrix hypervolumes = new Matrix(numberOfGenerations, 1);
-    hypervolumes.setColumn(0, new Vector(0,1, numberOfGenerations-1));
-    hypervolumes = hypervolumes.add(averagedHypervolumes, Matrix.DIRECTION_ADD_RIGHT);
-    Csv.write(hypervolumesFolder+"HV(averaged)_"+ problem.getName()+"_pop" + numberOfIndividuals + "_gen" + numberOfGenerations+".csv"  , hypervolumes.get(), ("Generation,"+String.join(",", algorithms)) );
+    // save total experiment's indicator values
+    Matrix indicatorValues = new Matrix(numberOfGenerations, 1);
+    indicatorValues.setColumn(0, new Vector(0,1, numberOfGenerations-1));
+    indicatorValues = indicatorValues.add(averagedValues, Matrix.DIRECTION_ADD_RIGHT);
+    Csv.write(hypervolumesFolder + indicatorName + "(averaged)_"+ problem.getName()+"_pop" + numberOfIndividuals + "_gen" + numberOfGenerations+".csv"  , indicatorValues.get(), ("Generation,"+String.join(",", algorithms)) );
   }
 
+  /**
+   * Returns the settings the values of an indicator depend on: the extreme values used to normalize
+   * the objectives, the reference front of IGD (its path, size and modification time) and the
+   * number of samples of the hypervolume
+   */
+  private String getIndicatorKey(String indicatorName, String referenceParetoFront,
+                                 double[] minimumValues, double[] maximumValues){
+    StringBuilder key = new StringBuilder(indicatorName);
+    key.append(";minimum=").append(Arrays.toString(minimumValues));
+    key.append(";maximum=").append(Arrays.toString(maximumValues));
+    if (indicatorName.equals("IGD")) {
+      File file = new File(referenceParetoFront);
+      key.append(";front=").append(file.getAbsolutePath())
+          .append(',').append(file.length()).append(',').append(file.lastModified());
+    } else {
+      key.append(";samples=").append(numberOfHypervolumeSamples);
+    }
+    return key.toString();
+  }
 
-  private void calculateHypervolumesInIterate(Matrix normalizedHypervolumes, DoubleProblem problem,
-                                              int numberOfThreads, int numberOfGenerations,
-                                              String archiveFolderBase, String experimentName, String algorithmName)
+  /**
+   * Computes the indicator of every (repeat, generation) of an experiment as a separate task of
+   * the pool, so the idle threads take the generations of the repeats still running. The values of
+   * a repeat are saved in the partial results folder when all its generations are done, and read
+   * from there instead of computed again if the calculation is interrupted and restarted. The
+   * partial results are only read if neither the indicator settings nor the result files of the
+   * repeat have changed since they were saved (see {@link #getPartialResultKey}).
+   *
+   * @return The indicator values, with a row per generation and a column per repeat. The value of
+   * the generations without results is NaN
+   */
+  private double[][] calculateIndicatorsInParallel(String indicatorName, String indicatorKey, Front normalizedReferenceFront,
+                                                   double[] minimumValues, double[] maximumValues,
+                                                   String partialResultsFolder, String archiveFolderBase,
+                                                   String experimentName, String algorithmName,
+                                                   int numberOfGenerations, int numberOfRepeats)
   {
-    int numberOfRepeats = normalizedHypervolumes.columnLength();
-    //8スレッドの枠を用意
-    ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads);
-    try{
-      //別スレッドで順次解の評価タスクを渡す
-      for(int i=0; i<numberOfRepeats; i++)
-      {
-        executor.execute(new CalculateHypervoluemesOneIteration(normalizedHypervolumes, problem,
-            i, numberOfGenerations,
-            archiveFolderBase, experimentName, algorithmName));
+    double[][] values = new double[numberOfGenerations][numberOfRepeats];
+    String[] partialResultKeys = new String[numberOfRepeats];
+    String prefix = getFitnessFilePrefix(algorithmName);
+    List<Integer> pendingRepeats = new ArrayList<>();
+    for (int r = 0; r < numberOfRepeats; r++) {
+      String runFolder = archiveFolderBase + experimentName + "\\" + r + "\\";
+      partialResultKeys[r] = getPartialResultKey(indicatorKey,
+          RunObjectivesCache.getSourceSignature(runFolder, prefix, numberOfGenerations));
+      File partialResultFile = new File(partialResultsFolder + indicatorName + "(normalized)_" + experimentName + "_" + r + ".csv");
+      if (readPartialResult(partialResultFile, partialResultKeys[r], values, r)) {
+        JMetalLogger.logger.info("Repeats " + r + " is already calculated. Read calculated values.");
+      } else {
+        pendingRepeats.add(r);
       }
-    }finally{
-      //新規タスクの受付を終了して残ったタスクを継続する．
-      executor.shutdown();
-      try {
-        //指定時間(個体数×1分)が経過するか，全タスクが終了するまで処理を停止する．
-        executor.awaitTermination(numberOfRepeats*100, TimeUnit.MINUTES);
-      } catch (InterruptedException e) {
-        e.printStackTrace();
-        JMetalLogger.logger.severe(e.getMessage());
+    }
+    if (pendingRepeats.isEmpty()) {
+      return values;
+    }
+
+    RunObjectivesCache[] runs = getResults(archiveFolderBase, experimentName, algorithmName, numberOfGenerations, numberOfRepeats);
+    AtomicIntegerArray remainingGenerations = new AtomicIntegerArray(numberOfRepeats);
+    for (int r : pendingRepeats) {
+      remainingGenerations.set(r, numberOfGenerations);
+    }
+
+    int numberOfTasks = pendingRepeats.size() * numberOfGenerations;
+    runInPool(() -> IntStream.range(0, numberOfTasks).parallel().forEach(task -> {
+      int r = pendingRepeats.get(task / numberOfGenerations);
+      int g = task % numberOfGenerations;
+      List<PointSolution> normalizedPopulation = runs[r].getNormalizedSolutions(g, minimumValues, maximumValues);
+      values[g][r] = evaluate(indicatorName, normalizedReferenceFront, normalizedPopulation);
+
+      if (remainingGenerations.decrementAndGet(r) == 0) {
+        JMetalLogger.logger.info("Repeats: " + r + " done.");
+        writePartialResult(new File(partialResultsFolder + indicatorName + "(normalized)_" + experimentName + "_" + r + ".csv"),
+            partialResultKeys[r], values, r);
       }
+    }));
+
+    return values;
+  }
+
+  private double evaluate(String indicatorName, Front normalizedReferenceFront, List<PointSolution> normalizedPopulation){
+    if (normalizedPopulation.isEmpty()) {
+      return Double.NaN;
+    }
+
+    double value;
+    if (indicatorName.equals("IGD")) {
+      value = new InvertedGenerationalDistance<PointSolution>(normalizedReferenceFront).evaluate(normalizedPopulation);
+    } else if (numberOfHypervolumeSamples > 0) {
+      value = new MonteCarloHypervolume<PointSolution>()
+          .setNumberOfSamples(numberOfHypervolumeSamples).evaluate(normalizedPopulation);
+    } else {
+      value = new PISAHypervolume<PointSolution>().evaluate(normalizedPopulation, normalizedPopulation.get(0).getNumberOfObjectives());
     }
+    return value;
   }
 
-  private class CalculateHypervoluemesOneIteration implements Runnable{
-    private Matrix normalizedHypervolumes;
-    private int repeats;
-    private DoubleProblem problem;
-    private int numberOfGenerations;
-    private String archiveFolderBase;
-    private String experimentName;
-    private String algorithmName;
-    //コンストラクタ
-    public CalculateHypervoluemesOneIteration(Matrix normalizedHypervolumes, DoubleProblem problem,
-                                              int repeats, int numberOfGenerations,
-                                              String archiveFolderBase, String experimentName, String algorithmName){
-      this.normalizedHypervolumes = normalizedHypervolumes;
-      this.repeats = repeats;
-      this.problem = problem;
-      this.numberOfGenerations = numberOfGenerations;
-      this.archiveFolderBase = archiveFolderBase;
-      this.experimentName = experimentName;
-      this.algorithmName = algorithmName;
+  /**
+   * Returns the key of the partial result of a repeat, a digest of the indicator settings and of
+   * the signature of the result files of the repeat (see
+   * {@link RunObjectivesCache#getSourceSignature})
+   */
+  private String getPartialResultKey(String indicatorKey, String sourceSignature){
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      byte[] hash = digest.digest((indicatorKey + "\n" + sourceSignature).getBytes(StandardCharsets.UTF_8));
+      StringBuilder key = new StringBuilder();
+      for (byte b : hash) {
+        key.append(String.format("%02x", b));
+      }
+      return key.toString();
+    } catch (NoSuchAlgorithmException e) {
+      throw new JMetalException("SHA-256 is not available", e);
     }
+  }
 
-    //実行
-    public void run(){
-      JMetalLogger.logger.info("Repeats: "+repeats);
-
-      String extremeValueFolder = archiveFolderBase + problem.getName() +"\\";
-      Matrix minimumValues = new Matrix(Csv.read(extremeValueFolder+"minimumValues.csv", 1, 0));
-      Matrix maximumValues = new Matrix(Csv.read(extremeValueFolder+"maximumValues.csv", 1, 0));
-
-      for (int g = 0; g < numberOfGenerations; g++) {
-        if(g%10==0) JMetalLogger.logger.info("Generations: "+g);
-        String archiveFolder = archiveFolderBase + experimentName + "\\" + String.valueOf(repeats) + "\\";
-        Matrix fitness = new Matrix(Csv.read(archiveFolder + getFitnessFileName(algorithmName, g)));
-        List<DoubleSolution> population = new ArrayList<DoubleSolution>(fitness.length());
-        for (int s = 0; s < fitness.length(); s++) {
-          DoubleSolution newIndividual = problem.createSolution();
-          for (int o = 0; o < fitness.columnLength(); o++) {
-            newIndividual.setObjective(o, fitness.get(s, o));
+  /**
+   * Reads the values of a repeat (one per line, after a "# key" line) into a column of the values
+   * @return false if the file does not exist, was saved with another key or does not contain all
+   * the generations
+   */
+  private boolean readPartialResult(File file, String key, double[][] values, int repeat){
+    if (!file.exists()) {
+      return false;
+    }
+    double[] column = new double[values.length];
+    int numberOfValues = 0;
+    try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+      String line = reader.readLine();
+      if ((line == null) || !line.equals(PARTIAL_RESULT_KEY_PREFIX + key)) {
+        JMetalLogger.logger.info("The partial result " + file + " is out of date. Calculating it again.");
+        return false;
+      }
+      while ((line = reader.readLine()) != null) {
+        if (!line.trim().isEmpty()) {
+          if (numberOfValues == column.length) {
+            return false;
           }
-          population.add(newIndividual);
+          column[numberOfValues++] = Double.parseDouble(line.trim());
         }
+      }
+    } catch (IOException | NumberFormatException e) {
+      JMetalLogger.logger.warning("Ignoring the invalid partial result " + file + ": " + e.getMessage());
+      return false;
+    }
+    if (numberOfValues != column.length) {
+      return false;
+    }
+    for (int g = 0; g < column.length; g++) {
+      values[g][repeat] = column[g];
+    }
+    return true;
+  }
 
-        // calculate hypervolume
-        FrontNormalizer frontNormalizer = new FrontNormalizer(minimumValues.min(Matrix.DIRECTION_ROW).get(), maximumValues.max(Matrix.DIRECTION_ROW).get());
-        Front normalizedFront = frontNormalizer.normalize(new ArrayFront(population));
-        List<PointSolution> normalizedPopulation = FrontUtils.convertFrontToSolutionList(normalizedFront);
-        int numberOfObjectives = fitness.columnLength();
-        double normalizedHypervolume = new PISAHypervolume<PointSolution>().evaluate(normalizedPopulation, numberOfObjectives);
-        normalizedHypervolumes.set(g, repeats, normalizedHypervolume);
+  private void writePartialResult(File file, String key, double[][] values, int repeat){
+    try (PrintWriter writer = new PrintWriter(new FileWriter(file))) {
+      writer.println(PARTIAL_RESULT_KEY_PREFIX + key);
+      for (double[] generationValues : values) {
+        writer.println(generationValues[repeat]);
       }
+    } catch (IOException e) {
+      // only the resumption is lost, the values are still saved with the other repeats
+      JMetalLogger.logger.warning("Unable to save the partial result " + file + ": " + e.getMessage());
     }
   }
 }
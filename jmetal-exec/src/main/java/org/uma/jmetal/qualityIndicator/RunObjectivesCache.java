@@ -0,0 +1,416 @@
+package org.uma.jmetal.qualityIndicator;
+
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.point.PointSolution;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Objective values of the solutions written at each generation of a run, read once and stored
+ * by columns (an array per objective, with the solutions of each generation in a contiguous
+ * range) together with the minimum and maximum values of each objective in the run.
+ *
+ * The results are read from the first of these sources found in the folder of the run:
+ * - [prefix]fitness.cache: a previous cache of the run (see {@link #write(File)})
+ * - [prefix].bin or [prefix]fitness.csv: the files of a stream written by
+ * {@link org.uma.jmetal.util.fileoutput.SolutionListDumpWriter}, with the iteration (starting at
+ * 1) of each solution list. If the lists were written every n iterations, the remaining
+ * generations are empty
+ * - [prefix]fitness1.csv ... [prefix]fitness[numberOfGenerations].csv: a file per generation
+ * (missing files are empty generations)
+ *
+ * When the results are not read from the cache, the cache is written so the next time the CSV
+ * files don't need to be parsed again. The cache stores the name, size and modification time of
+ * the files it was built from (see {@link #getSourceSignature}), and it is built again when they
+ * change.
+ *
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+public class RunObjectivesCache {
+  private static final String CACHE_FILE_SUFFIX = "fitness.cache" ;
+  private static final int CACHE_FILE_VERSION = 2 ;
+
+  private final int numberOfObjectives ;
+  private final int[] generationOffsets ;
+  private final double[][] objectives ;
+  private final double[] minimumValues ;
+  private final double[] maximumValues ;
+
+  private RunObjectivesCache(int numberOfObjectives, int[] generationOffsets, double[][] objectives) {
+    this.numberOfObjectives = numberOfObjectives ;
+    this.generationOffsets = generationOffsets ;
+    this.objectives = objectives ;
+
+    minimumValues = new double[numberOfObjectives] ;
+    maximumValues = new double[numberOfObjectives] ;
+    Arrays.fill(minimumValues, Double.POSITIVE_INFINITY);
+    Arrays.fill(maximumValues, Double.NEGATIVE_INFINITY);
+    for (int o = 0; o < numberOfObjectives; o++) {
+      for (double value : objectives[o]) {
+        minimumValues[o] = Math.min(minimumValues[o], value) ;
+        maximumValues[o] = Math.max(maximumValues[o], value) ;
+      }
+    }
+  }
+
+  /**
+   * Reads the results of a run
+   * @param runFolder Folder of the run
+   * @param prefix Prefix of the result files (e.g. "epsilon")
+   * @param numberOfGenerations Number of generations to read
+   */
+  public static RunObjectivesCache load(String runFolder, String prefix, int numberOfGenerations) {
+    File folder = new File(runFolder) ;
+    File cacheFile = new File(folder, prefix + CACHE_FILE_SUFFIX) ;
+    List<File> sourceFiles = getSourceFiles(folder, prefix, numberOfGenerations) ;
+    if (sourceFiles.isEmpty()) {
+      throw new JMetalException("No results found in " + runFolder + " with prefix '" + prefix + "'") ;
+    }
+    String sourceSignature = getSourceSignature(sourceFiles, numberOfGenerations) ;
+
+    try {
+      if (cacheFile.exists()) {
+        try {
+          RunObjectivesCache cache = read(cacheFile, sourceSignature) ;
+          if (cache != null) {
+            return cache ;
+          }
+          JMetalLogger.logger.info("The results in " + runFolder + " have changed. Updating " + cacheFile);
+        } catch (IOException e) {
+          JMetalLogger.logger.warning("Ignoring the invalid cache " + cacheFile + ": " + e.getMessage());
+        }
+      }
+
+      Builder builder = new Builder(numberOfGenerations) ;
+      File firstFile = sourceFiles.get(0) ;
+      if (firstFile.getName().equals(prefix + ".bin")) {
+        builder.readBinaryStream(firstFile);
+      } else if (firstFile.getName().equals(prefix + "fitness.csv")) {
+        builder.readCsvStream(firstFile);
+      } else {
+        for (int g = 0; g < numberOfGenerations; g++) {
+          File file = new File(folder, prefix + "fitness" + (g + 1) + ".csv") ;
+          if (file.exists()) {
+            builder.readCsvGeneration(file, g);
+          }
+        }
+      }
+
+      RunObjectivesCache cache = builder.build() ;
+      cache.write(cacheFile, sourceSignature);
+
+      return cache ;
+    } catch (IOException e) {
+      throw new JMetalException("Error reading the results in " + runFolder, e) ;
+    }
+  }
+
+  /**
+   * Returns a description of the files the results of a run are read from (their names, sizes and
+   * modification times) and of the number of generations, which changes when the results do. It
+   * does not read the files, so it can be used to check whether values computed from the results
+   * are up to date without loading them.
+   *
+   * @param runFolder Folder of the run
+   * @param prefix Prefix of the result files (e.g. "epsilon")
+   * @param numberOfGenerations Number of generations to read
+   */
+  public static String getSourceSignature(String runFolder, String prefix, int numberOfGenerations) {
+    return getSourceSignature(getSourceFiles(new File(runFolder), prefix, numberOfGenerations), numberOfGenerations) ;
+  }
+
+  private static String getSourceSignature(List<File> sourceFiles, int numberOfGenerations) {
+    StringBuilder signature = new StringBuilder("generations=").append(numberOfGenerations) ;
+    for (File file : sourceFiles) {
+      signature.append(';').append(file.getName())
+          .append(',').append(file.length())
+          .append(',').append(file.lastModified()) ;
+    }
+
+    return signature.toString() ;
+  }
+
+  /**
+   * @return The files the results of a run are read from, in the order of preference described in
+   * the class documentation; empty if there are none
+   */
+  private static List<File> getSourceFiles(File folder, String prefix, int numberOfGenerations) {
+    List<File> files = new ArrayList<>() ;
+    File binaryFile = new File(folder, prefix + ".bin") ;
+    File streamFile = new File(folder, prefix + "fitness.csv") ;
+    if (binaryFile.exists()) {
+      files.add(binaryFile) ;
+    } else if (streamFile.exists()) {
+      files.add(streamFile) ;
+    } else {
+      for (int g = 0; g < numberOfGenerations; g++) {
+        File file = new File(folder, prefix + "fitness" + (g + 1) + ".csv") ;
+        if (file.exists()) {
+          files.add(file) ;
+        }
+      }
+    }
+
+    return files ;
+  }
+
+  public int getNumberOfGenerations() {
+    return generationOffsets.length - 1 ;
+  }
+
+  public int getNumberOfObjectives() {
+    return numberOfObjectives ;
+  }
+
+  public int getNumberOfSolutions(int generation) {
+    return generationOffsets[generation + 1] - generationOffsets[generation] ;
+  }
+
+  public double getObjective(int generation, int solution, int objective) {
+    return objectives[objective][generationOffsets[generation] + solution] ;
+  }
+
+  /**
+   * @return The minimum value of each objective in all the generations
+   */
+  public double[] getMinimumValues() {
+    return minimumValues.clone() ;
+  }
+
+  /**
+   * @return The maximum value of each objective in all the generations
+   */
+  public double[] getMaximumValues() {
+    return maximumValues.clone() ;
+  }
+
+  /**
+   * Returns the solutions of a generation with the objectives normalized to [0, 1] with respect
+   * to the given minimum and maximum values
+   */
+  public List<PointSolution> getNormalizedSolutions(int generation, double[] minimumValues, double[] maximumValues) {
+    if ((minimumValues.length != numberOfObjectives) || (maximumValues.length != numberOfObjectives)) {
+      throw new JMetalException("The number of extreme values (" + minimumValues.length + ", "
+          + maximumValues.length + ") is not the number of objectives: " + numberOfObjectives) ;
+    }
+    for (int o = 0; o < numberOfObjectives; o++) {
+      if (maximumValues[o] == minimumValues[o]) {
+        throw new JMetalException("Maximum and minimum values of index " + o + " are the same: " + maximumValues[o]) ;
+      }
+    }
+
+    int numberOfSolutions = getNumberOfSolutions(generation) ;
+    int offset = generationOffsets[generation] ;
+    List<PointSolution> solutions = new ArrayList<>(numberOfSolutions) ;
+    for (int s = 0; s < numberOfSolutions; s++) {
+      PointSolution solution = new PointSolution(numberOfObjectives) ;
+      for (int o = 0; o < numberOfObjectives; o++) {
+        solution.setObjective(o, (objectives[o][offset + s] - minimumValues[o]) / (maximumValues[o] - minimumValues[o]));
+      }
+      solutions.add(solution) ;
+    }
+
+    return solutions ;
+  }
+
+  /**
+   * Writes the cache to a temporary file which is then renamed, so an interrupted write does not
+   * leave a truncated cache
+   */
+  private void write(File file, String sourceSignature) throws IOException {
+    File temporaryFile = new File(file.getPath() + ".tmp") ;
+    try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporaryFile)))) {
+      out.writeInt(CACHE_FILE_VERSION);
+      byte[] signature = sourceSignature.getBytes(StandardCharsets.UTF_8) ;
+      out.writeInt(signature.length);
+      out.write(signature);
+      out.writeInt(getNumberOfGenerations());
+      out.writeInt(numberOfObjectives);
+      for (int offset : generationOffsets) {
+        out.writeInt(offset);
+      }
+      for (double[] column : objectives) {
+        for (double value : column) {
+          out.writeDouble(value);
+        }
+      }
+    }
+    if (file.exists() && !file.delete()) {
+      throw new IOException("Unable to replace " + file) ;
+    }
+    if (!temporaryFile.renameTo(file)) {
+      throw new IOException("Unable to rename " + temporaryFile + " to " + file) ;
+    }
+  }
+
+  /**
+   * @return The cache stored in the file, or null if it was built from other files than those
+   * described by the source signature
+   */
+  private static RunObjectivesCache read(File file, String sourceSignature) throws IOException {
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+      int version = in.readInt() ;
+      if (version != CACHE_FILE_VERSION) {
+        throw new IOException("Unknown version of " + file + ": " + version) ;
+      }
+      int signatureLength = in.readInt() ;
+      if ((signatureLength < 0) || (signatureLength > file.length())) {
+        throw new IOException("Invalid source signature length in " + file + ": " + signatureLength) ;
+      }
+      byte[] signature = new byte[signatureLength] ;
+      in.readFully(signature);
+      if (!sourceSignature.equals(new String(signature, StandardCharsets.UTF_8))) {
+        return null ;
+      }
+      int numberOfGenerations = in.readInt() ;
+      int numberOfObjectives = in.readInt() ;
+      int[] generationOffsets = new int[numberOfGenerations + 1] ;
+      for (int g = 0; g <= numberOfGenerations; g++) {
+        generationOffsets[g] = in.readInt() ;
+      }
+      double[][] objectives = new double[numberOfObjectives][generationOffsets[numberOfGenerations]] ;
+      for (double[] column : objectives) {
+        for (int i = 0; i < column.length; i++) {
+          column[i] = in.readDouble() ;
+        }
+      }
+
+      return new RunObjectivesCache(numberOfObjectives, generationOffsets, objectives) ;
+    }
+  }
+
+  /** Collects the rows of each generation while the files are read */
+  private static class Builder {
+    private final List<List<double[]>> rows ;
+    private int numberOfObjectives = -1 ;
+
+    Builder(int numberOfGenerations) {
+      rows = new ArrayList<>(numberOfGenerations) ;
+      for (int g = 0; g < numberOfGenerations; g++) {
+        rows.add(new ArrayList<double[]>()) ;
+      }
+    }
+
+    void readCsvGeneration(File file, int generation) throws IOException {
+      try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+        String line ;
+        while ((line = reader.readLine()) != null) {
+          if (!line.trim().isEmpty()) {
+            add(generation, parse(line, 0, file)) ;
+          }
+        }
+      }
+    }
+
+    void readCsvStream(File file) throws IOException {
+      try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+        String line ;
+        while ((line = reader.readLine()) != null) {
+          if (!line.trim().isEmpty()) {
+            int separator = line.indexOf(',') ;
+            if (separator < 0) {
+              throw new JMetalException("Invalid line in " + file + ": " + line) ;
+            }
+            int iteration = Integer.parseInt(line.substring(0, separator).trim()) ;
+            add(iteration - 1, parse(line, separator + 1, file)) ;
+          }
+        }
+      }
+    }
+
+    void readBinaryStream(File file) throws IOException {
+      try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+        while (true) {
+          int iteration ;
+          try {
+            iteration = in.readInt() ;
+          } catch (EOFException e) {
+            break ;
+          }
+          int numberOfSolutions = in.readInt() ;
+          int numberOfVariables = in.readInt() ;
+          int numberOfObjectives = in.readInt() ;
+          int numberOfConstraintValues = in.readInt() ;
+          for (int s = 0; s < numberOfSolutions; s++) {
+            skipDoubles(in, numberOfVariables) ;
+            double[] values = new double[numberOfObjectives] ;
+            for (int o = 0; o < numberOfObjectives; o++) {
+              values[o] = in.readDouble() ;
+            }
+            skipDoubles(in, numberOfConstraintValues) ;
+            add(iteration - 1, values) ;
+          }
+        }
+      }
+    }
+
+    /** Generations out of range (e.g. written after the last one to read) are ignored */
+    private void add(int generation, double[] values) {
+      if ((generation < 0) || (generation >= rows.size())) {
+        return ;
+      }
+      if (numberOfObjectives == -1) {
+        numberOfObjectives = values.length ;
+      } else if (numberOfObjectives != values.length) {
+        throw new JMetalException("Invalid number of objectives: " + values.length + " instead of " + numberOfObjectives) ;
+      }
+      rows.get(generation).add(values) ;
+    }
+
+    RunObjectivesCache build() {
+      int[] generationOffsets = new int[rows.size() + 1] ;
+      for (int g = 0; g < rows.size(); g++) {
+        generationOffsets[g + 1] = generationOffsets[g] + rows.get(g).size() ;
+      }
+
+      int objectivesPerRow = Math.max(numberOfObjectives, 0) ;
+      double[][] objectives = new double[objectivesPerRow][generationOffsets[rows.size()]] ;
+      for (int g = 0; g < rows.size(); g++) {
+        List<double[]> generationRows = rows.get(g) ;
+        for (int s = 0; s < generationRows.size(); s++) {
+          double[] values = generationRows.get(s) ;
+          for (int o = 0; o < objectivesPerRow; o++) {
+            objectives[o][generationOffsets[g] + s] = values[o] ;
+          }
+        }
+      }
+
+      return new RunObjectivesCache(objectivesPerRow, generationOffsets, objectives) ;
+    }
+
+    private static double[] parse(String line, int start, File file) {
+      String[] tokens = line.substring(start).split(",") ;
+      double[] values = new double[tokens.length] ;
+      try {
+        for (int i = 0; i < tokens.length; i++) {
+          values[i] = Double.parseDouble(tokens[i].trim()) ;
+        }
+      } catch (NumberFormatException e) {
+        throw new JMetalException("Invalid line in " + file + ": " + line, e) ;
+      }
+
+      return values ;
+    }
+
+    private static void skipDoubles(DataInputStream in, int numberOfValues) throws IOException {
+      for (int i = 0; i < numberOfValues; i++) {
+        in.readDouble() ;
+      }
+    }
+  }
+}
@@ -141,6 +141,8 @@ public class ParallelConstraintMOEADDEWithEpsilonArchiveRunner extends AbstractA
     AlgorithmRunner algorithmRunner = new AlgorithmRunner.Executor(algorithm)
         .execute() ;
 
+    evaluator.shutdown();
+
     List<DoubleSolution> population = algorithm.getResult() ;
     long computingTime = algorithmRunner.getComputingTime() ;
 
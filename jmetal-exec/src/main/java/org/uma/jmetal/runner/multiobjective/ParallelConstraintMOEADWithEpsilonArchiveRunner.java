@@ -151,6 +151,8 @@ public class ParallelConstraintMOEADWithEpsilonArchiveRunner extends AbstractAlg
     AlgorithmRunner algorithmRunner = new AlgorithmRunner.Executor(algorithm)
         .execute() ;
 
+    evaluator.shutdown();
+
     List<DoubleSolution> population = algorithm.getResult() ;
     long computingTime = algorithmRunner.getComputingTime() ;
 
@@ -17,6 +17,7 @@ import org.uma.jmetal.util.AlgorithmRunner;
 import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.JMetalLogger;
 import org.uma.jmetal.util.ProblemUtils;
+import org.uma.jmetal.util.checkpoint.AlgorithmCheckpointer;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
 import org.uma.jmetal.util.evaluator.impl.AtOneTimeSolutionListEvaluator;
 import org.uma.jmetal.util.evaluator.impl.ThreadPoolSolutionListEvaluator;
@@ -146,6 +147,13 @@ public class ParallelOMOPSORunner extends AbstractAlgorithmRunner {
       JMetalLogger.logger.info("Use initial population: "+ FilenameUtils.getName(fileNameOfInitialSolutions));
     }
 
+    // チェックポイントの設定(-Djmetal.checkpoint.file=ファイル名 で有効，中断した実行はそこから再開)
+    AlgorithmCheckpointer checkpointer = AlgorithmCheckpointer.fromSystemProperties();
+    if (checkpointer != null) {
+      ((OMOPSO) algorithm).setCheckpointer(checkpointer);
+      JMetalLogger.logger.info("Checkpoint: " + checkpointer.getFile() + " every " + checkpointer.getInterval() + " iterations");
+    }
+
     // アルゴリズム実行
     AlgorithmRunner algorithmRunner = new AlgorithmRunner.Executor(algorithm)
             .execute() ;
@@ -5,6 +5,7 @@ import jp.ohtayo.commons.math.Matrix;
 import jp.ohtayo.commons.math.Vector;
 import org.uma.jmetal.algorithm.multiobjective.spea2.util.EnvironmentalSelection;
 import org.uma.jmetal.problem.DoubleProblem;
+import org.uma.jmetal.qualityIndicator.RunObjectivesCache;
 import org.uma.jmetal.solution.DoubleSolution;
 import org.uma.jmetal.solution.impl.DefaultDoubleSolution;
 import org.uma.jmetal.util.JMetalLogger;
@@ -20,6 +21,11 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 /**
+ * Truncates the epsilon archive of each generation of the runs with the environmental selection
+ * of SPEA2 and writes it to truncatedfitness[generation].csv. The archives are read through
+ * {@link RunObjectivesCache}, so both the files written by
+ * {@link org.uma.jmetal.util.fileoutput.SolutionListDumpWriter} (a stream with the iteration in
+ * the first column) and the old files per generation are supported.
  *
  * @author ohtayo <ohta.yoshihiro@outlook.jp>
  */
@@ -60,13 +66,13 @@ public class CalculateTruncatedArchiveRunner {
 
   }
 
-  private String getFitnessFileName(String algorithmName, int generation)
+  private String getFitnessFilePrefix(String algorithmName)
   {
-    String fileName = "fitness"+(generation+1) +".csv";
+    String prefix = "";
     if( algorithmName.contains("Archive") || algorithmName.contains("OMOPSO") ){
-      fileName = "epsilon" + fileName;
+      prefix = "epsilon";
     }
-    return fileName;
+    return prefix;
   }
 
   private void calculateTruncatedArchive(String archiveFolderBase, DoubleProblem  problem, String[] algorithms,
@@ -92,6 +98,10 @@ public class CalculateTruncatedArchiveRunner {
                                                int numberOfThreads, int numberOfGenerations,
                                                String archiveFolderBase, String experimentName, String algorithmName)
   {
+    // read the results of all the generations of the run once
+    String archiveFolder = archiveFolderBase + experimentName + "\\" + String.valueOf(repeats) + "\\";
+    RunObjectivesCache results = RunObjectivesCache.load(archiveFolder, getFitnessFilePrefix(algorithmName), numberOfGenerations);
+
     //8スレッドの枠を用意
     ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads);
     try{
@@ -99,7 +109,7 @@ public class CalculateTruncatedArchiveRunner {
       for(int i=0; i<numberOfGenerations; i++)
       {
         executor.execute(new CalculateTruncatedArchiveRunner.CalculateTruncatedArchiveOneGeneration(
-            problem, repeats, i, archiveSize, eta, archiveFolderBase, experimentName, algorithmName));
+            problem, results, i, archiveSize, eta, archiveFolder));
       }
     }finally{
       //新規タスクの受付を終了して残ったタスクを継続する．
@@ -116,46 +126,43 @@ public class CalculateTruncatedArchiveRunner {
 
   private class CalculateTruncatedArchiveOneGeneration implements Runnable{
 
-    private int repeats;
     private DoubleProblem problem;
+    private RunObjectivesCache results;
     private int generation;
     private int archiveSize;
     private double eta;
-    private String archiveFolderBase;
-    private String experimentName;
-    private String algorithmName;
+    private String archiveFolder;
     //コンストラクタ
-    public CalculateTruncatedArchiveOneGeneration(DoubleProblem problem, int repeats, int generation, int archiveSize, double eta,
-                                              String archiveFolderBase, String experimentName, String algorithmName){
-      this.repeats = repeats;
+    public CalculateTruncatedArchiveOneGeneration(DoubleProblem problem, RunObjectivesCache results, int generation,
+                                              int archiveSize, double eta, String archiveFolder){
       this.generation = generation;
       this.archiveSize = archiveSize;
       this.eta = eta;
       this.problem = problem;
-      this.archiveFolderBase = archiveFolderBase;
-      this.experimentName = experimentName;
-      this.algorithmName = algorithmName;
+      this.results = results;
+      this.archiveFolder = archiveFolder;
     }
 
     //実行
     public void run(){
-      // read fitness in each generation
-      String archiveFolder = archiveFolderBase + experimentName + "\\" + String.valueOf(repeats) + "\\";
-      String archiveFile = archiveFolder + getFitnessFileName(algorithmName, generation);
+      // fitness of the generation
       String truncatedArchiveFile = archiveFolder + "truncatedfitness"+(generation+1)+".csv";
+      int numberOfSolutions = results.getNumberOfSolutions(generation);
       if( new File(truncatedArchiveFile).exists() ){
         JMetalLogger.logger.info(truncatedArchiveFile +" is exists.");
+      }else if( numberOfSolutions == 0 ){
+        // the archive was not written in this generation (e.g. dumped every n iterations)
+        JMetalLogger.logger.info("No archive in generation " + (generation+1));
       }else {
-        Matrix epsilonArchive = new Matrix(Csv.read(archiveFile));
-        JMetalLogger.logger.info(archiveFile);
+        JMetalLogger.logger.info(archiveFolder + " generation " + (generation+1));
 
         NonDominatedSolutionListArchive<DoubleSolution> temporaryArchive = new NonDominatedSolutionListArchive<DoubleSolution>(new DominanceComparator<DoubleSolution>(eta));
         // create and add solution to temporary archive.
-        for (int s = 0; s < epsilonArchive.length(); s++) {
+        for (int s = 0; s < numberOfSolutions; s++) {
           // make solution include speed.
           DoubleSolution solution = new DefaultDoubleSolution(problem);
-          for (int o = 0; o < epsilonArchive.columnLength(); o++) {
-            solution.setObjective(o, epsilonArchive.get(s, o));
+          for (int o = 0; o < results.getNumberOfObjectives(); o++) {
+            solution.setObjective(o, results.getObjective(generation, s, o));
           }
           temporaryArchive.add( (DoubleSolution) solution.copy() );
         }
@@ -170,7 +177,7 @@ public class CalculateTruncatedArchiveRunner {
         List<DoubleSolution> truncatedArchive = environmentalSelection.execute(temporaryArchive.getSolutionList());
 
         // save truncated archive to csv.
-        Matrix archive = new Matrix(truncatedArchive.size(), epsilonArchive.columnLength());
+        Matrix archive = new Matrix(truncatedArchive.size(), results.getNumberOfObjectives());
         for (int s = 0; s < truncatedArchive.size(); s++) {
           archive.setRow(s, new Vector(truncatedArchive.get(s).getObjectives()));
         }
@@ -93,6 +93,7 @@ public class EvaluateSolutionsFromFile {
 
     // evaluation
     List<DoubleSolution> evaluatedSolutions = evaluator.evaluate(solutions, problem);
+    evaluator.shutdown();
 
     // save fitness to file
     Matrix fitness = new Matrix(numberOfSolutions, problem.getNumberOfObjectives());
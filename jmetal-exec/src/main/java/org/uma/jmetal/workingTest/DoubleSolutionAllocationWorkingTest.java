@@ -0,0 +1,95 @@
+package org.uma.jmetal.workingTest;
+
+import org.uma.jmetal.operator.CrossoverOperator;
+import org.uma.jmetal.operator.MutationOperator;
+import org.uma.jmetal.operator.impl.crossover.SBXCrossover;
+import org.uma.jmetal.operator.impl.mutation.PolynomialMutation;
+import org.uma.jmetal.problem.DoubleProblem;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.JMetalLogger;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This class is intended to measure the memory allocated and the time spent by the reproduction
+ * step of a genetic algorithm (copy of the parents, SBX crossover and polynomial mutation) with the
+ * default implementation of {@link DoubleSolution}. The allocated memory is only measured if the JVM
+ * provides {@link com.sun.management.ThreadMXBean}.
+ *
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+public class DoubleSolutionAllocationWorkingTest {
+  /**
+   * Program to measure the allocation per generation. The parameters to be introduced by the
+   * command line are:
+   * - numberOfVariables: number of variables of the problem (ZDT1)
+   * - populationSize: number of solutions created per generation
+   * - numberOfGenerations: number of measured generations (the same number is run before as warm up)
+   *
+   * @param args Command line arguments
+   */
+  public static void main(String[] args) {
+    if (args.length != 3) {
+      throw new JMetalException("Usage: numberOfVariables populationSize numberOfGenerations") ;
+    }
+    int numberOfVariables = Integer.valueOf(args[0]) ;
+    int populationSize = Integer.valueOf(args[1]) ;
+    int numberOfGenerations = Integer.valueOf(args[2]) ;
+
+    DoubleProblem problem = new ZDT1(numberOfVariables) ;
+    CrossoverOperator<DoubleSolution> crossover = new SBXCrossover(0.9, 20.0) ;
+    MutationOperator<DoubleSolution> mutation = new PolynomialMutation(1.0 / numberOfVariables, 20.0) ;
+
+    List<DoubleSolution> population = new ArrayList<>(populationSize) ;
+    for (int i = 0; i < populationSize; i++) {
+      population.add(problem.createSolution()) ;
+    }
+
+    for (int generation = 0; generation < numberOfGenerations; generation++) {
+      population = reproduce(population, crossover, mutation) ;
+    }
+
+    ThreadMXBean threadBean = ManagementFactory.getThreadMXBean() ;
+    com.sun.management.ThreadMXBean allocationBean = null ;
+    if (threadBean instanceof com.sun.management.ThreadMXBean) {
+      allocationBean = (com.sun.management.ThreadMXBean) threadBean ;
+    }
+    long threadId = Thread.currentThread().getId() ;
+    long initialBytes = allocationBean != null ? allocationBean.getThreadAllocatedBytes(threadId) : 0 ;
+    long initialTime = System.nanoTime() ;
+    for (int generation = 0; generation < numberOfGenerations; generation++) {
+      population = reproduce(population, crossover, mutation) ;
+    }
+    long time = System.nanoTime() - initialTime ;
+
+    JMetalLogger.logger.info("Solution class: " + population.get(0).getClass().getName());
+    if (allocationBean != null) {
+      long bytes = allocationBean.getThreadAllocatedBytes(threadId) - initialBytes ;
+      JMetalLogger.logger.info("Bytes allocated per generation: " + bytes / numberOfGenerations);
+    } else {
+      JMetalLogger.logger.info("The allocated memory cannot be measured in this JVM");
+    }
+    JMetalLogger.logger.info("Microseconds per generation: " + time / 1000 / numberOfGenerations);
+  }
+
+  private static List<DoubleSolution> reproduce(List<DoubleSolution> population,
+      CrossoverOperator<DoubleSolution> crossover, MutationOperator<DoubleSolution> mutation) {
+    List<DoubleSolution> offspringPopulation = new ArrayList<>(population.size()) ;
+    for (int i = 0; i < population.size(); i += 2) {
+      List<DoubleSolution> parents =
+          Arrays.asList(population.get(i), population.get((i + 1) % population.size())) ;
+      for (DoubleSolution offspring : crossover.execute(parents)) {
+        mutation.execute(offspring) ;
+        offspringPopulation.add(offspring) ;
+      }
+    }
+
+    return offspringPopulation ;
+  }
+}
@@ -0,0 +1,89 @@
+package org.uma.jmetal.workingTest;
+
+import org.uma.jmetal.problem.multiobjective.ebes.Ebes;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.evaluator.impl.MultithreadedSolutionListEvaluator;
+
+import java.io.FileNotFoundException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class is intended to measure the number of evaluations per second of the {@link Ebes}
+ * problem when the solutions are evaluated by a single thread and by a
+ * {@link MultithreadedSolutionListEvaluator}, as well as the memory allocated per evaluation by a
+ * single thread (only if the JVM provides {@link com.sun.management.ThreadMXBean}).
+ *
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+public class EbesEvaluationWorkingTest {
+  /**
+   * Program to measure the evaluation throughput. The parameters to be introduced by the command
+   * line are:
+   * - numberOfThreads: number of threads of the multithreaded evaluator
+   * - numberOfSolutions: number of solutions evaluated in each measure (the same number is
+   *   evaluated before as warm up)
+   * - ebesFileName (optional): structure file (ebes/Mobile_Bridge_25N_35B_8G_16OrdZXY.ebe by default)
+   *
+   * @param args Command line arguments
+   */
+  public static void main(String[] args) throws FileNotFoundException {
+    if ((args.length != 2) && (args.length != 3)) {
+      throw new JMetalException("Usage: numberOfThreads numberOfSolutions [ebesFileName]") ;
+    }
+    int numberOfThreads = Integer.valueOf(args[0]) ;
+    int numberOfSolutions = Integer.valueOf(args[1]) ;
+    String fileName = args.length == 3 ? args[2] : "ebes/Mobile_Bridge_25N_35B_8G_16OrdZXY.ebe" ;
+
+    Ebes problem = new Ebes(fileName, new String[]{"W", "D"}) ;
+
+    List<DoubleSolution> solutions = new ArrayList<>(numberOfSolutions) ;
+    for (int i = 0; i < numberOfSolutions; i++) {
+      solutions.add(problem.createSolution()) ;
+    }
+
+    // single thread
+    for (DoubleSolution solution : solutions) {
+      problem.evaluate(solution);
+    }
+
+    // the allocated memory is only measured if the JVM provides the extension of ThreadMXBean
+    ThreadMXBean threadBean = ManagementFactory.getThreadMXBean() ;
+    com.sun.management.ThreadMXBean allocationBean = null ;
+    if (threadBean instanceof com.sun.management.ThreadMXBean) {
+      allocationBean = (com.sun.management.ThreadMXBean) threadBean ;
+    }
+    long threadId = Thread.currentThread().getId() ;
+    long initialBytes = allocationBean != null ? allocationBean.getThreadAllocatedBytes(threadId) : 0 ;
+    long initialTime = System.nanoTime() ;
+    for (DoubleSolution solution : solutions) {
+      problem.evaluate(solution);
+    }
+    long time = System.nanoTime() - initialTime ;
+
+    if (allocationBean != null) {
+      long bytes = allocationBean.getThreadAllocatedBytes(threadId) - initialBytes ;
+      JMetalLogger.logger.info("Bytes allocated per evaluation (1 thread): " + bytes / numberOfSolutions);
+    } else {
+      JMetalLogger.logger.info("The allocated memory cannot be measured in this JVM");
+    }
+    JMetalLogger.logger.info("Evaluations per second (1 thread): " + numberOfSolutions * 1.0e9 / time);
+
+    // multithreaded evaluator
+    MultithreadedSolutionListEvaluator<DoubleSolution> evaluator =
+        new MultithreadedSolutionListEvaluator<>(numberOfThreads, problem) ;
+    evaluator.evaluate(solutions, problem) ;
+
+    initialTime = System.nanoTime() ;
+    evaluator.evaluate(solutions, problem) ;
+    time = System.nanoTime() - initialTime ;
+    evaluator.shutdown();
+
+    JMetalLogger.logger.info("Evaluations per second (" + numberOfThreads + " threads): "
+        + numberOfSolutions * 1.0e9 / time);
+  }
+}
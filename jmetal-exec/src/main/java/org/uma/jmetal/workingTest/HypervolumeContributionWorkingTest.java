@@ -0,0 +1,81 @@
+package org.uma.jmetal.workingTest;
+
+import org.uma.jmetal.qualityindicator.impl.Hypervolume;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.PISAHypervolume;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.WFGHypervolume;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.point.PointSolution;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * This class is intended to measure the throughput of the hypervolume contribution computation in
+ * a steady-state scheme as the one of SMS-EMOA and {@link org.uma.jmetal.util.archive.impl.HypervolumeArchive}:
+ * in each step a new solution is added to a set of non-dominated solutions, the contributions are
+ * computed and the solution with the lowest one is removed.
+ *
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+public class HypervolumeContributionWorkingTest {
+  /**
+   * Program to measure the throughput. The parameters to be introduced by the command line are:
+   * - numberOfObjectives: number of objectives of the solutions
+   * - populationSize: number of solutions kept in each step
+   * - numberOfSteps: number of solutions added (and removed)
+   *
+   * @param args Command line arguments
+   */
+  public static void main(String[] args) {
+    if (args.length != 3) {
+      throw new JMetalException("Usage: numberOfObjectives populationSize numberOfSteps") ;
+    }
+    int numberOfObjectives = Integer.valueOf(args[0]) ;
+    int populationSize = Integer.valueOf(args[1]) ;
+    int numberOfSteps = Integer.valueOf(args[2]) ;
+
+    measure("PISA hypervolume", numberOfObjectives, populationSize, numberOfSteps, PISAHypervolume::new) ;
+    measure("WFG hypervolume", numberOfObjectives, populationSize, numberOfSteps, WFGHypervolume::new) ;
+  }
+
+  private static void measure(String name, int numberOfObjectives, int populationSize, int numberOfSteps,
+      Supplier<Hypervolume<PointSolution>> hypervolumeFactory) {
+    Random random = new Random(1) ;
+    Hypervolume<PointSolution> hypervolume = hypervolumeFactory.get() ;
+    List<PointSolution> population = new ArrayList<>() ;
+    for (int i = 0; i < populationSize; i++) {
+      population.add(createSolution(numberOfObjectives, random)) ;
+    }
+
+    long initialTime = System.nanoTime() ;
+    for (int step = 0; step < numberOfSteps; step++) {
+      population.add(createSolution(numberOfObjectives, random)) ;
+      population = hypervolume.computeHypervolumeContribution(population, population) ;
+      population.remove(population.size() - 1) ;
+    }
+    double stepsPerSecond = 1.0e9 * numberOfSteps / (System.nanoTime() - initialTime) ;
+
+    JMetalLogger.logger.info(name + ", " + numberOfObjectives + " objectives, population size "
+        + populationSize + ": " + String.format("%.1f", stepsPerSecond) + " steps/s") ;
+  }
+
+  /** Point of the unit sphere (positive orthant) */
+  private static PointSolution createSolution(int numberOfObjectives, Random random) {
+    double[] direction = new double[numberOfObjectives] ;
+    double norm = 0.0 ;
+    for (int j = 0; j < numberOfObjectives; j++) {
+      direction[j] = Math.abs(random.nextGaussian()) ;
+      norm += direction[j] * direction[j] ;
+    }
+
+    PointSolution solution = new PointSolution(numberOfObjectives) ;
+    for (int j = 0; j < numberOfObjectives; j++) {
+      solution.setObjective(j, direction[j] / Math.sqrt(norm));
+    }
+
+    return solution ;
+  }
+}
@@ -0,0 +1,99 @@
+package org.uma.jmetal.workingTest;
+
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.point.PointSolution;
+import org.uma.jmetal.util.solutionattribute.Ranking;
+import org.uma.jmetal.util.solutionattribute.impl.DominanceRanking;
+import org.uma.jmetal.util.solutionattribute.impl.IncrementalDominanceRanking;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * This class is intended to compare the cost of a steady-state replacement step (adding one
+ * offspring and removing one solution of the last subfront, as in SMS-EMOA) when the population
+ * is ranked from scratch with {@link DominanceRanking} and when it is updated with
+ * {@link IncrementalDominanceRanking}, for populations of 100, 500 and 1000 solutions.
+ *
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+public class IncrementalDominanceRankingWorkingTest {
+  /**
+   * Program to measure the replacement steps per second. The parameters to be introduced by the
+   * command line are:
+   * - numberOfObjectives: number of objectives of the solutions
+   * - numberOfSteps: number of replacement steps measured for each population size
+   *
+   * @param args Command line arguments
+   */
+  public static void main(String[] args) {
+    if (args.length != 2) {
+      throw new JMetalException("Usage: numberOfObjectives numberOfSteps") ;
+    }
+    int numberOfObjectives = Integer.valueOf(args[0]) ;
+    int numberOfSteps = Integer.valueOf(args[1]) ;
+
+    for (int populationSize : new int[]{100, 500, 1000}) {
+      // The first run of each method is a warm up
+      runFullRanking(populationSize, numberOfObjectives, numberOfSteps) ;
+      double fullTime = runFullRanking(populationSize, numberOfObjectives, numberOfSteps) ;
+      runIncrementalRanking(populationSize, numberOfObjectives, numberOfSteps) ;
+      double incrementalTime = runIncrementalRanking(populationSize, numberOfObjectives, numberOfSteps) ;
+
+      JMetalLogger.logger.info("Population size " + populationSize + ": "
+          + (long) (numberOfSteps / fullTime) + " steps/s (DominanceRanking), "
+          + (long) (numberOfSteps / incrementalTime) + " steps/s (IncrementalDominanceRanking)");
+    }
+  }
+
+  private static double runFullRanking(int populationSize, int numberOfObjectives, int numberOfSteps) {
+    Random random = new Random(1) ;
+    List<PointSolution> population = createPopulation(populationSize, numberOfObjectives, random) ;
+
+    long initialTime = System.nanoTime() ;
+    for (int step = 0; step < numberOfSteps; step++) {
+      population.add(createSolution(numberOfObjectives, random)) ;
+      Ranking<PointSolution> ranking = new DominanceRanking<PointSolution>().computeRanking(population) ;
+      List<PointSolution> lastSubfront = ranking.getSubfront(ranking.getNumberOfSubfronts() - 1) ;
+      population.remove(lastSubfront.get(random.nextInt(lastSubfront.size()))) ;
+    }
+
+    return (System.nanoTime() - initialTime) / 1.0e9 ;
+  }
+
+  private static double runIncrementalRanking(int populationSize, int numberOfObjectives, int numberOfSteps) {
+    Random random = new Random(1) ;
+    List<PointSolution> population = createPopulation(populationSize, numberOfObjectives, random) ;
+
+    long initialTime = System.nanoTime() ;
+    IncrementalDominanceRanking<PointSolution> ranking = new IncrementalDominanceRanking<>() ;
+    ranking.computeRanking(population) ;
+    for (int step = 0; step < numberOfSteps; step++) {
+      ranking.add(createSolution(numberOfObjectives, random)) ;
+      List<PointSolution> lastSubfront = ranking.getSubfront(ranking.getNumberOfSubfronts() - 1) ;
+      ranking.remove(lastSubfront.get(random.nextInt(lastSubfront.size()))) ;
+    }
+
+    return (System.nanoTime() - initialTime) / 1.0e9 ;
+  }
+
+  private static List<PointSolution> createPopulation(int populationSize, int numberOfObjectives, Random random) {
+    List<PointSolution> population = new ArrayList<>(populationSize + 1) ;
+    for (int i = 0; i < populationSize; i++) {
+      population.add(createSolution(numberOfObjectives, random)) ;
+    }
+
+    return population ;
+  }
+
+  private static PointSolution createSolution(int numberOfObjectives, Random random) {
+    PointSolution solution = new PointSolution(numberOfObjectives) ;
+    for (int i = 0; i < numberOfObjectives; i++) {
+      solution.setObjective(i, random.nextDouble());
+    }
+
+    return solution ;
+  }
+}
@@ -0,0 +1,91 @@
+package org.uma.jmetal.workingTest;
+
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.archive.Archive;
+import org.uma.jmetal.util.archive.impl.NonDominatedSolutionListArchive;
+import org.uma.jmetal.util.archive.impl.NonDominatedSolutionTreeArchive;
+import org.uma.jmetal.util.point.PointSolution;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * This class is intended to compare the insertion throughput of {@link NonDominatedSolutionListArchive}
+ * and {@link NonDominatedSolutionTreeArchive} with 2, 4 and 8 objectives. The inserted solutions
+ * are points around the unit sphere which slowly approach the origin, so the archives grow to
+ * thousands of solutions and many of them are replaced along the run, as in the epsilon archive
+ * of OMOPSO.
+ *
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+public class NonDominatedArchiveWorkingTest {
+  /**
+   * Program to measure the insertion throughput. The parameters to be introduced by the command
+   * line are:
+   * - numberOfSolutions: number of solutions inserted in each archive
+   * - numberOfRepetitions: number of measured runs (one more run is done before as warm up)
+   *
+   * @param args Command line arguments
+   */
+  public static void main(String[] args) {
+    if (args.length != 2) {
+      throw new JMetalException("Usage: numberOfSolutions numberOfRepetitions") ;
+    }
+    int numberOfSolutions = Integer.valueOf(args[0]) ;
+    int numberOfRepetitions = Integer.valueOf(args[1]) ;
+
+    for (int numberOfObjectives : new int[]{2, 4, 8}) {
+      List<PointSolution> solutions = createSolutions(numberOfSolutions, numberOfObjectives, new Random(1)) ;
+
+      measure("List archive", numberOfObjectives, solutions, numberOfRepetitions,
+          NonDominatedSolutionListArchive::new) ;
+      measure("Tree archive", numberOfObjectives, solutions, numberOfRepetitions,
+          NonDominatedSolutionTreeArchive::new) ;
+    }
+  }
+
+  private static void measure(String name, int numberOfObjectives, List<PointSolution> solutions,
+      int numberOfRepetitions, Supplier<Archive<PointSolution>> archiveFactory) {
+    long totalTime = 0 ;
+    int archiveSize = 0 ;
+    for (int repetition = 0; repetition <= numberOfRepetitions; repetition++) {
+      Archive<PointSolution> archive = archiveFactory.get() ;
+      long initialTime = System.nanoTime() ;
+      for (PointSolution solution : solutions) {
+        archive.add(solution) ;
+      }
+      if (repetition > 0) {
+        totalTime += System.nanoTime() - initialTime ;
+      }
+      archiveSize = archive.size() ;
+    }
+
+    double insertionsPerSecond = 1.0e9 * solutions.size() * numberOfRepetitions / totalTime ;
+    JMetalLogger.logger.info(name + ", " + numberOfObjectives + " objectives: "
+        + (long) insertionsPerSecond + " insertions/s (final size: " + archiveSize + ")");
+  }
+
+  private static List<PointSolution> createSolutions(int numberOfSolutions, int numberOfObjectives, Random random) {
+    List<PointSolution> solutions = new ArrayList<>(numberOfSolutions) ;
+    for (int i = 0; i < numberOfSolutions; i++) {
+      double radius = 2.0 - (double) i / numberOfSolutions + 0.2 * random.nextDouble() ;
+      double[] direction = new double[numberOfObjectives] ;
+      double norm = 0.0 ;
+      for (int j = 0; j < numberOfObjectives; j++) {
+        direction[j] = Math.abs(random.nextGaussian()) ;
+        norm += direction[j] * direction[j] ;
+      }
+
+      PointSolution solution = new PointSolution(numberOfObjectives) ;
+      for (int j = 0; j < numberOfObjectives; j++) {
+        solution.setObjective(j, radius * direction[j] / Math.sqrt(norm));
+      }
+      solutions.add(solution) ;
+    }
+
+    return solutions ;
+  }
+}
@@ -0,0 +1,74 @@
+package org.uma.jmetal.workingTest;
+
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.point.PointSolution;
+import org.uma.jmetal.util.solutionattribute.Ranking;
+import org.uma.jmetal.util.solutionattribute.impl.DominanceRanking;
+import org.uma.jmetal.util.solutionattribute.impl.EfficientNonDominatedSortRanking;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * This class is intended to compare the time needed by {@link DominanceRanking} and
+ * {@link EfficientNonDominatedSortRanking} to rank populations of random solutions, sweeping the
+ * population size (100, 1000, 5000) and the number of objectives (2, 3, 5, 8).
+ *
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+public class NonDominatedSortingWorkingTest {
+  /**
+   * Program to measure the ranking time. The parameter to be introduced by the command line is:
+   * - numberOfRepetitions: number of rankings measured for each configuration
+   *
+   * @param args Command line arguments
+   */
+  public static void main(String[] args) {
+    if (args.length != 1) {
+      throw new JMetalException("Usage: numberOfRepetitions") ;
+    }
+    int numberOfRepetitions = Integer.valueOf(args[0]) ;
+
+    for (int populationSize : new int[]{100, 1000, 5000}) {
+      for (int numberOfObjectives : new int[]{2, 3, 5, 8}) {
+        List<PointSolution> population = createPopulation(populationSize, numberOfObjectives, new Random(1)) ;
+
+        double dominanceRankingTime = measure(population, numberOfRepetitions, DominanceRanking::new) ;
+        double efficientRankingTime = measure(population, numberOfRepetitions, EfficientNonDominatedSortRanking::new) ;
+
+        JMetalLogger.logger.info("N = " + populationSize + ", M = " + numberOfObjectives + ": "
+            + String.format("%.3f", dominanceRankingTime) + " ms (DominanceRanking), "
+            + String.format("%.3f", efficientRankingTime) + " ms (EfficientNonDominatedSortRanking)");
+      }
+    }
+  }
+
+  /** Average time in milliseconds, after a warm up run */
+  private static double measure(List<PointSolution> population, int numberOfRepetitions,
+      Supplier<Ranking<PointSolution>> rankingFactory) {
+    rankingFactory.get().computeRanking(population) ;
+
+    long initialTime = System.nanoTime() ;
+    for (int i = 0; i < numberOfRepetitions; i++) {
+      rankingFactory.get().computeRanking(population) ;
+    }
+
+    return (System.nanoTime() - initialTime) / 1.0e6 / numberOfRepetitions ;
+  }
+
+  private static List<PointSolution> createPopulation(int populationSize, int numberOfObjectives, Random random) {
+    List<PointSolution> population = new ArrayList<>(populationSize) ;
+    for (int i = 0; i < populationSize; i++) {
+      PointSolution solution = new PointSolution(numberOfObjectives) ;
+      for (int j = 0; j < numberOfObjectives; j++) {
+        solution.setObjective(j, random.nextDouble());
+      }
+      population.add(solution) ;
+    }
+
+    return population ;
+  }
+}
@@ -0,0 +1,72 @@
+package org.uma.jmetal.qualityIndicator;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+
+import static org.junit.Assert.assertArrayEquals;
+
+/**
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+public class CalculateIndicatorFromManyResultsRunnerTest {
+  private static final double EPSILON = 0.0000000001 ;
+  private File directory ;
+
+  @Before
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("results").toFile() ;
+  }
+
+  @After
+  public void cleanup() {
+    File[] folders = directory.listFiles() ;
+    if (folders != null) {
+      for (File folder : folders) {
+        File[] files = folder.listFiles() ;
+        if (files != null) {
+          for (File file : files) {
+            file.delete() ;
+          }
+        }
+        folder.delete() ;
+      }
+    }
+    directory.delete() ;
+  }
+
+  @Test
+  public void shouldGetMaximumValuesReturnTheMaximumOfAllTheRepeats() throws IOException {
+    RunObjectivesCache[] runs = {
+        createRun("0", "1,1.0,9.0", "2,3.0,2.0"),
+        createRun("1", "1,5.0,4.0", "2,0.5,1.0")} ;
+
+    assertArrayEquals(new double[]{5.0, 9.0}, CalculateIndicatorFromManyResultsRunner.getMaximumValues(runs), EPSILON);
+  }
+
+  @Test
+  public void shouldGetMinimumValuesReturnTheMinimumOfAllTheRepeats() throws IOException {
+    RunObjectivesCache[] runs = {
+        createRun("0", "1,1.0,9.0", "2,3.0,2.0"),
+        createRun("1", "1,5.0,4.0", "2,0.5,1.0")} ;
+
+    assertArrayEquals(new double[]{0.5, 1.0}, CalculateIndicatorFromManyResultsRunner.getMinimumValues(runs), EPSILON);
+  }
+
+  private RunObjectivesCache createRun(String folderName, String... lines) throws IOException {
+    File folder = new File(directory, folderName) ;
+    folder.mkdir() ;
+    try (PrintWriter writer = new PrintWriter(new FileWriter(new File(folder, "epsilonfitness.csv")))) {
+      for (String line : lines) {
+        writer.println(line);
+      }
+    }
+    return RunObjectivesCache.load(folder.getPath(), "epsilon", 2) ;
+  }
+}
@@ -0,0 +1,153 @@
+package org.uma.jmetal.qualityIndicator;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.uma.jmetal.util.JMetalException;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+public class RunObjectivesCacheTest {
+  private static final double EPSILON = 0.0000000001 ;
+  private File directory ;
+
+  @Before
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("results").toFile() ;
+  }
+
+  @After
+  public void cleanup() {
+    File[] files = directory.listFiles() ;
+    if (files != null) {
+      for (File file : files) {
+        file.delete() ;
+      }
+    }
+    directory.delete() ;
+  }
+
+  @Test
+  public void shouldLoadReadTheGenerationsOfAStream() throws IOException {
+    writeLines("epsilonfitness.csv", "1,1.0,4.0", "1,2.0,3.0", "3,0.5,6.0") ;
+
+    RunObjectivesCache cache = RunObjectivesCache.load(directory.getPath(), "epsilon", 3) ;
+
+    assertEquals(3, cache.getNumberOfGenerations());
+    assertEquals(2, cache.getNumberOfObjectives());
+    assertEquals(2, cache.getNumberOfSolutions(0));
+    assertEquals(0, cache.getNumberOfSolutions(1));
+    assertEquals(1, cache.getNumberOfSolutions(2));
+    assertEquals(2.0, cache.getObjective(0, 1, 0), EPSILON);
+    assertEquals(6.0, cache.getObjective(2, 0, 1), EPSILON);
+  }
+
+  @Test
+  public void shouldLoadReadTheFilesOfEachGeneration() throws IOException {
+    writeLines("fitness1.csv", "1.0,4.0") ;
+    writeLines("fitness2.csv", "2.0,3.0", "0.5,6.0") ;
+
+    RunObjectivesCache cache = RunObjectivesCache.load(directory.getPath(), "", 2) ;
+
+    assertEquals(1, cache.getNumberOfSolutions(0));
+    assertEquals(2, cache.getNumberOfSolutions(1));
+    assertEquals(0.5, cache.getObjective(1, 1, 0), EPSILON);
+  }
+
+  @Test
+  public void shouldMinimumAndMaximumValuesBeTheExtremeValuesOfAllTheGenerations() throws IOException {
+    writeLines("epsilonfitness.csv", "1,1.0,4.0", "2,2.0,3.0", "2,0.5,6.0") ;
+
+    RunObjectivesCache cache = RunObjectivesCache.load(directory.getPath(), "epsilon", 2) ;
+
+    assertArrayEquals(new double[]{0.5, 3.0}, cache.getMinimumValues(), EPSILON);
+    assertArrayEquals(new double[]{2.0, 6.0}, cache.getMaximumValues(), EPSILON);
+  }
+
+  @Test
+  public void shouldLoadWriteACacheWhichIsReadTheNextTime() throws IOException {
+    File source = writeLines("epsilonfitness.csv", "1,1.0,4.0", "2,2.0,3.0") ;
+    RunObjectivesCache cache = RunObjectivesCache.load(directory.getPath(), "epsilon", 2) ;
+    assertTrue(new File(directory, "epsilonfitness.cache").exists());
+
+    // same size and modification time: the values are read from the cache
+    long lastModified = source.lastModified() ;
+    writeLines("epsilonfitness.csv", "1,7.0,4.0", "2,2.0,3.0") ;
+    assertTrue(source.setLastModified(lastModified));
+
+    RunObjectivesCache cachedResults = RunObjectivesCache.load(directory.getPath(), "epsilon", 2) ;
+
+    assertEquals(cache.getNumberOfGenerations(), cachedResults.getNumberOfGenerations());
+    assertEquals(cache.getNumberOfObjectives(), cachedResults.getNumberOfObjectives());
+    for (int g = 0; g < cache.getNumberOfGenerations(); g++) {
+      assertEquals(cache.getNumberOfSolutions(g), cachedResults.getNumberOfSolutions(g));
+      for (int s = 0; s < cache.getNumberOfSolutions(g); s++) {
+        for (int o = 0; o < cache.getNumberOfObjectives(); o++) {
+          assertEquals(cache.getObjective(g, s, o), cachedResults.getObjective(g, s, o), 0.0);
+        }
+      }
+    }
+    assertEquals(1.0, cachedResults.getObjective(0, 0, 0), EPSILON);
+  }
+
+  @Test
+  public void shouldLoadReadTheResultsAgainIfTheyHaveChanged() throws IOException {
+    writeLines("epsilonfitness.csv", "1,1.0,4.0", "2,2.0,3.0") ;
+    RunObjectivesCache.load(directory.getPath(), "epsilon", 2) ;
+
+    writeLines("epsilonfitness.csv", "1,1.0,4.0", "2,2.0,3.0", "2,8.0,9.0") ;
+    RunObjectivesCache cache = RunObjectivesCache.load(directory.getPath(), "epsilon", 2) ;
+
+    assertEquals(2, cache.getNumberOfSolutions(1));
+    assertArrayEquals(new double[]{8.0, 9.0}, cache.getMaximumValues(), EPSILON);
+  }
+
+  @Test
+  public void shouldLoadReadTheResultsAgainIfTheNumberOfGenerationsIsDifferent() throws IOException {
+    writeLines("epsilonfitness.csv", "1,1.0,4.0", "2,2.0,3.0") ;
+    RunObjectivesCache.load(directory.getPath(), "epsilon", 1) ;
+
+    RunObjectivesCache cache = RunObjectivesCache.load(directory.getPath(), "epsilon", 2) ;
+
+    assertEquals(2, cache.getNumberOfGenerations());
+    assertEquals(1, cache.getNumberOfSolutions(1));
+  }
+
+  @Test
+  public void shouldSourceSignatureChangeWhenTheResultsChange() throws IOException {
+    writeLines("epsilonfitness.csv", "1,1.0,4.0") ;
+    String signature = RunObjectivesCache.getSourceSignature(directory.getPath(), "epsilon", 1) ;
+    assertEquals(signature, RunObjectivesCache.getSourceSignature(directory.getPath(), "epsilon", 1));
+
+    writeLines("epsilonfitness.csv", "1,1.0,4.0", "1,2.0,3.0") ;
+
+    assertNotEquals(signature, RunObjectivesCache.getSourceSignature(directory.getPath(), "epsilon", 1));
+  }
+
+  @Test(expected = JMetalException.class)
+  public void shouldLoadRaiseAnExceptionIfThereAreNoResults() {
+    RunObjectivesCache.load(directory.getPath(), "epsilon", 2) ;
+  }
+
+  private File writeLines(String fileName, String... lines) throws IOException {
+    File file = new File(directory, fileName) ;
+    try (PrintWriter writer = new PrintWriter(new FileWriter(file))) {
+      for (String line : lines) {
+        writer.println(line);
+      }
+    }
+    return file ;
+  }
+}
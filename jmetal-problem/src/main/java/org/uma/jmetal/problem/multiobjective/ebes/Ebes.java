@@ -31,9 +31,17 @@ import java.util.logging.Logger;
 /**
  * Class representing problem Ebes
  * Spatial Bars Structure (Estructuras de Barras Espaciales)
+ *
+ * The structural analysis of a solution is computed in the fields of the object (geometry of the
+ * groups, stiffness matrix, displacements, efforts, strains...), so {@link #evaluate(DoubleSolution)}
+ * runs it in the workspace of the calling thread ({@link #getWorkspace()}): a copy of the problem
+ * with its own analysis state, which is created the first time the thread evaluates a solution and
+ * reused in the next evaluations. This way the problem can be evaluated by several threads at the
+ * same time, and the arrays of the analysis are not allocated again in each evaluation. The results
+ * of the last evaluation of a thread are available through the getters of its workspace.
  */
 @SuppressWarnings("serial")
-public class Ebes extends AbstractDoubleProblem {
+public class Ebes extends AbstractDoubleProblem implements Cloneable {
   /**
    * Constructor.
    * Creates a default instance of the Ebes problem.
@@ -597,6 +605,10 @@ public class Ebes extends AbstractDoubleProblem {
   double [][]KijSOG = new double [numberOfLibertyDegree_][numberOfLibertyDegree_];
   double [][]KjiSOG = new double [numberOfLibertyDegree_][numberOfLibertyDegree_];
   double [][]KjjSOG = new double [numberOfLibertyDegree_][numberOfLibertyDegree_];
+  // auxiliary matrices of EBEsMat3DGij
+  double [][]Ar = new double [numberOfLibertyDegree_][numberOfLibertyDegree_];
+  double [][]As = new double [numberOfLibertyDegree_][numberOfLibertyDegree_];
+  double [][]At = new double [numberOfLibertyDegree_][numberOfLibertyDegree_];
 
   // matrix indexes of groups elements
   int INDEX_=0; // index for the asociation with elements group
@@ -717,6 +729,13 @@ public class Ebes extends AbstractDoubleProblem {
 
   public OverallConstraintViolation<DoubleSolution> overallConstraintViolationDegree ;
 
+  // right-hand side and solution of the system of equations of a load hypothesis
+  protected double [] EcuationVector_ ;
+
+  // workspace of each thread (see getWorkspace())
+  private transient ThreadLocal<Ebes> workspaces ;
+  private transient boolean isWorkspace ;
+
   public Ebes() throws FileNotFoundException {
     overallConstraintViolationDegree = new OverallConstraintViolation<DoubleSolution>() ;
     String file = EBEsReadProblems() + ".ebe";
@@ -944,11 +963,130 @@ public class Ebes extends AbstractDoubleProblem {
   }
 
   /**
-   * Evaluates a solution
+   * Evaluates a solution in the workspace of the calling thread
    * @param solution The solution to evaluate
    */
   @Override
   public void evaluate(DoubleSolution solution) {
+    getWorkspace().EBEsEvaluate(solution);
+  }
+
+  /**
+   * Returns the workspace of the calling thread, where its evaluations are computed. A workspace
+   * is a copy of this problem sharing the data read from the file, but with its own geometry of
+   * the groups and its own analysis state. The workspace of a workspace is itself
+   */
+  public Ebes getWorkspace() {
+    if (isWorkspace) {
+      return this ;
+    }
+
+    return getWorkspaces().get() ;
+  }
+
+  private synchronized ThreadLocal<Ebes> getWorkspaces() {
+    if (workspaces == null) {
+      workspaces = ThreadLocal.withInitial(this::EBEsNewWorkspace) ;
+    }
+
+    return workspaces ;
+  }
+
+  /**
+   * Creates a workspace: a copy of this problem sharing the data read from the file (nodes,
+   * elements, loads and checks), with a copy of the groups (whose sections are computed from the
+   * variables of each solution) and without the arrays of the structural analysis, which are
+   * allocated in its first evaluation
+   */
+  protected Ebes EBEsNewWorkspace() {
+    Ebes workspace ;
+    try {
+      workspace = (Ebes) super.clone() ;
+    } catch (CloneNotSupportedException e) {
+      throw new JMetalException(e) ;
+    }
+    workspace.isWorkspace = true ;
+    workspace.workspaces = null ;
+    workspace.numberOfEval_ = 1 ;
+
+    workspace.Groups_ = new double[Groups_.length][] ;
+    for (int gr = 0; gr < Groups_.length; gr++) {
+      workspace.Groups_[gr] = Groups_[gr].clone() ;
+    }
+
+    workspace.WeightElement_ = null ;
+    workspace.MatrixStiffness_ = null ;
+    workspace.DisplacementNodes_ = null ;
+    workspace.Efforti_ = null ;
+    workspace.Effortj_ = null ;
+    workspace.AxialForcei_ = null ;
+    workspace.AxialForcej_ = null ;
+    workspace.Straini_ = null ;
+    workspace.Strainj_ = null ;
+    workspace.omegaMax_ = null ;
+    workspace.NxxMax_ = null ;
+    workspace.NxxMin_ = null ;
+    workspace.MxzMax_ = null ;
+    workspace.MxzMin_ = null ;
+    workspace.MxyMax_ = null ;
+    workspace.MxyMin_ = null ;
+    workspace.StrainNxxMax_ = null ;
+    workspace.StrainNxxMin_ = null ;
+    workspace.StrainMxzMax_ = null ;
+    workspace.StrainMxzMin_ = null ;
+    workspace.StrainMxyMax_ = null ;
+    workspace.StrainMxyMin_ = null ;
+    workspace.StrainMax_ = null ;
+    workspace.StrainMin_ = null ;
+    workspace.OldStrainMax_ = null ;
+    workspace.OldStrainMin_ = null ;
+    workspace.StrainCutMax_ = null ;
+    workspace.StrainResidualMin_ = null ;
+    workspace.StrainResidualMax_ = null ;
+    workspace.StrainResidualCut_ = null ;
+    workspace.cbi = null ;
+    workspace.cbj = null ;
+    workspace.PQ = null ;
+    workspace.Reaction_ = null ;
+    workspace.EcuationVector_ = null ;
+
+    workspace.Qi = new double[numberOfLibertyDegree_] ;
+    workspace.Qj = new double[numberOfLibertyDegree_] ;
+    workspace.pi = new double[numberOfLibertyDegree_] ;
+    workspace.pj = new double[numberOfLibertyDegree_] ;
+    workspace.Kii = new double[numberOfLibertyDegree_][numberOfLibertyDegree_] ;
+    workspace.Kij = new double[numberOfLibertyDegree_][numberOfLibertyDegree_] ;
+    workspace.Kji = new double[numberOfLibertyDegree_][numberOfLibertyDegree_] ;
+    workspace.Kjj = new double[numberOfLibertyDegree_][numberOfLibertyDegree_] ;
+    workspace.KGii = new double[numberOfLibertyDegree_][numberOfLibertyDegree_] ;
+    workspace.KGij = new double[numberOfLibertyDegree_][numberOfLibertyDegree_] ;
+    workspace.KGji = new double[numberOfLibertyDegree_][numberOfLibertyDegree_] ;
+    workspace.KGjj = new double[numberOfLibertyDegree_][numberOfLibertyDegree_] ;
+    workspace.Rij = new double[numberOfLibertyDegree_][numberOfLibertyDegree_] ;
+    workspace.Rji = new double[numberOfLibertyDegree_][numberOfLibertyDegree_] ;
+    workspace.RTij = new double[numberOfLibertyDegree_][numberOfLibertyDegree_] ;
+    workspace.RTji = new double[numberOfLibertyDegree_][numberOfLibertyDegree_] ;
+    workspace.Rpij = new double[numberOfLibertyDegree_][numberOfLibertyDegree_] ;
+    workspace.Rpji = new double[numberOfLibertyDegree_][numberOfLibertyDegree_] ;
+    workspace.RpTij = new double[numberOfLibertyDegree_][numberOfLibertyDegree_] ;
+    workspace.RpTji = new double[numberOfLibertyDegree_][numberOfLibertyDegree_] ;
+    workspace.KiiSOG = new double[numberOfLibertyDegree_][numberOfLibertyDegree_] ;
+    workspace.KijSOG = new double[numberOfLibertyDegree_][numberOfLibertyDegree_] ;
+    workspace.KjiSOG = new double[numberOfLibertyDegree_][numberOfLibertyDegree_] ;
+    workspace.KjjSOG = new double[numberOfLibertyDegree_][numberOfLibertyDegree_] ;
+    workspace.Ar = new double[numberOfLibertyDegree_][numberOfLibertyDegree_] ;
+    workspace.As = new double[numberOfLibertyDegree_][numberOfLibertyDegree_] ;
+    workspace.At = new double[numberOfLibertyDegree_][numberOfLibertyDegree_] ;
+
+    return workspace ;
+  }
+
+  /**
+   * Evaluates a solution in the fields of this object. It must not be called by several threads
+   * at the same time
+   * @param solution The solution to evaluate
+   */
+  public void EBEsEvaluate(DoubleSolution solution) {
 
     int hi=0;
     double [] fx = new double[getNumberOfObjectives()] ; // functions
@@ -1413,10 +1551,10 @@ public class Ebes extends AbstractDoubleProblem {
         WeightElement_[el][Qb_] = 0.0;
       }
 
-      Qi = new double[numberOfLibertyDegree_];
-      Qj = new double[numberOfLibertyDegree_];
-      pi = new double[numberOfLibertyDegree_];
-      pj = new double[numberOfLibertyDegree_];
+      Arrays.fill(Qi, 0.0);
+      Arrays.fill(Qj, 0.0);
+      Arrays.fill(pi, 0.0);
+      Arrays.fill(pj, 0.0);
 
       EBEsWeightDistributedUniformly(el, WeightElement_[el]);
 
@@ -1459,47 +1597,52 @@ public class Ebes extends AbstractDoubleProblem {
   public void EBEsCalculus() throws JMetalException{
     //  Module de calc
 
+    // the arrays of the previous evaluation are reused if they exist (see EBEsZeros)
+
     // Effort in boundary element
-    Efforti_ = new double[numberOfLibertyDegree_][numberOfElements_][numberOfWeigthHypothesis_];
-    Effortj_ = new double[numberOfLibertyDegree_][numberOfElements_][numberOfWeigthHypothesis_];
+    Efforti_ = EBEsZeros(Efforti_, numberOfLibertyDegree_, numberOfElements_, numberOfWeigthHypothesis_);
+    Effortj_ = EBEsZeros(Effortj_, numberOfLibertyDegree_, numberOfElements_, numberOfWeigthHypothesis_);
 
     // corrimientos y rotaciones de los nudos por hipÃƒÂ³tesis de cargas
-    DisplacementNodes_= new double[numberOfLibertyDegree_* numberOfNodes][numberOfWeigthHypothesis_];
+    DisplacementNodes_= EBEsZeros(DisplacementNodes_, numberOfLibertyDegree_* numberOfNodes, numberOfWeigthHypothesis_);
 
     // Strain in extrem i por hipÃƒÂ³tesis de cargas
-    Straini_ = new double[3][numberOfElements_][numberOfWeigthHypothesis_];
+    // (computed by EBEsStrainNode)
     // Strain in extrem j  por hipÃƒÂ³tesis de cargas
-    Strainj_ = new double[3][numberOfElements_][numberOfWeigthHypothesis_];
+    // (computed by EBEsStrainNode)
     // Strain minimun por hipÃƒÂ³tesis de cargas
     // StrainMin_ = new double[2][numberOfElements_][numberOfWeigthHypothesis_];
+    // the strains of the previous evaluation are kept, and the ones of the evaluation before it are overwritten
+    double [][] strainMin = OldStrainMin_;
     OldStrainMin_ = StrainMin_;
-    StrainMin_ = new double[numberOfGroupElements_][numberOfWeigthHypothesis_];
+    StrainMin_ = EBEsZeros(strainMin, numberOfGroupElements_, numberOfWeigthHypothesis_);
     // Strain maximus  por hipÃƒÂ³tesis de cargas
     // StrainMax_ = new double[2][numberOfElements_][numberOfWeigthHypothesis_];
+    double [][] strainMax = OldStrainMax_;
     OldStrainMax_ = StrainMax_;
-    StrainMax_ = new double[numberOfGroupElements_][numberOfWeigthHypothesis_];
+    StrainMax_ = EBEsZeros(strainMax, numberOfGroupElements_, numberOfWeigthHypothesis_);
     // stress tangencial mamimun
-    StrainCutMax_ = new double[numberOfGroupElements_][numberOfWeigthHypothesis_];
+    StrainCutMax_ = EBEsZeros(StrainCutMax_, numberOfGroupElements_, numberOfWeigthHypothesis_);
     // Negative Strain residual  por hipÃƒÂ³tesis de cargas
-    StrainResidualMin_ = new double[numberOfWeigthHypothesis_];
+    StrainResidualMin_ = EBEsZeros(StrainResidualMin_, numberOfWeigthHypothesis_);
     // Positive Strain residual  por hipÃƒÂ³tesis de cargas
-    StrainResidualMax_ = new double[numberOfWeigthHypothesis_];
+    StrainResidualMax_ = EBEsZeros(StrainResidualMax_, numberOfWeigthHypothesis_);
     // Cut Strain residual  por hipÃƒÂ³tesis de cargas
-    StrainResidualCut_ = new double[numberOfWeigthHypothesis_];
+    StrainResidualCut_ = EBEsZeros(StrainResidualCut_, numberOfWeigthHypothesis_);
 
-    MatrixStiffness_ = new double [numberOfLibertyDegree_* numberOfLibertyDegree_* numberOfNodes *(elementsBetweenDiffGreat_+1)];
+    MatrixStiffness_ = EBEsZeros(MatrixStiffness_, numberOfLibertyDegree_* numberOfLibertyDegree_* numberOfNodes *(elementsBetweenDiffGreat_+1));
 
     // load inself witch element
-    WeightElement_ = new double[numberOfElements_][8];
+    WeightElement_ = EBEsZeros(WeightElement_, numberOfElements_, 8);
 
     //variables load in extrem of beams
-    cbi= new double [numberOfLibertyDegree_][numberOfElements_][numberOfWeigthHypothesis_];
-    cbj= new double [numberOfLibertyDegree_][numberOfElements_][numberOfWeigthHypothesis_];
+    cbi= EBEsZeros(cbi, numberOfLibertyDegree_, numberOfElements_, numberOfWeigthHypothesis_);
+    cbj= EBEsZeros(cbj, numberOfLibertyDegree_, numberOfElements_, numberOfWeigthHypothesis_);
 
     // total equivalent load nodes in all structure witch load on elements and load nodes
-    PQ= new double [numberOfLibertyDegree_* numberOfNodes][numberOfWeigthHypothesis_];
+    PQ= EBEsZeros(PQ, numberOfLibertyDegree_* numberOfNodes, numberOfWeigthHypothesis_);
 
-    Reaction_= new double [numberOfLibertyDegree_* numberOfNodes][numberOfWeigthHypothesis_];
+    Reaction_= EBEsZeros(Reaction_, numberOfLibertyDegree_* numberOfNodes, numberOfWeigthHypothesis_);
 
     EBEsWeightNodes();
 
@@ -1579,10 +1722,49 @@ public class Ebes extends AbstractDoubleProblem {
 
   } // end EBEsCalculus
 
+  /**
+   * Returns an array of the given length filled with zeros: the array passed if it has that
+   * length, or a new one otherwise
+   */
+  public static double [] EBEsZeros(double [] v, int length){
+    if(v == null || v.length != length){
+      return new double[length];
+    }
+    Arrays.fill(v, 0.0);
+
+    return v;
+  }
+
+  /** Same as {@link #EBEsZeros(double[], int)} for matrices */
+  public static double [][] EBEsZeros(double [][] m, int rows, int columns){
+    if(m == null || m.length != rows || (rows > 0 && m[0].length != columns)){
+      return new double[rows][columns];
+    }
+    for(double [] row : m){
+      Arrays.fill(row, 0.0);
+    }
+
+    return m;
+  }
+
+  /** Same as {@link #EBEsZeros(double[], int)} for three-dimensional arrays */
+  public static double [][][] EBEsZeros(double [][][] m, int rows, int columns, int depth){
+    if(m == null || m.length != rows || (rows > 0 && (m[0].length != columns || (columns > 0 && m[0][0].length != depth)))){
+      return new double[rows][columns][depth];
+    }
+    for(double [][] matrix : m){
+      for(double [] row : matrix){
+        Arrays.fill(row, 0.0);
+      }
+    }
+
+    return m;
+  }
+
   public void EBEsAssignAxialForces(int hi){
 
-    AxialForcei_ = new double[numberOfElements_];
-    AxialForcej_ = new double[numberOfElements_];
+    AxialForcei_ = EBEsZeros(AxialForcei_, numberOfElements_);
+    AxialForcej_ = EBEsZeros(AxialForcej_, numberOfElements_);
 
     for(int el=0;el<numberOfElements_;el++){
       AxialForcei_[el] = Efforti_[aX_][el][hi];
@@ -1772,10 +1954,10 @@ public class Ebes extends AbstractDoubleProblem {
     //bucle para todas las barras cargadas
     for(int i = 0; i< numberOfWeigthsElements_;i++){
 
-      Qi = new double[numberOfLibertyDegree_];
-      Qj = new double[numberOfLibertyDegree_];
-      pi = new double[numberOfLibertyDegree_];
-      pj = new double[numberOfLibertyDegree_];
+      Arrays.fill(Qi, 0.0);
+      Arrays.fill(Qj, 0.0);
+      Arrays.fill(pi, 0.0);
+      Arrays.fill(pj, 0.0);
       //int hi = (int)OverloadInElement_[nQ][QH_];
       // load element
       int el = (int)OverloadInElement_[i][QE_];
@@ -2203,7 +2385,7 @@ public class Ebes extends AbstractDoubleProblem {
     Rpij[5][3] = lz; Rpij[5][4] = mz; Rpij[5][5] = nz;
 
     //trasponer la matriz de rotaciÃƒÂ³n
-    RpTij = EBEsMatrizTraspuesta(Rpij);
+    EBEsMatrizTraspuesta(Rpij, RpTij);
 
     //para el nudo j de la barra ij
     lx = 1.0;
@@ -2236,15 +2418,25 @@ public class Ebes extends AbstractDoubleProblem {
     Rpji[5][3] = lz; Rpji[5][4] = mz; Rpji[5][5] = nz;
 
     //trasponer la matriz de rotaciÃƒÂ³n
-    RpTji = EBEsMatrizTraspuesta(Rpji);
+    EBEsMatrizTraspuesta(Rpji, RpTji);
 
   }
 
   public double [][]EBEsMatrizTraspuesta(double m[][]){
 
+    double[][] mt = new double [m.length][m[0].length];
+    EBEsMatrizTraspuesta(m, mt);
+
+    return mt;
+  }
+
+  /**
+   * Transposes a square matrix into another one, which must be a different array
+   */
+  public void EBEsMatrizTraspuesta(double m[][], double mt[][]){
+
     int row=m.length;
     int col=m[0].length;
-    double[][] mt = new double [row][col];
 
     for(int i = 0; i< row; i++){
       // cantidad de elementos de la 1ra dimensiÃƒÂ³n
@@ -2254,11 +2446,35 @@ public class Ebes extends AbstractDoubleProblem {
       }
     }
 
-    return mt;
   }
 
   public void EBEsEcuationSolution(int hi) throws JMetalException{
 
+    // the column of the load hypothesis is solved in a contiguous vector
+    int n2 = numberOfLibertyDegree_ * numberOfNodes;
+    EcuationVector_ = EBEsZeros(EcuationVector_, n2);
+    for(int i=0; i<n2; i++){
+      EcuationVector_[i] = DisplacementNodes_[i][hi];
+    }
+
+    EBEsEcuationSolution(MatrixStiffness_, matrixWidthBand_, EcuationVector_, n2);
+
+    for(int i=0; i<n2; i++){
+      DisplacementNodes_[i][hi] = EcuationVector_[i];
+    }
+  }
+
+  /**
+   * Solves the system of equations of a symmetric band matrix. Only the primitive arrays passed are
+   * used, and no memory is allocated
+   * @param m Upper band of the matrix, stored by rows (widthBand elements per row starting at the
+   *          diagonal). It is overwritten by the triangular matrix
+   * @param widthBand Width of the band
+   * @param v Independent terms, which are replaced by the solution
+   * @param n2 Number of equations
+   */
+  public static void EBEsEcuationSolution(double [] m, int widthBand, double [] v, int n2){
+
     // Formacion del sistema de ecuaciones
     // adaptive method of book
     // LA ESTRUCTURA METÃƒï¿½LICA HOY
@@ -2268,42 +2484,39 @@ public class Ebes extends AbstractDoubleProblem {
     int i, j;
     int s1 = 1;
     int s2, l5, l6, ln, r;
-    double det = 1.0;
     double ff=0.0, t;
 
-    int n2 = numberOfLibertyDegree_ * numberOfNodes;
-
     for(i=1; i<n2 ;i++){
-      if(MatrixStiffness_[s1 - 1] >= 1.0E+25){
-        s1 = s1 + matrixWidthBand_;
+      if(m[s1 - 1] >= 1.0E+25){
+        s1 = s1 + widthBand;
         continue;  // Salto1:
       }
       ln = i + 1;
       l5 = s1 + 1;
-      for(j=2; j<matrixWidthBand_+1; j++){
+      for(j=2; j<widthBand+1; j++){
         if(ln - n2 > 0){
           break; // Salto2:
         }
-        if(MatrixStiffness_[s1 - 1] == 0){
+        if(m[s1 - 1] == 0){
           ln = ln + 1;
           l5 = l5 + 1;
           continue; // Salto3;
         }
-        t = MatrixStiffness_[l5 - 1] / MatrixStiffness_[s1 - 1];
-        l6 = (ln - 1) * matrixWidthBand_ + 1;
+        t = m[l5 - 1] / m[s1 - 1];
+        l6 = (ln - 1) * widthBand + 1;
         s2 = s1 + j - 1;
-        for(r = j; r<matrixWidthBand_+1; r++){
-          MatrixStiffness_[l6 - 1] = MatrixStiffness_[l6 - 1] - t * MatrixStiffness_[s2 - 1];
+        for(r = j; r<widthBand+1; r++){
+          m[l6 - 1] = m[l6 - 1] - t * m[s2 - 1];
           l6 = l6 + 1;
           s2 = s2 + 1;
         } // next r
-        DisplacementNodes_[ln - 1][hi] = DisplacementNodes_[ln - 1][hi] - t * DisplacementNodes_[i - 1][hi];
+        v[ln - 1] = v[ln - 1] - t * v[i - 1];
         ln = ln + 1;
         l5 = l5 + 1;
         // Salto3:
       } // next j
       // Salto2:
-      s1 = s1 + matrixWidthBand_;
+      s1 = s1 + widthBand;
       //Salto1:
     } // next i
 
@@ -2315,26 +2528,23 @@ public class Ebes extends AbstractDoubleProblem {
 
       ln = i + 1;
       l5 = s1 + 1;
-      for(j = 2; j<matrixWidthBand_+1; j++){
+      for(j = 2; j<widthBand+1; j++){
         if(ln - n2 > 0){
           break; // Salto4:
         }
-        ff = ff + DisplacementNodes_[ln-1][hi] * MatrixStiffness_[l5-1];
+        ff = ff + v[ln-1] * m[l5-1];
         ln = ln + 1;
         l5 = l5 + 1;
       } // Next j
       // Salto4:
-      if(Math.abs(MatrixStiffness_[s1-1])<=1.0E-35){
-        DisplacementNodes_[i-1][hi]=1.0E-35;
+      if(Math.abs(m[s1-1])<=1.0E-35){
+        v[i-1]=1.0E-35;
       }
       else{
-        DisplacementNodes_[i-1][hi]=(DisplacementNodes_[i-1][hi]-ff)/MatrixStiffness_[s1 - 1];
+        v[i-1]=(v[i-1]-ff)/m[s1 - 1];
       }
 
-      if(MatrixStiffness_[s1 - 1] < 9.899999E+15){
-        det = det * MatrixStiffness_[s1 - 1] / 100000.0;
-      }
-      s1 = s1 - matrixWidthBand_;
+      s1 = s1 - widthBand;
     } // Next s3
 
 
@@ -3285,7 +3495,7 @@ public class Ebes extends AbstractDoubleProblem {
     Rij[5][3] = lz; Rij[5][4] = mz; Rij[5][5] = nz;
 
     // trasponer la matriz de rotaciÃƒÂ³n
-    RTij = EBEsMatrizTraspuesta(Rij);
+    EBEsMatrizTraspuesta(Rij, RTij);
 
     // matriz de rotaciÃƒÂ³n de desplazamientos locales a ejes globales XYZ si los ejes principales de la
     // secciÃƒÂ³n "yp,zp" coinciden con los ejes locales "y,z" de la barra
@@ -3308,44 +3518,42 @@ public class Ebes extends AbstractDoubleProblem {
     Rji[5][3]= lz; Rji[5][4]= mz; Rji[5][5]= nz;
 
     // trasponer la matriz de rotaciÃƒÂ³n
-    RTji=EBEsMatrizTraspuesta(Rji);
+    EBEsMatrizTraspuesta(Rji, RTji);
 
   }
 
   public void EBEsMat3DGij() throws JMetalException{
     // CONSTRUYE LA MATRIZ DE RIGIDEZ DE UNA BARRA EN COORDENADAS GLOBALES
 
-    double [][]r=new double[numberOfLibertyDegree_][numberOfLibertyDegree_];
-    double [][]s=new double[numberOfLibertyDegree_][numberOfLibertyDegree_];
-    double [][]t=new double[numberOfLibertyDegree_][numberOfLibertyDegree_];
+    // the products are computed in the auxiliary matrices Ar, As and At
 
     // para el extremo ii
     // KGii = RTij * RpTij * KjjSOGSOGSOG * Rpij * Rij
-    r=EBEsMatrizMultiplicar(Rpij, Rij);
-    s=EBEsMatrizMultiplicar(Kii, r);
-    t=EBEsMatrizMultiplicar(RpTij, s);
-    KGii=EBEsMatrizMultiplicar(RTij, t);
+    EBEsMatrizMultiplicar(Rpij, Rij, Ar);
+    EBEsMatrizMultiplicar(Kii, Ar, As);
+    EBEsMatrizMultiplicar(RpTij, As, At);
+    EBEsMatrizMultiplicar(RTij, At, KGii);
 
     // para el extremo ij
     // KGij = RTij * RpTij * Kij * Rpji * Rji
-    r=EBEsMatrizMultiplicar(Rpji, Rji);
-    s=EBEsMatrizMultiplicar(Kij, r);
-    t=EBEsMatrizMultiplicar(RpTij, s);
-    KGij=EBEsMatrizMultiplicar(RTij, t);
+    EBEsMatrizMultiplicar(Rpji, Rji, Ar);
+    EBEsMatrizMultiplicar(Kij, Ar, As);
+    EBEsMatrizMultiplicar(RpTij, As, At);
+    EBEsMatrizMultiplicar(RTij, At, KGij);
 
     // para el extremo ji
     // KGji = RTji * RpTji * Kji * Rpij * Rij
-    r=EBEsMatrizMultiplicar(Rpij, Rij);
-    s=EBEsMatrizMultiplicar(Kji, r);
-    t=EBEsMatrizMultiplicar(RpTji, s);
-    KGji=EBEsMatrizMultiplicar(RTji, t);
+    EBEsMatrizMultiplicar(Rpij, Rij, Ar);
+    EBEsMatrizMultiplicar(Kji, Ar, As);
+    EBEsMatrizMultiplicar(RpTji, As, At);
+    EBEsMatrizMultiplicar(RTji, At, KGji);
 
     // para el extremo jj
     // KGjj = RTji * RpTji * Kjj* Rpji * Rji
-    r=EBEsMatrizMultiplicar(Rpji, Rji);
-    s=EBEsMatrizMultiplicar(Kjj, r);
-    t=EBEsMatrizMultiplicar(RpTji, s);
-    KGjj=EBEsMatrizMultiplicar(RTji, t);
+    EBEsMatrizMultiplicar(Rpji, Rji, Ar);
+    EBEsMatrizMultiplicar(Kjj, Ar, As);
+    EBEsMatrizMultiplicar(RpTji, As, At);
+    EBEsMatrizMultiplicar(RTji, At, KGjj);
 
   } // end module
 
@@ -3502,8 +3710,19 @@ public class Ebes extends AbstractDoubleProblem {
 
   public double [][]EBEsMatrizMultiplicar(double [][]s, double[][]t) throws JMetalException{
 
-    int f, c, q;
     double [][]r = new double [s.length][t[0].length];
+    EBEsMatrizMultiplicar(s, t, r);
+
+    return r;
+
+  } // end module
+
+  /**
+   * Multiplies two matrices into a third one, which must be a different array
+   */
+  public void EBEsMatrizMultiplicar(double [][]s, double[][]t, double [][]r) throws JMetalException{
+
+    int f, c, q;
 
     for(f=0; f<s.length; f++){ // cantidad de elementos de la 1ra dimensiÃƒÂ³n
       for(c=0; c<s[f].length; c++){ //cantidad de elementos de la 2ra dimensiÃƒÂ³n
@@ -3514,8 +3733,6 @@ public class Ebes extends AbstractDoubleProblem {
       } // Next c
     } // Next f
 
-    return r;
-
   } // end module
 
   public double [][]EBEsMatrixAdd(double [][]s, double[][]t) throws JMetalException{
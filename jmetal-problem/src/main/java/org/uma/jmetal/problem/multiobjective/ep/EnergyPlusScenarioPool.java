@@ -0,0 +1,146 @@
+package org.uma.jmetal.problem.multiobjective.ep;
+
+import jp.ohtayo.building.energyplus.EnergyPlusObjectives;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.JMetalLogger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Pool of threads running the EnergyPlus simulations of the scenarios of a solution (e.g. the
+ * weather forecast without error and with upward and downward errors in the regret-based problems).
+ * The scenarios of a solution are submitted as independent tasks and the results are combined when
+ * all of them have finished, so the evaluation of a solution takes as long as its slowest scenario
+ * instead of the sum of all of them.
+ *
+ * The shared pool ({@link #getSharedPool()}) is used by all the problems and by all the threads of
+ * the solution list evaluator: its threads run the pending scenarios of any solution in the order
+ * they are submitted, so the threads freed by the finished scenarios of a solution simulate the
+ * scenarios of the other solutions. Its number of threads, i.e. of simultaneous simulations, is
+ * given by the system property jmetal.energyplus.threads (the number of processors by default).
+ *
+ * The threads of the pool are named as the ones of the thread pools of Java (pool-N-thread-M), so
+ * each simultaneous simulation runs in a thread with a different name, as it does in the solution
+ * list evaluators.
+ *
+ * @author ohtayo (ohta.yoshihiro@outlook.jp)
+ */
+public class EnergyPlusScenarioPool {
+  public static final String THREADS_PROPERTY = "jmetal.energyplus.threads" ;
+
+  private static EnergyPlusScenarioPool sharedPool ;
+
+  private final int numberOfThreads ;
+  private final ExecutorService executor ;
+
+  /**
+   * Constructor
+   * @param numberOfThreads Maximum number of simultaneous simulations
+   */
+  public EnergyPlusScenarioPool(int numberOfThreads) {
+    if (numberOfThreads < 1) {
+      throw new JMetalException("The number of threads must be positive: " + numberOfThreads) ;
+    }
+    this.numberOfThreads = numberOfThreads ;
+
+    ThreadFactory defaultThreadFactory = Executors.defaultThreadFactory() ;
+    this.executor = Executors.newFixedThreadPool(numberOfThreads, runnable -> {
+      Thread thread = defaultThreadFactory.newThread(runnable) ;
+      thread.setDaemon(true);
+      return thread ;
+    }) ;
+  }
+
+  /**
+   * @return The pool shared by all the problems, which is created the first time it is requested
+   */
+  public static synchronized EnergyPlusScenarioPool getSharedPool() {
+    if (sharedPool == null) {
+      int numberOfThreads = Integer.getInteger(THREADS_PROPERTY, Runtime.getRuntime().availableProcessors()) ;
+      JMetalLogger.logger.info("Number of simultaneous EnergyPlus simulations: " + numberOfThreads);
+      sharedPool = new EnergyPlusScenarioPool(numberOfThreads) ;
+    }
+
+    return sharedPool ;
+  }
+
+  public int getNumberOfThreads() {
+    return numberOfThreads ;
+  }
+
+  /**
+   * Simulates a setpoint schedule in several scenarios
+   * @param variables Setpoint temperature schedule
+   * @param xmlFiles Configuration file of each scenario
+   * @return The result of each scenario, in the same order as the files
+   */
+  public EnergyPlusObjectives[] simulate(double[] variables, String... xmlFiles) {
+    List<Callable<EnergyPlusObjectives>> scenarios = new ArrayList<>(xmlFiles.length) ;
+    for (String xmlFile : xmlFiles) {
+      scenarios.add(() -> new EnergyPlusObjectives(variables).setXmlFile(xmlFile).calculate()) ;
+    }
+
+    return evaluate(scenarios).toArray(new EnergyPlusObjectives[xmlFiles.length]) ;
+  }
+
+  /**
+   * Runs the scenarios in the pool and waits until all of them have finished. If a scenario
+   * fails, the pending ones are cancelled and the exception is thrown
+   * @return The result of each scenario, in the same order as the list
+   */
+  public <T> List<T> evaluate(List<? extends Callable<T>> scenarios) {
+    List<Future<T>> futures = new ArrayList<>(scenarios.size()) ;
+    for (Callable<T> scenario : scenarios) {
+      futures.add(executor.submit(scenario)) ;
+    }
+
+    List<T> results = new ArrayList<>(scenarios.size()) ;
+    try {
+      for (Future<T> future : futures) {
+        results.add(future.get()) ;
+      }
+    } catch (InterruptedException e) {
+      cancel(futures) ;
+      Thread.currentThread().interrupt();
+      throw new JMetalException("Interrupted while waiting for the simulations", e) ;
+    } catch (ExecutionException e) {
+      cancel(futures) ;
+      Throwable cause = e.getCause() ;
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause ;
+      } else if (cause instanceof Error) {
+        throw (Error) cause ;
+      } else {
+        throw new JMetalException("Error simulating a scenario", (Exception) cause) ;
+      }
+    }
+
+    return results ;
+  }
+
+  /**
+   * Waits until the running simulations finish and releases the threads. The shared pool cannot be
+   * shut down
+   */
+  public void shutdown() {
+    synchronized (EnergyPlusScenarioPool.class) {
+      if (this == sharedPool) {
+        throw new JMetalException("The shared pool cannot be shut down") ;
+      }
+    }
+    executor.shutdown();
+  }
+
+  private void cancel(List<? extends Future<?>> futures) {
+    for (Future<?> future : futures) {
+      future.cancel(false) ;
+    }
+  }
+}
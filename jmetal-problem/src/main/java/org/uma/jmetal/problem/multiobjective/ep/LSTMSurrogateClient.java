@@ -0,0 +1,250 @@
+package org.uma.jmetal.problem.multiobjective.ep;
+
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.JMetalLogger;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.DatagramChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * UDP client of the LSTM surrogate evaluator. A single {@link DatagramChannel} per local port is
+ * shared by all the problems (and threads) of the process, so many requests can be in flight at
+ * the same time: every request carries an id, and a receiver thread matches the replies to the
+ * waiting requests. A request without reply after timeout milliseconds is sent again, up to
+ * maxAttempts times. The timeout and the number of attempts are given in each call, so problems
+ * sharing the client can use different settings.
+ *
+ * Messages are encoded in binary form (big endian):
+ * - request: long id, int n, n doubles (the setpoint temperature schedule)
+ * - reply: long id, int m, m doubles (PMV, power consumption and PMV exceedance)
+ * The server must send the reply to the address the request comes from.
+ *
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+public class LSTMSurrogateClient {
+  public static final long DEFAULT_TIMEOUT = 10000 ;
+  public static final int DEFAULT_MAX_ATTEMPTS = 3 ;
+  private static final int MAX_PACKET_SIZE = 65507 ;
+
+  private static final Map<Integer, LSTMSurrogateClient> clients = new ConcurrentHashMap<>() ;
+
+  private final DatagramChannel channel ;
+  private final Map<Long, CompletableFuture<double[]>> pendingRequests = new ConcurrentHashMap<>() ;
+  private final AtomicLong requestCounter = new AtomicLong() ;
+
+  /**
+   * Returns the client bound to a local port, creating it the first time
+   * @param localPort Port the replies are received on; 0 to use any free port
+   */
+  public static LSTMSurrogateClient getInstance(int localPort) {
+    return clients.computeIfAbsent(localPort, LSTMSurrogateClient::new) ;
+  }
+
+  private LSTMSurrogateClient(int localPort) {
+    try {
+      channel = DatagramChannel.open() ;
+      channel.bind(new InetSocketAddress(localPort)) ;
+    } catch (IOException e) {
+      throw new JMetalException("Unable to open the UDP channel on port " + localPort, e) ;
+    }
+
+    Thread receiver = new Thread(this::receiveReplies, "LSTMSurrogateClient-" + localPort) ;
+    receiver.setDaemon(true);
+    receiver.start();
+  }
+
+  /**
+   * Sends the data to a server and waits for its reply, with the default timeout and attempts
+   * @param server Address of the surrogate server
+   * @param data Values to send
+   * @return The values replied by the server
+   */
+  public double[] evaluate(InetSocketAddress server, double[] data) {
+    return evaluate(server, data, DEFAULT_TIMEOUT, DEFAULT_MAX_ATTEMPTS) ;
+  }
+
+  /**
+   * Sends the data to a server and waits for its reply
+   * @param server Address of the surrogate server
+   * @param data Values to send
+   * @param timeout Milliseconds to wait for a reply before sending the request again
+   * @param maxAttempts Maximum number of times the request is sent
+   * @return The values replied by the server
+   */
+  public double[] evaluate(InetSocketAddress server, double[] data, long timeout, int maxAttempts) {
+    checkTimeout(timeout, maxAttempts);
+    return await(send(server, data), timeout, maxAttempts) ;
+  }
+
+  /**
+   * Sends the data to several servers and then waits for all the replies, with the default
+   * timeout and attempts
+   * @param servers Addresses of the surrogate servers
+   * @param data Values to send
+   * @return The values replied by each server, in the order of the servers
+   */
+  public List<double[]> evaluate(List<InetSocketAddress> servers, double[] data) {
+    return evaluate(servers, data, DEFAULT_TIMEOUT, DEFAULT_MAX_ATTEMPTS) ;
+  }
+
+  /**
+   * Sends the data to several servers and then waits for all the replies, so the servers work
+   * concurrently
+   * @param servers Addresses of the surrogate servers
+   * @param data Values to send
+   * @param timeout Milliseconds to wait for a reply before sending a request again
+   * @param maxAttempts Maximum number of times each request is sent
+   * @return The values replied by each server, in the order of the servers
+   */
+  public List<double[]> evaluate(List<InetSocketAddress> servers, double[] data, long timeout, int maxAttempts) {
+    checkTimeout(timeout, maxAttempts);
+    List<Request> requests = new ArrayList<>(servers.size()) ;
+    for (InetSocketAddress server : servers) {
+      requests.add(send(server, data)) ;
+    }
+
+    List<double[]> replies = new ArrayList<>(servers.size()) ;
+    for (Request request : requests) {
+      replies.add(await(request, timeout, maxAttempts)) ;
+    }
+
+    return replies ;
+  }
+
+  /**
+   * Checks the timeout settings of a problem using the client
+   * @param timeout Milliseconds to wait for a reply before sending a request again
+   * @param maxAttempts Maximum number of times a request is sent
+   */
+  public static void checkTimeout(long timeout, int maxAttempts) {
+    if (timeout <= 0) {
+      throw new JMetalException("The timeout must be positive: " + timeout) ;
+    } else if (maxAttempts < 1) {
+      throw new JMetalException("The maximum number of attempts must be at least 1: " + maxAttempts) ;
+    }
+  }
+
+  /**
+   * @return The number of requests waiting for a reply
+   */
+  public int getNumberOfPendingRequests() {
+    return pendingRequests.size() ;
+  }
+
+  private Request send(InetSocketAddress server, double[] data) {
+    Request request = new Request(requestCounter.incrementAndGet(), server, data) ;
+    pendingRequests.put(request.id, request.reply) ;
+    transmit(request);
+
+    return request ;
+  }
+
+  private double[] await(Request request, long timeout, int maxAttempts) {
+    try {
+      while (true) {
+        try {
+          return request.reply.get(timeout, TimeUnit.MILLISECONDS) ;
+        } catch (TimeoutException e) {
+          if (request.attempts >= maxAttempts) {
+            throw new JMetalException("No reply from " + request.server + " to request " + request.id
+                + " after " + request.attempts + " attempts") ;
+          }
+          JMetalLogger.logger.warning("No reply from " + request.server + " to request " + request.id
+              + "; sending it again");
+          transmit(request);
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new JMetalException("Interrupted while waiting for the surrogate evaluator", e) ;
+    } catch (ExecutionException e) {
+      throw new JMetalException("Error receiving the reply to request " + request.id, e) ;
+    } finally {
+      pendingRequests.remove(request.id) ;
+    }
+  }
+
+  private void transmit(Request request) {
+    request.attempts++ ;
+    ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES + Integer.BYTES + request.data.length * Double.BYTES) ;
+    buffer.putLong(request.id) ;
+    buffer.putInt(request.data.length) ;
+    for (double value : request.data) {
+      buffer.putDouble(value) ;
+    }
+    buffer.flip() ;
+
+    try {
+      channel.send(buffer, request.server) ;
+    } catch (IOException e) {
+      // A lost datagram is handled as a timeout
+      JMetalLogger.logger.warning("Unable to send request " + request.id + " to " + request.server
+          + ": " + e.getMessage());
+    }
+  }
+
+  private void receiveReplies() {
+    ByteBuffer buffer = ByteBuffer.allocate(MAX_PACKET_SIZE) ;
+    while (true) {
+      try {
+        buffer.clear() ;
+        SocketAddress sender = channel.receive(buffer) ;
+        buffer.flip() ;
+        if (buffer.remaining() < Long.BYTES + Integer.BYTES) {
+          JMetalLogger.logger.warning("Malformed reply received from " + sender);
+          continue ;
+        }
+
+        long id = buffer.getLong() ;
+        int length = buffer.getInt() ;
+        if ((length < 0) || (buffer.remaining() < length * Double.BYTES)) {
+          JMetalLogger.logger.warning("Malformed reply to request " + id + " received from " + sender);
+          continue ;
+        }
+        double[] reply = new double[length] ;
+        for (int i = 0; i < length; i++) {
+          reply[i] = buffer.getDouble() ;
+        }
+
+        CompletableFuture<double[]> future = pendingRequests.get(id) ;
+        if (future != null) {
+          future.complete(reply) ;
+        }
+      } catch (ClosedChannelException e) {
+        return ;
+      } catch (IOException e) {
+        JMetalLogger.logger.warning("Error receiving a reply: " + e.getMessage());
+      }
+    }
+  }
+
+  /** Request sent to a server */
+  private static class Request {
+    private final long id ;
+    private final InetSocketAddress server ;
+    private final double[] data ;
+    private final CompletableFuture<double[]> reply ;
+    private int attempts ;
+
+    Request(long id, InetSocketAddress server, double[] data) {
+      this.id = id ;
+      this.server = server ;
+      this.data = data ;
+      this.reply = new CompletableFuture<>() ;
+      this.attempts = 0 ;
+    }
+  }
+}
@@ -14,12 +14,8 @@ import org.uma.jmetal.util.solutionattribute.impl.OverallConstraintViolation;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.net.DatagramPacket;
-import java.net.DatagramSocket;
 import java.net.InetSocketAddress;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Properties;
 
@@ -45,6 +41,10 @@ public class ZEBRefModelLSTMVarDiff2ObjConPMVUDP extends AbstractDoubleProblem {
   private Integer receivePort;
   private Integer sendPort;
   private String address;
+  private InetSocketAddress server;
+  private long timeout;
+  private int maxAttempts;
+  private transient volatile LSTMSurrogateClient client;
   /**
    * Constructor.
    */
@@ -88,6 +88,11 @@ public class ZEBRefModelLSTMVarDiff2ObjConPMVUDP extends AbstractDoubleProblem {
       receivePort = Integer.valueOf(properties.getProperty("receivePort"));
       sendPort = Integer.valueOf(properties.getProperty("sendPort"));
       address = properties.getProperty("address");
+      server = new InetSocketAddress(address, sendPort);
+      timeout = Long.valueOf(properties.getProperty("timeout", "" + LSTMSurrogateClient.DEFAULT_TIMEOUT));
+      maxAttempts = Integer.valueOf(properties.getProperty("maxAttempts", "" + LSTMSurrogateClient.DEFAULT_MAX_ATTEMPTS));
+      LSTMSurrogateClient.checkTimeout(timeout, maxAttempts);
+      client = getClient();
     } catch (FileNotFoundException e){
       e.printStackTrace();
     } catch (IOException e) {
@@ -95,6 +100,14 @@ public class ZEBRefModelLSTMVarDiff2ObjConPMVUDP extends AbstractDoubleProblem {
     }
   }
 
+  // クライアントはシリアライズされないため，デシリアライズ後は最初の評価時に再取得する
+  private LSTMSurrogateClient getClient() {
+    if (client == null) {
+      client = LSTMSurrogateClient.getInstance(receivePort);
+    }
+    return client;
+  }
+
   @Override
   public void evaluate(DoubleSolution solution)  {
     // 設定温度スケジュールデータ作成
@@ -102,38 +115,13 @@ public class ZEBRefModelLSTMVarDiff2ObjConPMVUDP extends AbstractDoubleProblem {
     double[] variables = new double[variablesList.size()];
     for (int i = 0; i < variablesList.size(); i++)  variables[i] = variablesList.get(i);
     double[] temperature = EnergyPlusObjectives.variableToTemperatureSettingUsingDifference(variables, 25, 6,25);
-    String sendData = "";
-    String receivedData = "";
-    for(double temp : temperature) sendData+= temp +",";
-    try {
-      // 受信の準備
-      DatagramSocket socketReceive = new DatagramSocket(receivePort);//UDP受信用ソケット構築
-      byte[] dataReceive = new byte[1024];//受信最大バッファ
-      DatagramPacket packetReceive = new DatagramPacket(dataReceive, dataReceive.length);//受信用パケットを構築
-
-      // 設定温度スケジュールの送信
-      byte[] dataSend = sendData.getBytes(StandardCharsets.UTF_8);//UTF-8バイト配列の作成
-      DatagramSocket socketSend = new DatagramSocket();//UDP送信用ソケットの構築
-      DatagramPacket packetSend = new DatagramPacket(dataSend, dataSend.length, new InetSocketAddress(address, sendPort));//指定アドレス、ポートへ送信するパケットを構築
-      socketSend.send(packetSend);//パケットの送信
-      //System.out.println("UDP送信:" + sendData);  // for debug
-
-      // 目的関数値と制約値の受信
-      socketReceive.receive(packetReceive);
-      receivedData = new String(Arrays.copyOf(packetReceive.getData(),packetReceive.getLength()), StandardCharsets.UTF_8);
-      System.out.println("UDP受信:"+receivedData);//受信データの表示
-      socketReceive.close();//ソケットのクローズ
-      socketSend.close();//ソケットのクローズ
-    }catch(IOException e){
-      e.printStackTrace();
-    }
+    double[] result = getClient().evaluate(server, temperature, timeout, maxAttempts);
 
     double[] fitness = new double[getNumberOfObjectives()];
     double[] constraints = new double[getNumberOfConstraints()];
-    String[] result = receivedData.split(",");
-    fitness[0] = Double.valueOf(result[0]);  // 対象時刻の中間階PMVを取得して平均の絶対値とる
-    fitness[1] = Double.valueOf(result[1]); // 3列目(消費電力)データを取得して合計値を取る．6回に1回間引かれているので6倍する．
-    constraints[0] = Double.valueOf(result[2]); //対象時刻の中間階PMVが±0.5をはみ出ている回数を積算する
+    fitness[0] = result[0];  // 対象時刻の中間階PMVを取得して平均の絶対値とる
+    fitness[1] = result[1]; // 3列目(消費電力)データを取得して合計値を取る．6回に1回間引かれているので6倍する．
+    constraints[0] = result[2]; //対象時刻の中間階PMVが±0.5をはみ出ている回数を積算する
 
     // Normalize objective values
     double[] normalizedFitness = new double[getNumberOfObjectives()];
@@ -146,7 +134,7 @@ public class ZEBRefModelLSTMVarDiff2ObjConPMVUDP extends AbstractDoubleProblem {
       solution.setObjective(o, normalizedFitness[o]);
     }
     constraintViolation = constraints;
-    this.evaluateConstraints(solution);
+    this.evaluateConstraints(solution, constraints);
 
     // for debug 制約がAttributeに反映されない場合があるので，反映されていなければ無理やり値を入れる
     OverallConstraintViolation<DoubleSolution> overallConstraintViolation;
@@ -162,7 +150,7 @@ public class ZEBRefModelLSTMVarDiff2ObjConPMVUDP extends AbstractDoubleProblem {
   }
 
   /** EvaluateConstraints() method */
-  private void evaluateConstraints(DoubleSolution solution)  {
+  private void evaluateConstraints(DoubleSolution solution, double[] constraintViolation)  {
 
     double overallConstraintViolation = 0.0;
     int violatedConstraints = 0;
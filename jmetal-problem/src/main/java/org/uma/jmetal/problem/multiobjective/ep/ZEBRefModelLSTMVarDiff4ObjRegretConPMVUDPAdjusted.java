@@ -10,12 +10,8 @@ import org.uma.jmetal.util.solutionattribute.impl.OverallConstraintViolation;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.net.DatagramPacket;
-import java.net.DatagramSocket;
 import java.net.InetSocketAddress;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Properties;
 
@@ -36,6 +32,11 @@ public class ZEBRefModelLSTMVarDiff4ObjRegretConPMVUDPAdjusted extends AbstractD
   private Integer receivePort;
   private Integer sendPort;
   private String address;
+  private final int numberOfTrials = 3;
+  private List<InetSocketAddress> servers;
+  private long timeout;
+  private int maxAttempts;
+  private transient volatile LSTMSurrogateClient client;
   /**
    * Constructor.
    */
@@ -89,6 +90,12 @@ public class ZEBRefModelLSTMVarDiff4ObjRegretConPMVUDPAdjusted extends AbstractD
       receivePort = Integer.valueOf(properties.getProperty("receivePort"));
       sendPort = Integer.valueOf(properties.getProperty("sendPort"));
       address = properties.getProperty("address");
+      servers = new ArrayList<>(numberOfTrials);
+      for(int trial=0; trial<numberOfTrials; trial++) servers.add(new InetSocketAddress(address, sendPort+trial*2));
+      timeout = Long.valueOf(properties.getProperty("timeout", "" + LSTMSurrogateClient.DEFAULT_TIMEOUT));
+      maxAttempts = Integer.valueOf(properties.getProperty("maxAttempts", "" + LSTMSurrogateClient.DEFAULT_MAX_ATTEMPTS));
+      LSTMSurrogateClient.checkTimeout(timeout, maxAttempts);
+      client = getClient();
     } catch (FileNotFoundException e){
       e.printStackTrace();
     } catch (IOException e) {
@@ -96,6 +103,14 @@ public class ZEBRefModelLSTMVarDiff4ObjRegretConPMVUDPAdjusted extends AbstractD
     }
   }
 
+  // クライアントはシリアライズされないため，デシリアライズ後は最初の評価時に再取得する
+  private LSTMSurrogateClient getClient() {
+    if (client == null) {
+      client = LSTMSurrogateClient.getInstance(receivePort);
+    }
+    return client;
+  }
+
   @Override
   public void evaluate(DoubleSolution solution)  {
     // 設定温度スケジュールデータ作成
@@ -103,59 +118,24 @@ public class ZEBRefModelLSTMVarDiff4ObjRegretConPMVUDPAdjusted extends AbstractD
     double[] variables = new double[variablesList.size()];
     for (int i = 0; i < variablesList.size(); i++)  variables[i] = variablesList.get(i);
     double[] temperature = EnergyPlusObjectives.variableToTemperatureSettingUsingDifference(variables, 25, 6,25);
-    int numberOfTrials=3;
-    String sendData = "";
-    String[] receivedData = new String[numberOfTrials];
-    for(double temp : temperature) sendData+= temp +",";
-    try {
-      DatagramSocket[] socketReceive = new DatagramSocket[numberOfTrials];
-      byte[][] dataReceive = new byte[numberOfTrials][1024];  //受信最大バッファ
-      DatagramPacket[] packetReceive = new DatagramPacket[numberOfTrials];
-      for(int trial=0; trial<numberOfTrials; trial++) {
-        // 受信の準備
-        socketReceive[trial] = new DatagramSocket(receivePort+trial*2);//UDP受信用ソケット構築
-        packetReceive[trial] = new DatagramPacket(dataReceive[trial], dataReceive[trial].length);//受信用パケットを構築
-      }
-
-      // 設定温度スケジュールの送信
-      byte[] dataSend = sendData.getBytes(StandardCharsets.UTF_8);//UTF-8バイト配列の作成
-      DatagramSocket socketSend = new DatagramSocket();//UDP送信用ソケットの構築
-      DatagramPacket[] packetSend = new DatagramPacket[numberOfTrials];
-      for(int trial=0; trial<numberOfTrials; trial++) {
-        packetSend[trial] = new DatagramPacket(dataSend, dataSend.length, new InetSocketAddress(address, sendPort+trial*2));//指定アドレス、ポートへ送信するパケットを構築
-        socketSend.send(packetSend[trial]);//パケットの送信
-        System.out.println("UDP送信 To:"+ (sendPort+trial*2) + ": " + sendData);  //送信データの表示
-      }
-
-      // 目的関数値と制約値の受信
-      for(int trial=0; trial<numberOfTrials; trial++) {
-        socketReceive[trial].receive(packetReceive[trial]);
-        receivedData[trial] = new String(Arrays.copyOf(packetReceive[trial].getData(), packetReceive[trial].getLength()), StandardCharsets.UTF_8);
-        System.out.println("UDP受信 No."+ trial + ":" + receivedData[trial]);//受信データの表示
-        socketReceive[trial].close();//ソケットのクローズ
-      }
-      socketSend.close();//ソケットのクローズ
-    }catch(IOException e){
-      e.printStackTrace();
-    }
+    List<double[]> receivedData = getClient().evaluate(servers, temperature, timeout, maxAttempts);//全シナリオのサーバへ同時に送信して応答を待つ
 
     double[] fitness = new double[getNumberOfObjectives()];
     double[] constraints = new double[getNumberOfConstraints()];
     double[] pmv = new double[numberOfTrials];
     double[] power = new double[numberOfTrials];
     double[] exceedance = new double[numberOfTrials];
-    String[][] result = new String[numberOfTrials][];
+    double[][] result = receivedData.toArray(new double[numberOfTrials][]);
     for(int trial=0; trial<numberOfTrials; trial++) {
-      result[trial] = receivedData[trial].split(",");
-      pmv[trial] =  Double.valueOf(result[trial][0]);
-      power[trial] = Double.valueOf(result[trial][1]);
-      exceedance[trial] = Double.valueOf(result[trial][2]);
+      pmv[trial] =  result[trial][0];
+      power[trial] = result[trial][1];
+      exceedance[trial] = result[trial][2];
     }
     fitness[0] = pmv[0];
     fitness[1] = power[0];
     fitness[2] = Math.max( Math.abs(pmv[1]-pmv[0]), Math.abs(pmv[2]-pmv[0]) );
     fitness[3] = Math.max( Math.abs(power[1]-power[0]), Math.abs(power[2]-power[0]) );
-    constraints[0] = Double.valueOf(exceedance[0]); //対象時刻の中間階PMVが±0.5をはみ出ている回数を積算する
+    constraints[0] = exceedance[0]; //対象時刻の中間階PMVが±0.5をはみ出ている回数を積算する
 
     // Normalize objective values
     double[] normalizedFitness = new double[getNumberOfObjectives()];
@@ -168,7 +148,7 @@ public class ZEBRefModelLSTMVarDiff4ObjRegretConPMVUDPAdjusted extends AbstractD
       solution.setObjective(o, normalizedFitness[o]);
     }
     constraintViolation = constraints;
-    this.evaluateConstraints(solution);
+    this.evaluateConstraints(solution, constraints);
 
     // for debug 制約がAttributeに反映されない場合があるので，反映されていなければ無理やり値を入れる
     OverallConstraintViolation<DoubleSolution> overallConstraintViolation;
@@ -184,7 +164,7 @@ public class ZEBRefModelLSTMVarDiff4ObjRegretConPMVUDPAdjusted extends AbstractD
   }
 
   /** EvaluateConstraints() method */
-  private void evaluateConstraints(DoubleSolution solution)  {
+  private void evaluateConstraints(DoubleSolution solution, double[] constraintViolation)  {
 
     double overallConstraintViolation = 0.0;
     int violatedConstraints = 0;
@@ -85,12 +85,12 @@ public class ZEBRefModelVarDiff4ObjRegretConPMV extends AbstractDoubleProblem {
     // EnergyPlusのシミュレーション実行
     JMetalLogger.logger.info("energy plus execution at thread:"+threadName);
 
-    // 予報通りの場合を計算
-    EnergyPlusObjectives objectivesWithoutError = new EnergyPlusObjectives(variables).setXmlFile(".\\xml\\energyplus.xml").calculate();
-
-    // 予報誤差のある場合を計算
-    EnergyPlusObjectives objectivesWithUpwardError = new EnergyPlusObjectives(variables).setXmlFile(".\\xml\\energyplus_upward.xml").calculate();
-    EnergyPlusObjectives objectivesWithDownwardError = new EnergyPlusObjectives(variables).setXmlFile(".\\xml\\energyplus_downward.xml").calculate();
+    // 予報通りの場合と予報誤差のある場合を並列に計算
+    EnergyPlusObjectives[] objectives = EnergyPlusScenarioPool.getSharedPool().simulate(variables,
+        ".\\xml\\energyplus.xml", ".\\xml\\energyplus_upward.xml", ".\\xml\\energyplus_downward.xml");
+    EnergyPlusObjectives objectivesWithoutError = objectives[0];
+    EnergyPlusObjectives objectivesWithUpwardError = objectives[1];
+    EnergyPlusObjectives objectivesWithDownwardError = objectives[2];
 
     // 目的関数を計算して代入
     double[] fitness = new double[getNumberOfObjectives()];
@@ -122,12 +122,12 @@ public class ZEBRefModelVarDiff4ObjRegretConPMV extends AbstractDoubleProblem {
 
     constraintViolation = constraints;
 
-    this.evaluateConstraints(solution);
+    this.evaluateConstraints(solution, constraints);
   }
 
 
   /** EvaluateConstraints() method */
-  private void evaluateConstraints(DoubleSolution solution)
+  private void evaluateConstraints(DoubleSolution solution, double[] constraintViolation)
   {
     double overallConstraintViolation = 0.0;
     int violatedConstraints = 0;
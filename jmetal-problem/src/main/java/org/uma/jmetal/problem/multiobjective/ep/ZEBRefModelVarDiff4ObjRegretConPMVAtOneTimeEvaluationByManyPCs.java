@@ -18,8 +18,14 @@ import java.util.concurrent.*;
 
 /**
  * Class representing problem CEC2009_UF12
+ *
+ * @deprecated Use {@link ZEBRefModelVarDiff4ObjRegretConPMV} with a
+ * {@link org.uma.jmetal.util.evaluator.impl.RemoteSolutionListEvaluator} and one
+ * {@link org.uma.jmetal.util.evaluator.impl.RemoteEvaluationWorker} process per PC, which
+ * distributes the solutions dynamically without psexec nor intermediate files.
  */
 @SuppressWarnings("serial")
+@Deprecated
 public class ZEBRefModelVarDiff4ObjRegretConPMVAtOneTimeEvaluationByManyPCs extends AbstractAtOneTimeEvaluableDoubleProblem {
   public OverallConstraintViolation<DoubleSolution> overallConstraintViolationDegree ;
   public NumberOfViolatedConstraints<DoubleSolution> numberOfViolatedConstraints ;
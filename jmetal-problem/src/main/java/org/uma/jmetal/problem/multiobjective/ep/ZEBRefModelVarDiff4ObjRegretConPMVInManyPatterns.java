@@ -102,14 +102,18 @@ public class ZEBRefModelVarDiff4ObjRegretConPMVInManyPatterns extends AbstractDo
     saveTimeSeriesData(new TimeSeries( objectivesWithDownwardError.get() ), "DownwardError");
 */
     // さらに多くの予報誤差のある場合を計算
-    EnergyPlusObjectives[] objectivesWithError = new EnergyPlusObjectives[10];
+    String[] suffixes = new String[10];
+    String[] xmlFiles = new String[10];
+    for(int i=1; i<=10; i++) {
+      if(i<=5)  suffixes[i-1] = "up" + String.valueOf(i);
+      else      suffixes[i-1] = "down" + String.valueOf(i-5);
+      xmlFiles[i-1] = ".\\xml\\energyplus_"+suffixes[i-1]+".xml";
+    }
+    // 全パターンを並列に計算し，終了後に結果を順に保存
+    EnergyPlusObjectives[] objectivesWithError = EnergyPlusScenarioPool.getSharedPool().simulate(variables, xmlFiles);
     double[][] p = new double[2][10];
     for(int i=1; i<=10; i++) {
-      String suffix;
-      if(i<=5)  suffix = "up" + String.valueOf(i);
-      else      suffix = "down" + String.valueOf(i-5);
-      objectivesWithError[i-1] = new EnergyPlusObjectives(variables).setXmlFile(".\\xml\\energyplus_"+suffix+".xml").calculate();
-      saveTimeSeriesData(new TimeSeries( objectivesWithError[i-1].get() ), suffix);
+      saveTimeSeriesData(new TimeSeries( objectivesWithError[i-1].get() ), suffixes[i-1]);
       p[0][i-1] = objectivesWithError[i-1].calculateAveragePMV();
       p[1][i-1] = objectivesWithError[i-1].calculateTotalElectricEnergy();
     }
@@ -148,7 +152,7 @@ public class ZEBRefModelVarDiff4ObjRegretConPMVInManyPatterns extends AbstractDo
 
     constraintViolation = constraints;
 
-    this.evaluateConstraints(solution);
+    this.evaluateConstraints(solution, constraints);
   }
 
   // シミュレータの計算した時系列データを保存
@@ -160,7 +164,7 @@ public class ZEBRefModelVarDiff4ObjRegretConPMVInManyPatterns extends AbstractDo
   }
 
   /** EvaluateConstraints() method */
-  private void evaluateConstraints(DoubleSolution solution)
+  private void evaluateConstraints(DoubleSolution solution, double[] constraintViolation)
   {
     double overallConstraintViolation = 0.0;
     int violatedConstraints = 0;
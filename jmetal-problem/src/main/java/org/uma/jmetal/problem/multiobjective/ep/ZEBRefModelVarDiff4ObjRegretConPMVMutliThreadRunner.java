@@ -63,6 +63,7 @@ public class ZEBRefModelVarDiff4ObjRegretConPMVMutliThreadRunner {
     readVariables(variablesFileName, solutionList);
     ThreadPoolSolutionListEvaluator threadPoolSolutionListEvaluator = new ThreadPoolSolutionListEvaluator(numberOfThread, problem);
     threadPoolSolutionListEvaluator.evaluate(solutionList, problem);
+    threadPoolSolutionListEvaluator.shutdown();
     writeObjectives(objectivesFileName, solutionList);
   }
 
@@ -0,0 +1,136 @@
+package org.uma.jmetal.problem.multiobjective.ebes;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.solutionattribute.impl.OverallConstraintViolation;
+
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/**
+ * @author ohtayo <ohta.yoshihiro@outlook.jp>
+ */
+public class EbesTest {
+  private static final String FILE = "ebes/Mobile_Bridge_25N_35B_8G_16OrdZXY.ebe" ;
+  private static final double RELATIVE_EPSILON = 1.0e-12 ;
+
+  /**
+   * Results of the original implementation (before the evaluation used a workspace per thread)
+   * for the solutions created by {@link #createSolution(int)}: W, D and overall constraint violation
+   */
+  private static final double[][] EXPECTED_RESULTS = {
+      {0.05625757811320188, 0.6199623443704326, -659.4569530691981},
+      {0.21845199766907641, 0.13570737257368407, -4.872416666666668},
+      {0.4866154996678573, 0.06306627682486134, -5.928940573770492},
+      {0.22449716627179112, 4.536209747977677, -9286.66030653821},
+      {0.1485642215555877, 47.909437438582025, -81294.87516065635}
+  } ;
+
+  private Ebes problem ;
+
+  @Before
+  public void setup() throws FileNotFoundException {
+    problem = new Ebes(FILE, new String[]{"W", "D"}) ;
+  }
+
+  @Test
+  public void shouldEvaluateAsTheOriginalImplementation() {
+    OverallConstraintViolation<DoubleSolution> violation = new OverallConstraintViolation<>() ;
+    for (int i = 0; i < EXPECTED_RESULTS.length; i++) {
+      DoubleSolution solution = createSolution(i) ;
+      problem.evaluate(solution);
+
+      assertEquals(EXPECTED_RESULTS[i][0], solution.getObjective(0), Math.abs(EXPECTED_RESULTS[i][0]) * RELATIVE_EPSILON) ;
+      assertEquals(EXPECTED_RESULTS[i][1], solution.getObjective(1), Math.abs(EXPECTED_RESULTS[i][1]) * RELATIVE_EPSILON) ;
+      assertEquals(EXPECTED_RESULTS[i][2], violation.getAttribute(solution), Math.abs(EXPECTED_RESULTS[i][2]) * RELATIVE_EPSILON) ;
+    }
+  }
+
+  @Test
+  public void shouldEvaluateInTheWorkspaceAsInTheProblem() throws FileNotFoundException {
+    Ebes reference = new Ebes(FILE, new String[]{"W", "D"}) ;
+    for (int i = 0; i < 20; i++) {
+      DoubleSolution solution = problem.createSolution() ;
+      DoubleSolution copy = (DoubleSolution) solution.copy() ;
+
+      problem.evaluate(solution);
+      reference.EBEsEvaluate(copy);
+
+      assertArrayEquals(copy.getObjectives(), solution.getObjectives(), 0.0) ;
+    }
+  }
+
+  @Test
+  public void shouldReuseTheWorkspaceOfTheThread() throws Exception {
+    Ebes workspace = problem.getWorkspace() ;
+    assertSame(workspace, problem.getWorkspace()) ;
+    assertSame(workspace, workspace.getWorkspace()) ;
+
+    ExecutorService executor = Executors.newSingleThreadExecutor() ;
+    try {
+      assertNotSame(workspace, executor.submit(problem::getWorkspace).get()) ;
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void shouldGetTheSameResultsEvaluatingConcurrently() throws Exception {
+    List<DoubleSolution> solutions = new ArrayList<>() ;
+    List<DoubleSolution> copies = new ArrayList<>() ;
+    for (int i = 0; i < 100; i++) {
+      DoubleSolution solution = problem.createSolution() ;
+      solutions.add(solution) ;
+      copies.add((DoubleSolution) solution.copy()) ;
+    }
+
+    for (DoubleSolution solution : solutions) {
+      problem.evaluate(solution);
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(4) ;
+    try {
+      List<Future<?>> futures = new ArrayList<>() ;
+      for (DoubleSolution copy : copies) {
+        futures.add(executor.submit(() -> problem.evaluate(copy))) ;
+      }
+      for (Future<?> future : futures) {
+        future.get() ;
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    OverallConstraintViolation<DoubleSolution> violation = new OverallConstraintViolation<>() ;
+    for (int i = 0; i < solutions.size(); i++) {
+      assertArrayEquals(solutions.get(i).getObjectives(), copies.get(i).getObjectives(), 0.0) ;
+      assertEquals(violation.getAttribute(solutions.get(i)), violation.getAttribute(copies.get(i)), 0.0) ;
+    }
+  }
+
+  /**
+   * Creates a solution with fixed variables instead of random ones, so the results do not depend on
+   * the random generator: the variables of the first three solutions are at 1/4, 1/2 and 3/4 of
+   * their ranges, and those of the rest alternate among 0, 1/4, 1/2, 3/4 and 1 of their ranges
+   */
+  private DoubleSolution createSolution(int index) {
+    DoubleSolution solution = problem.createSolution() ;
+    for (int i = 0; i < problem.getNumberOfVariables(); i++) {
+      double fraction = index < 3 ? (index + 1) / 4.0 : ((i * (index - 1)) % 5) / 4.0 ;
+      solution.setVariableValue(i, problem.getLowerBound(i)
+          + fraction * (problem.getUpperBound(i) - problem.getLowerBound(i)));
+    }
+
+    return solution ;
+  }
+}
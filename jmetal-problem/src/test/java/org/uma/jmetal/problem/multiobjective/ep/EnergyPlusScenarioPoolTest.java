@@ -0,0 +1,171 @@
+package org.uma.jmetal.problem.multiobjective.ep;
+
+import org.junit.After;
+import org.junit.Test;
+import org.uma.jmetal.util.JMetalException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests of {@link EnergyPlusScenarioPool} with scenarios which do not run EnergyPlus
+ *
+ * @author ohtayo (ohta.yoshihiro@outlook.jp)
+ */
+public class EnergyPlusScenarioPoolTest {
+  private static final long TIMEOUT = 10 ;
+
+  private EnergyPlusScenarioPool pool ;
+
+  @After
+  public void tearDown() {
+    if (pool != null) {
+      pool.shutdown();
+    }
+  }
+
+  @Test(expected = JMetalException.class)
+  public void shouldConstructorRaiseAnExceptionIfTheNumberOfThreadsIsNotPositive() {
+    new EnergyPlusScenarioPool(0) ;
+  }
+
+  @Test
+  public void shouldReturnTheResultsInTheOrderOfTheScenariosWhenTheyFinishOutOfOrder() {
+    pool = new EnergyPlusScenarioPool(3) ;
+    CountDownLatch thirdFinished = new CountDownLatch(1) ;
+    CountDownLatch secondFinished = new CountDownLatch(1) ;
+    List<Integer> finishingOrder = Collections.synchronizedList(new ArrayList<Integer>()) ;
+
+    // the scenarios finish in the reverse order of their submission
+    List<Callable<Integer>> scenarios = Arrays.asList(
+        () -> {
+          await(secondFinished) ;
+          finishingOrder.add(0) ;
+          return 0 ;
+        },
+        () -> {
+          await(thirdFinished) ;
+          finishingOrder.add(1) ;
+          secondFinished.countDown();
+          return 1 ;
+        },
+        () -> {
+          finishingOrder.add(2) ;
+          thirdFinished.countDown();
+          return 2 ;
+        }) ;
+
+    assertEquals(Arrays.asList(0, 1, 2), pool.evaluate(scenarios)) ;
+    assertEquals(Arrays.asList(2, 1, 0), finishingOrder) ;
+  }
+
+  @Test
+  public void shouldAFailedScenarioCancelThePendingOnesAndRaiseItsException() {
+    pool = new EnergyPlusScenarioPool(1) ;
+    RuntimeException failure = new IllegalStateException("EnergyPlus failed") ;
+    CountDownLatch release = new CountDownLatch(1) ;
+    AtomicInteger startedScenarios = new AtomicInteger(0) ;
+
+    int numberOfPendingScenarios = 10 ;
+    List<Callable<Integer>> scenarios = new ArrayList<>() ;
+    scenarios.add(() -> {
+      throw failure ;
+    }) ;
+    // the scenario taken by the thread of the pool after the failure blocks it until the exception
+    // is raised, so the remaining ones are still pending when they are cancelled
+    for (int i = 0; i < numberOfPendingScenarios; i++) {
+      scenarios.add(() -> {
+        startedScenarios.incrementAndGet() ;
+        await(release) ;
+        return 0 ;
+      }) ;
+    }
+
+    try {
+      pool.evaluate(scenarios) ;
+      fail("The failure of the scenario has not been raised") ;
+    } catch (RuntimeException e) {
+      assertSame(failure, e) ;
+    } finally {
+      release.countDown();
+    }
+
+    // the queue of the pool is FIFO, so a new scenario finishes after the cancelled ones have been
+    // discarded
+    assertEquals(Collections.singletonList(1), pool.evaluate(Collections.singletonList(() -> 1))) ;
+    assertTrue(startedScenarios.get() <= 1) ;
+  }
+
+  @Test
+  public void shouldTheScenariosOfConcurrentCallersShareTheThreadsOfThePool() throws Exception {
+    pool = new EnergyPlusScenarioPool(2) ;
+    CountDownLatch secondCallerStarted = new CountDownLatch(1) ;
+    Set<String> threads = Collections.synchronizedSet(new HashSet<String>()) ;
+
+    // the first scenario of the first caller keeps a thread busy until a scenario of the second
+    // caller has run in the other one
+    List<Callable<Integer>> firstCallerScenarios = Arrays.asList(
+        () -> {
+          threads.add(Thread.currentThread().getName()) ;
+          await(secondCallerStarted) ;
+          return 1 ;
+        },
+        () -> {
+          threads.add(Thread.currentThread().getName()) ;
+          return 2 ;
+        }) ;
+    List<Callable<Integer>> secondCallerScenarios = Arrays.asList(
+        () -> {
+          threads.add(Thread.currentThread().getName()) ;
+          secondCallerStarted.countDown();
+          return 3 ;
+        },
+        () -> {
+          threads.add(Thread.currentThread().getName()) ;
+          return 4 ;
+        }) ;
+
+    ExecutorService callers = Executors.newFixedThreadPool(2) ;
+    try {
+      Future<List<Integer>> firstCaller = callers.submit(() -> pool.evaluate(firstCallerScenarios)) ;
+      Future<List<Integer>> secondCaller = callers.submit(() -> pool.evaluate(secondCallerScenarios)) ;
+
+      assertEquals(Arrays.asList(1, 2), firstCaller.get(TIMEOUT, TimeUnit.SECONDS)) ;
+      assertEquals(Arrays.asList(3, 4), secondCaller.get(TIMEOUT, TimeUnit.SECONDS)) ;
+    } finally {
+      callers.shutdownNow() ;
+    }
+
+    assertEquals(2, threads.size()) ;
+    for (String thread : threads) {
+      assertTrue(thread.matches("pool-\\d+-thread-\\d+")) ;
+    }
+  }
+
+  @Test(expected = JMetalException.class)
+  public void shouldShutdownRaiseAnExceptionOnTheSharedPool() {
+    EnergyPlusScenarioPool.getSharedPool().shutdown();
+  }
+
+  private static void await(CountDownLatch latch) throws InterruptedException {
+    if (!latch.await(TIMEOUT, TimeUnit.SECONDS)) {
+      throw new IllegalStateException("Timeout waiting for another scenario") ;
+    }
+  }
+}
@@ -0,0 +1,172 @@
+package org.uma.jmetal.problem.multiobjective.ep;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.uma.jmetal.util.JMetalException;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests of {@link LSTMSurrogateClient} against a surrogate server on the loopback interface, which
+ * replies to each request with its values multiplied by two
+ *
+ * @author ohtayo (ohta.yoshihiro@outlook.jp)
+ */
+public class LSTMSurrogateClientTest {
+  private DatagramSocket serverSocket ;
+  private InetSocketAddress server ;
+  private LSTMSurrogateClient client ;
+
+  @Before
+  public void setup() throws IOException {
+    serverSocket = new DatagramSocket(0, InetAddress.getLoopbackAddress()) ;
+    serverSocket.setSoTimeout(5000);
+    server = new InetSocketAddress(InetAddress.getLoopbackAddress(), serverSocket.getLocalPort()) ;
+    client = LSTMSurrogateClient.getInstance(0) ;
+  }
+
+  @After
+  public void tearDown() {
+    serverSocket.close();
+  }
+
+  @Test
+  public void shouldMatchTheRepliesToTheirRequests() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(2) ;
+    try {
+      Future<double[]> first = executor.submit(() -> client.evaluate(server, new double[]{1.0, 2.0}, 5000, 1)) ;
+      Future<double[]> second = executor.submit(() -> client.evaluate(server, new double[]{3.0}, 5000, 1)) ;
+
+      // the replies are sent in the reverse order of the requests
+      DatagramPacket request1 = receive() ;
+      DatagramPacket request2 = receive() ;
+      reply(request2) ;
+      reply(request1) ;
+
+      assertArrayEquals(new double[]{2.0, 4.0}, first.get(), 0.0) ;
+      assertArrayEquals(new double[]{6.0}, second.get(), 0.0) ;
+      assertEquals(0, client.getNumberOfPendingRequests()) ;
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void shouldSendTheRequestAgainIfThereIsNoReply() throws Exception {
+    ExecutorService executor = Executors.newSingleThreadExecutor() ;
+    try {
+      Future<double[]> result = executor.submit(() -> client.evaluate(server, new double[]{5.0}, 200, 3)) ;
+
+      DatagramPacket lostRequest = receive() ;
+      DatagramPacket request = receive() ;
+      assertEquals(ByteBuffer.wrap(lostRequest.getData()).getLong(), ByteBuffer.wrap(request.getData()).getLong()) ;
+      reply(request) ;
+
+      assertArrayEquals(new double[]{10.0}, result.get(), 0.0) ;
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void shouldFailAfterTheMaximumNumberOfAttempts() throws Exception {
+    ExecutorService executor = Executors.newSingleThreadExecutor() ;
+    try {
+      Future<double[]> result = executor.submit(() -> client.evaluate(server, new double[]{5.0}, 100, 2)) ;
+      receive() ;
+      receive() ;
+      try {
+        result.get() ;
+        fail("The evaluation should fail") ;
+      } catch (java.util.concurrent.ExecutionException e) {
+        assertEquals(JMetalException.class, e.getCause().getClass()) ;
+      }
+      assertEquals(0, client.getNumberOfPendingRequests()) ;
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void shouldEvaluateInSeveralServersAtTheSameTime() throws Exception {
+    ExecutorService executor = Executors.newSingleThreadExecutor() ;
+    try {
+      List<InetSocketAddress> servers = new ArrayList<>() ;
+      servers.add(server) ;
+      servers.add(server) ;
+      Future<List<double[]>> result = executor.submit(() -> client.evaluate(servers, new double[]{1.5}, 5000, 1)) ;
+
+      // both requests are sent before waiting for any reply
+      DatagramPacket request1 = receive() ;
+      DatagramPacket request2 = receive() ;
+      reply(request2) ;
+      reply(request1) ;
+
+      assertEquals(2, result.get().size()) ;
+      assertArrayEquals(new double[]{3.0}, result.get().get(0), 0.0) ;
+      assertArrayEquals(new double[]{3.0}, result.get().get(1), 0.0) ;
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void shouldEachCallUseItsOwnTimeout() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(2) ;
+    try {
+      // the same client is shared by a caller with a short timeout and another with a long one
+      Future<double[]> patient = executor.submit(() -> client.evaluate(server, new double[]{1.0}, 5000, 1)) ;
+      DatagramPacket patientRequest = receive() ;
+      Future<double[]> impatient = executor.submit(() -> client.evaluate(server, new double[]{2.0}, 100, 1)) ;
+      receive() ;
+
+      try {
+        impatient.get() ;
+        fail("The evaluation should fail") ;
+      } catch (java.util.concurrent.ExecutionException e) {
+        assertEquals(JMetalException.class, e.getCause().getClass()) ;
+      }
+      reply(patientRequest) ;
+      assertArrayEquals(new double[]{2.0}, patient.get(), 0.0) ;
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private DatagramPacket receive() throws IOException {
+    DatagramPacket packet = new DatagramPacket(new byte[65507], 65507) ;
+    serverSocket.receive(packet);
+
+    return packet ;
+  }
+
+  private void reply(DatagramPacket request) throws IOException {
+    ByteBuffer input = ByteBuffer.wrap(request.getData(), 0, request.getLength()) ;
+    long id = input.getLong() ;
+    int length = input.getInt() ;
+
+    ByteBuffer output = ByteBuffer.allocate(Long.BYTES + Integer.BYTES + length * Double.BYTES) ;
+    output.putLong(id) ;
+    output.putInt(length) ;
+    for (int i = 0; i < length; i++) {
+      output.putDouble(2.0 * input.getDouble()) ;
+    }
+
+    serverSocket.send(new DatagramPacket(output.array(), output.position(), request.getSocketAddress()));
+  }
+}